@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Cold-start benchmark for the command line built by the cli profile:
+#
+#   mvn -P cli package -DskipTests
+#   src/cli/startup-benchmark.sh [runs] [spec]
+#
+# Runs the CLI repeatedly with class data sharing off, with the JDK's default
+# CDS archive (JDK classes only) and with the AppCDS archive written at package
+# time, and prints the wall-clock mean, median and minimum of each in ms. Every
+# run is a fresh JVM, so the numbers include JVM start, class loading and one
+# generation. Needs bash 5 for EPOCHREALTIME.
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+runs=${1:-10}
+spec=${2:-src/cli/cds-training-api.yaml}
+jar=$(ls target/*-cli.jar 2>/dev/null | head -n 1 || true)
+archive=target/feel-validation-cli.jsa
+java=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+if [[ -z $jar || ! -f $archive ]]; then
+    echo "no CLI jar or CDS archive under target; run: mvn -P cli package -DskipTests" >&2
+    exit 2
+fi
+out=$(mktemp -d)
+trap 'rm -rf "$out"' EXIT
+
+measure() {
+    local label=$1
+    shift
+    local times=()
+    for ((i = 0; i < runs; i++)); do
+        local start=$EPOCHREALTIME
+        "$java" "$@" -jar "$jar" --openapi "$spec" --output "$out/validation.feel" --quiet
+        local end=$EPOCHREALTIME
+        times+=("$(awk -v s="$start" -v e="$end" 'BEGIN { printf "%.1f", (e - s) * 1000 }')")
+    done
+    printf '%s\n' "${times[@]}" | sort -n | awk -v label="$label" '
+        { t[NR] = $1; sum += $1 }
+        END {
+            median = NR % 2 ? t[(NR + 1) / 2] : (t[NR / 2] + t[NR / 2 + 1]) / 2
+            printf "%-18s mean %7.1f ms   median %7.1f ms   min %7.1f ms\n", label, sum / NR, median, t[1]
+        }'
+}
+
+echo "$runs runs of $spec with $("$java" -version 2>&1 | head -n 1)"
+measure "CDS off" -Xshare:off
+measure "JDK CDS" -Xshare:auto
+measure "AppCDS archive" -XX:SharedArchiveFile="$archive" -Xshare:auto
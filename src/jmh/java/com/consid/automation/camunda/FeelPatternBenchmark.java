@@ -0,0 +1,84 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.feel.FEELExpressionBuilder;
+import com.consid.automation.camunda.internal.model.FieldDescriptor;
+import com.consid.automation.camunda.internal.model.StringTypeInfo;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.syntaxtree.ParsedExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One string field's rule on the FEEL engine: the plain {@code matches()}
+ * form against what the builder emits for the same pattern, which is
+ * {@code starts with} / {@code contains} for literal shapes and a
+ * {@code string length(x)=N} guard for anchored fixed-width ones. {@code miss}
+ * is a non-matching value, of the wrong length for the fixed-width shapes so
+ * the guard short-circuits it. Both expressions are parsed once, so the
+ * numbers are evaluation only. Run with
+ * {@code mvn -P benchmark test-compile exec:exec@jmh -Djmh.args="-f 1 FeelPatternBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FeelPatternBenchmark {
+
+    private static final String UUID_PATTERN =
+        "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$";
+
+    @Param({"^ORD-", "\\.pdf", "^[A-Z]{3}$", "^\\d+$", "uuid"})
+    public String pattern;
+
+    @Param({"match", "miss"})
+    public String input;
+
+    private final FeelEngine engine = new FeelEngine(
+        FeelEngine.defaultFunctionProvider(),
+        FeelEngine.defaultValueMapper(),
+        FeelEngine.defaultConfiguration(),
+        FeelEngine.defaultClock());
+    private ParsedExpression regex;
+    private ParsedExpression generated;
+    private Map<String, Object> context;
+
+    @Setup
+    public void setUp() {
+        String regexText = pattern.equals("uuid") ? UUID_PATTERN : pattern;
+        regex = parse("x=null or not(x instance of string) or not(matches(x, \""
+            + regexText.replace("\\", "\\\\") + "\"))");
+        generated = parse(new FEELExpressionBuilder().build("x", FieldDescriptor.of(
+            new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, regexText))));
+        boolean match = input.equals("match");
+        Object value = switch (pattern) {
+            case "^ORD-" -> match ? "ORD-2024-000117" : "INV-2024-000117";
+            case "\\.pdf" -> match ? "quarterly-report-final.pdf" : "quarterly-report-final.docx";
+            case "^[A-Z]{3}$" -> match ? "EUR" : "EURO";
+            case "^\\d+$" -> match ? "20240117" : "2024-01-17";
+            default -> match ? "3f2504e0-4f89-11d3-9a0c-0305e82c3301" : "3f2504e0-4f89-11d3-9a0c-0305e82c33";
+        };
+        context = Map.of("x", value);
+    }
+
+    @Benchmark
+    public Object matches() {
+        return engine.eval(regex, context);
+    }
+
+    @Benchmark
+    public Object generated() {
+        return engine.eval(generated, context);
+    }
+
+    private ParsedExpression parse(String expression) {
+        return engine.parseExpression(expression).toOption().get();
+    }
+}
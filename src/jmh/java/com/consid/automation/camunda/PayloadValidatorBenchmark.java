@@ -0,0 +1,82 @@
+package com.consid.automation.camunda;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tree versus streaming validation of a batch webhook body: {@code items}
+ * line items, each followed by an unvalidated {@code meta} object that the
+ * tree validator has to build and the streaming one skips. Run with
+ * {@code mvn -P benchmark test-compile exec:exec@jmh}; pass JMH options
+ * through {@code -Djmh.args=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadValidatorBenchmark {
+
+    private static final String ENDPOINT = "POST /orders";
+
+    @Param({"100", "10000"})
+    public int items;
+
+    /** Whether the last line item breaks its {@code sku} pattern. */
+    @Param({"false", "true"})
+    public boolean invalidLast;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private PayloadValidator validator;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        validator = PayloadValidator.builder()
+            .withOpenApiPath(Path.of("src/test/resources/openapi/orders-array-items-api.json").toAbsolutePath())
+            .build();
+        StringBuilder json = new StringBuilder("{\"lineItems\": [");
+        for (int i = 0; i < items; i++) {
+            String sku = invalidLast && i == items - 1 ? "bad" : "ABC-" + (1000 + i % 9000);
+            json.append(i == 0 ? "" : ", ")
+                .append("{\"sku\": \"").append(sku).append("\", \"quantity\": ").append(1 + i % 5)
+                .append(", \"meta\": {\"source\": \"batch\", \"tags\": [\"a\", \"b\", \"c\"], \"weight\": 1.25}}");
+        }
+        body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public PayloadVerdict tree() throws IOException {
+        return validator.validate(ENDPOINT, mapper.readTree(body));
+    }
+
+    @Benchmark
+    public PayloadVerdict streaming() throws IOException {
+        try (JsonParser parser = mapper.createParser(body)) {
+            return validator.validate(ENDPOINT, parser);
+        }
+    }
+
+    @Benchmark
+    public boolean treeFailFast() throws IOException {
+        return validator.isValid(ENDPOINT, mapper.readTree(body));
+    }
+
+    @Benchmark
+    public boolean streamingFailFast() throws IOException {
+        try (JsonParser parser = mapper.createParser(body)) {
+            return validator.isValid(ENDPOINT, parser);
+        }
+    }
+}
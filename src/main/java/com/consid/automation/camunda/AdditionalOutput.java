@@ -0,0 +1,50 @@
+package com.consid.automation.camunda;
+
+/**
+ * One extra FEEL file for {@link FEELValidationGeneratorMojo}'s
+ * {@code additionalOutputs}, rendered from the same parse and extraction as
+ * the main output:
+ *
+ * <pre>
+ * &lt;additionalOutputs&gt;
+ *   &lt;additionalOutput&gt;
+ *     &lt;outputFile&gt;${project.build.directory}/feel/response.feel&lt;/outputFile&gt;
+ *     &lt;addResponse&gt;true&lt;/addResponse&gt;
+ *     &lt;successStatusCode&gt;202&lt;/successStatusCode&gt;
+ *   &lt;/additionalOutput&gt;
+ * &lt;/additionalOutputs&gt;
+ * </pre>
+ */
+public class AdditionalOutput {
+
+    private String outputFile;
+    private boolean addResponse;
+    private int successStatusCode = 201;
+    private int failStatusCode = 400;
+
+    public AdditionalOutput() {
+    }
+
+    AdditionalOutput(String outputFile, boolean addResponse, int successStatusCode, int failStatusCode) {
+        this.outputFile = outputFile;
+        this.addResponse = addResponse;
+        this.successStatusCode = successStatusCode;
+        this.failStatusCode = failStatusCode;
+    }
+
+    public String getOutputFile() {
+        return outputFile;
+    }
+
+    public boolean isAddResponse() {
+        return addResponse;
+    }
+
+    public int getSuccessStatusCode() {
+        return successStatusCode;
+    }
+
+    public int getFailStatusCode() {
+        return failStatusCode;
+    }
+}
@@ -0,0 +1,143 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.feel.DescriptorSimplifier;
+import com.consid.automation.camunda.internal.feel.RegexSafetyAnalyzer;
+import com.consid.automation.camunda.internal.model.FieldDescriptor;
+import com.consid.automation.camunda.internal.openapi.*;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The front half of the pipeline shared by {@link FEELValidationGenerator} and
+ * {@link PayloadValidator}: parse OpenAPI → scan operations → extract required
+ * fields → simplify → check patterns. Everything after it (rendering FEEL,
+ * compiling runtime checks) consumes the per-endpoint {@link ExtractionResult}s.
+ */
+final class ExtractionPipeline {
+
+    private final OpenApiOperationScanner scanner;
+    private final Diagnostics diagnostics;
+    private final DescriptorSimplifier simplifier;
+    private final RegexSafetyAnalyzer patternAnalyzer;
+    private final ExpansionLimits expansionLimits;
+
+    ExtractionPipeline(List<String> httpMethods,
+                       String mediaType,
+                       ExpansionLimits expansionLimits,
+                       boolean strictPatternChecks,
+                       Diagnostics diagnostics) {
+        this.scanner = new OpenApiOperationScanner(httpMethods, mediaType);
+        this.diagnostics = diagnostics;
+        this.simplifier = new DescriptorSimplifier(diagnostics);
+        this.patternAnalyzer = new RegexSafetyAnalyzer(diagnostics, strictPatternChecks);
+        this.expansionLimits = expansionLimits;
+    }
+
+    /**
+     * Endpoint headings ({@code # POST /customers}) mapped to their simplified
+     * extraction, in spec order, plus the extractor that produced them (component
+     * reuse analysis asks it for each component's own fields).
+     */
+    record Extraction(RequiredFieldsExtractor fieldsExtractor, Map<String, ExtractionResult> byEndpoint) {
+    }
+
+    static OpenAPI parse(Path openApiSpecPath) throws IOException {
+        OpenAPI openAPI = new OpenAPIV3Parser().read(openApiSpecPath.toString());
+        if (openAPI == null) {
+            throw new IOException("Failed to parse OpenAPI specification: " + openApiSpecPath);
+        }
+        return openAPI;
+    }
+
+    /**
+     * Parses a spec given as JSON or YAML text, resolving references as
+     * {@link #parse(Path)} does; relative references to other files can't be
+     * resolved without a location. {@code source} names the spec in the error.
+     */
+    static OpenAPI parse(String content, String source) throws IOException {
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        SwaggerParseResult result = new OpenAPIV3Parser().readContents(content, null, options);
+        if (result == null || result.getOpenAPI() == null) {
+            List<String> messages = result == null || result.getMessages() == null ? List.of() : result.getMessages();
+            throw new IOException("Failed to parse OpenAPI specification: " + source
+                + (messages.isEmpty() ? "" : " " + messages));
+        }
+        return result.getOpenAPI();
+    }
+
+    Extraction extract(OpenAPI openAPI) {
+        return extract(openAPI, scan(openAPI), heading -> true);
+    }
+
+    /** Endpoint headings mapped to their request body schema, in spec order. */
+    Map<String, Schema<?>> scan(OpenAPI openAPI) {
+        return scanner.scan(openAPI);
+    }
+
+    /**
+     * Extracts only the endpoints of {@code schemasByEndpoint} whose heading
+     * {@code include} accepts, leaving the others out of the result.
+     */
+    Extraction extract(OpenAPI openAPI, Map<String, Schema<?>> schemasByEndpoint, Predicate<String> include) {
+        FieldTypeResolver typeResolver = new FieldTypeResolver(openAPI, diagnostics);
+        RequiredFieldsExtractor fieldsExtractor =
+            new RequiredFieldsExtractor(typeResolver, diagnostics, expansionLimits);
+        SchemaExpansionEstimator estimator = new SchemaExpansionEstimator(typeResolver, diagnostics, expansionLimits);
+        Map<String, Schema<?>> included = new LinkedHashMap<>();
+        schemasByEndpoint.forEach((heading, schema) -> {
+            if (include.test(heading)) {
+                included.put(heading, schema);
+            }
+        });
+        return new Extraction(fieldsExtractor, extract(included, estimator, fieldsExtractor));
+    }
+
+    /**
+     * Checks each endpoint's estimated expansion against the node budget before
+     * walking it, so a pathological spec fails in milliseconds rather than after
+     * minutes of expansion, then reports the actual node count. The extracted
+     * descriptors are simplified here, so contradictions are reported once per
+     * endpoint field, and the patterns that survive simplification are checked
+     * for catastrophic backtracking.
+     */
+    private Map<String, ExtractionResult> extract(Map<String, Schema<?>> schemasByEndpoint,
+                                                  SchemaExpansionEstimator estimator,
+                                                  RequiredFieldsExtractor fieldsExtractor) {
+        Map<String, ExtractionResult> extractedByEndpoint = new LinkedHashMap<>();
+        schemasByEndpoint.forEach((heading, schema) -> {
+            try {
+                if (expansionLimits.hasNodeBudget()) {
+                    long estimate = estimator.estimate(schema);
+                    if (estimate > expansionLimits.maxExpandedNodes()) {
+                        throw new IllegalStateException("schema expansion would visit about " + estimate
+                            + " nodes, above maxExpandedNodes (" + expansionLimits.maxExpandedNodes()
+                            + "); raise the budget or set a lower maxValidationDepth");
+                    }
+                }
+                ExtractionResult extracted = fieldsExtractor.extract(schema);
+                diagnostics.info(heading.substring(2), "expanded " + extracted.expandedNodes() + " schema nodes");
+                Map<String, FieldDescriptor> simplified = simplifier.simplify(extracted.requiredFields());
+                patternAnalyzer.check(simplified);
+                extractedByEndpoint.put(heading, extracted.withRequiredFields(simplified));
+            } catch (IllegalStateException e) {
+                // Attach endpoint context so the user can pinpoint a broken $ref in large specs.
+                throw new IllegalStateException(
+                    "Failed processing " + heading + ": " + e.getMessage(), e);
+            }
+        });
+        return extractedByEndpoint;
+    }
+}
@@ -0,0 +1,139 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.bpmn.BpmnDriftCheck;
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.consid.automation.camunda.internal.feel.HashManifest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Mojo for checking that BPMN activation conditions have not drifted from the
+ * generated FEEL.
+ *
+ * Every Camunda inbound webhook event under the BPMN directory must carry, as
+ * its {@code activationCondition}, the FEEL block headed
+ * {@code <inbound.method> <inboundPathPrefix><inbound.context>}. The files are
+ * streamed with StAX and checked in parallel by comparing a hash of each
+ * normalized condition with the hash recorded for its endpoint; the FEEL text
+ * is only read to print a diff for a condition that does not match.
+ */
+@Mojo(name = "check-bpmn", defaultPhase = LifecyclePhase.VERIFY, threadSafe = true)
+public class FEELBpmnDriftMojo extends AbstractMojo {
+
+    /**
+     * The generated activation-condition FEEL file; the same property as the
+     * {@code generate-feel} output.
+     */
+    @Parameter(property = "feelValidationGenerator.outputFile", required = true)
+    private String outputFile;
+
+    /**
+     * The hash manifest written by {@code generate-feel}. When not set, the
+     * hashes are computed from {@code outputFile}.
+     */
+    @Parameter(property = "feelValidationGenerator.hashManifestFile")
+    private String hashManifestFile;
+
+    /**
+     * Directory walked for {@code *.bpmn} files.
+     */
+    @Parameter(property = "feelValidationGenerator.bpmnDirectory",
+        defaultValue = "${project.basedir}/src/main/resources")
+    private String bpmnDirectory;
+
+    /**
+     * Path prefix put between the method and the BPMN's {@code inbound.context}
+     * to form the FEEL heading looked up.
+     */
+    @Parameter(property = "feelValidationGenerator.inboundPathPrefix", defaultValue = "/inbound/")
+    private String inboundPathPrefix;
+
+    /**
+     * Worker threads checking BPMN files. Defaults to the number of available
+     * processors.
+     */
+    @Parameter(property = "feelValidationGenerator.checkThreads")
+    private Integer checkThreads;
+
+    /**
+     * Skips the check.
+     */
+    @Parameter(property = "feelValidationGenerator.skipBpmnCheck", defaultValue = "false")
+    private boolean skipBpmnCheck;
+
+    /**
+     * Checks the activation conditions.
+     *
+     * @throws MojoExecutionException if {@code checkThreads} isn't positive, or an unexpected error occurs
+     * @throws MojoFailureException if a condition drifted, or an input is missing or malformed
+     */
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skipBpmnCheck) {
+            getLog().info("BPMN check skipped");
+            return;
+        }
+        if (checkThreads != null && checkThreads < 1) {
+            throw new MojoExecutionException("checkThreads must be positive: " + checkThreads);
+        }
+        try {
+            Path feelPath = Path.of(outputFile);
+            if (!Files.isRegularFile(feelPath)) {
+                throw new MojoFailureException("FEEL file not found: " + outputFile);
+            }
+            Path bpmnPath = Path.of(bpmnDirectory);
+            if (!Files.isDirectory(bpmnPath)) {
+                throw new MojoFailureException("BPMN directory not found: " + bpmnDirectory);
+            }
+
+            Map<String, String> hashes;
+            if (hashManifestFile != null) {
+                Path manifestPath = Path.of(hashManifestFile);
+                if (!Files.isRegularFile(manifestPath)) {
+                    throw new MojoFailureException("Hash manifest not found: " + hashManifestFile);
+                }
+                hashes = HashManifest.read(manifestPath);
+            } else {
+                hashes = HashManifest.hashes(FeelDocument.read(feelPath).expressions());
+            }
+            int threads = checkThreads != null ? checkThreads : Runtime.getRuntime().availableProcessors();
+            List<BpmnDriftCheck.FileResult> results = new BpmnDriftCheck(hashes, feelPath, inboundPathPrefix)
+                .checkAll(bpmnPath, threads);
+
+            int webhooks = 0;
+            List<String> drifts = new ArrayList<>();
+            for (BpmnDriftCheck.FileResult result : results) {
+                webhooks += result.webhooks();
+                result.drifts().forEach(drift -> drifts.add(drift.message()));
+            }
+            if (webhooks == 0) {
+                getLog().warn("No webhook events found under " + bpmnDirectory);
+            }
+            if (!drifts.isEmpty()) {
+                throw new MojoFailureException("BPMN activation conditions drifted from " + outputFile
+                    + " (run sync-bpmn to update them):\n  - " + String.join("\n  - ", drifts));
+            }
+            getLog().info("BPMN check passed: " + webhooks + " webhooks in " + results.size() + " files");
+        } catch (MojoFailureException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new MojoFailureException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("BPMN check interrupted", e);
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error checking BPMN activation conditions", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.bpmn.BpmnConditionSync;
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Mojo for copying generated activation conditions into BPMN files.
+ *
+ * Every Camunda inbound webhook event under the BPMN directory has its
+ * {@code activationCondition} property rewritten in place to the FEEL block
+ * headed {@code <inbound.method> <inboundPathPrefix><inbound.context>}. The
+ * files are streamed with StAX and processed in parallel; a file is written
+ * only when one of its conditions changed.
+ */
+@Mojo(name = "sync-bpmn", defaultPhase = LifecyclePhase.GENERATE_RESOURCES, threadSafe = true)
+public class FEELBpmnSyncMojo extends AbstractMojo {
+
+    /**
+     * The generated activation-condition FEEL file; the same property as the
+     * {@code generate-feel} output.
+     */
+    @Parameter(property = "feelValidationGenerator.outputFile", required = true)
+    private String outputFile;
+
+    /**
+     * Directory walked for {@code *.bpmn} files.
+     */
+    @Parameter(property = "feelValidationGenerator.bpmnDirectory",
+        defaultValue = "${project.basedir}/src/main/resources")
+    private String bpmnDirectory;
+
+    /**
+     * Path prefix put between the method and the BPMN's {@code inbound.context}
+     * to form the FEEL heading looked up.
+     */
+    @Parameter(property = "feelValidationGenerator.inboundPathPrefix", defaultValue = "/inbound/")
+    private String inboundPathPrefix;
+
+    /**
+     * Worker threads processing BPMN files. Defaults to the number of available
+     * processors.
+     */
+    @Parameter(property = "feelValidationGenerator.syncThreads")
+    private Integer syncThreads;
+
+    /**
+     * Rewrites the activation conditions.
+     *
+     * @throws MojoExecutionException if {@code syncThreads} isn't positive, or an unexpected error occurs
+     * @throws MojoFailureException if the FEEL file or BPMN directory is missing, or a BPMN file is malformed
+     */
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (syncThreads != null && syncThreads < 1) {
+            throw new MojoExecutionException("syncThreads must be positive: " + syncThreads);
+        }
+        try {
+            Path feelPath = Path.of(outputFile);
+            if (!Files.isRegularFile(feelPath)) {
+                throw new MojoFailureException("FEEL file not found: " + outputFile);
+            }
+            Path bpmnPath = Path.of(bpmnDirectory);
+            if (!Files.isDirectory(bpmnPath)) {
+                throw new MojoFailureException("BPMN directory not found: " + bpmnDirectory);
+            }
+
+            BpmnConditionSync sync = new BpmnConditionSync(FeelDocument.read(feelPath).expressions(), inboundPathPrefix);
+            int threads = syncThreads != null ? syncThreads : Runtime.getRuntime().availableProcessors();
+            List<BpmnConditionSync.FileResult> results = sync.syncAll(bpmnPath, threads);
+
+            int webhooks = 0;
+            int updated = 0;
+            int changedFiles = 0;
+            for (BpmnConditionSync.FileResult result : results) {
+                result.warnings().forEach(warning -> getLog().warn(warning));
+                webhooks += result.webhooks();
+                updated += result.updated();
+                if (result.changed()) {
+                    changedFiles++;
+                    getLog().info("Updated " + result.updated() + " activation condition(s) in " + result.file());
+                }
+            }
+            getLog().info("BPMN sync: " + results.size() + " files, " + webhooks + " webhooks, "
+                + updated + " conditions updated in " + changedFiles + " files");
+        } catch (MojoFailureException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new MojoFailureException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("BPMN sync interrupted", e);
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error syncing BPMN activation conditions", e);
+        }
+    }
+}
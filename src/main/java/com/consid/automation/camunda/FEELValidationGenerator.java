@@ -1,94 +1,231 @@
 package com.consid.automation.camunda;
 
 import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
 import com.consid.automation.camunda.internal.feel.*;
+import com.consid.automation.camunda.internal.javagen.JavaValidatorGenerator;
 import com.consid.automation.camunda.internal.model.*;
 import com.consid.automation.camunda.internal.openapi.*;
 
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 /**
  * Entry point for FEEL validation generation. Coordinates the pipeline:
- * parse OpenAPI → scan operations → extract required fields → render FEEL → write.
- * Each stage lives in its own collaborator so this class stays a thin orchestrator.
+ * parse OpenAPI → scan operations → extract required fields → simplify → check patterns → render FEEL → write.
+ * Each stage lives in its own collaborator so this class stays a thin orchestrator;
+ * the stages up to the pattern check are the {@link ExtractionPipeline} it shares
+ * with {@link PayloadValidator}, and rules are assembled by the
+ * {@link RuleAssembler} it shares with {@link ValidationPlan}.
+ * When a cost report or budget is configured, each rule's evaluation cost is
+ * estimated alongside it. When Java sources are configured, a plain Java
+ * validator class per endpoint is generated from the same extraction.
+ * Additional outputs render the same rules with their own template and status
+ * codes, so the spec is parsed and extracted once however many files are written.
+ * A split output directory gets the main output once more, one file per endpoint,
+ * and a hash manifest records a hash of each endpoint's expression. A
+ * {@link Session} keeps each endpoint's rules warm between runs and only
+ * regenerates the endpoints a spec edit reaches.
  */
 public class FEELValidationGenerator {
 
     private final Path openApiSpecPath;
     private final Path outputFilePath;
     private final ValidationRuleBuilder ruleBuilder;
-    private final OpenApiOperationScanner scanner;
+    private final Map<Path, ValidationRuleBuilder> additionalOutputs;
+    private final ExtractionPipeline pipeline;
     private final RuleFileWriter writer;
-    private final Diagnostics diagnostics;
+    private final CostReportWriter costReportWriter;
+    private final Path splitOutputDirectory;
+    private final SplitOutputWriter splitWriter;
+    private final Path hashManifestPath;
+    private final HashManifest hashManifest;
+    private final boolean regeneratesAll;
+    private final RuleAssembler assembler;
+    private final Path costReportPath;
+    private final Long maxEvaluationCost;
+    private final Path javaSourcesDirectory;
+    private final JavaValidatorGenerator javaGenerator;
 
     private FEELValidationGenerator(Builder builder) {
         this.openApiSpecPath = builder.openApiSpecPath;
         this.outputFilePath = builder.outputFilePath;
+        PayloadLimits limits = new PayloadLimits(builder.maxArrayItems, builder.maxStringLength, builder.maxObjectKeys);
         this.ruleBuilder = builder.customRuleBuilder != null
             ? builder.customRuleBuilder
-            : new FEELRuleGenerator(builder.addResponse, builder.successStatusCode, builder.failureStatusCode);
-        this.scanner = new OpenApiOperationScanner(builder.httpMethods, builder.mediaType);
+            : new FEELRuleGenerator(builder.addResponse, builder.successStatusCode, builder.failureStatusCode,
+                builder.maxReportedDetails, limits, new FEELExpressionBuilder(limits));
+        this.additionalOutputs = new LinkedHashMap<>();
+        builder.additionalOutputs.forEach(output -> additionalOutputs.put(output.outputFilePath(),
+            new FEELRuleGenerator(output.addResponse(), output.successStatusCode(), output.failureStatusCode(),
+                builder.maxReportedDetails, limits, new FEELExpressionBuilder(limits))));
+        this.pipeline = new ExtractionPipeline(builder.httpMethods, builder.mediaType,
+            new ExpansionLimits(builder.maxValidationDepth, builder.maxExpandedNodes),
+            builder.strictPatternChecks,
+            new Diagnostics(builder.warningConsumer, builder.infoConsumer));
         this.writer = new RuleFileWriter();
-        this.diagnostics = new Diagnostics(builder.warningConsumer);
+        this.costReportWriter = new CostReportWriter();
+        this.splitOutputDirectory = builder.splitOutputDirectory;
+        this.splitWriter = new SplitOutputWriter();
+        this.hashManifestPath = builder.hashManifestPath;
+        this.hashManifest = new HashManifest();
+        this.regeneratesAll = builder.componentFunctionThreshold != null;
+        boolean estimatesCost = builder.costReportPath != null || builder.maxEvaluationCost != null;
+        this.assembler = new RuleAssembler(ruleBuilder, builder.componentFunctionThreshold,
+            estimatesCost ? new EvaluationCostEstimator(limits) : null);
+        this.costReportPath = builder.costReportPath;
+        this.maxEvaluationCost = builder.maxEvaluationCost;
+        this.javaSourcesDirectory = builder.javaSourcesDirectory;
+        this.javaGenerator = builder.javaSourcesDirectory == null
+            ? null
+            : new JavaValidatorGenerator(builder.javaPackage, limits);
     }
 
     public void generate() throws IOException {
-        OpenAPI openAPI = parseOpenAPI();
-        Map<String, Schema<?>> schemasByEndpoint = scanner.scan(openAPI);
-        Map<String, List<ValidationRule>> rulesByEndpoint = buildRules(openAPI, schemasByEndpoint);
-        writer.write(outputFilePath, ruleBuilder.render(rulesByEndpoint));
+        OpenAPI openAPI = ExtractionPipeline.parse(openApiSpecPath);
+        write(assembler.endpointRules(pipeline.extract(openAPI)));
     }
 
-    private OpenAPI parseOpenAPI() throws IOException {
-        OpenAPI openAPI = new OpenAPIV3Parser().read(openApiSpecPath.toString());
-        if (openAPI == null) {
-            throw new IOException("Failed to parse OpenAPI specification: " + openApiSpecPath);
-        }
-        return openAPI;
+    /**
+     * Starts a session that keeps each endpoint's extraction and rules between
+     * runs, for regenerating repeatedly while the spec is edited.
+     */
+    Session newSession() {
+        return new Session();
     }
 
-    private Map<String, List<ValidationRule>> buildRules(OpenAPI openAPI,
-                                                          Map<String, Schema<?>> schemasByEndpoint) {
-        RequiredFieldsExtractor fieldsExtractor =
-            new RequiredFieldsExtractor(new FieldTypeResolver(openAPI, diagnostics), diagnostics);
-        Map<String, List<ValidationRule>> rulesByEndpoint = new LinkedHashMap<>();
-        schemasByEndpoint.forEach((heading, schema) -> {
-            List<ValidationRule> rules = rulesFor(heading, schema, fieldsExtractor);
-            if (!rules.isEmpty()) {
-                rulesByEndpoint.put(heading, rules);
+    private void write(Map<String, RuleAssembler.EndpointRules> endpoints) throws IOException {
+        Map<String, ExtractionResult> extractedByEndpoint = new LinkedHashMap<>();
+        endpoints.forEach((heading, endpoint) -> extractedByEndpoint.put(heading, endpoint.extracted()));
+        Map<String, List<ValidationRule>> rulesByEndpoint = RuleAssembler.rules(endpoints);
+        Map<String, List<ValidationFunction>> functionsByEndpoint = RuleAssembler.functions(endpoints);
+        List<EndpointCost> costs = RuleAssembler.costs(endpoints);
+        if (costReportPath != null) {
+            costReportWriter.write(costReportPath, costs, maxEvaluationCost);
+        }
+        RuleAssembler.enforceCostBudget(costs, maxEvaluationCost);
+        String rendered = ruleBuilder.render(rulesByEndpoint, functionsByEndpoint);
+        writer.write(outputFilePath, rendered);
+        if (hashManifestPath != null) {
+            hashManifest.write(hashManifestPath, FeelDocument.parse(rendered).expressions());
+        }
+        if (splitOutputDirectory != null) {
+            Map<String, String> blocksByEndpoint = new LinkedHashMap<>();
+            rulesByEndpoint.forEach((heading, rules) -> blocksByEndpoint.put(heading.substring(2),
+                ruleBuilder.render(Map.of(heading, rules), Map.of(heading, functionsByEndpoint.get(heading)))));
+            splitWriter.write(splitOutputDirectory, blocksByEndpoint);
+        }
+        for (Map.Entry<Path, ValidationRuleBuilder> output : additionalOutputs.entrySet()) {
+            writer.write(output.getKey(), output.getValue().render(rulesByEndpoint, functionsByEndpoint));
+        }
+        if (javaGenerator != null) {
+            Path packageDirectory = javaSourcesDirectory.resolve(javaGenerator.packageDirectory());
+            for (Map.Entry<String, String> source : javaGenerator.generate(extractedByEndpoint).entrySet()) {
+                writer.write(packageDirectory.resolve(source.getKey() + ".java"), source.getValue());
             }
-        });
-        return rulesByEndpoint;
+        }
     }
 
-    private List<ValidationRule> rulesFor(String heading, Schema<?> schema,
-                                          RequiredFieldsExtractor fieldsExtractor) {
-        ExtractionResult extracted;
-        try {
-            extracted = fieldsExtractor.extract(schema);
-        } catch (IllegalStateException e) {
-            // Attach endpoint context so the user can pinpoint a broken $ref in large specs.
-            throw new IllegalStateException(
-                "Failed processing " + heading + ": " + e.getMessage(), e);
-        }
-        List<ValidationRule> rules = new ArrayList<>();
-        extracted.requiredFields().forEach((fieldPath, descriptor) ->
-            rules.add(ruleBuilder.createRule(fieldPath, descriptor)));
-        if (extracted.hasRootClosure()) {
-            rules.add(ruleBuilder.createRootObjectRule(extracted.rootClosure()));
-        }
-        return rules;
+    /** What one {@link Session#regenerate()} did, by {@code METHOD /path}. */
+    record Regeneration(int endpoints, Set<String> regenerated, Set<String> removed) {
+    }
+
+    /**
+     * Warm state for repeated generation from a spec being edited. A run whose
+     * spec files all hash as before (an editor saving without a change, or the
+     * several events one save raises) skips parsing and resolving the spec and
+     * writes the kept rules as they are. Otherwise the spec is parsed and its references
+     * resolved again, which is what reveals the edit, and every endpoint's
+     * request body schema is fingerprinted together with the component schemas
+     * it reaches; only endpoints whose fingerprint changed are extracted and
+     * turned into rules again, the rest are reused from the previous run. With
+     * component functions enabled every endpoint is regenerated, since a
+     * function is shared across endpoints. A failed run leaves the previous
+     * state in place.
+     */
+    final class Session {
+
+        private Map<String, RuleAssembler.EndpointRules> endpoints = Map.of();
+        private Map<String, String> fingerprints = Map.of();
+        private Map<Path, String> fileHashes = Map.of();
+
+        private Session() {
+        }
+
+        /** The spec and the local files it references, for watching. */
+        Set<Path> specFiles() throws IOException {
+            return SpecFiles.of(openApiSpecPath);
+        }
+
+        Regeneration regenerate() throws IOException {
+            Map<Path, String> currentHashes = contentHashes(specFiles());
+            if (!endpoints.isEmpty() && currentHashes.equals(fileHashes)) {
+                write(endpoints);
+                return new Regeneration(endpoints.size(), Set.of(), Set.of());
+            }
+            OpenAPI openAPI = ExtractionPipeline.parse(openApiSpecPath);
+            Map<String, Schema<?>> schemasByEndpoint = pipeline.scan(openAPI);
+            SchemaDependencies dependencies = new SchemaDependencies(openAPI);
+            Map<String, String> current = new LinkedHashMap<>();
+            Set<String> stale = new LinkedHashSet<>();
+            schemasByEndpoint.forEach((heading, schema) -> {
+                String fingerprint = dependencies.fingerprint(schema);
+                current.put(heading, fingerprint);
+                if (regeneratesAll || !endpoints.containsKey(heading)
+                    || !fingerprint.equals(fingerprints.get(heading))) {
+                    stale.add(heading);
+                }
+            });
+
+            Map<String, RuleAssembler.EndpointRules> regenerated =
+                assembler.endpointRules(pipeline.extract(openAPI, schemasByEndpoint, stale::contains));
+            Map<String, RuleAssembler.EndpointRules> merged = new LinkedHashMap<>();
+            for (String heading : schemasByEndpoint.keySet()) {
+                merged.put(heading, stale.contains(heading) ? regenerated.get(heading) : endpoints.get(heading));
+            }
+            write(merged);
+
+            Set<String> removed = new LinkedHashSet<>();
+            endpoints.keySet().stream()
+                .filter(heading -> !merged.containsKey(heading))
+                .forEach(heading -> removed.add(heading.substring(2)));
+            endpoints = merged;
+            fingerprints = current;
+            fileHashes = currentHashes;
+            Set<String> names = new LinkedHashSet<>();
+            stale.forEach(heading -> names.add(heading.substring(2)));
+            return new Regeneration(merged.size(), names, removed);
+        }
+
+        private static Map<Path, String> contentHashes(Set<Path> files) throws IOException {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+            Map<Path, String> hashes = new LinkedHashMap<>();
+            for (Path file : files) {
+                hashes.put(file, HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file))));
+            }
+            return hashes;
+        }
     }
 
     public static Builder builder() {
@@ -103,8 +240,24 @@ public class FEELValidationGenerator {
         private int failureStatusCode = 400;
         private List<String> httpMethods = List.of("POST", "PUT", "PATCH");
         private String mediaType = "application/json";
+        private Integer maxArrayItems;
+        private Integer maxStringLength;
+        private Integer maxObjectKeys;
+        private Integer maxReportedDetails;
+        private Integer componentFunctionThreshold;
+        private Integer maxValidationDepth;
+        private Integer maxExpandedNodes;
+        private Path costReportPath;
+        private Long maxEvaluationCost;
+        private boolean strictPatternChecks = false;
+        private Path javaSourcesDirectory;
+        private String javaPackage;
+        private final List<Output> additionalOutputs = new ArrayList<>();
+        private Path splitOutputDirectory;
+        private Path hashManifestPath;
         private ValidationRuleBuilder customRuleBuilder;
         private Consumer<String> warningConsumer = message -> {};
+        private Consumer<String> infoConsumer = message -> {};
 
         private Builder() {
         }
@@ -144,6 +297,160 @@ public class FEELValidationGenerator {
             return this;
         }
 
+        /**
+         * Global ceiling on the element count of every array field the generator
+         * validates, checked before any per-item work. Applies on top of (not
+         * instead of) a declared {@code maxItems}. Disabled by default.
+         */
+        public Builder withMaxArrayItems(int maxArrayItems) {
+            this.maxArrayItems = requirePositive(maxArrayItems, "maxArrayItems");
+            return this;
+        }
+
+        /**
+         * Global ceiling on the length of every string field the generator
+         * validates, checked before any pattern match. Disabled by default.
+         */
+        public Builder withMaxStringLength(int maxStringLength) {
+            this.maxStringLength = requirePositive(maxStringLength, "maxStringLength");
+            return this;
+        }
+
+        /**
+         * Global ceiling on the key count of the request body and of every object
+         * field the generator validates. Disabled by default.
+         */
+        public Builder withMaxObjectKeys(int maxObjectKeys) {
+            this.maxObjectKeys = requirePositive(maxObjectKeys, "maxObjectKeys");
+            return this;
+        }
+
+        /**
+         * Caps the response {@code details} list at the first {@code maxReportedDetails}
+         * failing rules. Only affects response mode; unlimited by default.
+         */
+        public Builder withMaxReportedDetails(int maxReportedDetails) {
+            this.maxReportedDetails = requirePositive(maxReportedDetails, "maxReportedDetails");
+            return this;
+        }
+
+        /**
+         * Emits a component referenced at {@code threshold} or more required
+         * object properties (counted across all scanned endpoints) once per
+         * endpoint as a FEEL function, and calls it at each use site instead of
+         * inlining its rules. Disabled by default.
+         */
+        public Builder withComponentFunctionThreshold(int threshold) {
+            this.componentFunctionThreshold = requirePositive(threshold, "componentFunctionThreshold");
+            return this;
+        }
+
+        /**
+         * Validates recursive schemas (category trees, comment threads) down to
+         * {@code maxValidationDepth} field-path levels instead of only their first
+         * level. Also bounds non-recursive nesting; deeper required fields are
+         * dropped with a warning. Unbounded by default.
+         */
+        public Builder withMaxValidationDepth(int maxValidationDepth) {
+            this.maxValidationDepth = requirePositive(maxValidationDepth, "maxValidationDepth");
+            return this;
+        }
+
+        /**
+         * Budget of schema nodes expanded per endpoint. Checked against an
+         * up-front estimate and while walking; exceeding it fails the build.
+         * Unbudgeted by default.
+         */
+        public Builder withMaxExpandedNodes(int maxExpandedNodes) {
+            this.maxExpandedNodes = requirePositive(maxExpandedNodes, "maxExpandedNodes");
+            return this;
+        }
+
+        /**
+         * Writes a JSON report of each endpoint's (and rule's) estimated FEEL
+         * evaluation cost — clause count, regex count, quantifier nesting depth,
+         * largest enum and a weighted score — to {@code costReportPath}.
+         * Disabled by default.
+         */
+        public Builder withCostReportPath(Path costReportPath) {
+            this.costReportPath = Objects.requireNonNull(costReportPath, "costReportPath");
+            return this;
+        }
+
+        /**
+         * Budget for the estimated evaluation cost score of each endpoint; an
+         * endpoint above it fails generation before any FEEL is written.
+         * Unlimited by default.
+         */
+        public Builder withMaxEvaluationCost(long maxEvaluationCost) {
+            if (maxEvaluationCost < 1) {
+                throw new IllegalArgumentException("maxEvaluationCost must be positive: " + maxEvaluationCost);
+            }
+            this.maxEvaluationCost = maxEvaluationCost;
+            return this;
+        }
+
+        /**
+         * Every {@code pattern} is checked for catastrophic backtracking
+         * (nested quantifiers, overlapping alternations, and adversarial inputs
+         * that overrun a time budget). Findings are warnings by default; in
+         * strict mode the first one fails generation.
+         */
+        public Builder withStrictPatternChecks(boolean strictPatternChecks) {
+            this.strictPatternChecks = strictPatternChecks;
+            return this;
+        }
+
+        /**
+         * Also writes a plain Java validator class per endpoint, in package
+         * {@code javaPackage} under {@code javaSourcesDirectory}, that reaches
+         * the same verdict as the FEEL. The classes need only Jackson at
+         * runtime. Disabled by default.
+         */
+        public Builder withJavaSources(Path javaSourcesDirectory, String javaPackage) {
+            this.javaSourcesDirectory = Objects.requireNonNull(javaSourcesDirectory, "javaSourcesDirectory");
+            this.javaPackage = Objects.requireNonNull(javaPackage, "javaPackage");
+            return this;
+        }
+
+        /**
+         * Also writes the rules to {@code outputFilePath} as an activation
+         * condition ({@code addResponse=false}) or a response expression with
+         * the given status codes, rendered from the same parse and extraction
+         * as the main output. May be called repeatedly; payload ceilings and
+         * {@code maxReportedDetails} apply to every output.
+         */
+        public Builder withAdditionalOutput(Path outputFilePath,
+                                            boolean addResponse,
+                                            int successStatusCode,
+                                            int failStatusCode) {
+            additionalOutputs.add(new Output(Objects.requireNonNull(outputFilePath, "outputFilePath"),
+                addResponse, successStatusCode, failStatusCode));
+            return this;
+        }
+
+        /**
+         * Also writes the main output split into one {@code .feel} file per
+         * endpoint heading under {@code splitOutputDirectory}, with an
+         * {@code index.json} of endpoints, file names and SHA-256 content
+         * hashes. Unchanged files are left untouched. Disabled by default.
+         */
+        public Builder withSplitOutputDirectory(Path splitOutputDirectory) {
+            this.splitOutputDirectory = Objects.requireNonNull(splitOutputDirectory, "splitOutputDirectory");
+            return this;
+        }
+
+        /**
+         * Also writes a JSON manifest of a SHA-256 hash per endpoint heading,
+         * taken over the endpoint's expression with line breaks and surrounding
+         * whitespace normalized, for the {@code check-bpmn} goal. The file is
+         * left untouched when the hashes are unchanged. Disabled by default.
+         */
+        public Builder withHashManifest(Path hashManifestPath) {
+            this.hashManifestPath = Objects.requireNonNull(hashManifestPath, "hashManifestPath");
+            return this;
+        }
+
         Builder withRuleBuilder(ValidationRuleBuilder ruleBuilder) {
             this.customRuleBuilder = ruleBuilder;
             return this;
@@ -161,6 +468,16 @@ public class FEELValidationGenerator {
             return this;
         }
 
+        /**
+         * Receive informational build statistics, such as the number of schema
+         * nodes expanded per endpoint. Defaults to a silent no-op; the Maven Mojo
+         * wires this to {@code getLog().info(...)}.
+         */
+        public Builder withInfoConsumer(Consumer<String> infoConsumer) {
+            this.infoConsumer = Objects.requireNonNull(infoConsumer, "infoConsumer");
+            return this;
+        }
+
         public FEELValidationGenerator build() {
             Objects.requireNonNull(openApiSpecPath, "openApiSpecPath must be set via withOpenApiPath");
             Objects.requireNonNull(outputFilePath, "outputFilePath must be set via withOutputFilePath");
@@ -169,10 +486,30 @@ public class FEELValidationGenerator {
             }
             requireValidStatusCode(successStatusCode, "successStatusCode");
             requireValidStatusCode(failureStatusCode, "failStatusCode");
+            Set<Path> outputPaths = new HashSet<>();
+            outputPaths.add(outputFilePath.toAbsolutePath().normalize());
+            for (Output output : additionalOutputs) {
+                requireValidStatusCode(output.successStatusCode(), "successStatusCode");
+                requireValidStatusCode(output.failureStatusCode(), "failStatusCode");
+                if (!outputPaths.add(output.outputFilePath().toAbsolutePath().normalize())) {
+                    throw new IllegalArgumentException("output file configured more than once: "
+                        + output.outputFilePath());
+                }
+            }
             return new FEELValidationGenerator(this);
         }
 
-        private static void requireValidStatusCode(int statusCode, String name) {
+        private record Output(Path outputFilePath, boolean addResponse, int successStatusCode, int failureStatusCode) {
+        }
+
+        static int requirePositive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+            return value;
+        }
+
+        static void requireValidStatusCode(int statusCode, String name) {
             if (statusCode < 100 || statusCode > 599) {
                 throw new IllegalArgumentException(
                     name + " must be a valid HTTP status code (100-599): " + statusCode
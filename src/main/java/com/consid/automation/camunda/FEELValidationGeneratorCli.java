@@ -0,0 +1,180 @@
+package com.consid.automation.camunda;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command-line entry point that runs {@link FEELValidationGenerator} without
+ * Maven, for pre-commit hooks and quick CI steps. The options mirror the
+ * {@link FEELValidationGenerator.Builder} methods.
+ *
+ * <pre>
+ * java -jar feel-validation-generator-cli.jar --openapi openapi.yaml --output target/validation.feel [options]
+ * </pre>
+ *
+ * <p>The {@code cli} build profile packages this class with its dependencies
+ * as one jar, together with a class-data-sharing archive that cuts JVM start
+ * and class loading; see the README.
+ */
+public final class FEELValidationGeneratorCli {
+
+    static final String USAGE = """
+        usage: FEELValidationGeneratorCli --openapi <spec> --output <file> [options]
+          --response                         write a response expression instead of an activation condition
+          --success-status <code>            response status when the payload is valid (default: 201)
+          --fail-status <code>               response status when the payload is invalid (default: 400)
+          --methods <POST,PUT,PATCH>         HTTP methods scanned for request bodies
+          --media-type <type>                request body media type (default: application/json)
+          --max-array-items <n>              ceiling on array element counts
+          --max-string-length <n>            ceiling on string lengths
+          --max-object-keys <n>              ceiling on object key counts
+          --max-reported-details <n>         cap on failures listed in a response
+          --component-function-threshold <n> share a component's rules once it is used this often
+          --max-validation-depth <n>         depth at which recursive schemas stop expanding
+          --max-expanded-nodes <n>           schema node budget per endpoint
+          --cost-report <file>               write the evaluation cost report
+          --max-evaluation-cost <n>          fail when an endpoint's estimated cost is above this
+          --strict-patterns                  fail on patterns prone to catastrophic backtracking
+          --java-sources <dir>               also write Java validator classes
+          --java-package <package>           their package (default: generated.feel.validation)
+          --split-output <dir>               also write one file per endpoint
+          --hash-manifest <file>             also write a hash per endpoint expression
+          --additional-output <file>         also write an activation condition (repeatable)
+          --additional-response-output <file> also write a response expression (repeatable)
+          --quiet                            print warnings only
+          --help                             print this help
+        """;
+
+    private FEELValidationGeneratorCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /** Runs the generator; returns 0 on success, 1 when generation fails and 2 on a usage error. */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        if (Arrays.asList(args).contains("--help")) {
+            out.print(USAGE);
+            return 0;
+        }
+        FEELValidationGenerator generator;
+        try {
+            generator = Options.parse(args, out, err);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return 2;
+        }
+        try {
+            generator.generate();
+            return 0;
+        } catch (IOException | IllegalStateException e) {
+            err.println(e.getMessage());
+            return 1;
+        }
+    }
+
+    private static final class Options {
+
+        static FEELValidationGenerator parse(String[] args, PrintStream out, PrintStream err) {
+            FEELValidationGenerator.Builder builder = FEELValidationGenerator.builder()
+                .withWarningConsumer(warning -> err.println("warning: " + warning));
+            boolean quiet = Arrays.asList(args).contains("--quiet");
+            if (!quiet) {
+                builder.withInfoConsumer(out::println);
+            }
+            Path outputFile = null;
+            boolean addResponse = false;
+            int successStatusCode = 201;
+            int failStatusCode = 400;
+            Path javaSources = null;
+            String javaPackage = "generated.feel.validation";
+            List<String> responseOutputs = new ArrayList<>();
+            boolean hasSpec = false;
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                switch (option) {
+                    case "--quiet" -> {
+                    }
+                    case "--response" -> addResponse = true;
+                    case "--strict-patterns" -> builder.withStrictPatternChecks(true);
+                    case "--openapi" -> {
+                        builder.withOpenApiPath(Path.of(value(args, ++i, option)));
+                        hasSpec = true;
+                    }
+                    case "--output" -> outputFile = Path.of(value(args, ++i, option));
+                    case "--success-status" -> successStatusCode = number(value(args, ++i, option), option);
+                    case "--fail-status" -> failStatusCode = number(value(args, ++i, option), option);
+                    case "--methods" -> builder.withHttpMethods(Arrays.stream(value(args, ++i, option).split(","))
+                        .map(String::trim)
+                        .filter(method -> !method.isEmpty())
+                        .map(String::toUpperCase)
+                        .toList());
+                    case "--media-type" -> builder.withMediaType(value(args, ++i, option));
+                    case "--max-array-items" -> builder.withMaxArrayItems(number(value(args, ++i, option), option));
+                    case "--max-string-length" -> builder.withMaxStringLength(number(value(args, ++i, option), option));
+                    case "--max-object-keys" -> builder.withMaxObjectKeys(number(value(args, ++i, option), option));
+                    case "--max-reported-details" ->
+                        builder.withMaxReportedDetails(number(value(args, ++i, option), option));
+                    case "--component-function-threshold" ->
+                        builder.withComponentFunctionThreshold(number(value(args, ++i, option), option));
+                    case "--max-validation-depth" ->
+                        builder.withMaxValidationDepth(number(value(args, ++i, option), option));
+                    case "--max-expanded-nodes" ->
+                        builder.withMaxExpandedNodes(number(value(args, ++i, option), option));
+                    case "--cost-report" -> builder.withCostReportPath(Path.of(value(args, ++i, option)));
+                    case "--max-evaluation-cost" -> {
+                        String value = value(args, ++i, option);
+                        try {
+                            builder.withMaxEvaluationCost(Long.parseLong(value));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException(option + " needs a whole number, got " + value);
+                        }
+                    }
+                    case "--java-sources" -> javaSources = Path.of(value(args, ++i, option));
+                    case "--java-package" -> javaPackage = value(args, ++i, option);
+                    case "--split-output" -> builder.withSplitOutputDirectory(Path.of(value(args, ++i, option)));
+                    case "--hash-manifest" -> builder.withHashManifest(Path.of(value(args, ++i, option)));
+                    case "--additional-output" ->
+                        builder.withAdditionalOutput(Path.of(value(args, ++i, option)), false, 201, 400);
+                    case "--additional-response-output" -> responseOutputs.add(value(args, ++i, option));
+                    default -> throw new IllegalArgumentException("unknown option: " + option);
+                }
+            }
+            if (!hasSpec || outputFile == null) {
+                throw new IllegalArgumentException("--openapi and --output are required");
+            }
+            builder.withOutputFilePath(outputFile)
+                .withResponse(addResponse)
+                .withSuccessStatusCode(successStatusCode)
+                .withFailStatusCode(failStatusCode);
+            for (String responseOutput : responseOutputs) {
+                builder.withAdditionalOutput(Path.of(responseOutput), true, successStatusCode, failStatusCode);
+            }
+            if (javaSources != null) {
+                builder.withJavaSources(javaSources, javaPackage);
+            }
+            return builder.build();
+        }
+
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException(option + " needs a value");
+            }
+            return args[index];
+        }
+
+        private static int number(String value, String option) {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(option + " needs a whole number, got " + value);
+            }
+        }
+    }
+}
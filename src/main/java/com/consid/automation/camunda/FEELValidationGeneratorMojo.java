@@ -9,6 +9,7 @@ import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
 
 /**
  * Mojo for generating FEEL validation rules from OpenAPI specifications.
@@ -62,6 +63,104 @@ public class FEELValidationGeneratorMojo extends AbstractMojo {
     @Parameter(property = "feelValidationGenerator.mediaType", defaultValue = "application/json")
     private String mediaType;
 
+    /**
+     * Optional global ceiling on array element counts, checked before any per-item rule.
+     */
+    @Parameter(property = "feelValidationGenerator.maxArrayItems")
+    private Integer maxArrayItems;
+
+    /**
+     * Optional global ceiling on string lengths, checked before any pattern match.
+     */
+    @Parameter(property = "feelValidationGenerator.maxStringLength")
+    private Integer maxStringLength;
+
+    /**
+     * Optional global ceiling on object key counts (request body and object fields).
+     */
+    @Parameter(property = "feelValidationGenerator.maxObjectKeys")
+    private Integer maxObjectKeys;
+
+    /**
+     * Optional cap on the number of failing rules reported in the response {@code details}.
+     */
+    @Parameter(property = "feelValidationGenerator.maxReportedDetails")
+    private Integer maxReportedDetails;
+
+    /**
+     * Optional reuse threshold: components expanded at this many or more required
+     * properties are emitted once per endpoint as a FEEL function and called at each use.
+     */
+    @Parameter(property = "feelValidationGenerator.componentFunctionThreshold")
+    private Integer componentFunctionThreshold;
+
+    /**
+     * Optional depth to which recursive schemas are validated; unset validates them to their first level only.
+     */
+    @Parameter(property = "feelValidationGenerator.maxValidationDepth")
+    private Integer maxValidationDepth;
+
+    /**
+     * Optional budget of schema nodes expanded per endpoint; exceeding it fails the build. Unbudgeted when unset.
+     */
+    @Parameter(property = "feelValidationGenerator.maxExpandedNodes")
+    private Integer maxExpandedNodes;
+
+    /**
+     * Optional path of a JSON report with each endpoint's and rule's estimated FEEL evaluation cost.
+     */
+    @Parameter(property = "feelValidationGenerator.costReportFile")
+    private String costReportFile;
+
+    /**
+     * Optional budget for each endpoint's estimated evaluation cost score; exceeding it fails the build.
+     */
+    @Parameter(property = "feelValidationGenerator.maxEvaluationCost")
+    private Long maxEvaluationCost;
+
+    /**
+     * Fail the build, instead of warning, when a {@code pattern} can backtrack catastrophically.
+     */
+    @Parameter(property = "feelValidationGenerator.strictPatternChecks", defaultValue = "false")
+    private boolean strictPatternChecks;
+
+    /**
+     * Optional directory to also write a plain Java validator class per endpoint to;
+     * it is added to the project's compile source roots.
+     */
+    @Parameter(property = "feelValidationGenerator.javaSourcesDirectory")
+    private String javaSourcesDirectory;
+
+    /**
+     * Package of the generated Java validators.
+     */
+    @Parameter(property = "feelValidationGenerator.javaPackage", defaultValue = "generated.feel.validation")
+    private String javaPackage;
+
+    /**
+     * Optional directory to also write the output to as one file per endpoint,
+     * with an {@code index.json} of content hashes; unchanged files are left untouched.
+     */
+    @Parameter(property = "feelValidationGenerator.splitOutputDirectory")
+    private String splitOutputDirectory;
+
+    /**
+     * Optional file to also write a per-endpoint hash manifest of the output to,
+     * which the {@code check-bpmn} goal compares BPMN conditions against.
+     */
+    @Parameter(property = "feelValidationGenerator.hashManifestFile")
+    private String hashManifestFile;
+
+    /**
+     * Further FEEL files rendered from the same parse and extraction, each with
+     * its own {@code outputFile}, {@code addResponse} and status codes.
+     */
+    @Parameter
+    private List<AdditionalOutput> additionalOutputs;
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
     /**
      * Executes the FEEL validation generation logic.
      *
@@ -75,29 +174,11 @@ public class FEELValidationGeneratorMojo extends AbstractMojo {
             getLog().info("Input OpenAPI spec: " + openApiSpec);
             getLog().info("Output file: " + outputFile);
 
-            Path specPath = Path.of(openApiSpec);
-            if (!Files.exists(specPath)) {
-                throw new MojoFailureException("OpenAPI specification file not found: " + openApiSpec);
+            configure().build().generate();
+            if (javaSourcesDirectory != null && project != null) {
+                project.addCompileSourceRoot(Path.of(javaSourcesDirectory).toAbsolutePath().toString());
             }
 
-            List<String> methodList = Arrays.stream(methods.split(","))
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .map(String::toUpperCase)
-                    .toList();
-
-            FEELValidationGenerator generator = FEELValidationGenerator.builder()
-                .withOpenApiPath(specPath)
-                .withOutputFilePath(Path.of(outputFile))
-                .withResponse(addResponse)
-                .withSuccessStatusCode(successStatusCode)
-                .withFailStatusCode(failStatusCode)
-                .withHttpMethods(methodList)
-                .withMediaType(mediaType)
-                .withWarningConsumer(message -> getLog().warn(message))
-                .build();
-            generator.generate();
-
             getLog().info("FEEL validation generation completed successfully");
             getLog().info("Output written to: " + outputFile);
         } catch (MojoFailureException e) {
@@ -106,4 +187,81 @@ public class FEELValidationGeneratorMojo extends AbstractMojo {
             throw new MojoExecutionException("Error generating FEEL validations", e);
         }
     }
+
+    /**
+     * A generator builder configured from this Mojo's parameters, shared with
+     * the {@code watch} goal.
+     *
+     * @throws MojoFailureException if the spec is missing or an additional output has no file
+     */
+    FEELValidationGenerator.Builder configure() throws MojoFailureException {
+        Path specPath = Path.of(openApiSpec);
+        if (!Files.exists(specPath)) {
+            throw new MojoFailureException("OpenAPI specification file not found: " + openApiSpec);
+        }
+
+        List<String> methodList = Arrays.stream(methods.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(String::toUpperCase)
+                .toList();
+
+        FEELValidationGenerator.Builder builder = FEELValidationGenerator.builder()
+            .withOpenApiPath(specPath)
+            .withOutputFilePath(Path.of(outputFile))
+            .withResponse(addResponse)
+            .withSuccessStatusCode(successStatusCode)
+            .withFailStatusCode(failStatusCode)
+            .withHttpMethods(methodList)
+            .withMediaType(mediaType)
+            .withStrictPatternChecks(strictPatternChecks)
+            .withWarningConsumer(message -> getLog().warn(message))
+            .withInfoConsumer(message -> getLog().info(message));
+        if (maxArrayItems != null) {
+            builder.withMaxArrayItems(maxArrayItems);
+        }
+        if (maxStringLength != null) {
+            builder.withMaxStringLength(maxStringLength);
+        }
+        if (maxObjectKeys != null) {
+            builder.withMaxObjectKeys(maxObjectKeys);
+        }
+        if (maxReportedDetails != null) {
+            builder.withMaxReportedDetails(maxReportedDetails);
+        }
+        if (componentFunctionThreshold != null) {
+            builder.withComponentFunctionThreshold(componentFunctionThreshold);
+        }
+        if (maxValidationDepth != null) {
+            builder.withMaxValidationDepth(maxValidationDepth);
+        }
+        if (maxExpandedNodes != null) {
+            builder.withMaxExpandedNodes(maxExpandedNodes);
+        }
+        if (costReportFile != null) {
+            builder.withCostReportPath(Path.of(costReportFile));
+        }
+        if (maxEvaluationCost != null) {
+            builder.withMaxEvaluationCost(maxEvaluationCost);
+        }
+        if (javaSourcesDirectory != null) {
+            builder.withJavaSources(Path.of(javaSourcesDirectory), javaPackage);
+        }
+        if (splitOutputDirectory != null) {
+            builder.withSplitOutputDirectory(Path.of(splitOutputDirectory));
+        }
+        if (hashManifestFile != null) {
+            builder.withHashManifest(Path.of(hashManifestFile));
+        }
+        if (additionalOutputs != null) {
+            for (AdditionalOutput output : additionalOutputs) {
+                if (output.getOutputFile() == null) {
+                    throw new MojoFailureException("additionalOutput is missing its outputFile");
+                }
+                builder.withAdditionalOutput(Path.of(output.getOutputFile()), output.isAddResponse(),
+                    output.getSuccessStatusCode(), output.getFailStatusCode());
+            }
+        }
+        return builder;
+    }
 }
@@ -0,0 +1,111 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.consid.automation.camunda.internal.corpus.FeelEvaluator;
+import com.consid.automation.camunda.internal.verify.Example;
+import com.consid.automation.camunda.internal.verify.ExampleReader;
+import com.consid.automation.camunda.internal.verify.FeelVerifier;
+import com.consid.automation.camunda.internal.verify.VerificationReport;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Mojo for verifying generated FEEL at build time.
+ *
+ * Each endpoint block of the generated file is parsed once on the Camunda FEEL
+ * engine and evaluated, in parallel, against example payloads with expected
+ * verdicts. The build fails on a parse error or a wrong verdict, and the
+ * evaluation time per endpoint is logged.
+ */
+@Mojo(name = "verify-feel", defaultPhase = LifecyclePhase.TEST, threadSafe = true)
+public class FEELVerificationMojo extends AbstractMojo {
+
+    /**
+     * The generated FEEL file to verify; the same property as the
+     * {@code generate-feel} output, so one configuration serves both goals.
+     */
+    @Parameter(property = "feelValidationGenerator.outputFile", required = true)
+    private String outputFile;
+
+    /**
+     * Directory of example files: every {@code *.json} below it holds one
+     * example object, or an array of them, with {@code endpoint},
+     * {@code valid}, {@code body} and optionally {@code name} and
+     * {@code failures}.
+     */
+    @Parameter(property = "feelValidationGenerator.examplesDirectory",
+        defaultValue = "${project.basedir}/src/test/feel-examples")
+    private String examplesDirectory;
+
+    /**
+     * Worker threads evaluating examples. Defaults to the number of available
+     * processors.
+     */
+    @Parameter(property = "feelValidationGenerator.verifyThreads")
+    private Integer verifyThreads;
+
+    /**
+     * Skips verification.
+     */
+    @Parameter(property = "feelValidationGenerator.skipVerify", defaultValue = "false")
+    private boolean skipVerify;
+
+    /**
+     * Verifies the generated FEEL against the examples.
+     *
+     * @throws MojoExecutionException if an unexpected error occurs
+     * @throws MojoFailureException if an expression does not parse or reaches a wrong verdict
+     */
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skipVerify) {
+            getLog().info("FEEL verification skipped");
+            return;
+        }
+        try {
+            Path feelPath = Path.of(outputFile);
+            if (!Files.isRegularFile(feelPath)) {
+                throw new MojoFailureException("FEEL file not found: " + outputFile);
+            }
+            Path examplesPath = Path.of(examplesDirectory);
+            if (!Files.isDirectory(examplesPath)) {
+                throw new MojoFailureException("Examples directory not found: " + examplesDirectory);
+            }
+
+            FeelDocument document = FeelDocument.read(feelPath);
+            List<Example> examples = ExampleReader.read(examplesPath);
+            int threads = verifyThreads != null ? verifyThreads : Runtime.getRuntime().availableProcessors();
+            VerificationReport report = new FeelVerifier(new FeelEvaluator(), threads).verify(document, examples);
+
+            for (VerificationReport.EndpointTiming timing : report.endpoints()) {
+                if (timing.examples() == 0) {
+                    getLog().warn("[" + timing.endpoint() + "] no examples");
+                } else {
+                    getLog().info(String.format(Locale.ROOT, "[%s] %d examples evaluated in %.3f ms (slowest %.3f ms)",
+                        timing.endpoint(), timing.examples(), timing.totalNanos() / 1e6, timing.maxNanos() / 1e6));
+                }
+            }
+            if (!report.passed()) {
+                throw new MojoFailureException("FEEL verification failed:\n  - "
+                    + String.join("\n  - ", report.problems()));
+            }
+            getLog().info("FEEL verification passed: " + examples.size() + " examples");
+        } catch (MojoFailureException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("FEEL verification interrupted", e);
+        } catch (Exception e) {
+            throw new MojoExecutionException("Error verifying FEEL validations", e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.watch.FileWatcher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Mojo that keeps regenerating the FEEL while the OpenAPI spec is edited.
+ *
+ * It takes the {@code generate-feel} configuration, generates once, and then
+ * watches the spec and every local file it references. Each burst of saves
+ * triggers one run in the same JVM. When no spec file's contents changed, the
+ * spec isn't parsed again; otherwise the spec is parsed again, but only the
+ * endpoints whose request body schema or reachable component schemas changed
+ * are extracted and turned into rules again. The parse still covers the whole
+ * spec, so feedback on large specs is not sub-second. A failed run, or a
+ * failure to list or watch the spec files, is logged and the goal keeps
+ * watching. Stop it with Ctrl+C.
+ */
+@Mojo(name = "watch", requiresDirectInvocation = true)
+public class FEELWatchMojo extends FEELValidationGeneratorMojo {
+
+    /**
+     * How long, in milliseconds, the spec files must be quiet after a change
+     * before regenerating.
+     */
+    @Parameter(property = "feelValidationGenerator.watchDebounceMillis", defaultValue = "200")
+    private int watchDebounceMillis;
+
+    private Set<Path> watched = Set.of();
+
+    /**
+     * Generates, then regenerates on every change until interrupted.
+     *
+     * @throws MojoExecutionException if the files cannot be watched
+     * @throws MojoFailureException if the spec is missing or the configuration is invalid
+     */
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        FEELValidationGenerator.Session session = configure().build().newSession();
+        try (FileWatcher watcher = new FileWatcher(Duration.ofMillis(watchDebounceMillis))) {
+            regenerate(session, watcher);
+            while (true) {
+                Set<Path> changed = watcher.awaitChanges();
+                getLog().info("Changed: " + changed);
+                regenerate(session, watcher);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            getLog().info("FEEL watch stopped");
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error watching the OpenAPI specification", e);
+        }
+    }
+
+    /**
+     * One run; a failure is logged rather than thrown, so the next save can fix
+     * it. The watched files are refreshed either way, as the edit may have
+     * added or removed a referenced file. A watched file that no longer exists
+     * stays watched, so restoring it is noticed. If the files can't be listed
+     * or watched, the previous set stays in place.
+     */
+    void regenerate(FEELValidationGenerator.Session session, FileWatcher watcher) {
+        long start = System.nanoTime();
+        try {
+            FEELValidationGenerator.Regeneration regeneration = session.regenerate();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            getLog().info("Regenerated " + regeneration.regenerated().size() + " of " + regeneration.endpoints()
+                + " endpoints in " + millis + " ms" + (regeneration.regenerated().isEmpty()
+                ? "" : ": " + String.join(", ", regeneration.regenerated())));
+            if (!regeneration.removed().isEmpty()) {
+                getLog().info("Removed: " + String.join(", ", regeneration.removed()));
+            }
+        } catch (IOException | RuntimeException e) {
+            getLog().error("FEEL generation failed: " + e.getMessage());
+        }
+        try {
+            Set<Path> files = new LinkedHashSet<>(session.specFiles());
+            watched.stream().filter(file -> !Files.exists(file)).forEach(files::add);
+            watcher.watch(files);
+            watched = files;
+        } catch (IOException | RuntimeException e) {
+            getLog().warn("Could not refresh the watched spec files, keeping the previous "
+                + watched.size() + ": " + e.getMessage());
+        }
+        getLog().info("Watching " + watched.size() + " spec file(s) for changes; press Ctrl+C to stop");
+    }
+}
@@ -0,0 +1,133 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.corpus.CorpusReport;
+import com.consid.automation.camunda.internal.corpus.CorpusRunner;
+import com.consid.automation.camunda.internal.corpus.EndpointResult;
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.consid.automation.camunda.internal.corpus.FeelEvaluator;
+import com.consid.automation.camunda.internal.corpus.PayloadCorpus;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line entry point that evaluates a generated {@code validation.feel}
+ * over a corpus of recorded request bodies on the Camunda FEEL engine, to size
+ * connector runtimes before a new spec version rolls out.
+ *
+ * <pre>
+ * java -cp ... com.consid.automation.camunda.FeelCorpusEvaluator \
+ *     --feel target/validation.feel --payloads recorded.ndjson [options]
+ * </pre>
+ *
+ * <p>Each endpoint block is parsed once and the parsed expression is shared by
+ * all worker threads. Every payload is evaluated against every selected
+ * endpoint; the report lists accepted, rejected and failed counts, evaluations
+ * per second, and p50 / p99 / p99.9 latency per endpoint.
+ */
+public final class FeelCorpusEvaluator {
+
+    static final String USAGE = """
+        usage: FeelCorpusEvaluator --feel <validation.feel> --payloads <directory|file.ndjson> [options]
+          --endpoint "<METHOD /path>"  evaluate only this endpoint (repeatable)
+          --threads <n>                worker threads (default: available processors)
+          --warmup <n>                 unmeasured rounds before measuring (default: 1)
+          --rounds <n>                 measured rounds over the corpus (default: 1)
+          --json                       print the report as JSON
+        """;
+
+    private FeelCorpusEvaluator() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /** Runs the evaluator; returns 0 on success, 1 when evaluation fails and 2 on a usage error. */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return 2;
+        }
+        try {
+            Map<String, String> expressions = FeelDocument.read(options.feel).select(options.endpoints).expressions();
+            List<Object> payloads = PayloadCorpus.read(options.payloads);
+            List<EndpointResult> results = new ArrayList<>(expressions.size());
+            try (CorpusRunner runner = new CorpusRunner(new FeelEvaluator(),
+                options.threads, options.warmupRounds, options.rounds)) {
+                for (Map.Entry<String, String> endpoint : expressions.entrySet()) {
+                    results.add(runner.run(endpoint.getKey(), endpoint.getValue(), payloads));
+                }
+            }
+            out.print(options.json ? CorpusReport.json(results) + System.lineSeparator() : CorpusReport.text(results));
+            return 0;
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            err.println(e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            err.println("interrupted");
+            return 1;
+        }
+    }
+
+    private static final class Options {
+        private Path feel;
+        private Path payloads;
+        private final Set<String> endpoints = new LinkedHashSet<>();
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private int warmupRounds = 1;
+        private int rounds = 1;
+        private boolean json;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                switch (option) {
+                    case "--json" -> options.json = true;
+                    case "--feel" -> options.feel = Path.of(value(args, ++i, option));
+                    case "--payloads" -> options.payloads = Path.of(value(args, ++i, option));
+                    case "--endpoint" -> options.endpoints.add(value(args, ++i, option));
+                    case "--threads" -> options.threads = count(value(args, ++i, option), option, 1);
+                    case "--warmup" -> options.warmupRounds = count(value(args, ++i, option), option, 0);
+                    case "--rounds" -> options.rounds = count(value(args, ++i, option), option, 1);
+                    default -> throw new IllegalArgumentException("unknown option: " + option);
+                }
+            }
+            if (options.feel == null || options.payloads == null) {
+                throw new IllegalArgumentException("--feel and --payloads are required");
+            }
+            return options;
+        }
+
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException(option + " needs a value");
+            }
+            return args[index];
+        }
+
+        private static int count(String value, String option, int minimum) {
+            try {
+                int count = Integer.parseInt(value);
+                if (count >= minimum) {
+                    return count;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            throw new IllegalArgumentException(option + " needs a whole number of at least " + minimum + ", got " + value);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.corpus.CorpusReport;
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.consid.automation.camunda.internal.simulator.WebhookSimulator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line entry point that serves a generated {@code validation.feel}
+ * over HTTP the way Camunda webhook connectors would, so a load generator can
+ * measure what the validation costs under realistic concurrency without a
+ * cluster.
+ *
+ * <pre>
+ * java -cp ... com.consid.automation.camunda.FeelWebhookSimulator \
+ *     --feel target/validation.feel --port 8080 [options]
+ * </pre>
+ *
+ * <p>Each {@code # METHOD /path} block becomes a route; each request runs on
+ * its own virtual thread against the block's expression, parsed once. The
+ * response has the status and body of the generator's response expression.
+ * Live counters per endpoint are printed at an interval and served as JSON
+ * under {@value WebhookSimulator#STATS_PATH}.
+ */
+public final class FeelWebhookSimulator {
+
+    static final String USAGE = """
+        usage: FeelWebhookSimulator --feel <validation.feel> [options]
+          --port <n>                   port to listen on, 0 for any free port (default: 8080)
+          --host <address>             address to listen on (default: 127.0.0.1)
+          --endpoint "<METHOD /path>"  serve only this endpoint (repeatable)
+          --success-status <code>      status for an accepted activation condition (default: 201)
+          --fail-status <code>         status for a rejected activation condition (default: 400)
+          --report-interval <seconds>  print the live counters this often, 0 for never (default: 10)
+        """;
+
+    private FeelWebhookSimulator() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Serves until interrupted or the JVM shuts down, then prints the counters;
+     * returns 0 once stopped, 1 when the FEEL can't be served and 2 on a usage
+     * error.
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return 2;
+        }
+        WebhookSimulator simulator;
+        try {
+            Map<String, String> expressions = FeelDocument.read(options.feel).select(options.endpoints).expressions();
+            if (expressions.isEmpty()) {
+                throw new IllegalArgumentException("no endpoint blocks in " + options.feel);
+            }
+            simulator = WebhookSimulator.start(expressions, options.successStatusCode, options.failStatusCode,
+                new InetSocketAddress(options.host, options.port));
+        } catch (IOException | IllegalArgumentException e) {
+            err.println(e.getMessage());
+            return 1;
+        }
+        Thread shutdown = new Thread(() -> stop(simulator, out), "feel-simulator-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdown);
+        out.println("Serving " + simulator.stats().size() + " endpoint(s) on " + simulator.uri() + ":");
+        simulator.stats().forEach(endpoint -> out.println("  " + endpoint.endpoint()));
+        out.println("Live counters: GET " + simulator.uri() + WebhookSimulator.STATS_PATH
+            + " (DELETE resets them); press Ctrl+C to stop");
+        try {
+            while (true) {
+                Thread.sleep(options.reportSeconds == 0 ? Long.MAX_VALUE : options.reportSeconds * 1000L);
+                out.print(CorpusReport.text(simulator.stats()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Runtime.getRuntime().removeShutdownHook(shutdown);
+            stop(simulator, out);
+            return 0;
+        }
+    }
+
+    private static void stop(WebhookSimulator simulator, PrintStream out) {
+        simulator.close();
+        out.print(CorpusReport.text(simulator.stats()));
+    }
+
+    private static final class Options {
+        private Path feel;
+        private String host = "127.0.0.1";
+        private int port = 8080;
+        private final Set<String> endpoints = new LinkedHashSet<>();
+        private int successStatusCode = 201;
+        private int failStatusCode = 400;
+        private int reportSeconds = 10;
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                switch (option) {
+                    case "--feel" -> options.feel = Path.of(value(args, ++i, option));
+                    case "--host" -> options.host = value(args, ++i, option);
+                    case "--port" -> options.port = count(value(args, ++i, option), option, 0);
+                    case "--endpoint" -> options.endpoints.add(value(args, ++i, option));
+                    case "--success-status" -> options.successStatusCode = count(value(args, ++i, option), option, 100);
+                    case "--fail-status" -> options.failStatusCode = count(value(args, ++i, option), option, 100);
+                    case "--report-interval" -> options.reportSeconds = count(value(args, ++i, option), option, 0);
+                    default -> throw new IllegalArgumentException("unknown option: " + option);
+                }
+            }
+            if (options.feel == null) {
+                throw new IllegalArgumentException("--feel is required");
+            }
+            if (options.port > 65535) {
+                throw new IllegalArgumentException("--port needs a port number, got " + options.port);
+            }
+            return options;
+        }
+
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException(option + " needs a value");
+            }
+            return args[index];
+        }
+
+        private static int count(String value, String option, int minimum) {
+            try {
+                int count = Integer.parseInt(value);
+                if (count >= minimum) {
+                    return count;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            throw new IllegalArgumentException(option + " needs a whole number of at least " + minimum + ", got " + value);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.model.PayloadLimits;
+import com.consid.automation.camunda.internal.openapi.ExpansionLimits;
+import com.consid.automation.camunda.internal.runtime.CompiledEndpoint;
+import com.consid.automation.camunda.internal.runtime.PayloadRuleCompiler;
+import com.consid.automation.camunda.internal.runtime.RuleFailure;
+import com.consid.automation.camunda.internal.runtime.StreamingEndpoint;
+import com.consid.automation.camunda.internal.runtime.StreamingRuleCompiler;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Validates request bodies in Java against the same rules
+ * {@link FEELValidationGenerator} renders as FEEL, for gateways that check a
+ * webhook payload before it reaches Camunda. Each endpoint is compiled once,
+ * at {@link Builder#build()}, into pre-built checks over Jackson
+ * {@link JsonNode}s (precompiled patterns, hashed enum sets); validating a
+ * valid payload allocates nothing beyond Jackson's key iterators and
+ * non-integral numbers.
+ *
+ * <p>The {@link JsonParser} overloads validate in a single pass over the token
+ * stream, without building a tree: values no rule reads are skipped, array
+ * items are checked one element at a time, and parsing stops as soon as the
+ * requested number of violations is certain. They reach the same verdict as
+ * the tree overloads but reject duplicate keys as malformed input.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ */
+public final class PayloadValidator {
+
+    private final Map<String, CompiledEndpoint> endpoints;
+    private final Map<String, StreamingEndpoint> streamingEndpoints;
+
+    private PayloadValidator(Map<String, CompiledEndpoint> endpoints,
+                             Map<String, StreamingEndpoint> streamingEndpoints) {
+        this.endpoints = endpoints;
+        this.streamingEndpoints = streamingEndpoints;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** The compiled endpoints as {@code METHOD /path}, in spec order. */
+    public Set<String> endpoints() {
+        return endpoints.keySet();
+    }
+
+    /** Stops at the first failing rule. */
+    public boolean isValid(String endpoint, JsonNode body) {
+        return compiled(endpoint).isValid(body);
+    }
+
+    public PayloadVerdict validate(String endpoint, JsonNode body) {
+        return verdict(compiled(endpoint).failures(body));
+    }
+
+    /**
+     * Reads the body from the parser and stops at the first failing rule,
+     * leaving the parser positioned there.
+     */
+    public boolean isValid(String endpoint, JsonParser body) throws IOException {
+        return streaming(endpoint).isValid(body);
+    }
+
+    /** Reads the whole body from the parser and reports every failing rule. */
+    public PayloadVerdict validate(String endpoint, JsonParser body) throws IOException {
+        return validate(endpoint, body, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Reads the body from the parser until {@code maxViolations} violations
+     * are certain. The verdict then lists the first ones found in the stream,
+     * in rule order; an oversized value later in the stream is not seen.
+     */
+    public PayloadVerdict validate(String endpoint, JsonParser body, int maxViolations) throws IOException {
+        return verdict(streaming(endpoint).failures(body, maxViolations));
+    }
+
+    private static PayloadVerdict verdict(List<RuleFailure> failures) {
+        if (failures.isEmpty()) {
+            return PayloadVerdict.VALID;
+        }
+        return new PayloadVerdict(false, failures.stream()
+            .map(failure -> new PayloadVerdict.Violation(failure.id(), failure.field()))
+            .toList());
+    }
+
+    private CompiledEndpoint compiled(String endpoint) {
+        return known(endpoints.get(endpoint), endpoint);
+    }
+
+    private StreamingEndpoint streaming(String endpoint) {
+        return known(streamingEndpoints.get(endpoint), endpoint);
+    }
+
+    private <T> T known(T compiled, String endpoint) {
+        if (compiled == null) {
+            throw new IllegalArgumentException("unknown endpoint \"" + endpoint + "\"; expected one of "
+                + endpoints.keySet());
+        }
+        return compiled;
+    }
+
+    public static final class Builder {
+        private Path openApiSpecPath;
+        private List<String> httpMethods = List.of("POST", "PUT", "PATCH");
+        private String mediaType = "application/json";
+        private Integer maxArrayItems;
+        private Integer maxStringLength;
+        private Integer maxObjectKeys;
+        private Integer maxValidationDepth;
+        private Integer maxExpandedNodes;
+        private Consumer<String> warningConsumer = message -> {};
+
+        private Builder() {
+        }
+
+        public Builder withOpenApiPath(Path openApiSpecPath) {
+            this.openApiSpecPath = Objects.requireNonNull(openApiSpecPath, "openApiSpecPath");
+            return this;
+        }
+
+        public Builder withHttpMethods(List<String> httpMethods) {
+            this.httpMethods = List.copyOf(Objects.requireNonNull(httpMethods, "httpMethods"));
+            return this;
+        }
+
+        public Builder withMediaType(String mediaType) {
+            this.mediaType = Objects.requireNonNull(mediaType, "mediaType");
+            return this;
+        }
+
+        /** Same ceiling as {@link FEELValidationGenerator.Builder#withMaxArrayItems}. */
+        public Builder withMaxArrayItems(int maxArrayItems) {
+            this.maxArrayItems = requirePositive(maxArrayItems, "maxArrayItems");
+            return this;
+        }
+
+        /** Same ceiling as {@link FEELValidationGenerator.Builder#withMaxStringLength}. */
+        public Builder withMaxStringLength(int maxStringLength) {
+            this.maxStringLength = requirePositive(maxStringLength, "maxStringLength");
+            return this;
+        }
+
+        /** Same ceiling as {@link FEELValidationGenerator.Builder#withMaxObjectKeys}. */
+        public Builder withMaxObjectKeys(int maxObjectKeys) {
+            this.maxObjectKeys = requirePositive(maxObjectKeys, "maxObjectKeys");
+            return this;
+        }
+
+        /** Same depth bound as {@link FEELValidationGenerator.Builder#withMaxValidationDepth}. */
+        public Builder withMaxValidationDepth(int maxValidationDepth) {
+            this.maxValidationDepth = requirePositive(maxValidationDepth, "maxValidationDepth");
+            return this;
+        }
+
+        /** Same budget as {@link FEELValidationGenerator.Builder#withMaxExpandedNodes}. */
+        public Builder withMaxExpandedNodes(int maxExpandedNodes) {
+            this.maxExpandedNodes = requirePositive(maxExpandedNodes, "maxExpandedNodes");
+            return this;
+        }
+
+        /** Receives the same diagnostics the generator reports. Defaults to a silent no-op. */
+        public Builder withWarningConsumer(Consumer<String> warningConsumer) {
+            this.warningConsumer = Objects.requireNonNull(warningConsumer, "warningConsumer");
+            return this;
+        }
+
+        /** Parses the spec and compiles every endpoint. */
+        public PayloadValidator build() throws IOException {
+            Objects.requireNonNull(openApiSpecPath, "openApiSpecPath must be set via withOpenApiPath");
+            if (httpMethods.isEmpty()) {
+                throw new IllegalArgumentException("at least one HTTP method must be configured");
+            }
+            ExtractionPipeline pipeline = new ExtractionPipeline(httpMethods, mediaType,
+                new ExpansionLimits(maxValidationDepth, maxExpandedNodes), false, new Diagnostics(warningConsumer));
+            PayloadLimits limits = new PayloadLimits(maxArrayItems, maxStringLength, maxObjectKeys);
+            PayloadRuleCompiler compiler = new PayloadRuleCompiler(limits);
+            StreamingRuleCompiler streamingCompiler = new StreamingRuleCompiler(limits);
+            Map<String, CompiledEndpoint> endpoints = new LinkedHashMap<>();
+            Map<String, StreamingEndpoint> streamingEndpoints = new LinkedHashMap<>();
+            pipeline.extract(ExtractionPipeline.parse(openApiSpecPath)).byEndpoint().forEach((heading, extracted) -> {
+                String endpoint = heading.substring(2);
+                endpoints.put(endpoint, compiler.compile(endpoint, extracted));
+                streamingEndpoints.put(endpoint, streamingCompiler.compile(endpoint, extracted));
+            });
+            return new PayloadValidator(Collections.unmodifiableMap(endpoints),
+                Collections.unmodifiableMap(streamingEndpoints));
+        }
+
+        private static int requirePositive(int value, String name) {
+            if (value < 1) {
+                throw new IllegalArgumentException(name + " must be positive: " + value);
+            }
+            return value;
+        }
+    }
+}
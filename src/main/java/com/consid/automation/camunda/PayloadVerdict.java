@@ -0,0 +1,23 @@
+package com.consid.automation.camunda;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outcome of {@link PayloadValidator#validate}: whether the payload is valid
+ * and, if not, every failing rule in the order the generated FEEL lists them —
+ * the same {@code id} / {@code field} pairs its response {@code details} carry.
+ */
+public record PayloadVerdict(boolean valid, List<Violation> violations) {
+
+    /** Shared verdict for every valid payload. */
+    public static final PayloadVerdict VALID = new PayloadVerdict(true, List.of());
+
+    public PayloadVerdict {
+        violations = List.copyOf(Objects.requireNonNull(violations, "violations"));
+    }
+
+    /** A failing rule, e.g. {@code address.zip-invalid} on {@code address.zip}. */
+    public record Violation(String id, String field) {
+    }
+}
@@ -0,0 +1,199 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.feel.DescriptorSimplifier;
+import com.consid.automation.camunda.internal.feel.EvaluationCostEstimator;
+import com.consid.automation.camunda.internal.feel.ValidationRuleBuilder;
+import com.consid.automation.camunda.internal.model.*;
+import com.consid.automation.camunda.internal.openapi.ComponentReuse;
+import com.consid.automation.camunda.internal.openapi.ExtractionResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The stage between {@link ExtractionPipeline} and rendering, shared by
+ * {@link FEELValidationGenerator} and {@link ValidationPlan}: turns each
+ * endpoint's extraction into rules, collapses reused components into shared
+ * functions, and estimates evaluation cost when asked to. It keeps no state
+ * between calls, and it does not change the extraction, so one extraction can
+ * be assembled by several instances at once.
+ */
+final class RuleAssembler {
+
+    private static final DescriptorSimplifier QUIET_SIMPLIFIER = new DescriptorSimplifier(Diagnostics.NOOP);
+
+    private final ValidationRuleBuilder ruleBuilder;
+    private final Integer componentFunctionThreshold;
+    private final EvaluationCostEstimator costEstimator;
+
+    /**
+     * @param componentFunctionThreshold null to inline every component
+     * @param costEstimator null to skip cost estimates
+     */
+    RuleAssembler(ValidationRuleBuilder ruleBuilder,
+                  Integer componentFunctionThreshold,
+                  EvaluationCostEstimator costEstimator) {
+        this.ruleBuilder = ruleBuilder;
+        this.componentFunctionThreshold = componentFunctionThreshold;
+        this.costEstimator = costEstimator;
+    }
+
+    /**
+     * One endpoint's extraction and the rules and functions created from it;
+     * {@code rules} is empty for an endpoint that emits no block, and
+     * {@code cost} is null unless costs are estimated.
+     */
+    record EndpointRules(ExtractionResult extracted,
+                         List<ValidationRule> rules,
+                         List<ValidationFunction> functions,
+                         EndpointCost cost) {
+    }
+
+    Map<String, EndpointRules> endpointRules(ExtractionPipeline.Extraction extraction) {
+        Map<String, ExtractionResult> extractedByEndpoint = extraction.byEndpoint();
+        ComponentReuse reuse = componentFunctionThreshold == null
+            ? ComponentReuse.none()
+            : ComponentReuse.analyze(extraction.fieldsExtractor(), extractedByEndpoint.values(),
+                componentFunctionThreshold, QUIET_SIMPLIFIER::simplify);
+
+        Map<String, EndpointRules> endpoints = new LinkedHashMap<>();
+        Map<String, ValidationFunction> functionsByComponent = new HashMap<>();
+        extractedByEndpoint.forEach((heading, extracted) -> {
+            Set<ValidationFunction> functions = new LinkedHashSet<>();
+            List<RuleCost> ruleCosts = costEstimator != null ? new ArrayList<>() : null;
+            List<ValidationRule> rules = rulesFor(extracted, reuse, functionsByComponent, functions, ruleCosts);
+            EndpointCost cost = ruleCosts != null && !rules.isEmpty() ? new EndpointCost(heading.substring(2), ruleCosts) : null;
+            endpoints.put(heading, new EndpointRules(extracted, rules, List.copyOf(functions), cost));
+        });
+        return endpoints;
+    }
+
+    /** The rules of every endpoint that emits a block, in spec order. */
+    static Map<String, List<ValidationRule>> rules(Map<String, EndpointRules> endpoints) {
+        Map<String, List<ValidationRule>> rulesByEndpoint = new LinkedHashMap<>();
+        endpoints.forEach((heading, endpoint) -> {
+            if (!endpoint.rules().isEmpty()) {
+                rulesByEndpoint.put(heading, endpoint.rules());
+            }
+        });
+        return rulesByEndpoint;
+    }
+
+    /** The component functions of every endpoint that emits a block, in spec order. */
+    static Map<String, List<ValidationFunction>> functions(Map<String, EndpointRules> endpoints) {
+        Map<String, List<ValidationFunction>> functionsByEndpoint = new LinkedHashMap<>();
+        endpoints.forEach((heading, endpoint) -> {
+            if (!endpoint.rules().isEmpty()) {
+                functionsByEndpoint.put(heading, endpoint.functions());
+            }
+        });
+        return functionsByEndpoint;
+    }
+
+    static List<EndpointCost> costs(Map<String, EndpointRules> endpoints) {
+        List<EndpointCost> costs = new ArrayList<>();
+        endpoints.values().forEach(endpoint -> {
+            if (endpoint.cost() != null) {
+                costs.add(endpoint.cost());
+            }
+        });
+        return costs;
+    }
+
+    /**
+     * Fails before the FEEL is written when any endpoint's estimated cost is
+     * above {@code maxEvaluationCost}, naming every offender at once. The cost
+     * report (if configured) has already been written so the offending rules
+     * can be looked up there.
+     */
+    static void enforceCostBudget(List<EndpointCost> costs, Long maxEvaluationCost) {
+        if (maxEvaluationCost == null) {
+            return;
+        }
+        String overBudget = costs.stream()
+            .filter(cost -> cost.score() > maxEvaluationCost)
+            .map(cost -> cost.endpoint() + " (" + cost.score() + ")")
+            .collect(Collectors.joining(", "));
+        if (!overBudget.isEmpty()) {
+            throw new IllegalStateException("estimated FEEL evaluation cost above maxEvaluationCost ("
+                + maxEvaluationCost + "): " + overBudget
+                + "; see the cost report for the most expensive rules");
+        }
+    }
+
+    /**
+     * Fields inside a collapsed component use site are replaced by a single call
+     * rule at the position of the first of them; the component's function is
+     * created once per run and recorded in {@code endpointFunctions}. Its body
+     * is the component's fields as {@link ComponentReuse} simplified them,
+     * quietly: any contradiction in it was already reported at the inlined use
+     * site. Each rule's cost estimate is added to
+     * {@code ruleCosts} unless it is null.
+     */
+    private List<ValidationRule> rulesFor(ExtractionResult extracted,
+                                          ComponentReuse reuse,
+                                          Map<String, ValidationFunction> functionsByComponent,
+                                          Set<ValidationFunction> endpointFunctions,
+                                          List<RuleCost> ruleCosts) {
+        Map<String, String> callSites = reuse.callSites(extracted);
+        Set<String> emittedCallSites = new HashSet<>();
+        List<ValidationRule> rules = new ArrayList<>();
+        extracted.requiredFields().forEach((fieldPath, descriptor) -> {
+            String callSite = ComponentReuse.enclosingCallSite(fieldPath, callSites);
+            if (callSite == null) {
+                ValidationRule rule = ruleBuilder.createRule(fieldPath, descriptor);
+                rules.add(rule);
+                if (ruleCosts != null) {
+                    ruleCosts.add(costEstimator.estimate(rule.id(), descriptor));
+                }
+            } else if (emittedCallSites.add(callSite)) {
+                String component = callSites.get(callSite);
+                Map<String, FieldDescriptor> componentFields = reuse.componentFields(component);
+                ValidationFunction function = functionsByComponent.get(component);
+                if (function == null) {
+                    function = uniquelyNamed(ruleBuilder.createComponentFunction(component, componentFields),
+                        functionsByComponent.values());
+                    functionsByComponent.put(component, function);
+                }
+                endpointFunctions.add(function);
+                List<Trigger> dependsOn = extracted.requiredFields().get(callSite).dependsOn();
+                ValidationRule rule = ruleBuilder.createComponentCallRule(callSite, function, componentFields, dependsOn);
+                rules.add(rule);
+                if (ruleCosts != null) {
+                    ruleCosts.add(costEstimator.estimateComponentCall(rule.id(), componentFields, dependsOn));
+                }
+            }
+        });
+        if (extracted.hasRootClosure()) {
+            ValidationRule rule = ruleBuilder.createRootObjectRule(extracted.rootClosure());
+            rules.add(rule);
+            if (ruleCosts != null) {
+                ruleCosts.add(costEstimator.estimate(rule.id(), FieldDescriptor.of(extracted.rootClosure())));
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Component names that only differ in characters a FEEL name can't hold
+     * ({@code Foo.Bar}, {@code Foo_Bar}) get the same function name; the later
+     * function takes a numeric suffix instead of silently sharing the first.
+     */
+    private static ValidationFunction uniquelyNamed(ValidationFunction function, Collection<ValidationFunction> taken) {
+        Set<String> names = taken.stream().map(ValidationFunction::name).collect(Collectors.toSet());
+        String name = function.name();
+        for (int suffix = 2; names.contains(name); suffix++) {
+            name = function.name() + "_" + suffix;
+        }
+        return name.equals(function.name()) ? function : new ValidationFunction(name, function.definition());
+    }
+}
@@ -0,0 +1,363 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.consid.automation.camunda.internal.feel.EvaluationCostEstimator;
+import com.consid.automation.camunda.internal.feel.FEELExpressionBuilder;
+import com.consid.automation.camunda.internal.feel.FEELRuleGenerator;
+import com.consid.automation.camunda.internal.model.PayloadLimits;
+import com.consid.automation.camunda.internal.openapi.ExpansionLimits;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * An OpenAPI spec compiled once, for services that generate FEEL on demand.
+ * Where {@link FEELValidationGenerator} reads one file and writes others, a
+ * plan is built from a path, a stream or an in-memory {@link OpenAPI}, and
+ * renders any number of {@link Rendering}s (activation condition or response
+ * expression, status codes, HTTP methods, media type, ceilings) as a string,
+ * per-endpoint expressions or onto a stream, without touching disk:
+ *
+ * <pre>
+ * ValidationPlan plan = ValidationPlan.builder().withOpenApi(specStream).build();
+ * String activation = plan.render(ValidationPlan.Rendering.builder().build());
+ * String response = plan.render(ValidationPlan.Rendering.builder().withResponse(true).build());
+ * </pre>
+ *
+ * <p>The spec is parsed once, at {@link Builder#build()}. It is extracted once
+ * per combination of HTTP methods and media type, by the first rendering that
+ * asks for that combination, and the extraction is kept for the life of the
+ * plan; later renderings only create rules and render. A rendering's output is
+ * the same as the generator's for the same settings.
+ *
+ * <p>Instances are immutable and safe to share between threads. Concurrent
+ * renderings of one combination wait for a single extraction; other
+ * combinations are extracted in parallel, so the warning and info consumers
+ * may be called from several threads at once.
+ */
+public final class ValidationPlan {
+
+    private final OpenAPI openAPI;
+    private final ExpansionLimits expansionLimits;
+    private final boolean strictPatternChecks;
+    private final Diagnostics diagnostics;
+    private final Map<Scan, LazyExtraction> extractions = new ConcurrentHashMap<>();
+
+    private ValidationPlan(OpenAPI openAPI, Builder builder) {
+        this.openAPI = openAPI;
+        this.expansionLimits = new ExpansionLimits(builder.maxValidationDepth, builder.maxExpandedNodes);
+        this.strictPatternChecks = builder.strictPatternChecks;
+        this.diagnostics = new Diagnostics(builder.warningConsumer, builder.infoConsumer);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The FEEL for every endpoint, as {@link FEELValidationGenerator} writes
+     * it to its output file.
+     *
+     * @throws IllegalStateException if the spec can't be extracted for the
+     *     rendering's methods and media type, a pattern fails the strict check,
+     *     or an endpoint is above {@code maxEvaluationCost}
+     */
+    public String render(Rendering rendering) {
+        FEELRuleGenerator ruleBuilder = rendering.ruleBuilder();
+        RuleAssembler assembler = new RuleAssembler(ruleBuilder, rendering.componentFunctionThreshold,
+            rendering.maxEvaluationCost == null ? null : new EvaluationCostEstimator(rendering.limits()));
+        Map<String, RuleAssembler.EndpointRules> endpoints = assembler.endpointRules(extraction(rendering));
+        RuleAssembler.enforceCostBudget(RuleAssembler.costs(endpoints), rendering.maxEvaluationCost);
+        return ruleBuilder.render(RuleAssembler.rules(endpoints), RuleAssembler.functions(endpoints));
+    }
+
+    /**
+     * Writes {@link #render} to {@code output} as UTF-8; the stream is left
+     * open.
+     */
+    public void render(Rendering rendering, OutputStream output) throws IOException {
+        output.write(render(rendering).getBytes(StandardCharsets.UTF_8));
+        output.flush();
+    }
+
+    /**
+     * Each endpoint's expression, keyed {@code METHOD /path} in spec order, as
+     * a connector's activation condition or response expression field takes
+     * it.
+     */
+    public Map<String, String> expressions(Rendering rendering) {
+        return FeelDocument.parse(render(rendering)).expressions();
+    }
+
+    private ExtractionPipeline.Extraction extraction(Rendering rendering) {
+        Scan scan = new Scan(rendering.httpMethods.stream().map(method -> method.toUpperCase(Locale.ROOT)).toList(),
+            rendering.mediaType);
+        return extractions.computeIfAbsent(scan, LazyExtraction::new).get();
+    }
+
+    /** What an extraction depends on besides the spec and the plan's own settings. */
+    private record Scan(List<String> httpMethods, String mediaType) {
+    }
+
+    /**
+     * Extracts on first use, under its own lock, so a slow extraction blocks
+     * only the renderings that need it. A failed extraction is not kept; the
+     * next rendering tries again and reports the failure again.
+     */
+    private final class LazyExtraction {
+        private final Scan scan;
+        private ExtractionPipeline.Extraction extraction;
+
+        LazyExtraction(Scan scan) {
+            this.scan = scan;
+        }
+
+        synchronized ExtractionPipeline.Extraction get() {
+            if (extraction == null) {
+                extraction = new ExtractionPipeline(scan.httpMethods(), scan.mediaType(), expansionLimits,
+                    strictPatternChecks, diagnostics).extract(openAPI);
+            }
+            return extraction;
+        }
+    }
+
+    /** Reads the spec when the plan is built. */
+    @FunctionalInterface
+    private interface SpecSource {
+        OpenAPI read() throws IOException;
+    }
+
+    public static final class Builder {
+        private SpecSource source;
+        private Integer maxValidationDepth;
+        private Integer maxExpandedNodes;
+        private boolean strictPatternChecks = false;
+        private Consumer<String> warningConsumer = message -> {};
+        private Consumer<String> infoConsumer = message -> {};
+
+        private Builder() {
+        }
+
+        /** Reads the spec from a JSON or YAML file, resolving references relative to it. */
+        public Builder withOpenApiPath(Path openApiSpecPath) {
+            Objects.requireNonNull(openApiSpecPath, "openApiSpecPath");
+            this.source = () -> ExtractionPipeline.parse(openApiSpecPath);
+            return this;
+        }
+
+        /**
+         * Reads the spec as UTF-8 JSON or YAML from {@code openApiSpec} when the
+         * plan is built, without closing it. References to other files can't
+         * be resolved without a location; use {@link #withOpenApiPath} for a
+         * spec split across files.
+         */
+        public Builder withOpenApi(InputStream openApiSpec) {
+            Objects.requireNonNull(openApiSpec, "openApiSpec");
+            this.source = () -> ExtractionPipeline.parse(
+                new String(openApiSpec.readAllBytes(), StandardCharsets.UTF_8), "input stream");
+            return this;
+        }
+
+        /**
+         * Uses a spec already parsed or built in code. The plan reads it while
+         * rendering and does not copy it, so it must not be changed afterwards.
+         */
+        public Builder withOpenApi(OpenAPI openAPI) {
+            Objects.requireNonNull(openAPI, "openAPI");
+            this.source = () -> openAPI;
+            return this;
+        }
+
+        /** As {@link FEELValidationGenerator.Builder#withMaxValidationDepth}. */
+        public Builder withMaxValidationDepth(int maxValidationDepth) {
+            this.maxValidationDepth = FEELValidationGenerator.Builder.requirePositive(maxValidationDepth,
+                "maxValidationDepth");
+            return this;
+        }
+
+        /** As {@link FEELValidationGenerator.Builder#withMaxExpandedNodes}. */
+        public Builder withMaxExpandedNodes(int maxExpandedNodes) {
+            this.maxExpandedNodes = FEELValidationGenerator.Builder.requirePositive(maxExpandedNodes,
+                "maxExpandedNodes");
+            return this;
+        }
+
+        /** As {@link FEELValidationGenerator.Builder#withStrictPatternChecks}. */
+        public Builder withStrictPatternChecks(boolean strictPatternChecks) {
+            this.strictPatternChecks = strictPatternChecks;
+            return this;
+        }
+
+        /** As {@link FEELValidationGenerator.Builder#withWarningConsumer}; called while extracting. */
+        public Builder withWarningConsumer(Consumer<String> warningConsumer) {
+            this.warningConsumer = Objects.requireNonNull(warningConsumer, "warningConsumer");
+            return this;
+        }
+
+        /** As {@link FEELValidationGenerator.Builder#withInfoConsumer}; called while extracting. */
+        public Builder withInfoConsumer(Consumer<String> infoConsumer) {
+            this.infoConsumer = Objects.requireNonNull(infoConsumer, "infoConsumer");
+            return this;
+        }
+
+        /**
+         * Parses the spec.
+         *
+         * @throws IOException if the spec can't be read or parsed
+         */
+        public ValidationPlan build() throws IOException {
+            Objects.requireNonNull(source, "the OpenAPI spec must be set via withOpenApiPath or withOpenApi");
+            return new ValidationPlan(source.read(), this);
+        }
+    }
+
+    /**
+     * What one {@link #render} produces. The settings mean what they mean on
+     * {@link FEELValidationGenerator.Builder}, with the same defaults: an
+     * activation condition with status codes 201 and 400, for
+     * {@code POST}, {@code PUT} and {@code PATCH} bodies of type
+     * {@code application/json}, without ceilings. Immutable; one rendering can
+     * be used with any number of plans.
+     */
+    public static final class Rendering {
+        private final boolean addResponse;
+        private final int successStatusCode;
+        private final int failStatusCode;
+        private final List<String> httpMethods;
+        private final String mediaType;
+        private final Integer maxArrayItems;
+        private final Integer maxStringLength;
+        private final Integer maxObjectKeys;
+        private final Integer maxReportedDetails;
+        private final Integer componentFunctionThreshold;
+        private final Long maxEvaluationCost;
+
+        private Rendering(Builder builder) {
+            this.addResponse = builder.addResponse;
+            this.successStatusCode = builder.successStatusCode;
+            this.failStatusCode = builder.failStatusCode;
+            this.httpMethods = builder.httpMethods;
+            this.mediaType = builder.mediaType;
+            this.maxArrayItems = builder.maxArrayItems;
+            this.maxStringLength = builder.maxStringLength;
+            this.maxObjectKeys = builder.maxObjectKeys;
+            this.maxReportedDetails = builder.maxReportedDetails;
+            this.componentFunctionThreshold = builder.componentFunctionThreshold;
+            this.maxEvaluationCost = builder.maxEvaluationCost;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        private PayloadLimits limits() {
+            return new PayloadLimits(maxArrayItems, maxStringLength, maxObjectKeys);
+        }
+
+        private FEELRuleGenerator ruleBuilder() {
+            PayloadLimits limits = limits();
+            return new FEELRuleGenerator(addResponse, successStatusCode, failStatusCode, maxReportedDetails,
+                limits, new FEELExpressionBuilder(limits));
+        }
+
+        public static final class Builder {
+            private boolean addResponse = false;
+            private int successStatusCode = 201;
+            private int failStatusCode = 400;
+            private List<String> httpMethods = List.of("POST", "PUT", "PATCH");
+            private String mediaType = "application/json";
+            private Integer maxArrayItems;
+            private Integer maxStringLength;
+            private Integer maxObjectKeys;
+            private Integer maxReportedDetails;
+            private Integer componentFunctionThreshold;
+            private Long maxEvaluationCost;
+
+            private Builder() {
+            }
+
+            public Builder withResponse(boolean addResponse) {
+                this.addResponse = addResponse;
+                return this;
+            }
+
+            public Builder withSuccessStatusCode(int statusCode) {
+                this.successStatusCode = statusCode;
+                return this;
+            }
+
+            public Builder withFailStatusCode(int statusCode) {
+                this.failStatusCode = statusCode;
+                return this;
+            }
+
+            public Builder withHttpMethods(List<String> httpMethods) {
+                this.httpMethods = List.copyOf(Objects.requireNonNull(httpMethods, "httpMethods"));
+                return this;
+            }
+
+            public Builder withMediaType(String mediaType) {
+                this.mediaType = Objects.requireNonNull(mediaType, "mediaType");
+                return this;
+            }
+
+            public Builder withMaxArrayItems(int maxArrayItems) {
+                this.maxArrayItems = FEELValidationGenerator.Builder.requirePositive(maxArrayItems, "maxArrayItems");
+                return this;
+            }
+
+            public Builder withMaxStringLength(int maxStringLength) {
+                this.maxStringLength = FEELValidationGenerator.Builder.requirePositive(maxStringLength,
+                    "maxStringLength");
+                return this;
+            }
+
+            public Builder withMaxObjectKeys(int maxObjectKeys) {
+                this.maxObjectKeys = FEELValidationGenerator.Builder.requirePositive(maxObjectKeys, "maxObjectKeys");
+                return this;
+            }
+
+            public Builder withMaxReportedDetails(int maxReportedDetails) {
+                this.maxReportedDetails = FEELValidationGenerator.Builder.requirePositive(maxReportedDetails,
+                    "maxReportedDetails");
+                return this;
+            }
+
+            public Builder withComponentFunctionThreshold(int threshold) {
+                this.componentFunctionThreshold = FEELValidationGenerator.Builder.requirePositive(threshold,
+                    "componentFunctionThreshold");
+                return this;
+            }
+
+            /** Renders fail with an {@link IllegalStateException} naming every endpoint above the budget. */
+            public Builder withMaxEvaluationCost(long maxEvaluationCost) {
+                if (maxEvaluationCost < 1) {
+                    throw new IllegalArgumentException("maxEvaluationCost must be positive: " + maxEvaluationCost);
+                }
+                this.maxEvaluationCost = maxEvaluationCost;
+                return this;
+            }
+
+            public Rendering build() {
+                if (httpMethods.isEmpty()) {
+                    throw new IllegalArgumentException("at least one HTTP method must be configured");
+                }
+                FEELValidationGenerator.Builder.requireValidStatusCode(successStatusCode, "successStatusCode");
+                FEELValidationGenerator.Builder.requireValidStatusCode(failStatusCode, "failStatusCode");
+                return new Rendering(this);
+            }
+        }
+    }
+}
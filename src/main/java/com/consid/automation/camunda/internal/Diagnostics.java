@@ -11,20 +11,32 @@ import java.util.function.Consumer;
  *   <li>An {@code if}/{@code then} predicate shape the extractor doesn't model</li>
  *   <li>{@code oneOf} without a {@code discriminator} + mapping (falling back to union-merge)</li>
  *   <li>Schema-form {@code additionalProperties} (only the boolean-false case is honored)</li>
+ *   <li>Constraints that can never be satisfied together (e.g. {@code minLength > maxLength})</li>
+ *   <li>A {@code pattern} that can backtrack catastrophically (e.g. {@code (a+)+})</li>
  * </ul>
  *
  * <p>The consumer receives an already-formatted message string. The Mojo wires
  * it to {@code getLog().warn(...)}; the programmatic API defaults to a no-op
  * (the caller can pass their own consumer via {@code Builder.withWarningConsumer}).
+ *
+ * <p>A second, optional consumer receives informational build statistics
+ * (e.g. schema nodes expanded per endpoint); the Mojo wires it to
+ * {@code getLog().info(...)}.
  */
 public final class Diagnostics {
 
     public static final Diagnostics NOOP = new Diagnostics(message -> {});
 
     private final Consumer<String> consumer;
+    private final Consumer<String> infoConsumer;
 
     public Diagnostics(Consumer<String> consumer) {
+        this(consumer, message -> {});
+    }
+
+    public Diagnostics(Consumer<String> consumer, Consumer<String> infoConsumer) {
         this.consumer = consumer;
+        this.infoConsumer = infoConsumer;
     }
 
     /**
@@ -35,4 +47,9 @@ public final class Diagnostics {
     public void warn(String location, String message) {
         consumer.accept("[" + location + "] " + message);
     }
+
+    /** Emit an informational message, formatted like {@link #warn}. */
+    public void info(String location, String message) {
+        infoConsumer.accept("[" + location + "] " + message);
+    }
 }
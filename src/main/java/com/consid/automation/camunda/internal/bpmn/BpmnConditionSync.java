@@ -0,0 +1,125 @@
+package com.consid.automation.camunda.internal.bpmn;
+
+import com.consid.automation.camunda.internal.feel.RuleFileWriter;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.consid.automation.camunda.internal.bpmn.BpmnWebhooks.BYTE_ORDER_MARK;
+
+/**
+ * Rewrites the {@code activationCondition} of Camunda inbound webhook events in
+ * BPMN files to the generated FEEL. Webhooks are found as described in
+ * {@link BpmnWebhooks}; each selects the FEEL block headed
+ * {@code <method> <inboundPathPrefix><context>}, case-insensitively, and the
+ * condition is stored with the FEEL {@code =} marker.
+ *
+ * <p>Each file is read once with a StAX stream reader, which decides which
+ * {@code activationCondition} values change. Only those attribute values are
+ * then replaced in the original text, so everything else in the file — layout,
+ * quoting, comments, namespace prefixes — stays byte for byte as it was. A file
+ * is written only when a condition changed.
+ */
+public final class BpmnConditionSync {
+
+    private final Map<String, String> expressionsByEndpoint;
+    private final String inboundPathPrefix;
+    private final RuleFileWriter writer = new RuleFileWriter();
+
+    /** What syncing one file did; {@code warnings} name webhooks that could not be synced. */
+    public record FileResult(Path file, int webhooks, int updated, List<String> warnings) {
+        public boolean changed() {
+            return updated > 0;
+        }
+    }
+
+    public BpmnConditionSync(Map<String, String> expressionsByEndpoint, String inboundPathPrefix) {
+        Map<String, String> expressions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        expressions.putAll(expressionsByEndpoint);
+        this.expressionsByEndpoint = expressions;
+        this.inboundPathPrefix = inboundPathPrefix;
+    }
+
+    /** Syncs every {@code *.bpmn} file below {@code directory} on {@code threads} workers, in path order. */
+    public List<FileResult> syncAll(Path directory, int threads) throws IOException, InterruptedException {
+        return BpmnWebhooks.forEach(BpmnWebhooks.files(directory), threads, this::sync);
+    }
+
+    public FileResult sync(Path file) throws IOException {
+        String text = Files.readString(file, StandardCharsets.UTF_8);
+        List<String> warnings = new ArrayList<>();
+        Rewrite rewrite;
+        try {
+            rewrite = rewrite(text, file.getFileName().toString(), warnings);
+        } catch (XMLStreamException e) {
+            throw new IOException("malformed BPMN " + file + ": " + e.getMessage(), e);
+        }
+        if (rewrite.updated() > 0) {
+            writer.writeIfChanged(file, rewrite.text());
+        }
+        return new FileResult(file, rewrite.webhooks(), rewrite.updated(), List.copyOf(warnings));
+    }
+
+    /** The rewritten document, and how many webhooks it has and how many of their conditions changed. */
+    record Rewrite(String text, int webhooks, int updated) {
+    }
+
+    Rewrite rewrite(String text, String fileName, List<String> warnings) throws XMLStreamException, IOException {
+        boolean bom = !text.isEmpty() && text.charAt(0) == BYTE_ORDER_MARK;
+        String xml = bom ? text.substring(1) : text;
+        Map<Integer, String> replacements = new HashMap<>();
+        int webhooks = scan(xml, fileName, replacements, warnings);
+        if (replacements.isEmpty()) {
+            return new Rewrite(text, webhooks, 0);
+        }
+        String rewritten = StartTags.replaceValues(xml, replacements);
+        return new Rewrite(bom ? BYTE_ORDER_MARK + rewritten : rewritten, webhooks, replacements.size());
+    }
+
+    /**
+     * Records, by the ordinal of their start tag, the
+     * {@code activationCondition} properties whose value must change. Returns
+     * the number of webhook events found.
+     */
+    private int scan(String xml, String fileName, Map<Integer, String> replacements, List<String> warnings)
+        throws XMLStreamException, IOException {
+        List<BpmnWebhooks.Webhook> webhooks = BpmnWebhooks.read(xml, fileName);
+        for (BpmnWebhooks.Webhook webhook : webhooks) {
+            resolve(webhook, fileName, replacements, warnings);
+        }
+        return webhooks.size();
+    }
+
+    private void resolve(BpmnWebhooks.Webhook webhook,
+                         String fileName,
+                         Map<Integer, String> replacements,
+                         List<String> warnings) {
+        String location = webhook.location(fileName);
+        String endpoint = webhook.endpoint(inboundPathPrefix);
+        if (endpoint == null) {
+            warnings.add(location + ": inbound.method or inbound.context is missing");
+            return;
+        }
+        String expression = expressionsByEndpoint.get(endpoint);
+        if (expression == null) {
+            warnings.add(location + ": no FEEL block headed '# " + endpoint + "'");
+            return;
+        }
+        if (webhook.conditionTag() < 0) {
+            warnings.add(location + ": no activationCondition property to update");
+            return;
+        }
+        String condition = "=" + expression;
+        if (!condition.equals(webhook.condition())) {
+            replacements.put(webhook.conditionTag(), condition);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.consid.automation.camunda.internal.bpmn;
+
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.consid.automation.camunda.internal.feel.HashManifest;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.consid.automation.camunda.internal.bpmn.BpmnWebhooks.BYTE_ORDER_MARK;
+
+/**
+ * Checks that the {@code activationCondition} of every Camunda inbound webhook
+ * event in BPMN files still matches the generated FEEL, as
+ * {@code WebhookActivationConditionTest} does, without a DOM and without
+ * comparing whole expressions: each condition is normalized and hashed, and
+ * the hash is compared with the one recorded for its endpoint. Only on a
+ * mismatch is the FEEL file read, once, to report a line diff.
+ */
+public final class BpmnDriftCheck {
+
+    static final int MAX_DIFF_LINES = 12;
+
+    private final Map<String, String> hashesByEndpoint;
+    private final Path feelFile;
+    private final String inboundPathPrefix;
+    private Map<String, String> expressionsByEndpoint;
+
+    /** One webhook whose condition does not match; {@code detail} may span several lines. */
+    public record Drift(String location, String detail) {
+        public String message() {
+            return location + ": " + detail;
+        }
+    }
+
+    /** What checking one file found. */
+    public record FileResult(Path file, int webhooks, List<Drift> drifts) {
+        public boolean inSync() {
+            return drifts.isEmpty();
+        }
+    }
+
+    /**
+     * {@code hashesByEndpoint} holds the recorded hashes by
+     * {@code METHOD /path}; {@code feelFile} is the FEEL they were made from,
+     * read only to describe a mismatch.
+     */
+    public BpmnDriftCheck(Map<String, String> hashesByEndpoint, Path feelFile, String inboundPathPrefix) {
+        Map<String, String> hashes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        hashes.putAll(hashesByEndpoint);
+        this.hashesByEndpoint = hashes;
+        this.feelFile = feelFile;
+        this.inboundPathPrefix = inboundPathPrefix;
+    }
+
+    /** Checks every {@code *.bpmn} file below {@code directory} on {@code threads} workers, in path order. */
+    public List<FileResult> checkAll(Path directory, int threads) throws IOException, InterruptedException {
+        return BpmnWebhooks.forEach(BpmnWebhooks.files(directory), threads, this::check);
+    }
+
+    public FileResult check(Path file) throws IOException {
+        String text = Files.readString(file, StandardCharsets.UTF_8);
+        String xml = !text.isEmpty() && text.charAt(0) == BYTE_ORDER_MARK ? text.substring(1) : text;
+        String fileName = file.getFileName().toString();
+        List<BpmnWebhooks.Webhook> webhooks;
+        try {
+            webhooks = BpmnWebhooks.read(xml, fileName);
+        } catch (XMLStreamException e) {
+            throw new IOException("malformed BPMN " + file + ": " + e.getMessage(), e);
+        }
+        List<Drift> drifts = new ArrayList<>();
+        for (BpmnWebhooks.Webhook webhook : webhooks) {
+            String detail = drift(webhook);
+            if (detail != null) {
+                drifts.add(new Drift(webhook.location(fileName), detail));
+            }
+        }
+        return new FileResult(file, webhooks.size(), List.copyOf(drifts));
+    }
+
+    /** Why the webhook's condition does not match, or {@code null} when it does. */
+    private String drift(BpmnWebhooks.Webhook webhook) throws IOException {
+        String endpoint = webhook.endpoint(inboundPathPrefix);
+        if (endpoint == null) {
+            return "inbound.method or inbound.context is missing";
+        }
+        String condition = webhook.condition();
+        if (condition == null || condition.isBlank()) {
+            return "activationCondition is missing";
+        }
+        String expected = hashesByEndpoint.get(endpoint);
+        if (expected == null) {
+            return "no FEEL block headed '# " + endpoint + "'";
+        }
+        String actual = HashManifest.normalize(condition.startsWith("=") ? condition.substring(1) : condition);
+        if (expected.equals(HashManifest.hash(actual))) {
+            return null;
+        }
+        String expression = expressions().get(endpoint);
+        if (expression == null || HashManifest.normalize(expression).equals(actual)) {
+            return "matches " + feelFile + ", but not the recorded hash for '# " + endpoint
+                + "'; the hash manifest is out of date";
+        }
+        return "activationCondition drifted from '# " + endpoint + "'\n"
+            + diff(HashManifest.normalize(expression), actual);
+    }
+
+    /** The FEEL file's expressions, read on the first mismatch and shared by all workers after that. */
+    private synchronized Map<String, String> expressions() throws IOException {
+        if (expressionsByEndpoint == null) {
+            Map<String, String> expressions = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            expressions.putAll(FeelDocument.read(feelFile).expressions());
+            expressionsByEndpoint = expressions;
+        }
+        return expressionsByEndpoint;
+    }
+
+    /**
+     * The lines between the common leading and trailing lines of the two
+     * texts: generated ones prefixed {@code -}, BPMN ones {@code +}, at most
+     * {@value #MAX_DIFF_LINES} of each.
+     */
+    static String diff(String expected, String actual) {
+        String[] generated = expected.split("\n", -1);
+        String[] bpmn = actual.split("\n", -1);
+        int head = 0;
+        while (head < generated.length && head < bpmn.length && generated[head].equals(bpmn[head])) {
+            head++;
+        }
+        int tail = 0;
+        while (tail < generated.length - head && tail < bpmn.length - head
+            && generated[generated.length - 1 - tail].equals(bpmn[bpmn.length - 1 - tail])) {
+            tail++;
+        }
+        StringBuilder diff = new StringBuilder("    @@ line ").append(head + 1).append(" @@");
+        appendLines(diff, "- ", generated, head, generated.length - tail);
+        appendLines(diff, "+ ", bpmn, head, bpmn.length - tail);
+        return diff.toString();
+    }
+
+    private static void appendLines(StringBuilder diff, String marker, String[] lines, int from, int to) {
+        int shown = Math.min(to, from + MAX_DIFF_LINES);
+        for (int i = from; i < shown; i++) {
+            diff.append("\n    ").append(marker).append(lines[i]);
+        }
+        if (to > shown) {
+            diff.append("\n    ").append(marker).append("... ").append(to - shown).append(" more line(s)");
+        }
+    }
+}
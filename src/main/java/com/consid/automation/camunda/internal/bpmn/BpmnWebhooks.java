@@ -0,0 +1,228 @@
+package com.consid.automation.camunda.internal.bpmn;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Finds the Camunda inbound webhook events in BPMN files, following the
+ * conventions of {@code WebhookActivationConditionTest}: a webhook is a
+ * {@code startEvent} or {@code intermediateCatchEvent} whose
+ * {@code zeebe:modelerTemplate} contains one of {@link #WEBHOOK_TEMPLATE_IDS},
+ * and its {@code zeebe:property} entries {@code inbound.method} and
+ * {@code inbound.context} name the endpoint whose FEEL belongs in its
+ * {@code activationCondition}.
+ *
+ * <p>Documents are read with a StAX stream reader, without building a DOM;
+ * DTDs and external entities are refused.
+ */
+public final class BpmnWebhooks {
+
+    public static final Set<String> WEBHOOK_TEMPLATE_IDS = Set.of(
+        "io.camunda.connectors.webhook.WebhookConnectorStartMessage.v1",
+        "io.camunda.webhook.WebhookConnectorIntermediate.v1"
+    );
+
+    static final String ACTIVATION_CONDITION = "activationCondition";
+    static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final Set<String> WEBHOOK_EVENT_LOCAL_NAMES = Set.of("startEvent", "intermediateCatchEvent");
+    private static final String BPMN_NS = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+    private static final String ZEEBE_NS = "http://camunda.org/schema/zeebe/1.0";
+
+    private static final XMLInputFactory INPUT_FACTORY = inputFactory();
+
+    private BpmnWebhooks() {
+    }
+
+    /**
+     * One webhook event: its {@code zeebe:property} values by name, and the
+     * start-tag ordinal and value of its {@code activationCondition} property
+     * ({@code -1} and {@code null} when it has none).
+     */
+    record Webhook(String id, Map<String, String> properties, int conditionTag, String condition) {
+
+        /**
+         * The FEEL heading this webhook selects,
+         * {@code <method> <inboundPathPrefix><context>}, or {@code null} when
+         * {@code inbound.method} or {@code inbound.context} is missing.
+         */
+        String endpoint(String inboundPathPrefix) {
+            String method = properties.get("inbound.method");
+            String context = properties.get("inbound.context");
+            if (isBlank(method) || isBlank(context)) {
+                return null;
+            }
+            return method.trim() + " " + inboundPathPrefix + context.trim();
+        }
+
+        /** How warnings and drift reports name this event. */
+        String location(String fileName) {
+            return fileName + " (event '" + id + "')";
+        }
+    }
+
+    /** Every {@code *.bpmn} file below {@code directory}, in path order. */
+    static List<Path> files(Path directory) throws IOException {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            return walk.filter(Files::isRegularFile)
+                .filter(file -> file.getFileName().toString().endsWith(".bpmn"))
+                .sorted()
+                .toList();
+        }
+    }
+
+    /**
+     * Runs {@code task} for every file on at most {@code threads} workers and
+     * returns the results in file order. The first {@link IOException} a task
+     * throws is rethrown as is.
+     */
+    static <T> List<T> forEach(List<Path> files, int threads, FileTask<T> task)
+        throws IOException, InterruptedException {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(threads, files.size()));
+        try {
+            List<Future<T>> futures = new ArrayList<>(files.size());
+            for (Path file : files) {
+                Callable<T> call = () -> task.apply(file);
+                futures.add(workers.submit(call));
+            }
+            List<T> results = new ArrayList<>(files.size());
+            for (Future<T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException io) {
+                        throw io;
+                    }
+                    throw new IllegalStateException("BPMN processing failed", e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /** Work done on one BPMN file. */
+    @FunctionalInterface
+    interface FileTask<T> {
+        T apply(Path file) throws IOException;
+    }
+
+    /**
+     * Streams {@code xml} once and returns its webhook events in document
+     * order. A DOCTYPE or a declared encoding other than UTF-8 is an
+     * {@link IOException}.
+     */
+    static List<Webhook> read(String xml, String fileName) throws XMLStreamException, IOException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+        try {
+            String encoding = reader.getCharacterEncodingScheme();
+            if (encoding != null && !encoding.equalsIgnoreCase("UTF-8")) {
+                throw new IOException(fileName + " declares encoding " + encoding + "; only UTF-8 BPMN is supported");
+            }
+            List<Webhook> webhooks = new ArrayList<>();
+            int startTag = -1;
+            int depth = 0;
+            Builder webhook = null;
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.DTD ->
+                        throw new IOException(fileName + " has a DOCTYPE, which BPMN processing does not support");
+                    case XMLStreamConstants.START_ELEMENT -> {
+                        startTag++;
+                        depth++;
+                        if (webhook == null && isWebhookEvent(reader)) {
+                            webhook = new Builder(reader.getAttributeValue(null, "id"), depth);
+                        } else if (webhook != null && ZEEBE_NS.equals(reader.getNamespaceURI())
+                            && "property".equals(reader.getLocalName())) {
+                            webhook.property(reader.getAttributeValue(null, "name"),
+                                reader.getAttributeValue(null, "value"), startTag);
+                        }
+                    }
+                    case XMLStreamConstants.END_ELEMENT -> {
+                        if (webhook != null && webhook.depth == depth) {
+                            webhooks.add(webhook.build());
+                            webhook = null;
+                        }
+                        depth--;
+                    }
+                    default -> {
+                    }
+                }
+            }
+            return webhooks;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static boolean isWebhookEvent(XMLStreamReader reader) {
+        if (!BPMN_NS.equals(reader.getNamespaceURI()) || !WEBHOOK_EVENT_LOCAL_NAMES.contains(reader.getLocalName())) {
+            return false;
+        }
+        String template = reader.getAttributeValue(ZEEBE_NS, "modelerTemplate");
+        return template != null && WEBHOOK_TEMPLATE_IDS.stream().anyMatch(template::contains);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static XMLInputFactory inputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /** Collects one webhook event's properties while its element is open. */
+    private static final class Builder {
+        private final String id;
+        private final int depth;
+        private final Map<String, String> properties = new HashMap<>();
+        private int conditionTag = -1;
+        private String condition;
+
+        private Builder(String id, int depth) {
+            this.id = id;
+            this.depth = depth;
+        }
+
+        private void property(String name, String value, int startTag) {
+            if (name == null || name.isEmpty()) {
+                return;
+            }
+            properties.put(name, value);
+            if (ACTIVATION_CONDITION.equals(name)) {
+                conditionTag = startTag;
+                condition = value;
+            }
+        }
+
+        private Webhook build() {
+            return new Webhook(id, Collections.unmodifiableMap(properties), conditionTag, condition);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.consid.automation.camunda.internal.bpmn;
+
+import java.util.Map;
+
+/**
+ * Replaces the {@code value} attribute of selected start tags in an XML
+ * document's original text, leaving every other character as it was. Tags are
+ * numbered in document order, the way a StAX reader reports
+ * {@code START_ELEMENT}s; comments, CDATA sections, processing instructions
+ * and end tags are skipped. The document must already be known to be
+ * well-formed.
+ */
+final class StartTags {
+
+    private StartTags() {
+    }
+
+    /** {@code replacements} maps a start tag's ordinal to its new, unescaped {@code value}. */
+    static String replaceValues(String xml, Map<Integer, String> replacements) {
+        StringBuilder result = new StringBuilder(xml.length() + 64);
+        int copied = 0;
+        int ordinal = -1;
+        int i = xml.indexOf('<');
+        while (i >= 0) {
+            int end;
+            if (xml.startsWith("<!--", i)) {
+                end = xml.indexOf("-->", i + 4) + 3;
+            } else if (xml.startsWith("<![CDATA[", i)) {
+                end = xml.indexOf("]]>", i + 9) + 3;
+            } else if (xml.startsWith("<?", i)) {
+                end = xml.indexOf("?>", i + 2) + 2;
+            } else if (xml.startsWith("</", i) || xml.startsWith("<!", i)) {
+                end = xml.indexOf('>', i) + 1;
+            } else {
+                end = tagEnd(xml, i);
+                ordinal++;
+                String value = replacements.get(ordinal);
+                if (value != null) {
+                    int[] span = valueSpan(xml, i, end);
+                    if (span == null) {
+                        throw new IllegalStateException("start tag " + ordinal + " has no value attribute");
+                    }
+                    char quote = xml.charAt(span[0] - 1);
+                    result.append(xml, copied, span[0]).append(escape(value, quote));
+                    copied = span[1];
+                }
+            }
+            i = xml.indexOf('<', end);
+        }
+        return result.append(xml, copied, xml.length()).toString();
+    }
+
+    /** The index just past the {@code >} that closes the start tag at {@code start}, skipping quoted values. */
+    private static int tagEnd(String xml, int start) {
+        char quote = 0;
+        for (int i = start + 1; i < xml.length(); i++) {
+            char c = xml.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        throw new IllegalStateException("unterminated start tag at " + start);
+    }
+
+    /** Start and end of the unprefixed {@code value} attribute's text, between its quotes, or null. */
+    private static int[] valueSpan(String xml, int tagStart, int tagEnd) {
+        int i = tagStart + 1;
+        while (i < tagEnd && !isSpace(xml.charAt(i)) && xml.charAt(i) != '>' && xml.charAt(i) != '/') {
+            i++;
+        }
+        while (i < tagEnd) {
+            while (i < tagEnd && isSpace(xml.charAt(i))) {
+                i++;
+            }
+            int nameStart = i;
+            while (i < tagEnd && xml.charAt(i) != '=' && !isSpace(xml.charAt(i))
+                && xml.charAt(i) != '>' && xml.charAt(i) != '/') {
+                i++;
+            }
+            if (i == nameStart) {
+                return null;
+            }
+            String name = xml.substring(nameStart, i);
+            while (isSpace(xml.charAt(i))) {
+                i++;
+            }
+            i++; // '='
+            while (isSpace(xml.charAt(i))) {
+                i++;
+            }
+            char quote = xml.charAt(i);
+            int valueStart = i + 1;
+            int valueEnd = xml.indexOf(quote, valueStart);
+            if (name.equals("value")) {
+                return new int[]{valueStart, valueEnd};
+            }
+            i = valueEnd + 1;
+        }
+        return null;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    /** Escapes an attribute value the way the Camunda Modeler writes it, line breaks as character references. */
+    static String escape(String value, char quote) {
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append(quote == '"' ? "&quot;" : "\"");
+                case '\'' -> escaped.append(quote == '\'' ? "&apos;" : "'");
+                case '\n' -> escaped.append("&#10;");
+                case '\r' -> escaped.append("&#13;");
+                case '\t' -> escaped.append("&#9;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
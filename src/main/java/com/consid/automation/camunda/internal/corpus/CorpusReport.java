@@ -0,0 +1,60 @@
+package com.consid.automation.camunda.internal.corpus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Renders {@link EndpointResult}s as a fixed-width text table, latencies in
+ * microseconds, or as a JSON array with the raw nanosecond values.
+ */
+public final class CorpusReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String ROW = "%-40s %9s %9s %7s %12s %10s %10s %10s%n";
+
+    private CorpusReport() {
+    }
+
+    public static String text(List<EndpointResult> results) {
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT, ROW,
+            "endpoint", "accepted", "rejected", "failed", "evals/s", "p50 us", "p99 us", "p999 us"));
+        for (EndpointResult result : results) {
+            table.append(String.format(Locale.ROOT, ROW,
+                result.endpoint(),
+                result.accepted(),
+                result.rejected(),
+                result.failed(),
+                String.format(Locale.ROOT, "%.0f", result.evaluationsPerSecond()),
+                micros(result.p50Nanos()),
+                micros(result.p99Nanos()),
+                micros(result.p999Nanos())));
+        }
+        return table.toString();
+    }
+
+    public static String json(List<EndpointResult> results) throws JsonProcessingException {
+        ArrayNode array = MAPPER.createArrayNode();
+        for (EndpointResult result : results) {
+            ObjectNode node = array.addObject();
+            node.put("endpoint", result.endpoint());
+            node.put("accepted", result.accepted());
+            node.put("rejected", result.rejected());
+            node.put("failed", result.failed());
+            node.put("evaluations", result.evaluations());
+            node.put("evaluationsPerSecond", Math.round(result.evaluationsPerSecond()));
+            node.put("p50Nanos", result.p50Nanos());
+            node.put("p99Nanos", result.p99Nanos());
+            node.put("p999Nanos", result.p999Nanos());
+        }
+        return MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(array);
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1000.0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.consid.automation.camunda.internal.corpus;
+
+import org.camunda.feel.syntaxtree.ParsedExpression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evaluates endpoint expressions over a payload corpus on a fixed pool of
+ * worker threads. Every worker shares the one parsed expression and claims
+ * payloads in small batches from a common cursor, so a few slow payloads
+ * don't leave the other workers idle. Warm-up rounds run first and are not
+ * measured.
+ */
+public final class CorpusRunner implements AutoCloseable {
+
+    private static final int BATCH = 16;
+
+    private final FeelEvaluator evaluator;
+    private final ExecutorService workers;
+    private final int threads;
+    private final int warmupRounds;
+    private final int rounds;
+
+    public CorpusRunner(FeelEvaluator evaluator, int threads, int warmupRounds, int rounds) {
+        if (threads < 1 || rounds < 1 || warmupRounds < 0) {
+            throw new IllegalArgumentException("threads and rounds must be positive and warm-up rounds not negative");
+        }
+        this.evaluator = evaluator;
+        this.threads = threads;
+        this.warmupRounds = warmupRounds;
+        this.rounds = rounds;
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "feel-corpus-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public EndpointResult run(String endpoint, String expression, List<Object> payloads) throws InterruptedException {
+        ParsedExpression parsed = evaluator.parse(endpoint, expression);
+        for (int round = 0; round < warmupRounds; round++) {
+            pass(parsed, payloads, null, 0, null);
+        }
+        FeelEvaluator.Outcome[] outcomes = new FeelEvaluator.Outcome[payloads.size()];
+        long[] latencies = new long[payloads.size() * rounds];
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            pass(parsed, payloads, latencies, round * payloads.size(), round == 0 ? outcomes : null);
+        }
+        long elapsed = System.nanoTime() - start;
+        return EndpointResult.of(endpoint, outcomes, latencies, elapsed);
+    }
+
+    /** One round over every payload; each worker writes only the slots of the payloads it claimed. */
+    private void pass(ParsedExpression parsed,
+                      List<Object> payloads,
+                      long[] latencies,
+                      int offset,
+                      FeelEvaluator.Outcome[] outcomes) throws InterruptedException {
+        AtomicInteger cursor = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(threads);
+        for (int worker = 0; worker < threads; worker++) {
+            futures.add(workers.submit(() -> {
+                int from;
+                while ((from = cursor.getAndAdd(BATCH)) < payloads.size()) {
+                    int to = Math.min(from + BATCH, payloads.size());
+                    for (int i = from; i < to; i++) {
+                        long begin = System.nanoTime();
+                        FeelEvaluator.Outcome outcome = evaluator.evaluate(parsed, payloads.get(i));
+                        long end = System.nanoTime();
+                        if (latencies != null) {
+                            latencies[offset + i] = end - begin;
+                        }
+                        if (outcomes != null) {
+                            outcomes[i] = outcome;
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("corpus evaluation failed", e.getCause());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+}
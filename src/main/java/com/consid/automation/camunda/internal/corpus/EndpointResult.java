@@ -0,0 +1,48 @@
+package com.consid.automation.camunda.internal.corpus;
+
+import java.util.Arrays;
+
+/**
+ * What evaluating one endpoint's FEEL over a payload corpus measured. The
+ * outcome counts cover each payload once; throughput and latency cover every
+ * measured round. Latencies are per evaluation, in nanoseconds, taken as the
+ * nearest-rank percentile.
+ */
+public record EndpointResult(String endpoint,
+                             long accepted,
+                             long rejected,
+                             long failed,
+                             long evaluations,
+                             long elapsedNanos,
+                             long p50Nanos,
+                             long p99Nanos,
+                             long p999Nanos) {
+
+    static EndpointResult of(String endpoint, FeelEvaluator.Outcome[] outcomes, long[] latencies, long elapsedNanos) {
+        int[] counts = new int[FeelEvaluator.Outcome.values().length];
+        for (FeelEvaluator.Outcome outcome : outcomes) {
+            counts[outcome.ordinal()]++;
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return new EndpointResult(endpoint,
+            counts[FeelEvaluator.Outcome.ACCEPTED.ordinal()],
+            counts[FeelEvaluator.Outcome.REJECTED.ordinal()],
+            counts[FeelEvaluator.Outcome.FAILED.ordinal()],
+            sorted.length, elapsedNanos,
+            percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999));
+    }
+
+    /** Evaluations per wall-clock second, across all worker threads. */
+    public double evaluationsPerSecond() {
+        return elapsedNanos == 0 ? 0 : evaluations * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
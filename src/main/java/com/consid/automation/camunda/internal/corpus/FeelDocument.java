@@ -0,0 +1,73 @@
+package com.consid.automation.camunda.internal.corpus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A generated {@code validation.feel} split back into its endpoint blocks:
+ * {@code METHOD /path} → FEEL expression, in file order. A block starts at a
+ * {@code # METHOD /path} heading line that opens the file or follows a blank
+ * line, and runs up to the next one.
+ */
+public record FeelDocument(Map<String, String> expressions) {
+
+    public FeelDocument {
+        expressions = Collections.unmodifiableMap(new LinkedHashMap<>(expressions));
+    }
+
+    public static FeelDocument read(Path path) throws IOException {
+        return parse(Files.readString(path));
+    }
+
+    public static FeelDocument parse(String text) {
+        Map<String, String> expressions = new LinkedHashMap<>();
+        String endpoint = null;
+        StringBuilder expression = new StringBuilder();
+        boolean blank = true;
+        for (String line : text.split("\r?\n", -1)) {
+            if (blank && line.startsWith("# ")) {
+                put(expressions, endpoint, expression);
+                endpoint = line.substring(2).trim();
+                expression.setLength(0);
+            } else if (endpoint != null) {
+                expression.append(line).append('\n');
+            }
+            blank = line.isBlank();
+        }
+        put(expressions, endpoint, expression);
+        return new FeelDocument(expressions);
+    }
+
+    /**
+     * Only the blocks headed by {@code endpoints}, in that order; every block
+     * when {@code endpoints} is empty.
+     */
+    public FeelDocument select(Set<String> endpoints) {
+        if (endpoints.isEmpty()) {
+            return this;
+        }
+        Map<String, String> selected = new LinkedHashMap<>();
+        for (String endpoint : endpoints) {
+            String expression = expressions.get(endpoint);
+            if (expression == null) {
+                throw new IllegalArgumentException("no FEEL block for endpoint \"" + endpoint + "\"");
+            }
+            selected.put(endpoint, expression);
+        }
+        return new FeelDocument(selected);
+    }
+
+    private static void put(Map<String, String> expressions, String endpoint, StringBuilder expression) {
+        if (endpoint == null) {
+            return;
+        }
+        if (expressions.putIfAbsent(endpoint, expression.toString().strip()) != null) {
+            throw new IllegalArgumentException("duplicate endpoint heading \"# " + endpoint + "\"");
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.consid.automation.camunda.internal.corpus;
+
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.syntaxtree.ParsedExpression;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.util.Either;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Evaluates generated FEEL on the Camunda FEEL engine the way a webhook
+ * connector does: the payload is bound as {@code request.body}. Each distinct
+ * expression is parsed once and the parsed tree is shared; the engine and the
+ * cache are safe to use from any number of threads.
+ */
+public final class FeelEvaluator {
+
+    /** How an activation condition or response expression judged one payload. */
+    public enum Outcome { ACCEPTED, REJECTED, FAILED }
+
+    /**
+     * One evaluation in full: the outcome, the failing rule ids a response
+     * expression lists under {@code body.details}, and the engine's message
+     * when it failed.
+     */
+    public record Evaluation(Outcome outcome, List<String> failures, String error) {
+    }
+
+    private final FeelEngine engine = new FeelEngine(
+        FeelEngine.defaultFunctionProvider(),
+        FeelEngine.defaultValueMapper(),
+        FeelEngine.defaultConfiguration(),
+        FeelEngine.defaultClock());
+    private final Map<String, ParsedExpression> parsed = new ConcurrentHashMap<>();
+
+    /** The parsed expression, from the cache when the same text was parsed before. */
+    public ParsedExpression parse(String endpoint, String expression) {
+        return parsed.computeIfAbsent(expression, text -> {
+            Either<FeelEngine.Failure, ParsedExpression> result = engine.parseExpression(text);
+            if (result.isLeft()) {
+                throw new IllegalArgumentException("FEEL for " + endpoint + " does not parse: "
+                    + result.left().get().message());
+            }
+            return result.toOption().get();
+        });
+    }
+
+    /**
+     * Accepted when the expression yields {@code true}, or a context whose
+     * {@code isValid} is {@code true}; failed when the engine reports an error.
+     */
+    public Outcome evaluate(ParsedExpression expression, Object body) {
+        Either<FeelEngine.Failure, Object> result = engine.eval(expression, context(body));
+        if (result.isLeft()) {
+            return Outcome.FAILED;
+        }
+        return Boolean.TRUE.equals(verdict(result.toOption().get())) ? Outcome.ACCEPTED : Outcome.REJECTED;
+    }
+
+    /** Like {@link #evaluate}, but keeps the failing rule ids and the engine's error message. */
+    public Evaluation examine(ParsedExpression expression, Object body) {
+        Either<FeelEngine.Failure, Object> result = engine.eval(expression, context(body));
+        if (result.isLeft()) {
+            return new Evaluation(Outcome.FAILED, List.of(), result.left().get().message());
+        }
+        Object value = result.toOption().get();
+        Outcome outcome = Boolean.TRUE.equals(verdict(value)) ? Outcome.ACCEPTED : Outcome.REJECTED;
+        return new Evaluation(outcome, failures(value), null);
+    }
+
+    /**
+     * The expression's value as plain Java maps, lists and scalars, with
+     * {@code variables} bound next to {@code request}, the way a connector
+     * binds {@code correlation} for a response expression.
+     *
+     * @throws IllegalStateException with the engine's message when evaluation fails
+     */
+    public Object value(ParsedExpression expression, Object body, Map<String, Object> variables) {
+        Map<String, Object> context = new HashMap<>(variables);
+        context.putAll(context(body));
+        Either<FeelEngine.Failure, Object> result = engine.eval(expression, context);
+        if (result.isLeft()) {
+            throw new IllegalStateException(result.left().get().message());
+        }
+        return plainValue(result.toOption().get());
+    }
+
+    private static Object verdict(Object result) {
+        if (javaValue(result) instanceof Map<?, ?> map) {
+            return map.get("isValid");
+        }
+        return result;
+    }
+
+    private static List<String> failures(Object result) {
+        if (!(javaValue(result) instanceof Map<?, ?> context)
+            || !(javaValue(context.get("body")) instanceof Map<?, ?> body)
+            || !(javaValue(body.get("details")) instanceof Iterable<?> details)) {
+            return List.of();
+        }
+        List<String> ids = new ArrayList<>();
+        for (Object detail : details) {
+            if (javaValue(detail) instanceof Map<?, ?> map && map.get("id") != null) {
+                ids.add(map.get("id").toString());
+            }
+        }
+        return ids;
+    }
+
+    /** Scala maps and sequences from the engine, as Java views; anything else unchanged. */
+    private static Object javaValue(Object value) {
+        if (value instanceof scala.collection.Map<?, ?> scalaMap) {
+            return CollectionConverters.asJava(scalaMap);
+        }
+        if (value instanceof scala.collection.Iterable<?> scalaIterable) {
+            return CollectionConverters.asJava(scalaIterable);
+        }
+        return value;
+    }
+
+    /** {@link #javaValue} all the way down, into maps that keep key order and lists. */
+    private static Object plainValue(Object value) {
+        Object java = javaValue(value);
+        if (java instanceof Map<?, ?> map) {
+            Map<String, Object> plain = new LinkedHashMap<>();
+            map.forEach((key, entry) -> plain.put(String.valueOf(key), plainValue(entry)));
+            return plain;
+        }
+        if (java instanceof Iterable<?> iterable) {
+            List<Object> plain = new ArrayList<>();
+            iterable.forEach(element -> plain.add(plainValue(element)));
+            return plain;
+        }
+        return java;
+    }
+
+    /** The variables a webhook connector binds: the body under {@code request}, no headers or query. */
+    static Map<String, Object> context(Object body) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("body", body);
+        request.put("headers", Map.of());
+        request.put("query", Map.of());
+        return Map.of("request", request);
+    }
+}
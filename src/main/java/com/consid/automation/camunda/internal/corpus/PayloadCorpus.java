@@ -0,0 +1,75 @@
+package com.consid.automation.camunda.internal.corpus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Recorded request bodies, read into the plain Java values (maps, lists,
+ * strings, {@link java.math.BigDecimal}s) the FEEL engine's value mapper
+ * takes. A directory contributes every {@code *.json} file below it, one body
+ * per file, in path order; any other file is read as NDJSON, one body per
+ * non-blank line.
+ */
+public final class PayloadCorpus {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private PayloadCorpus() {
+    }
+
+    public static List<Object> read(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            return readDirectory(path);
+        }
+        return readNdjson(path);
+    }
+
+    private static List<Object> readDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile)
+                .filter(file -> file.getFileName().toString().endsWith(".json"))
+                .sorted()
+                .toList();
+        }
+        List<Object> bodies = new ArrayList<>(files.size());
+        for (Path file : files) {
+            bodies.add(parse(Files.readString(file), file.toString()));
+        }
+        return bodies;
+    }
+
+    private static List<Object> readNdjson(Path file) throws IOException {
+        List<Object> bodies = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (!line.isBlank()) {
+                    bodies.add(parse(line, file + ":" + number));
+                }
+            }
+        }
+        return bodies;
+    }
+
+    /** One body from its JSON text; {@code source} names it in the error. */
+    public static Object parse(String json, String source) throws IOException {
+        try {
+            return MAPPER.readValue(json, Object.class);
+        } catch (JsonProcessingException e) {
+            throw new IOException("malformed JSON payload in " + source + ": " + e.getOriginalMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.consid.automation.camunda.internal.model.EndpointCost;
+import com.consid.automation.camunda.internal.model.RuleCost;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the per-endpoint {@link EndpointCost}s as a JSON report, most
+ * expensive rule first within each endpoint, creating parent directories on
+ * demand. {@code maxEvaluationCost} is null when no budget is configured.
+ */
+public final class CostReportWriter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public void write(Path target, List<EndpointCost> endpoints, Long maxEvaluationCost) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("maxEvaluationCost", maxEvaluationCost);
+        report.put("endpoints", endpoints.stream().map(endpoint -> endpointEntry(endpoint, maxEvaluationCost)).toList());
+        Path parent = target.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(target, MAPPER.writeValueAsString(report));
+    }
+
+    private static Map<String, Object> endpointEntry(EndpointCost endpoint, Long maxEvaluationCost) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("endpoint", endpoint.endpoint());
+        entry.put("score", endpoint.score());
+        entry.put("overBudget", maxEvaluationCost != null && endpoint.score() > maxEvaluationCost);
+        entry.put("clauses", endpoint.clauses());
+        entry.put("regexes", endpoint.regexes());
+        entry.put("quantifierDepth", endpoint.quantifierDepth());
+        entry.put("largestEnum", endpoint.largestEnum());
+        entry.put("rules", endpoint.rules().stream()
+            .sorted((a, b) -> Long.compare(b.score(), a.score()))
+            .map(CostReportWriter::ruleEntry)
+            .toList());
+        return entry;
+    }
+
+    private static Map<String, Object> ruleEntry(RuleCost rule) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("id", rule.ruleId());
+        entry.put("score", rule.score());
+        entry.put("clauses", rule.clauses());
+        entry.put("regexes", rule.regexes());
+        entry.put("quantifierDepth", rule.quantifierDepth());
+        entry.put("largestEnum", rule.largestEnum());
+        return entry;
+    }
+}
@@ -0,0 +1,233 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.model.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Rewrites {@link FieldDescriptor}s into an equivalent form that renders to
+ * fewer FEEL clauses, between extraction and rule generation:
+ * <ul>
+ *   <li>An exclusive and an inclusive bound on the same side collapse to the
+ *       stricter one, so a number keeps at most one bound per side (and a
+ *       two-sided range fuses into one range test).</li>
+ *   <li>A plain-string, number or boolean enum absorbs the type and every
+ *       length / pattern / range / divisibility constraint: each enum value is
+ *       checked statically, values that could never pass are dropped, and the
+ *       field becomes untyped so only the (null-safe) membership test is
+ *       rendered.</li>
+ *   <li>Contradictions — {@code minLength > maxLength},
+ *       {@code minItems > maxItems}, an empty numeric range, a range holding no
+ *       multiple of {@code multipleOf}, an enum none of whose values fit — turn
+ *       the field into an {@link UnsatisfiableTypeInfo}, reported once as a
+ *       warning and rendered as a constant violation.</li>
+ * </ul>
+ * Array items and item required fields are simplified the same way.
+ */
+public final class DescriptorSimplifier {
+
+    private final Diagnostics diagnostics;
+
+    public DescriptorSimplifier(Diagnostics diagnostics) {
+        this.diagnostics = diagnostics;
+    }
+
+    /** Simplifies every descriptor of a path-keyed map, keeping its order. */
+    public Map<String, FieldDescriptor> simplify(Map<String, FieldDescriptor> requiredFields) {
+        Map<String, FieldDescriptor> simplified = new LinkedHashMap<>();
+        requiredFields.forEach((fieldPath, descriptor) -> simplified.put(fieldPath, simplify(fieldPath, descriptor)));
+        return simplified;
+    }
+
+    public FieldDescriptor simplify(String fieldPath, FieldDescriptor descriptor) {
+        TypeInfo typeInfo = simplifyType(fieldPath, descriptor.typeInfo());
+        List<FeelLiteral> enumValues = descriptor.enumValues();
+        if (descriptor.hasEnum() && !(typeInfo instanceof UnsatisfiableTypeInfo) && absorbsEnum(typeInfo)) {
+            List<FeelLiteral> satisfiable = new ArrayList<>();
+            List<FeelLiteral> dropped = new ArrayList<>();
+            for (FeelLiteral value : enumValues) {
+                (value instanceof FeelNull || satisfies(value, typeInfo) ? satisfiable : dropped).add(value);
+            }
+            if (satisfiable.stream().allMatch(FeelNull.class::isInstance)) {
+                typeInfo = new UnsatisfiableTypeInfo("no enum value satisfies the other constraints");
+            } else {
+                if (!dropped.isEmpty()) {
+                    diagnostics.warn(fieldPath, "enum values " + render(dropped)
+                        + " can never pass the field's other constraints and are not accepted");
+                }
+                typeInfo = UnknownTypeInfo.INSTANCE;
+                enumValues = satisfiable;
+            }
+        }
+        if (typeInfo instanceof UnsatisfiableTypeInfo unsatisfiable) {
+            if (!(descriptor.typeInfo() instanceof UnsatisfiableTypeInfo)) {
+                diagnostics.warn(fieldPath, "constraints can never be satisfied (" + unsatisfiable.reason()
+                    + "); the field always fails validation");
+            }
+            enumValues = List.of();
+        }
+        if (typeInfo.equals(descriptor.typeInfo()) && enumValues.equals(descriptor.enumValues())) {
+            return descriptor;
+        }
+        return new FieldDescriptor(typeInfo, descriptor.nullable(), enumValues, descriptor.dependsOn());
+    }
+
+    private TypeInfo simplifyType(String fieldPath, TypeInfo typeInfo) {
+        return switch (typeInfo) {
+            case StringTypeInfo s -> s.hasMinLength() && s.hasMaxLength() && s.minLength() > s.maxLength()
+                ? new UnsatisfiableTypeInfo("minLength " + s.minLength() + " > maxLength " + s.maxLength())
+                : s;
+            case NumberTypeInfo n -> simplifyNumber(n);
+            case ArrayTypeInfo a -> simplifyArray(fieldPath, a);
+            case BooleanTypeInfo b -> b;
+            case ObjectTypeInfo o -> o;
+            case UnknownTypeInfo u -> u;
+            case UnsatisfiableTypeInfo u -> u;
+        };
+    }
+
+    private TypeInfo simplifyArray(String fieldPath, ArrayTypeInfo array) {
+        if (array.hasMinItems() && array.hasMaxItems() && array.minItems() > array.maxItems()) {
+            return new UnsatisfiableTypeInfo("minItems " + array.minItems() + " > maxItems " + array.maxItems());
+        }
+        String elementPath = fieldPath + "[]";
+        FieldDescriptor items = array.hasItems() ? simplify(elementPath, array.items()) : null;
+        Map<String, FieldDescriptor> itemRequired = new LinkedHashMap<>();
+        array.itemRequiredFields().forEach((path, descriptor) ->
+            itemRequired.put(path, simplify(elementPath + "." + path, descriptor)));
+        return new ArrayTypeInfo(array.minItems(), array.maxItems(), items, itemRequired);
+    }
+
+    /**
+     * Keeps the stricter bound per side: {@code exclusiveMinimum} wins over
+     * {@code minimum} when it is at least as large, {@code minimum} otherwise
+     * (mirrored for the upper side). Then checks the range is non-empty and,
+     * when bounded on both sides, holds a multiple of {@code multipleOf}.
+     */
+    private TypeInfo simplifyNumber(NumberTypeInfo info) {
+        BigDecimal minimum = info.minimum();
+        BigDecimal exclusiveMinimum = info.exclusiveMinimum();
+        if (minimum != null && exclusiveMinimum != null) {
+            if (exclusiveMinimum.compareTo(minimum) >= 0) {
+                minimum = null;
+            } else {
+                exclusiveMinimum = null;
+            }
+        }
+        BigDecimal maximum = info.maximum();
+        BigDecimal exclusiveMaximum = info.exclusiveMaximum();
+        if (maximum != null && exclusiveMaximum != null) {
+            if (exclusiveMaximum.compareTo(maximum) <= 0) {
+                maximum = null;
+            } else {
+                exclusiveMaximum = null;
+            }
+        }
+        NumberTypeInfo tightened = new NumberTypeInfo(
+            minimum, exclusiveMinimum, maximum, exclusiveMaximum, info.multipleOf());
+        BigDecimal lower = minimum != null ? minimum : exclusiveMinimum;
+        BigDecimal upper = maximum != null ? maximum : exclusiveMaximum;
+        if (lower == null || upper == null) {
+            return tightened;
+        }
+        boolean closed = minimum != null && maximum != null;
+        int order = lower.compareTo(upper);
+        if (order > 0 || (order == 0 && !closed)) {
+            return new UnsatisfiableTypeInfo("empty range " + describeRange(tightened));
+        }
+        BigDecimal step = info.multipleOf();
+        if (step != null && step.signum() > 0) {
+            BigDecimal first = lower.divide(step, 0, RoundingMode.CEILING).multiply(step);
+            if (exclusiveMinimum != null && first.compareTo(lower) == 0) {
+                first = first.add(step);
+            }
+            int fit = first.compareTo(upper);
+            if (fit > 0 || (fit == 0 && exclusiveMaximum != null)) {
+                return new UnsatisfiableTypeInfo("no multiple of " + step.toPlainString()
+                    + " in " + describeRange(tightened));
+            }
+        }
+        return tightened;
+    }
+
+    /**
+     * Enum values can be checked statically against plain strings, numbers and
+     * booleans. Temporal formats stay typed (their FEEL parser is the check),
+     * and a pattern Java can't compile is left for FEEL to judge.
+     */
+    private static boolean absorbsEnum(TypeInfo typeInfo) {
+        return switch (typeInfo) {
+            case StringTypeInfo s -> s.format() == StringTypeInfo.StringFormat.PLAIN
+                && (!s.hasPattern() || compiles(s.pattern()));
+            case NumberTypeInfo n -> true;
+            case BooleanTypeInfo b -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean satisfies(FeelLiteral value, TypeInfo typeInfo) {
+        return switch (typeInfo) {
+            case StringTypeInfo s -> value instanceof FeelString string && satisfies(string.value(), s);
+            case NumberTypeInfo n -> value instanceof FeelNumber number && satisfies(number.value(), n);
+            case BooleanTypeInfo b -> value instanceof FeelBoolean;
+            default -> false;
+        };
+    }
+
+    /**
+     * Length is checked both in UTF-16 units and in code points; a value whose
+     * verdict depends on the counting is treated as unsatisfiable rather than
+     * guessed at.
+     */
+    private static boolean satisfies(String value, StringTypeInfo info) {
+        int units = value.length();
+        int codePoints = value.codePointCount(0, units);
+        boolean fits = fitsLength(units, info) && fitsLength(codePoints, info);
+        return fits && (!info.hasPattern() || Pattern.compile(info.pattern()).matcher(value).find());
+    }
+
+    private static boolean fitsLength(int length, StringTypeInfo info) {
+        return (!info.hasMinLength() || length >= info.minLength())
+            && (!info.hasMaxLength() || length <= info.maxLength());
+    }
+
+    private static boolean satisfies(BigDecimal value, NumberTypeInfo info) {
+        return (!info.hasMinimum() || value.compareTo(info.minimum()) >= 0)
+            && (!info.hasExclusiveMinimum() || value.compareTo(info.exclusiveMinimum()) > 0)
+            && (!info.hasMaximum() || value.compareTo(info.maximum()) <= 0)
+            && (!info.hasExclusiveMaximum() || value.compareTo(info.exclusiveMaximum()) < 0)
+            && (!info.hasMultipleOf() || info.multipleOf().signum() == 0
+                || value.remainder(info.multipleOf()).signum() == 0);
+    }
+
+    private static boolean compiles(String pattern) {
+        try {
+            Pattern.compile(pattern);
+            return true;
+        } catch (PatternSyntaxException e) {
+            return false;
+        }
+    }
+
+    private static String describeRange(NumberTypeInfo info) {
+        String lower = info.hasMinimum()
+            ? "[" + info.minimum().toPlainString()
+            : "(" + info.exclusiveMinimum().toPlainString();
+        String upper = info.hasMaximum()
+            ? info.maximum().toPlainString() + "]"
+            : info.exclusiveMaximum().toPlainString() + ")";
+        return lower + ".." + upper;
+    }
+
+    private static String render(List<FeelLiteral> values) {
+        return values.stream().map(FeelLiteral::render).toList().toString();
+    }
+}
@@ -0,0 +1,213 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.consid.automation.camunda.internal.model.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates what the FEEL rendered by {@link FEELExpressionBuilder} costs to
+ * evaluate, by walking the same {@link FieldDescriptor}s and counting the
+ * constructs the builder emits for them (it must be kept in step with it):
+ * <ul>
+ *   <li>every null / type / bound / trigger clause scores {@value #CLAUSE},
+ *       a temporal parse {@value #TEMPORAL_PARSE} and a {@code matches()}
+ *       {@value #REGEX_MATCH}; a literal pattern lowered to {@code starts with}
+ *       or {@code contains} scores one per alternative;</li>
+ *   <li>an enum membership test scores one per allowed value;</li>
+ *   <li>a {@code some e in X} body is multiplied by the array's
+ *       {@code maxItems}, else the global {@code maxArrayItems} ceiling, else
+ *       {@value #DEFAULT_ARRAY_ITEMS} assumed elements;</li>
+ *   <li>a closed-object key check scans every key against the allowed list,
+ *       so it scores quadratically in the number of allowed keys.</li>
+ * </ul>
+ * The score is a relative measure for comparing endpoints and setting a
+ * budget, not a prediction of wall-clock time. It saturates at
+ * {@link Long#MAX_VALUE}.
+ */
+public final class EvaluationCostEstimator {
+
+    static final int CLAUSE = 1;
+    static final int TEMPORAL_PARSE = 5;
+    static final int REGEX_MATCH = 25;
+    static final int DEFAULT_ARRAY_ITEMS = 10;
+
+    private final PayloadLimits limits;
+
+    public EvaluationCostEstimator(PayloadLimits limits) {
+        this.limits = limits;
+    }
+
+    public RuleCost estimate(String ruleId, FieldDescriptor descriptor) {
+        Tally tally = new Tally();
+        field(descriptor, tally);
+        ceiling(descriptor.typeInfo(), tally);
+        return tally.toCost(ruleId);
+    }
+
+    /**
+     * A component call evaluates the function body (every component field,
+     * as {@link FEELRuleGenerator#createComponentFunction} renders it) behind
+     * the use site's guard; the call rule's ceiling covers each of those fields.
+     */
+    public RuleCost estimateComponentCall(String ruleId,
+                                          Map<String, FieldDescriptor> componentFields,
+                                          List<Trigger> dependsOn) {
+        Tally tally = new Tally();
+        triggers(dependsOn, tally);
+        tally.clause(CLAUSE);
+        componentFields.values().forEach(descriptor -> {
+            field(descriptor, tally);
+            ceiling(descriptor.typeInfo(), tally);
+        });
+        return tally.toCost(ruleId);
+    }
+
+    private void field(FieldDescriptor descriptor, Tally tally) {
+        triggers(descriptor.dependsOn(), tally);
+        tally.clause(CLAUSE);
+        if (descriptor.typeInfo() instanceof UnsatisfiableTypeInfo) {
+            return;
+        }
+        type(descriptor.typeInfo(), tally);
+        if (descriptor.hasEnum()) {
+            tally.clause(descriptor.enumValues().size());
+            tally.largestEnum = Math.max(tally.largestEnum, descriptor.enumValues().size());
+        }
+    }
+
+    private void triggers(List<Trigger> dependsOn, Tally tally) {
+        for (Trigger trigger : Trigger.normalize(dependsOn)) {
+            tally.clause(trigger instanceof ValueTrigger value ? value.allowedValues().size() : CLAUSE);
+        }
+    }
+
+    private void type(TypeInfo typeInfo, Tally tally) {
+        switch (typeInfo) {
+            case StringTypeInfo s -> {
+                tally.clause(s.format() == StringTypeInfo.StringFormat.PLAIN ? CLAUSE : TEMPORAL_PARSE);
+                if (s.hasMinLength() || s.hasMaxLength()) {
+                    tally.clause(CLAUSE);
+                }
+                int lowered = s.hasPattern() ? PatternLowering.alternativeCount(s.pattern()) : 0;
+                if (lowered > 0) {
+                    tally.clause(lowered);
+                } else if (s.hasPattern()) {
+                    if (PatternLowering.fixedLength(s.pattern()) != null) {
+                        tally.clause(CLAUSE);
+                    }
+                    tally.clause(REGEX_MATCH);
+                    tally.regexes++;
+                }
+            }
+            case NumberTypeInfo n -> {
+                tally.clause(CLAUSE);
+                int lowerBounds = (n.hasMinimum() ? 1 : 0) + (n.hasExclusiveMinimum() ? 1 : 0);
+                int upperBounds = (n.hasMaximum() ? 1 : 0) + (n.hasExclusiveMaximum() ? 1 : 0);
+                int boundClauses = lowerBounds == 1 && upperBounds == 1 ? 1 : lowerBounds + upperBounds;
+                for (int i = 0; i < boundClauses; i++) {
+                    tally.clause(CLAUSE);
+                }
+                if (n.hasMultipleOf()) {
+                    tally.clause(CLAUSE);
+                }
+            }
+            case BooleanTypeInfo b -> tally.clause(CLAUSE);
+            case ArrayTypeInfo a -> {
+                tally.clause(CLAUSE);
+                if (a.hasMinItems() || a.hasMaxItems()) {
+                    tally.clause(CLAUSE);
+                }
+                if (a.hasItems()) {
+                    Tally element = new Tally();
+                    field(a.items(), element);
+                    ceiling(a.items().typeInfo(), element);
+                    a.itemRequiredFields().values().forEach(descriptor -> {
+                        field(descriptor, element);
+                        ceiling(descriptor.typeInfo(), element);
+                    });
+                    tally.quantify(element, arrayItems(a));
+                }
+            }
+            case ObjectTypeInfo o -> {
+                tally.clause(CLAUSE);
+                if (o.isClosed()) {
+                    int keys = o.allowedKeys().size();
+                    Tally keyTest = new Tally();
+                    keyTest.clause(Math.max(keys, 1));
+                    tally.quantify(keyTest, keys);
+                }
+            }
+            case UnknownTypeInfo u -> {
+            }
+            case UnsatisfiableTypeInfo u -> {
+            }
+        }
+    }
+
+    /**
+     * The oversized pre-check: an {@code instance of} test plus the size
+     * comparison. Element values repeat it once per element.
+     */
+    private void ceiling(TypeInfo typeInfo, Tally tally) {
+        boolean applies = switch (typeInfo) {
+            case StringTypeInfo s -> limits.hasMaxStringLength();
+            case ArrayTypeInfo a -> limits.hasMaxArrayItems();
+            case ObjectTypeInfo o -> limits.hasMaxObjectKeys();
+            default -> false;
+        };
+        if (applies) {
+            tally.clause(2 * CLAUSE);
+        }
+    }
+
+    private int arrayItems(ArrayTypeInfo info) {
+        if (info.hasMaxItems()) {
+            return info.maxItems();
+        }
+        return limits.hasMaxArrayItems() ? limits.maxArrayItems() : DEFAULT_ARRAY_ITEMS;
+    }
+
+    /**
+     * Running totals for one rule (or one quantifier body). Clause, regex and
+     * depth counts are static; only the score is scaled by element counts.
+     */
+    private static final class Tally {
+
+        private int clauses;
+        private int regexes;
+        private int quantifierDepth;
+        private int largestEnum;
+        private long score;
+
+        void clause(long weight) {
+            clauses++;
+            score = plus(score, weight);
+        }
+
+        /** Adds a quantifier clause whose {@code body} runs once per element. */
+        void quantify(Tally body, long elements) {
+            clauses += 1 + body.clauses;
+            regexes += body.regexes;
+            quantifierDepth = Math.max(quantifierDepth, body.quantifierDepth + 1);
+            largestEnum = Math.max(largestEnum, body.largestEnum);
+            score = plus(score, times(body.score, Math.max(elements, 1)));
+        }
+
+        RuleCost toCost(String ruleId) {
+            return new RuleCost(ruleId, clauses, regexes, quantifierDepth, largestEnum, score);
+        }
+
+        private static long plus(long a, long b) {
+            return a > Long.MAX_VALUE - b ? Long.MAX_VALUE : a + b;
+        }
+
+        private static long times(long a, long b) {
+            try {
+                return Math.multiplyExact(a, b);
+            } catch (ArithmeticException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.consid.automation.camunda.internal.feel;
 import com.consid.automation.camunda.internal.model.*;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -17,60 +18,148 @@ import java.util.stream.Collectors;
  *   <li>enum membership clause when an allowed-value set is set.</li>
  * </ol>
  * Conditional triggers wrap the body with a {@code guard and (body)} clause.
+ * An {@link UnsatisfiableTypeInfo} short-circuits all of this to a constant
+ * violation ({@code field!=null} when nullable).
+ *
+ * <p>Literal patterns render as {@code starts with} / {@code contains}
+ * instead of {@code matches()}; see {@link PatternLowering}.
+ *
+ * <p>Array item checks run once per element, so element-independent literals
+ * (enum lists, allowed-key lists, regex strings) found inside the outermost
+ * {@code some e in X satisfies (...)} body are hoisted into a wrapping context
+ * and referenced by name; see {@link HoistedConstants}.
+ *
+ * <p>The endpoint's first-tier size guard only reaches fields with a path of
+ * their own, so inside a quantifier each element value gets its own
+ * {@link PayloadLimits} ceiling right after its type clause, ahead of any
+ * nested quantifier or regex.
  */
 public class FEELExpressionBuilder {
 
+    private final PayloadLimits limits;
+
+    public FEELExpressionBuilder() {
+        this(PayloadLimits.NONE);
+    }
+
+    public FEELExpressionBuilder(PayloadLimits limits) {
+        this.limits = limits;
+    }
+
     public String build(String fieldName, FieldDescriptor descriptor) {
-        String body = buildBody(fieldName, descriptor);
-        if (!descriptor.isConditional()) {
+        return build(fieldName, descriptor, null);
+    }
+
+    /**
+     * {@code constants} is null outside any quantifier (literals render inline)
+     * and the outermost array's pool inside one.
+     */
+    private String build(String fieldName, FieldDescriptor descriptor, HoistedConstants constants) {
+        return guard(buildBody(fieldName, descriptor, constants), descriptor.dependsOn());
+    }
+
+    /**
+     * Wraps an already-rendered violation in the {@code guard and (body)} form
+     * used for conditional fields; returns the body unchanged when there are no triggers.
+     */
+    public String guard(String body, List<Trigger> dependsOn) {
+        if (dependsOn.isEmpty()) {
             return body;
         }
-        return guardExpression(descriptor.dependsOn()) + " and (" + body + ")";
+        if (body.equals("true")) {
+            return guardExpression(dependsOn);
+        }
+        return guardExpression(dependsOn) + " and (" + body + ")";
     }
 
-    private String buildBody(String fieldName, FieldDescriptor descriptor) {
-        String violation = buildViolation(fieldName, descriptor);
+    private String buildBody(String fieldName, FieldDescriptor descriptor, HoistedConstants constants) {
+        if (descriptor.typeInfo() instanceof UnsatisfiableTypeInfo) {
+            return descriptor.nullable() ? fieldName + "!=null" : "true";
+        }
+        String violation = buildViolation(fieldName, descriptor, constants);
         if (descriptor.nullable()) {
             return violation == null ? "false" : fieldName + "!=null and (" + violation + ")";
         }
         return violation == null ? fieldName + "=null" : fieldName + "=null or " + violation;
     }
 
-    private String buildViolation(String fieldName, FieldDescriptor descriptor) {
-        List<String> parts = typeViolations(fieldName, descriptor.typeInfo());
+    private String buildViolation(String fieldName, FieldDescriptor descriptor, HoistedConstants constants) {
+        List<String> parts = typeViolations(fieldName, descriptor.typeInfo(), constants);
+        String itemCeiling = constants == null ? null : ceilingExpression(fieldName, descriptor.typeInfo(), limits);
+        if (itemCeiling != null) {
+            parts.add(1, itemCeiling);
+        }
         if (descriptor.hasEnum()) {
-            parts.add("not(" + fieldName + " in (" + renderLiterals(descriptor.enumValues()) + "))");
+            parts.add(descriptor.typeInfo() instanceof UnknownTypeInfo
+                ? untypedEnumViolation(fieldName, descriptor.enumValues(), constants)
+                : enumViolation(fieldName, descriptor.enumValues(), constants));
         }
         return parts.isEmpty() ? null : String.join(" or ", parts);
     }
 
+    /**
+     * Inline enums keep the {@code in (...)} unary-test form; hoisted ones are a
+     * list value, which FEEL tests with {@code list contains}.
+     */
+    private String enumViolation(String fieldName, List<FeelLiteral> values, HoistedConstants constants) {
+        if (constants == null) {
+            return "not(" + fieldName + " in (" + renderLiterals(values) + "))";
+        }
+        String name = constants.name("allowedValues", "[" + renderLiterals(values) + "]");
+        return "not(list contains(" + name + ", " + fieldName + "))";
+    }
+
+    /**
+     * Without a type clause in front of it the membership test must also reject
+     * values of another type, for which FEEL's comparison may yield null rather
+     * than false; {@code !=true} turns that null into a violation.
+     */
+    private String untypedEnumViolation(String fieldName, List<FeelLiteral> values, HoistedConstants constants) {
+        if (constants == null) {
+            return "(" + fieldName + " in (" + renderLiterals(values) + "))!=true";
+        }
+        String name = constants.name("allowedValues", "[" + renderLiterals(values) + "]");
+        return "list contains(" + name + ", " + fieldName + ")!=true";
+    }
+
     /**
      * Pattern-matches on the type info; each arm emits its own OR-chain of
      * "value violates the type" clauses (type-instance check first, then any
-     * declared size / range / pattern bounds).
+     * declared size / range / pattern bounds; paired bounds fuse into one range test).
      */
-    private List<String> typeViolations(String fieldName, TypeInfo typeInfo) {
+    private List<String> typeViolations(String fieldName, TypeInfo typeInfo, HoistedConstants constants) {
         return switch (typeInfo) {
-            case StringTypeInfo s -> stringViolations(fieldName, s);
+            case StringTypeInfo s -> stringViolations(fieldName, s, constants);
             case NumberTypeInfo n -> numberViolations(fieldName, n);
             case BooleanTypeInfo b -> singletonOrEmpty("not(" + fieldName + " instance of boolean)");
-            case ArrayTypeInfo a -> arrayViolations(fieldName, a);
-            case ObjectTypeInfo o -> objectViolations(fieldName, o);
-            case UnknownTypeInfo u -> List.of();
+            case ArrayTypeInfo a -> arrayViolations(fieldName, a, constants);
+            case ObjectTypeInfo o -> objectViolations(fieldName, o, constants);
+            case UnknownTypeInfo u -> new ArrayList<>();
+            case UnsatisfiableTypeInfo u -> throw new IllegalStateException(
+                "unsatisfiable fields are short-circuited by buildBody");
         };
     }
 
-    private List<String> stringViolations(String fieldName, StringTypeInfo info) {
+    private List<String> stringViolations(String fieldName, StringTypeInfo info, HoistedConstants constants) {
         List<String> parts = new ArrayList<>();
         parts.add(typeClause(fieldName, info.format()));
-        if (info.hasMinLength()) {
-            parts.add("string length(" + fieldName + ")<" + info.minLength());
-        }
-        if (info.hasMaxLength()) {
-            parts.add("string length(" + fieldName + ")>" + info.maxLength());
-        }
-        if (info.hasPattern()) {
-            parts.add("not(matches(" + fieldName + ", \"" + escapeLiteral(info.pattern()) + "\"))");
+        sizeViolation("string length(" + fieldName + ")",
+            info.hasMinLength() ? info.minLength() : null,
+            info.hasMaxLength() ? info.maxLength() : null,
+            parts);
+        String lowered = info.hasPattern() ? PatternLowering.matchExpression(fieldName, info.pattern()) : null;
+        if (lowered != null) {
+            parts.add("not(" + lowered + ")");
+        } else if (info.hasPattern()) {
+            String pattern = "\"" + escapeLiteral(info.pattern()) + "\"";
+            if (constants != null) {
+                pattern = constants.name("pattern", pattern);
+            }
+            Integer length = PatternLowering.fixedLength(info.pattern());
+            String match = "matches(" + fieldName + ", " + pattern + ")";
+            parts.add(length == null
+                ? "not(" + match + ")"
+                : "not(string length(" + fieldName + ")=" + length + " and " + match + ")");
         }
         return parts;
     }
@@ -88,17 +177,23 @@ public class FEELExpressionBuilder {
     private List<String> numberViolations(String fieldName, NumberTypeInfo info) {
         List<String> parts = new ArrayList<>();
         parts.add("not(" + fieldName + " instance of number)");
-        if (info.hasMinimum()) {
-            parts.add(fieldName + "<" + renderNumber(info.minimum()));
-        }
-        if (info.hasExclusiveMinimum()) {
-            parts.add(fieldName + "<=" + renderNumber(info.exclusiveMinimum()));
-        }
-        if (info.hasMaximum()) {
-            parts.add(fieldName + ">" + renderNumber(info.maximum()));
-        }
-        if (info.hasExclusiveMaximum()) {
-            parts.add(fieldName + ">=" + renderNumber(info.exclusiveMaximum()));
+        int lowerBounds = (info.hasMinimum() ? 1 : 0) + (info.hasExclusiveMinimum() ? 1 : 0);
+        int upperBounds = (info.hasMaximum() ? 1 : 0) + (info.hasExclusiveMaximum() ? 1 : 0);
+        if (lowerBounds == 1 && upperBounds == 1) {
+            parts.add("not(" + fieldName + " in " + numberRange(info) + ")");
+        } else {
+            if (info.hasMinimum()) {
+                parts.add(fieldName + "<" + renderNumber(info.minimum()));
+            }
+            if (info.hasExclusiveMinimum()) {
+                parts.add(fieldName + "<=" + renderNumber(info.exclusiveMinimum()));
+            }
+            if (info.hasMaximum()) {
+                parts.add(fieldName + ">" + renderNumber(info.maximum()));
+            }
+            if (info.hasExclusiveMaximum()) {
+                parts.add(fieldName + ">=" + renderNumber(info.exclusiveMaximum()));
+            }
         }
         if (info.hasMultipleOf()) {
             parts.add("modulo(" + fieldName + ", " + renderNumber(info.multipleOf()) + ")!=0");
@@ -106,40 +201,80 @@ public class FEELExpressionBuilder {
         return parts;
     }
 
-    private List<String> arrayViolations(String fieldName, ArrayTypeInfo info) {
+    /**
+     * Renders a one-sided bound as a plain comparison and a two-sided one as a
+     * single FEEL range test, so the derived value ({@code string length(X)},
+     * {@code count(X)}) is computed once per rule instead of once per bound.
+     */
+    private static void sizeViolation(String measure, Integer min, Integer max, List<String> parts) {
+        if (min != null && max != null) {
+            parts.add("not(" + measure + " in [" + min + ".." + max + "])");
+        } else if (min != null) {
+            parts.add(measure + "<" + min);
+        } else if (max != null) {
+            parts.add(measure + ">" + max);
+        }
+    }
+
+    /** Inclusive bounds close the interval with brackets, exclusive ones with parentheses. */
+    private static String numberRange(NumberTypeInfo info) {
+        String lower = info.hasMinimum()
+            ? "[" + renderNumber(info.minimum())
+            : "(" + renderNumber(info.exclusiveMinimum());
+        String upper = info.hasMaximum()
+            ? renderNumber(info.maximum()) + "]"
+            : renderNumber(info.exclusiveMaximum()) + ")";
+        return lower + ".." + upper;
+    }
+
+    private List<String> arrayViolations(String fieldName, ArrayTypeInfo info, HoistedConstants constants) {
         List<String> parts = new ArrayList<>();
         parts.add("not(" + fieldName + " instance of list)");
-        if (info.hasMinItems()) {
-            parts.add("count(" + fieldName + ")<" + info.minItems());
-        }
-        if (info.hasMaxItems()) {
-            parts.add("count(" + fieldName + ")>" + info.maxItems());
-        }
+        sizeViolation("count(" + fieldName + ")",
+            info.hasMinItems() ? info.minItems() : null,
+            info.hasMaxItems() ? info.maxItems() : null,
+            parts);
         if (info.hasItems()) {
-            // Outer parens around the whole `some ... satisfies ...` clause: FEEL's
-            // quantifiedOp body is greedy and would otherwise consume tokens past
-            // the intended end, breaking the surrounding OR-chain.
-            parts.add("(some e in " + fieldName + " satisfies ("
-                + elementViolation(info.items(), info.itemRequiredFields()) + "))");
+            parts.add(itemsViolation(fieldName, info, constants));
         }
         return parts;
     }
 
+    /**
+     * Outer parens around the whole {@code some ... satisfies ...} clause: FEEL's
+     * quantifiedOp body is greedy and would otherwise consume tokens past the
+     * intended end, breaking the surrounding OR-chain. The outermost quantifier
+     * owns the constant pool; nested ones share it, so every hoisted literal is
+     * built once per evaluation rather than once per (nested) element.
+     */
+    private String itemsViolation(String fieldName, ArrayTypeInfo info, HoistedConstants constants) {
+        HoistedConstants pool = constants == null ? new HoistedConstants() : constants;
+        String quantifier = "some e in " + fieldName + " satisfies ("
+            + elementViolation(info.items(), info.itemRequiredFields(), pool) + ")";
+        if (constants != null || pool.isEmpty()) {
+            return "(" + quantifier + ")";
+        }
+        return "({" + pool.render() + ", violation: " + quantifier + "}.violation)";
+    }
+
     /**
      * Builds the per-element violation chain used inside a {@code some e in X
      * satisfies (...)} clause. The element binding is always {@code e}; nested
-     * arrays rely on FEEL's lexical scoping to shadow correctly.
+     * arrays rely on FEEL's lexical scoping to shadow correctly. Element
+     * triggers are element-relative, so they are qualified with {@code e.}
+     * like the fields they guard.
      */
-    private String elementViolation(FieldDescriptor items, Map<String, FieldDescriptor> itemRequiredFields) {
+    private String elementViolation(FieldDescriptor items, Map<String, FieldDescriptor> itemRequiredFields,
+                                    HoistedConstants constants) {
         List<String> parts = new ArrayList<>();
-        parts.add(build("e", items));
+        parts.add(build("e", items.withTriggerPrefix("e."), constants));
         itemRequiredFields.entrySet().stream()
             .sorted(Map.Entry.comparingByKey())
-            .forEach(entry -> parts.add(build("e." + entry.getKey(), entry.getValue())));
+            .forEach(entry -> parts.add(build("e." + entry.getKey(), entry.getValue().withTriggerPrefix("e."), constants)));
         return String.join(" or ", parts);
     }
 
-    private List<String> objectViolations(String fieldName, ObjectTypeInfo info) {
+    private List<String> objectViolations(String fieldName, ObjectTypeInfo info, HoistedConstants constants) {
         List<String> parts = new ArrayList<>();
         parts.add("not(" + fieldName + " instance of context)");
         if (info.isClosed()) {
@@ -147,16 +282,47 @@ public class FEELExpressionBuilder {
                 .sorted()
                 .map(k -> "\"" + escapeLiteral(k) + "\"")
                 .collect(Collectors.joining(", "));
+            String keyTest = constants == null
+                ? "k in (" + list + ")"
+                : "list contains(" + constants.name("allowedKeys", "[" + list + "]") + ", k)";
             // `get entries(ctx).key` projects out the list of keys (Camunda FEEL has
             // no direct `get keys(...)` function). Outer parens defend against the
             // greedy `every ... satisfies <expr>` operator consuming surrounding tokens.
             parts.add("(not(every k in get entries(" + fieldName
-                + ").key satisfies (k in (" + list + "))))");
+                + ").key satisfies (" + keyTest + ")))");
         }
         return parts;
     }
 
-    private String guardExpression(List<Trigger> dependsOn) {
+    /**
+     * Renders the global size ceilings that apply to a value of the given type
+     * as a single "value is oversized" clause, or null when none applies. Each
+     * check is guarded by its own {@code instance of} test so a wrongly typed
+     * value is left to the regular rule.
+     */
+    public String ceilingExpression(String fieldName, TypeInfo typeInfo, PayloadLimits limits) {
+        return switch (typeInfo) {
+            case StringTypeInfo s -> limits.hasMaxStringLength()
+                ? "(" + fieldName + " instance of string and string length(" + fieldName + ")>"
+                    + limits.maxStringLength() + ")"
+                : null;
+            case ArrayTypeInfo a -> limits.hasMaxArrayItems()
+                ? "(" + fieldName + " instance of list and count(" + fieldName + ")>"
+                    + limits.maxArrayItems() + ")"
+                : null;
+            case ObjectTypeInfo o -> limits.hasMaxObjectKeys()
+                ? "(" + fieldName + " instance of context and count(get entries(" + fieldName + "))>"
+                    + limits.maxObjectKeys() + ")"
+                : null;
+            case NumberTypeInfo n -> null;
+            case BooleanTypeInfo b -> null;
+            case UnknownTypeInfo u -> null;
+            case UnsatisfiableTypeInfo u -> null;
+        };
+    }
+
+    private String guardExpression(List<Trigger> triggers) {
+        List<Trigger> dependsOn = Trigger.normalize(triggers);
         String parts = dependsOn.stream()
             .map(this::renderTrigger)
             .collect(Collectors.joining(" or "));
@@ -202,4 +368,30 @@ public class FEELExpressionBuilder {
         parts.add(value);
         return parts;
     }
+
+    /**
+     * Literal pool for one outermost array quantifier. Each distinct literal
+     * gets a stable name on first use ({@code allowedValues0}, {@code pattern1},
+     * ...) and is rendered as a context entry evaluated before the quantifier.
+     * The names can't clash with payload data: the body only reads {@code e},
+     * {@code k} and {@code req}-rooted paths.
+     */
+    private static final class HoistedConstants {
+
+        private final Map<String, String> namesByLiteral = new LinkedHashMap<>();
+
+        String name(String kind, String literal) {
+            return namesByLiteral.computeIfAbsent(literal, key -> kind + namesByLiteral.size());
+        }
+
+        boolean isEmpty() {
+            return namesByLiteral.isEmpty();
+        }
+
+        String render() {
+            return namesByLiteral.entrySet().stream()
+                .map(entry -> entry.getValue() + ": " + entry.getKey())
+                .collect(Collectors.joining(", "));
+        }
+    }
 }
@@ -2,43 +2,58 @@ package com.consid.automation.camunda.internal.feel;
 
 import com.consid.automation.camunda.internal.model.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * Centralizes all FEEL-specific rule building and rendering logic so that the rest
  * of the generator remains focused on OpenAPI traversal.
+ *
+ * <p>Response mode keeps the valid path cheap: {@code rules} is a plain list of
+ * booleans, {@code isValid} is a single {@code list contains} over it, and the
+ * {@code {id, field, invalid}} detail contexts are only built in the failure
+ * branch (optionally capped at {@code maxReportedDetails} entries).
+ *
+ * <p>Shared component functions are context entries defined after {@code req}
+ * and before {@code rules}, so every rule in the endpoint can call them.
  */
 public class FEELRuleGenerator implements ValidationRuleBuilder {
 
     private static final String ACTIVATION_TEMPLATE = """
             {
               req: request.body,
-              rules: [
-            %s
-              ],
+            %s  rules: %s,
               isValid: count(rules[invalid=true])=0
             }.isValid""";
 
     private static final String RESPONSE_TEMPLATE = """
             {
               req: request.body,
-              rules: [
-            %s
-              ],
-              isValid: count(rules[invalid=true])=0,
+            %s  rules: %s,
+              isValid: not(list contains(rules, true)),
               body: {
                 message: if isValid then "Process successfully started." else "Process creation failed.",
                 processInstanceKey: if isValid then correlation.processInstanceKey else null,
-                details: rules[invalid=true]
+                details: if isValid then [] else %s
               }, statusCode: if isValid then %d else %d
             }""";
 
+    /** Rule reported in place of the regular rules when a payload exceeds a global ceiling. */
+    private static final ValidationRule PAYLOAD_SIZE_RULE =
+        ValidationRule.create("payloadSize-invalid", "true", "(root)");
+
+    /** Parameter name of the shared component functions; distinct from the quantifier's {@code e}. */
+    private static final String FUNCTION_PARAMETER = "v";
+
     private final boolean addResponse;
     private final FEELExpressionBuilder expressionBuilder;
     private final int successStatusCode;
     private final int failureStatusCode;
+    private final PayloadLimits limits;
+    private final Integer maxReportedDetails;
 
     public FEELRuleGenerator(boolean addResponse) {
         this(addResponse, 201, 400);
@@ -52,17 +67,83 @@ public class FEELRuleGenerator implements ValidationRuleBuilder {
                       int successStatusCode,
                       int failureStatusCode,
                       FEELExpressionBuilder expressionBuilder) {
+        this(addResponse, successStatusCode, failureStatusCode, PayloadLimits.NONE, expressionBuilder);
+    }
+
+    public FEELRuleGenerator(boolean addResponse,
+                      int successStatusCode,
+                      int failureStatusCode,
+                      PayloadLimits limits,
+                      FEELExpressionBuilder expressionBuilder) {
+        this(addResponse, successStatusCode, failureStatusCode, null, limits, expressionBuilder);
+    }
+
+    /**
+     * {@code maxReportedDetails} caps the response {@code details} list; null
+     * reports every failing rule. Ignored in activation mode.
+     */
+    public FEELRuleGenerator(boolean addResponse,
+                      int successStatusCode,
+                      int failureStatusCode,
+                      Integer maxReportedDetails,
+                      PayloadLimits limits,
+                      FEELExpressionBuilder expressionBuilder) {
         this.addResponse = addResponse;
         this.successStatusCode = successStatusCode;
         this.failureStatusCode = failureStatusCode;
+        this.maxReportedDetails = maxReportedDetails;
+        this.limits = limits;
         this.expressionBuilder = expressionBuilder;
     }
 
     @Override
     public ValidationRule createRule(String fieldPath, FieldDescriptor descriptor) {
         String ruleId = fieldPath + "-invalid";
-        String condition = expressionBuilder.build("req." + fieldPath, qualifyDependsOn(descriptor));
-        return ValidationRule.create(ruleId, condition, fieldPath);
+        String fieldName = "req." + fieldPath;
+        String condition = expressionBuilder.build(fieldName, descriptor.withTriggerPrefix("req."));
+        String ceiling = expressionBuilder.ceilingExpression(fieldName, descriptor.typeInfo(), limits);
+        return ValidationRule.create(ruleId, condition, fieldPath, ceiling);
+    }
+
+    /**
+     * Renders {@code function(v) list contains([...], true)} over the component's
+     * own rules, with paths and triggers qualified by the parameter instead of {@code req}.
+     */
+    @Override
+    public ValidationFunction createComponentFunction(String componentName,
+                                                      Map<String, FieldDescriptor> requiredFields) {
+        String name = "validate" + componentName.replaceAll("[^A-Za-z0-9_]", "_");
+        if (requiredFields.isEmpty()) {
+            return new ValidationFunction(name, "function(" + FUNCTION_PARAMETER + ") false");
+        }
+        String prefix = FUNCTION_PARAMETER + ".";
+        String body = requiredFields.entrySet().stream()
+            .map(entry -> "    " + expressionBuilder.build(
+                prefix + entry.getKey(), entry.getValue().withTriggerPrefix(prefix)))
+            .collect(Collectors.joining(",\n"));
+        return new ValidationFunction(name,
+            "function(" + FUNCTION_PARAMETER + ") list contains([\n" + body + "\n  ], true)");
+    }
+
+    /**
+     * The call rule reports under {@code <fieldPath>.*}; its ceiling still covers
+     * every field inside the component so the size pre-check is unchanged.
+     */
+    @Override
+    public ValidationRule createComponentCallRule(String fieldPath,
+                                                  ValidationFunction function,
+                                                  Map<String, FieldDescriptor> requiredFields,
+                                                  List<Trigger> dependsOn) {
+        String fieldName = "req." + fieldPath;
+        List<Trigger> qualified = dependsOn.stream().map(t -> t.withPrefix("req.")).toList();
+        String condition = expressionBuilder.guard(function.name() + "(" + fieldName + ")", qualified);
+        String ceiling = requiredFields.entrySet().stream()
+            .map(entry -> expressionBuilder.ceilingExpression(
+                fieldName + "." + entry.getKey(), entry.getValue().typeInfo(), limits))
+            .filter(Objects::nonNull)
+            .collect(Collectors.collectingAndThen(Collectors.joining(" or "), s -> s.isEmpty() ? null : s));
+        String componentPath = fieldPath + ".*";
+        return ValidationRule.create(componentPath + "-invalid", condition, componentPath, ceiling);
     }
 
     @Override
@@ -72,37 +153,105 @@ public class FEELRuleGenerator implements ValidationRuleBuilder {
         return ValidationRule.create("rootObject-invalid", condition, "(root)");
     }
 
-    private FieldDescriptor qualifyDependsOn(FieldDescriptor descriptor) {
-        if (!descriptor.isConditional()) {
-            return descriptor;
-        }
-        List<Trigger> qualified = descriptor.dependsOn().stream()
-            .map(t -> t.withPrefix("req."))
-            .toList();
-        return descriptor.withDependsOn(qualified);
-    }
-
     @Override
-    public String render(Map<String, List<ValidationRule>> rulesByEndpoint) {
+    public String render(Map<String, List<ValidationRule>> rulesByEndpoint,
+                         Map<String, List<ValidationFunction>> functionsByEndpoint) {
         return rulesByEndpoint.entrySet().stream()
-            .map(entry -> entry.getKey() + "\n" + buildRulesBlock(entry.getValue()))
+            .map(entry -> entry.getKey() + "\n" + buildRulesBlock(
+                entry.getValue(), functionsByEndpoint.getOrDefault(entry.getKey(), List.of())))
             .collect(Collectors.joining("\n\n"));
     }
 
-    private String buildRulesBlock(List<ValidationRule> rules) {
+    private String buildRulesBlock(List<ValidationRule> rules, List<ValidationFunction> functions) {
+        String oversized = oversizedGuard(rules);
+        String functionEntries = functions.stream()
+            .map(function -> "  " + function.name() + ": " + function.definition() + ",\n")
+            .collect(Collectors.joining());
+        return addResponse
+            ? buildResponseBlock(rules, functionEntries, oversized)
+            : buildActivationBlock(rules, functionEntries, oversized);
+    }
+
+    private String buildActivationBlock(List<ValidationRule> rules, String functionEntries, String oversized) {
+        String renderedRules = rulesList(rules);
+        if (oversized != null) {
+            // FEEL only evaluates the taken branch, so the per-field rules (and their
+            // quantifiers and regexes) never run for an oversized payload.
+            renderedRules = "if " + oversized + " then " + rulesList(List.of(PAYLOAD_SIZE_RULE))
+                + " else " + renderedRules;
+        }
+        return ACTIVATION_TEMPLATE.formatted(functionEntries, renderedRules);
+    }
+
+    /**
+     * The oversized guard gets its own context entry in response mode because
+     * the failure branch needs it again to report the size rule instead of
+     * indexing into the regular rules.
+     */
+    private String buildResponseBlock(List<ValidationRule> rules, String functionEntries, String oversized) {
+        String renderedRules = rulesList(rules);
+        String details = detailsExpression(rules);
+        String contextEntries = functionEntries;
+        if (oversized != null) {
+            contextEntries += "  oversized: " + oversized + ",\n";
+            renderedRules = "if oversized then [\n    true\n  ] else " + renderedRules;
+            details = "if oversized then [" + detailContext(PAYLOAD_SIZE_RULE) + "] else " + details;
+        }
+        return RESPONSE_TEMPLATE.formatted(
+            contextEntries, renderedRules, details, successStatusCode, failureStatusCode);
+    }
+
+    private String rulesList(List<ValidationRule> rules) {
         String renderedRules = rules.stream()
             .map(rule -> "    " + formatRuleLine(rule))
             .collect(Collectors.joining(",\n"));
-        return addResponse
-            ? RESPONSE_TEMPLATE.formatted(renderedRules, successStatusCode, failureStatusCode)
-            : ACTIVATION_TEMPLATE.formatted(renderedRules);
+        return "[\n" + renderedRules + "\n  ]";
+    }
+
+    /**
+     * One {@code if rules[i] then {...} else null} entry per rule, filtered to
+     * the failing ones, so a detail context is only built for a rule that
+     * actually failed. The cap wraps the list in a {@code sublist}.
+     */
+    private String detailsExpression(List<ValidationRule> rules) {
+        List<String> entries = new ArrayList<>(rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            entries.add("      if rules[" + (i + 1) + "] then " + detailContext(rules.get(i)) + " else null");
+        }
+        String failed = "[\n" + String.join(",\n", entries) + "\n    ][item!=null]";
+        if (maxReportedDetails == null) {
+            return failed;
+        }
+        return "{\n      failed: " + failed + ",\n"
+            + "      reported: if count(failed)>" + maxReportedDetails
+            + " then sublist(failed, 1, " + maxReportedDetails + ") else failed\n"
+            + "    }.reported";
+    }
+
+    private static String detailContext(ValidationRule rule) {
+        return "{ id: \"" + rule.id() + "\", field: \"" + rule.fieldPath() + "\", invalid: true }";
+    }
+
+    /**
+     * OR-joins the root key-count ceiling and every rule's own ceiling into the
+     * first-tier size check, or returns null when no ceiling applies.
+     */
+    private String oversizedGuard(List<ValidationRule> rules) {
+        List<String> ceilings = new ArrayList<>();
+        String rootCeiling = expressionBuilder.ceilingExpression("req", ObjectTypeInfo.OPEN, limits);
+        if (rootCeiling != null) {
+            ceilings.add(rootCeiling);
+        }
+        rules.stream()
+            .filter(ValidationRule::hasCeiling)
+            .map(ValidationRule::ceilingExpression)
+            .forEach(ceilings::add);
+        return ceilings.isEmpty() ? null : String.join(" or ", ceilings);
     }
 
     private String formatRuleLine(ValidationRule rule) {
         if (addResponse) {
-            return "{ id: \"" + rule.id()
-                + "\", field: \"" + rule.fieldPath()
-                + "\", invalid: " + rule.invalidExpression() + " }";
+            return rule.invalidExpression();
         }
         return "{invalid: " + rule.invalidExpression() + "}";
     }
@@ -0,0 +1,82 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint SHA-256 hashes of the generated FEEL expressions, so a consumer
+ * can check whether a copy of an expression still matches without comparing
+ * the text. Expressions are {@linkplain #normalize normalized} before hashing.
+ * The manifest is a JSON object:
+ * <pre>
+ * { "algorithm": "SHA-256", "endpoints": { "POST /inbound/customers": "9f86d0…", … } }
+ * </pre>
+ */
+public final class HashManifest {
+
+    public static final String ALGORITHM = "SHA-256";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final RuleFileWriter writer = new RuleFileWriter();
+
+    /**
+     * Writes the hashes of {@code expressionsByEndpoint}, in its order, unless
+     * the file already holds exactly them. Returns whether the file was written.
+     */
+    public boolean write(Path target, Map<String, String> expressionsByEndpoint) throws IOException {
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("algorithm", ALGORITHM);
+        manifest.put("endpoints", hashes(expressionsByEndpoint));
+        return writer.writeIfChanged(target, MAPPER.writeValueAsString(manifest));
+    }
+
+    /** Reads a manifest back into {@code METHOD /path} → hash, in file order. */
+    public static Map<String, String> read(Path manifest) throws IOException {
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(manifest.toFile());
+        } catch (JsonProcessingException e) {
+            throw new IOException("malformed hash manifest " + manifest + ": " + e.getOriginalMessage(), e);
+        }
+        if (root == null || !ALGORITHM.equals(root.path("algorithm").asText()) || !root.path("endpoints").isObject()) {
+            throw new IOException("hash manifest " + manifest + " needs \"algorithm\": \"" + ALGORITHM
+                + "\" and an \"endpoints\" object");
+        }
+        Map<String, String> hashes = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> endpoints = root.path("endpoints").fields();
+        while (endpoints.hasNext()) {
+            Map.Entry<String, JsonNode> endpoint = endpoints.next();
+            hashes.put(endpoint.getKey(), endpoint.getValue().asText());
+        }
+        return hashes;
+    }
+
+    /** {@code METHOD /path} → hash of the normalized expression, in the same order. */
+    public static Map<String, String> hashes(Map<String, String> expressionsByEndpoint) {
+        Map<String, String> hashes = new LinkedHashMap<>();
+        expressionsByEndpoint.forEach((endpoint, expression) -> hashes.put(endpoint, hash(expression)));
+        return hashes;
+    }
+
+    public static String hash(String expression) {
+        return SplitOutputWriter.sha256(normalize(expression));
+    }
+
+    /**
+     * Line breaks become {@code \n} and surrounding whitespace is dropped, the
+     * differences an expression picks up when it is pasted into a BPMN
+     * property or checked out on another platform.
+     */
+    public static String normalize(String expression) {
+        return expression.replace("\r\n", "\n").replace('\r', '\n').strip();
+    }
+}
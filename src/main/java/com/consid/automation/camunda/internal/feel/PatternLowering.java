@@ -0,0 +1,228 @@
+package com.consid.automation.camunda.internal.feel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * Rewrites literal patterns into FEEL string built-ins, which compare
+ * directly instead of compiling and running a regex on every evaluation.
+ * {@code matches()} has find semantics, so the rewrites are exact:
+ * <ul>
+ *   <li>{@code ^lit} becomes {@code starts with(X, "lit")};</li>
+ *   <li>an unanchored {@code lit} becomes {@code contains(X, "lit")};</li>
+ *   <li>an alternation of literals, {@code ^(a|b)} or {@code a|b}, ORs
+ *       those tests.</li>
+ * </ul>
+ * A literal is any run of non-metacharacters and backslash-escaped
+ * punctuation. Nothing anchored with {@code $} is lowered: Java's {@code $}
+ * also matches before a trailing line terminator, which neither
+ * {@code ends with} nor {@code =} reproduces. Character classes and counted
+ * repetition ({@code ^[A-Z]{3}$}, {@code ^\d+$}, the UUID format pattern)
+ * stay regexes: FEEL has no per-character test, and approximations such as
+ * {@code upper case(X)=X} or {@code number(X)!=null} accept digits or
+ * exponents the class rejects.
+ * <p>
+ * Those that are anchored at both ends and built only from fixed-width tokens
+ * ({@code ^[A-Z]{3}$}, the UUID format pattern) still get a cheap guard:
+ * {@link #fixedLength} gives the one length they can match, and the rule tests
+ * {@code string length(X)=N and matches(X, p)} so a wrong-length value never
+ * reaches the regex. That guard also rejects the trailing line terminator
+ * Java's {@code $} would let through. {@code ^\d+$} has no fixed length and
+ * keeps the plain {@code matches()}.
+ */
+public final class PatternLowering {
+
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private PatternLowering() {
+    }
+
+    /**
+     * A FEEL expression that is true exactly when {@code matches(fieldName,
+     * pattern)} is, or null when the pattern isn't a lowerable literal shape.
+     */
+    static String matchExpression(String fieldName, String pattern) {
+        List<String> literals = literals(pattern);
+        if (literals == null) {
+            return null;
+        }
+        String function = pattern.startsWith("^") ? "starts with" : "contains";
+        return literals.stream()
+            .map(literal -> function + "(" + fieldName + ", \"" + escape(literal) + "\")")
+            .collect(Collectors.joining(" or "));
+    }
+
+    /** Number of built-in calls {@link #matchExpression} renders, or 0 when it doesn't lower. */
+    static int alternativeCount(String pattern) {
+        List<String> literals = literals(pattern);
+        return literals == null ? 0 : literals.size();
+    }
+
+    private static List<String> literals(String pattern) {
+        boolean anchored = pattern.startsWith("^");
+        String body = anchored ? pattern.substring(1) : pattern;
+        if (body.startsWith("(?:") && body.endsWith(")")) {
+            body = body.substring(3, body.length() - 1);
+        } else if (body.startsWith("(") && body.endsWith(")") && !body.startsWith("(?")) {
+            body = body.substring(1, body.length() - 1);
+        } else if (anchored && body.indexOf('|') >= 0) {
+            // ^a|b is (^a)|(b): only a grouped alternation shares the anchor.
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        for (String alternative : splitAlternatives(body)) {
+            String literal = literal(alternative);
+            if (literal == null || literal.isEmpty()) {
+                return null;
+            }
+            literals.add(literal);
+        }
+        return literals;
+    }
+
+    /**
+     * The only length, in code points, a string matching {@code pattern} can
+     * have, or null when the pattern isn't {@code ^...$} over literals, escaped
+     * punctuation, {@code . \d \w \s} and their negations, and plain character
+     * classes, each optionally repeated {@code {n}} times. Patterns Java can't
+     * compile are null too: FEEL's {@code matches()} fails on them, and a length
+     * guard in front would turn that into a violation.
+     */
+    public static Integer fixedLength(String pattern) {
+        if (pattern.length() < 3 || !pattern.startsWith("^") || !pattern.endsWith("$")) {
+            return null;
+        }
+        String body = pattern.substring(1, pattern.length() - 1);
+        int length = 0;
+        int i = 0;
+        while (i < body.length()) {
+            int end = atomEnd(body, i);
+            if (end < 0) {
+                return null;
+            }
+            int repeat = 1;
+            if (end < body.length() && body.charAt(end) == '{') {
+                int close = body.indexOf('}', end);
+                String count = close < 0 ? "" : body.substring(end + 1, close);
+                if (count.isEmpty() || count.length() > 4 || !count.chars().allMatch(Character::isDigit)) {
+                    return null;
+                }
+                repeat = Integer.parseInt(count);
+                end = close + 1;
+            }
+            length += repeat;
+            i = end;
+        }
+        if (length == 0) {
+            return null;
+        }
+        try {
+            Pattern.compile(pattern);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+        return length;
+    }
+
+    /** End of the one-code-point token starting at {@code start}, or -1 when it isn't one. */
+    private static int atomEnd(String body, int start) {
+        char c = body.charAt(start);
+        if (Character.isSurrogate(c)) {
+            return -1;
+        }
+        if (c == '\\') {
+            if (start + 1 >= body.length()) {
+                return -1;
+            }
+            char escaped = body.charAt(start + 1);
+            return isEscapedPunctuation(escaped) || "dDwWsS".indexOf(escaped) >= 0 ? start + 2 : -1;
+        }
+        if (c == '[') {
+            return classEnd(body, start);
+        }
+        if (c == '.' || METACHARACTERS.indexOf(c) < 0) {
+            return start + 1;
+        }
+        return -1;
+    }
+
+    /**
+     * End of a plain character class: escapes and ranges, but no nested
+     * classes, intersections, {@code \p} properties or a leading {@code ]}.
+     */
+    private static int classEnd(String body, int start) {
+        int i = start + 1;
+        if (i < body.length() && body.charAt(i) == '^') {
+            i++;
+        }
+        if (i < body.length() && body.charAt(i) == ']') {
+            return -1;
+        }
+        for (; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (Character.isSurrogate(c) || c == '[' || body.startsWith("&&", i)) {
+                return -1;
+            }
+            if (c == '\\') {
+                if (i + 1 >= body.length()) {
+                    return -1;
+                }
+                char escaped = body.charAt(++i);
+                if (!isEscapedPunctuation(escaped) && "dDwWsS".indexOf(escaped) < 0) {
+                    return -1;
+                }
+            } else if (c == ']') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /** Splits on unescaped {@code |}; any other metacharacter is rejected later by {@link #literal}. */
+    private static List<String> splitAlternatives(String body) {
+        List<String> alternatives = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '|') {
+                alternatives.add(body.substring(start, i));
+                start = i + 1;
+            }
+        }
+        alternatives.add(body.substring(start));
+        return alternatives;
+    }
+
+    /** The literal text {@code regex} matches, or null when it holds a metacharacter or a non-punctuation escape. */
+    private static String literal(String regex) {
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (i + 1 >= regex.length() || !isEscapedPunctuation(regex.charAt(i + 1))) {
+                    return null;
+                }
+                literal.append(regex.charAt(++i));
+            } else if (METACHARACTERS.indexOf(c) >= 0) {
+                return null;
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.toString();
+    }
+
+    /** {@code \.}, {@code \-}, {@code \/}…; letter and digit escapes are classes, anchors or back references. */
+    private static boolean isEscapedPunctuation(char c) {
+        return c < 128 && !Character.isLetterOrDigit(c) && !Character.isWhitespace(c);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
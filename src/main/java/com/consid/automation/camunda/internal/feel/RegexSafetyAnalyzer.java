@@ -0,0 +1,754 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.model.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Flags {@code pattern}s that can backtrack catastrophically once rendered
+ * into {@code matches(X, "...")}, where a crafted webhook payload would burn
+ * engine CPU on every call. Each distinct pattern is checked once per run,
+ * in two ways:
+ * <ol>
+ *   <li>Statically, on a parse of the pattern: an unbounded quantifier whose
+ *       body holds another unbounded quantifier with no mandatory delimiter
+ *       between iterations ({@code (a+)+}, {@code (\w+\s?)*}), and an
+ *       unbounded quantifier over alternatives whose first characters overlap
+ *       ({@code (a|ab)*}, {@code (\w|\d)+}). Possessive quantifiers and atomic
+ *       groups are exempt.</li>
+ *   <li>By fuzzing: for each unbounded quantifier, a sample of the pattern is
+ *       built with that quantifier pumped up to {@value #MAX_PUMPS} times and a
+ *       character appended that makes the match fail, and Java's
+ *       {@code find()} (what FEEL's {@code matches()} does) runs over it through
+ *       a {@link CharSequence} that aborts once the time budget is spent.</li>
+ * </ol>
+ * Findings are reported per field as a warning, or fail the build in strict
+ * mode. A pattern Java can't compile is left alone; the parse here is an
+ * approximation (case-insensitivity and class intersections widen nothing),
+ * so a shape it can't read simply yields no static finding.
+ */
+public final class RegexSafetyAnalyzer {
+
+    /** Budget for matching one adversarial input. Safe patterns need microseconds. */
+    public static final Duration DEFAULT_FUZZ_BUDGET = Duration.ofMillis(100);
+
+    private static final int MAX_PUMPS = 64;
+    private static final int BOUNDED_REPEAT_THRESHOLD = 16;
+    private static final int TOTAL_BUDGET_FACTOR = 10;
+    private static final String KILLERS = "!\u0000\n 0a~";
+
+    private final Diagnostics diagnostics;
+    private final boolean strict;
+    private final long fuzzBudgetNanos;
+    private final Map<String, List<String>> findingsByPattern = new ConcurrentHashMap<>();
+
+    public RegexSafetyAnalyzer(Diagnostics diagnostics, boolean strict) {
+        this(diagnostics, strict, DEFAULT_FUZZ_BUDGET);
+    }
+
+    public RegexSafetyAnalyzer(Diagnostics diagnostics, boolean strict, Duration fuzzBudget) {
+        this.diagnostics = diagnostics;
+        this.strict = strict;
+        this.fuzzBudgetNanos = fuzzBudget.toNanos();
+    }
+
+    /**
+     * Checks the pattern of every string field, array item and item required
+     * field. Warns per field, or throws {@link IllegalStateException} on the
+     * first finding in strict mode.
+     */
+    public void check(Map<String, FieldDescriptor> requiredFields) {
+        requiredFields.forEach(this::check);
+    }
+
+    private void check(String fieldPath, FieldDescriptor descriptor) {
+        if (descriptor.typeInfo() instanceof StringTypeInfo s && s.hasPattern()) {
+            report(fieldPath, s.pattern());
+        } else if (descriptor.typeInfo() instanceof ArrayTypeInfo a) {
+            String elementPath = fieldPath + "[]";
+            if (a.hasItems()) {
+                check(elementPath, a.items());
+            }
+            a.itemRequiredFields().forEach((path, item) -> check(elementPath + "." + path, item));
+        }
+    }
+
+    private void report(String fieldPath, String pattern) {
+        List<String> findings = findings(pattern);
+        if (findings.isEmpty()) {
+            return;
+        }
+        String message = "pattern \"" + pattern + "\" is vulnerable to catastrophic backtracking ("
+            + String.join("; ", findings) + ")";
+        if (strict) {
+            throw new IllegalStateException("[" + fieldPath + "] " + message);
+        }
+        diagnostics.warn(fieldPath, message + "; simplify it, or bound the input with maxLength or maxStringLength");
+    }
+
+    /** Static and fuzzing findings for one pattern, computed once per distinct pattern. */
+    List<String> findings(String pattern) {
+        return findingsByPattern.computeIfAbsent(pattern, this::analyze);
+    }
+
+    private List<String> analyze(String pattern) {
+        Pattern compiled;
+        try {
+            compiled = Pattern.compile(pattern);
+        } catch (PatternSyntaxException e) {
+            return List.of();
+        }
+        Node root;
+        try {
+            root = new Parser(pattern).parse();
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+        List<String> findings = new ArrayList<>();
+        List<Repeat> unbounded = new ArrayList<>();
+        collect(root, findings, unbounded);
+        String timeout = fuzz(compiled, root, unbounded);
+        if (timeout != null) {
+            findings.add(timeout);
+        }
+        return List.copyOf(findings);
+    }
+
+    // ---- static analysis ------------------------------------------------------------
+
+    private static void collect(Node node, List<String> findings, List<Repeat> unbounded) {
+        switch (node) {
+            case Repeat r -> {
+                if (r.isUnbounded()) {
+                    unbounded.add(r);
+                    if (!r.possessive()) {
+                        inspect(r, findings);
+                    }
+                }
+                collect(r.body(), findings, unbounded);
+            }
+            case Seq s -> s.items().forEach(item -> collect(item, findings, unbounded));
+            case Alt a -> a.branches().forEach(branch -> collect(branch, findings, unbounded));
+            case Atomic a -> collect(a.body(), findings, unbounded);
+            case Look l -> collect(l.body(), findings, unbounded);
+            case Chars c -> {
+            }
+            case Empty e -> {
+            }
+        }
+    }
+
+    private static void inspect(Repeat repeat, List<String> findings) {
+        Repeat inner = innerRepeat(repeat.body());
+        if (inner != null && !hasDelimiter(repeat.body(), inner)) {
+            findings.add("nested quantifier " + repeat.source());
+        } else if (repeat.body() instanceof Alt alt && overlaps(alt)) {
+            findings.add("overlapping alternation " + repeat.source());
+        }
+    }
+
+    /** The first backtracking unbounded quantifier inside {@code node}, not looking into atomic groups. */
+    private static Repeat innerRepeat(Node node) {
+        return switch (node) {
+            case Repeat r -> r.isUnbounded() && !r.possessive() ? r : innerRepeat(r.body());
+            case Seq s -> s.items().stream().map(RegexSafetyAnalyzer::innerRepeat)
+                .filter(Objects::nonNull).findFirst().orElse(null);
+            case Alt a -> a.branches().stream().map(RegexSafetyAnalyzer::innerRepeat)
+                .filter(Objects::nonNull).findFirst().orElse(null);
+            case Look l -> innerRepeat(l.body());
+            case Atomic a -> null;
+            case Chars c -> null;
+            case Empty e -> null;
+        };
+    }
+
+    /**
+     * True when every iteration of {@code body} must consume a character
+     * {@code inner} can't, so consecutive iterations can't re-split a run:
+     * {@code (\d+\.)*} is safe, {@code (\d+\.?)*} is not.
+     */
+    private static boolean hasDelimiter(Node body, Repeat inner) {
+        List<Node> items = body instanceof Seq seq ? seq.items() : List.of(body);
+        CharSet innerChars = chars(inner.body());
+        return items.stream().anyMatch(item ->
+            !nullable(item) && innerRepeat(item) == null && !chars(item).intersects(innerChars));
+    }
+
+    private static boolean overlaps(Alt alt) {
+        List<Node> branches = alt.branches();
+        for (int i = 0; i < branches.size(); i++) {
+            if (nullable(branches.get(i))) {
+                return true;
+            }
+            for (int j = i + 1; j < branches.size(); j++) {
+                if (first(branches.get(i)).intersects(first(branches.get(j)))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean nullable(Node node) {
+        return switch (node) {
+            case Chars c -> false;
+            case Seq s -> s.items().stream().allMatch(RegexSafetyAnalyzer::nullable);
+            case Alt a -> a.branches().stream().anyMatch(RegexSafetyAnalyzer::nullable);
+            case Repeat r -> r.min() == 0 || nullable(r.body());
+            case Atomic a -> nullable(a.body());
+            case Look l -> true;
+            case Empty e -> true;
+        };
+    }
+
+    private static CharSet first(Node node) {
+        return switch (node) {
+            case Chars c -> c.set();
+            case Seq s -> {
+                CharSet result = new CharSet();
+                for (Node item : s.items()) {
+                    result.addAll(first(item));
+                    if (!nullable(item)) {
+                        break;
+                    }
+                }
+                yield result;
+            }
+            case Alt a -> {
+                CharSet result = new CharSet();
+                a.branches().forEach(branch -> result.addAll(first(branch)));
+                yield result;
+            }
+            case Repeat r -> first(r.body());
+            case Atomic a -> first(a.body());
+            case Look l -> new CharSet();
+            case Empty e -> new CharSet();
+        };
+    }
+
+    private static CharSet chars(Node node) {
+        return switch (node) {
+            case Chars c -> c.set();
+            case Seq s -> {
+                CharSet result = new CharSet();
+                s.items().forEach(item -> result.addAll(chars(item)));
+                yield result;
+            }
+            case Alt a -> {
+                CharSet result = new CharSet();
+                a.branches().forEach(branch -> result.addAll(chars(branch)));
+                yield result;
+            }
+            case Repeat r -> chars(r.body());
+            case Atomic a -> chars(a.body());
+            case Look l -> new CharSet();
+            case Empty e -> new CharSet();
+        };
+    }
+
+    // ---- fuzzing --------------------------------------------------------------------
+
+    /**
+     * Pumps each unbounded quantifier with doubling counts and tries every
+     * killer character after the pumped run and after the whole sample.
+     * Returns a finding for the first input whose match overruns the budget,
+     * or once all inputs together have taken {@value #TOTAL_BUDGET_FACTOR}
+     * budgets (polynomial blow-up that stays just under it per input).
+     */
+    private String fuzz(Pattern pattern, Node root, List<Repeat> targets) {
+        long started = System.nanoTime();
+        for (Repeat target : targets) {
+            for (int pumps = 4; pumps <= MAX_PUMPS; pumps *= 2) {
+                StringBuilder prefix = new StringBuilder();
+                StringBuilder whole = new StringBuilder();
+                sample(root, target, pumps, prefix, whole, false);
+                for (char killer : KILLERS.toCharArray()) {
+                    for (String input : List.of(prefix.toString() + killer, whole.toString() + killer)) {
+                        if (!completes(pattern, input)) {
+                            return "matching a " + input.length() + "-character input did not finish within "
+                                + Duration.ofNanos(fuzzBudgetNanos).toMillis() + " ms";
+                        }
+                        if (System.nanoTime() - started > TOTAL_BUDGET_FACTOR * fuzzBudgetNanos) {
+                            return "adversarial inputs up to " + input.length() + " characters took over "
+                                + Duration.ofNanos(TOTAL_BUDGET_FACTOR * fuzzBudgetNanos).toMillis() + " ms in total";
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean completes(Pattern pattern, String input) {
+        try {
+            pattern.matcher(new DeadlineCharSequence(input, System.nanoTime() + fuzzBudgetNanos)).find();
+            return true;
+        } catch (DeadlineExceeded e) {
+            return false;
+        } catch (StackOverflowError e) {
+            // Java's regex recurses per repetition; an input that overflows it is as bad as a timeout.
+            return false;
+        }
+    }
+
+    /**
+     * Appends a string the pattern would match to {@code whole}, with
+     * {@code target} repeated {@code pumps} times; {@code prefix} receives the
+     * same text up to the end of the pumped run. Returns whether the pumped run
+     * has been emitted, i.e. whether {@code prefix} is complete.
+     */
+    private static boolean sample(Node node, Repeat target, int pumps,
+                                  StringBuilder prefix, StringBuilder whole, boolean done) {
+        switch (node) {
+            case Chars c -> append(c.set().sample(), prefix, whole, done);
+            case Seq s -> {
+                for (Node item : s.items()) {
+                    done = sample(item, target, pumps, prefix, whole, done);
+                }
+            }
+            case Alt a -> {
+                Node branch = a.branches().stream().filter(b -> contains(b, target)).findFirst()
+                    .orElse(a.branches().get(0));
+                done = sample(branch, target, pumps, prefix, whole, done);
+            }
+            case Repeat r -> {
+                boolean pumped = r == target;
+                int copies = pumped ? pumps : Math.max(r.min(), contains(r, target) ? 1 : 0);
+                for (int i = 0; i < copies; i++) {
+                    done = sample(r.body(), target, pumps, prefix, whole, done);
+                }
+                done |= pumped;
+            }
+            case Atomic a -> done = sample(a.body(), target, pumps, prefix, whole, done);
+            case Look l -> {
+            }
+            case Empty e -> {
+            }
+        }
+        return done;
+    }
+
+    private static void append(char c, StringBuilder prefix, StringBuilder whole, boolean done) {
+        whole.append(c);
+        if (!done) {
+            prefix.append(c);
+        }
+    }
+
+    private static boolean contains(Node node, Repeat target) {
+        return switch (node) {
+            case Repeat r -> r == target || contains(r.body(), target);
+            case Seq s -> s.items().stream().anyMatch(item -> contains(item, target));
+            case Alt a -> a.branches().stream().anyMatch(branch -> contains(branch, target));
+            case Atomic a -> contains(a.body(), target);
+            case Look l -> contains(l.body(), target);
+            case Chars c -> false;
+            case Empty e -> false;
+        };
+    }
+
+    /** Checks the clock every 1024 reads and aborts the match once the deadline has passed. */
+    private static final class DeadlineCharSequence implements CharSequence {
+
+        private final String text;
+        private final long deadline;
+        private int reads;
+
+        DeadlineCharSequence(String text, long deadline) {
+            this.text = text;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if ((++reads & 0x3FF) == 0 && System.nanoTime() > deadline) {
+                throw new DeadlineExceeded();
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new DeadlineCharSequence(text.substring(start, end), deadline);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    private static final class DeadlineExceeded extends RuntimeException {
+        DeadlineExceeded() {
+            super(null, null, false, false);
+        }
+    }
+
+    // ---- pattern model --------------------------------------------------------------
+
+    private sealed interface Node permits Chars, Seq, Alt, Repeat, Atomic, Look, Empty {
+    }
+
+    /** One character from {@code set}. */
+    private record Chars(CharSet set) implements Node {
+    }
+
+    private record Seq(List<Node> items) implements Node {
+    }
+
+    private record Alt(List<Node> branches) implements Node {
+    }
+
+    /** {@code max} is -1 when unbounded; {@code source} is the quantified text, for messages. */
+    private record Repeat(Node body, int min, int max, boolean possessive, String source) implements Node {
+
+        boolean isUnbounded() {
+            return max < 0 || max >= BOUNDED_REPEAT_THRESHOLD;
+        }
+    }
+
+    private record Atomic(Node body) implements Node {
+    }
+
+    /** A lookaround: matched in place, consumes nothing. */
+    private record Look(Node body) implements Node {
+    }
+
+    /** Anchors, boundaries and back references. */
+    private record Empty() implements Node {
+    }
+
+    /**
+     * ASCII characters exactly, everything above {@code 0x7F} as one bucket —
+     * precise enough to tell delimiters and alternatives apart.
+     */
+    private static final class CharSet {
+
+        private final BitSet ascii = new BitSet(128);
+        private boolean nonAscii;
+
+        static CharSet of(char c) {
+            CharSet set = new CharSet();
+            set.add(c, c);
+            return set;
+        }
+
+        static CharSet all() {
+            CharSet set = new CharSet();
+            set.add('\u0000', '\uFFFF');
+            return set;
+        }
+
+        void add(char from, char to) {
+            if (from < 128) {
+                ascii.set(from, Math.min(to, 127) + 1);
+            }
+            if (to >= 128) {
+                nonAscii = true;
+            }
+        }
+
+        void addAll(CharSet other) {
+            ascii.or(other.ascii);
+            nonAscii |= other.nonAscii;
+        }
+
+        CharSet complement() {
+            CharSet set = new CharSet();
+            set.ascii.set(0, 128);
+            set.ascii.andNot(ascii);
+            set.nonAscii = true;
+            return set;
+        }
+
+        boolean intersects(CharSet other) {
+            return ascii.intersects(other.ascii) || (nonAscii && other.nonAscii);
+        }
+
+        /** A representative member, preferring letters and digits for readable inputs. */
+        char sample() {
+            for (char c : "aA0_ -.@".toCharArray()) {
+                if (ascii.get(c)) {
+                    return c;
+                }
+            }
+            int first = ascii.nextSetBit(0);
+            return first >= 0 ? (char) first : '\u00E9';
+        }
+    }
+
+    /** Recursive-descent reader for the subset of Java regex syntax the analysis models. */
+    private static final class Parser {
+
+        private static final String SHORTHANDS = "dDwWsShHvVpP";
+
+        private final String src;
+        private int pos;
+
+        Parser(String src) {
+            this.src = src;
+        }
+
+        Node parse() {
+            Node node = alternation();
+            if (pos < src.length()) {
+                throw new IllegalArgumentException("unbalanced ) at " + pos);
+            }
+            return node;
+        }
+
+        private Node alternation() {
+            List<Node> branches = new ArrayList<>();
+            branches.add(sequence());
+            while (pos < src.length() && src.charAt(pos) == '|') {
+                pos++;
+                branches.add(sequence());
+            }
+            return branches.size() == 1 ? branches.get(0) : new Alt(List.copyOf(branches));
+        }
+
+        private Node sequence() {
+            List<Node> items = new ArrayList<>();
+            while (pos < src.length() && src.charAt(pos) != '|' && src.charAt(pos) != ')') {
+                items.add(quantified());
+            }
+            return items.size() == 1 ? items.get(0) : new Seq(List.copyOf(items));
+        }
+
+        private Node quantified() {
+            int start = pos;
+            Node atom = atom();
+            if (pos >= src.length()) {
+                return atom;
+            }
+            int min;
+            int max;
+            char c = src.charAt(pos);
+            if (c == '*' || c == '+' || c == '?') {
+                pos++;
+                min = c == '+' ? 1 : 0;
+                max = c == '?' ? 1 : -1;
+            } else if (c == '{' && src.indexOf('}', pos) > pos) {
+                String[] bounds = src.substring(pos + 1, src.indexOf('}', pos)).split(",", -1);
+                try {
+                    min = Integer.parseInt(bounds[0].trim());
+                    max = bounds.length == 1 ? min
+                        : bounds[1].isBlank() ? -1 : Integer.parseInt(bounds[1].trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("unreadable quantifier at " + pos, e);
+                }
+                pos = src.indexOf('}', pos) + 1;
+            } else {
+                return atom;
+            }
+            boolean possessive = false;
+            if (pos < src.length() && (src.charAt(pos) == '?' || src.charAt(pos) == '+')) {
+                possessive = src.charAt(pos) == '+';
+                pos++;
+            }
+            return new Repeat(atom, min, max, possessive, src.substring(start, pos));
+        }
+
+        private Node atom() {
+            char c = src.charAt(pos++);
+            return switch (c) {
+                case '(' -> group();
+                case '[' -> new Chars(charClass());
+                case '\\' -> escape(false);
+                case '.' -> new Chars(CharSet.of('\n').complement());
+                case '^', '$' -> new Empty();
+                default -> new Chars(CharSet.of(c));
+            };
+        }
+
+        private Node group() {
+            Node node;
+            if (src.startsWith("?:", pos)) {
+                pos += 2;
+                node = alternation();
+            } else if (src.startsWith("?=", pos) || src.startsWith("?!", pos)) {
+                pos += 2;
+                node = new Look(alternation());
+            } else if (src.startsWith("?<=", pos) || src.startsWith("?<!", pos)) {
+                pos += 3;
+                node = new Look(alternation());
+            } else if (src.startsWith("?>", pos)) {
+                pos += 2;
+                node = new Atomic(alternation());
+            } else if (src.startsWith("?<", pos)) {
+                pos = src.indexOf('>', pos) + 1;
+                if (pos == 0) {
+                    throw new IllegalArgumentException("unterminated group name");
+                }
+                node = alternation();
+            } else if (src.startsWith("?", pos)) {
+                // Inline flags, (?i) or (?i:...): the flags themselves are ignored.
+                while (pos < src.length() && src.charAt(pos) != ')' && src.charAt(pos) != ':') {
+                    pos++;
+                }
+                if (pos < src.length() && src.charAt(pos) == ':') {
+                    pos++;
+                    node = alternation();
+                } else {
+                    node = new Empty();
+                }
+            } else {
+                node = alternation();
+            }
+            if (pos >= src.length() || src.charAt(pos) != ')') {
+                throw new IllegalArgumentException("unterminated group");
+            }
+            pos++;
+            return node;
+        }
+
+        private CharSet charClass() {
+            CharSet set = new CharSet();
+            boolean negated = pos < src.length() && src.charAt(pos) == '^';
+            if (negated) {
+                pos++;
+            }
+            boolean first = true;
+            while (pos < src.length() && (src.charAt(pos) != ']' || first)) {
+                first = false;
+                char c = src.charAt(pos++);
+                if (c == '[') {
+                    set.addAll(charClass());
+                    continue;
+                }
+                if (c == '&' && pos < src.length() && src.charAt(pos) == '&') {
+                    pos++;
+                    continue;
+                }
+                char low = c;
+                if (c == '\\') {
+                    boolean shorthand = pos < src.length() && SHORTHANDS.indexOf(src.charAt(pos)) >= 0;
+                    if (!(escape(true) instanceof Chars escaped)) {
+                        continue;
+                    }
+                    if (shorthand) {
+                        set.addAll(escaped.set());
+                        continue;
+                    }
+                    low = escaped.set().sample();
+                }
+                if (pos + 1 < src.length() && src.charAt(pos) == '-' && src.charAt(pos + 1) != ']') {
+                    pos++;
+                    char high = src.charAt(pos++);
+                    if (high == '\\') {
+                        high = src.charAt(pos++);
+                    }
+                    set.add((char) Math.min(low, high), (char) Math.max(low, high));
+                } else {
+                    set.add(low, low);
+                }
+            }
+            if (pos >= src.length()) {
+                throw new IllegalArgumentException("unterminated character class");
+            }
+            pos++;
+            return negated ? set.complement() : set;
+        }
+
+        private Node escape(boolean inClass) {
+            if (pos >= src.length()) {
+                throw new IllegalArgumentException("trailing backslash");
+            }
+            char c = src.charAt(pos++);
+            return switch (c) {
+                case 'd' -> new Chars(digits());
+                case 'D' -> new Chars(digits().complement());
+                case 'w' -> new Chars(word());
+                case 'W' -> new Chars(word().complement());
+                case 's', 'h', 'v' -> new Chars(space());
+                case 'S', 'H', 'V' -> new Chars(space().complement());
+                case 'p', 'P' -> {
+                    if (pos < src.length() && src.charAt(pos) == '{') {
+                        pos = src.indexOf('}', pos) + 1;
+                    } else {
+                        pos++;
+                    }
+                    yield new Chars(CharSet.all());
+                }
+                case 'b', 'B', 'A', 'z', 'Z', 'G', 'k' -> {
+                    if (c == 'k') {
+                        pos = src.indexOf('>', pos) + 1;
+                    }
+                    yield new Empty();
+                }
+                case 'Q' -> {
+                    int end = src.indexOf("\\E", pos);
+                    String literal = src.substring(pos, end < 0 ? src.length() : end);
+                    pos = end < 0 ? src.length() : end + 2;
+                    List<Node> chars = new ArrayList<>();
+                    literal.chars().forEach(ch -> chars.add(new Chars(CharSet.of((char) ch))));
+                    yield chars.size() == 1 ? chars.get(0) : new Seq(List.copyOf(chars));
+                }
+                case 't' -> new Chars(CharSet.of('\t'));
+                case 'n' -> new Chars(CharSet.of('\n'));
+                case 'r' -> new Chars(CharSet.of('\r'));
+                case 'f' -> new Chars(CharSet.of('\f'));
+                case 'x', 'u', 'c', '0', 'e', 'a' -> {
+                    // Code-unit escapes stand for one opaque character; only their length matters here.
+                    skipCodeUnit(c);
+                    yield new Chars(CharSet.of('\u0080'));
+                }
+                default -> Character.isDigit(c) && !inClass ? new Empty() : new Chars(CharSet.of(c));
+            };
+        }
+
+        private void skipCodeUnit(char kind) {
+            switch (kind) {
+                case 'x' -> pos = src.startsWith("{", pos) ? src.indexOf('}', pos) + 1 : pos + 2;
+                case 'u' -> pos += 4;
+                case 'c' -> pos += 1;
+                case '0' -> {
+                    int end = Math.min(pos + 3, src.length());
+                    while (pos < end && src.charAt(pos) >= '0' && src.charAt(pos) <= '7') {
+                        pos++;
+                    }
+                }
+                default -> {
+                }
+            }
+            if (pos <= 0 || pos > src.length()) {
+                throw new IllegalArgumentException("truncated escape");
+            }
+        }
+
+        private static CharSet digits() {
+            CharSet set = new CharSet();
+            set.add('0', '9');
+            return set;
+        }
+
+        private static CharSet word() {
+            CharSet set = digits();
+            set.add('a', 'z');
+            set.add('A', 'Z');
+            set.add('_', '_');
+            return set;
+        }
+
+        private static CharSet space() {
+            CharSet set = new CharSet();
+            set.add('\t', '\r');
+            set.add(' ', ' ');
+            return set;
+        }
+    }
+}
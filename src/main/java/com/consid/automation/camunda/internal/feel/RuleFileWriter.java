@@ -1,8 +1,12 @@
 package com.consid.automation.camunda.internal.feel;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 
 /**
  * Writes rendered FEEL output to disk, creating parent directories on demand.
@@ -16,4 +20,31 @@ public final class RuleFileWriter {
         }
         Files.writeString(target, content);
     }
+
+    /**
+     * Writes {@code content} only when the file does not already hold exactly
+     * it, replacing the file in one move so a reader never sees it half
+     * written. Returns whether the file was written.
+     */
+    public boolean writeIfChanged(Path target, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (Files.isRegularFile(target) && Files.size(target) == bytes.length
+            && Arrays.equals(Files.readAllBytes(target), bytes)) {
+            return false;
+        }
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, bytes);
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return true;
+    }
 }
@@ -0,0 +1,141 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes one FEEL file per endpoint block into a directory, plus an
+ * {@value #INDEX_FILE} that maps each {@code METHOD /path} to its file and the
+ * SHA-256 of its content. Files are written in parallel, and a file whose
+ * content is unchanged is not touched, so its timestamp only moves when the
+ * endpoint's FEEL does. Files the previous index listed for endpoints that are
+ * gone are removed.
+ */
+public final class SplitOutputWriter {
+
+    public static final String INDEX_FILE = "index.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final RuleFileWriter writer = new RuleFileWriter();
+
+    /** How many endpoint files were written, left unchanged and removed. */
+    public record Result(int written, int unchanged, int removed) {
+    }
+
+    /**
+     * {@code blocksByEndpoint} maps {@code METHOD /path} to the endpoint's
+     * complete block, heading line included, in output order.
+     */
+    public Result write(Path directory, Map<String, String> blocksByEndpoint) throws IOException {
+        Files.createDirectories(directory);
+        Set<String> previousFiles = previousFiles(directory.resolve(INDEX_FILE));
+
+        Map<String, String> fileByEndpoint = new LinkedHashMap<>();
+        Set<String> takenNames = new HashSet<>();
+        for (String endpoint : blocksByEndpoint.keySet()) {
+            fileByEndpoint.put(endpoint, uniqueName(fileName(endpoint), takenNames) + ".feel");
+        }
+
+        AtomicInteger written = new AtomicInteger();
+        try {
+            blocksByEndpoint.entrySet().parallelStream().forEach(block -> {
+                try {
+                    if (writer.writeIfChanged(directory.resolve(fileByEndpoint.get(block.getKey())), block.getValue())) {
+                        written.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        int removed = 0;
+        for (String stale : previousFiles) {
+            if (!fileByEndpoint.containsValue(stale) && Files.deleteIfExists(directory.resolve(stale))) {
+                removed++;
+            }
+        }
+
+        List<Map<String, String>> entries = new ArrayList<>(blocksByEndpoint.size());
+        blocksByEndpoint.forEach((endpoint, block) -> {
+            Map<String, String> entry = new LinkedHashMap<>();
+            entry.put("endpoint", endpoint);
+            entry.put("file", fileByEndpoint.get(endpoint));
+            entry.put("sha256", sha256(block));
+            entries.add(entry);
+        });
+        writer.writeIfChanged(directory.resolve(INDEX_FILE), MAPPER.writeValueAsString(Map.of("endpoints", entries)));
+
+        return new Result(written.get(), blocksByEndpoint.size() - written.get(), removed);
+    }
+
+    /** {@code POST /customers/{id}/order-items} becomes {@code post-customers-id-order-items}. */
+    static String fileName(String endpoint) {
+        String name = endpoint.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-+|-+$", "");
+        return name.isEmpty() ? "endpoint" : name;
+    }
+
+    /** Appends {@code -2}, {@code -3}, … until the name is unused, ignoring case. */
+    private static String uniqueName(String name, Set<String> taken) {
+        String candidate = name;
+        for (int suffix = 2; !taken.add(candidate.toLowerCase(Locale.ROOT)); suffix++) {
+            candidate = name + "-" + suffix;
+        }
+        return candidate;
+    }
+
+    /**
+     * The plain file names the previous index listed; an unreadable index
+     * lists nothing, so no file is removed on its account.
+     */
+    private static Set<String> previousFiles(Path index) throws IOException {
+        Set<String> files = new HashSet<>();
+        if (!Files.isRegularFile(index)) {
+            return files;
+        }
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(index.toFile());
+        } catch (JsonProcessingException e) {
+            return files;
+        }
+        for (JsonNode entry : root.path("endpoints")) {
+            String file = entry.path("file").asText("");
+            if (file.endsWith(".feel") && !file.contains("/") && !file.contains("\\")) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -23,8 +23,33 @@ public interface ValidationRuleBuilder {
      */
     ValidationRule createRootObjectRule(ObjectTypeInfo rootClosure);
 
+    /**
+     * Create the shared validator for a reused component. {@code requiredFields}
+     * is the component's own extraction, keyed by paths relative to the component root.
+     */
+    ValidationFunction createComponentFunction(String componentName, Map<String, FieldDescriptor> requiredFields);
+
+    /**
+     * Create the rule that invokes {@code function} on the value at {@code fieldPath},
+     * standing in for the component's inlined per-field rules. {@code dependsOn}
+     * are the triggers the use site inherited from its ancestors.
+     */
+    ValidationRule createComponentCallRule(String fieldPath,
+                                           ValidationFunction function,
+                                           Map<String, FieldDescriptor> requiredFields,
+                                           List<Trigger> dependsOn);
+
     /**
      * Render the grouped validation rules into the final FEEL output.
      */
-    String render(Map<String, List<ValidationRule>> rulesByEndpoint);
+    default String render(Map<String, List<ValidationRule>> rulesByEndpoint) {
+        return render(rulesByEndpoint, Map.of());
+    }
+
+    /**
+     * Render the grouped validation rules, defining each endpoint's shared
+     * component functions ahead of the rules that call them.
+     */
+    String render(Map<String, List<ValidationRule>> rulesByEndpoint,
+                  Map<String, List<ValidationFunction>> functionsByEndpoint);
 }
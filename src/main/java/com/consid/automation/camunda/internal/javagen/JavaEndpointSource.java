@@ -0,0 +1,438 @@
+package com.consid.automation.camunda.internal.javagen;
+
+import com.consid.automation.camunda.internal.feel.PatternLowering;
+import com.consid.automation.camunda.internal.model.*;
+import com.consid.automation.camunda.internal.openapi.ExtractionResult;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Renders one endpoint's {@link ExtractionResult} as the source of a single
+ * validator class. The emitted checks are the Java twin of the FEEL
+ * {@code FEELExpressionBuilder} renders and of the {@code PayloadRuleCompiler}
+ * checks, clause for clause; see {@code PayloadRuleCompiler} for the
+ * semantics all three must share.
+ *
+ * <p>Everything that can be built once is hoisted into a {@code static final}
+ * constant — patterns, enum and trigger literal sets, closed key sets and
+ * non-{@code long} bounds — and every rule becomes one private method of
+ * straight-line code, so the JIT sees small, monomorphic methods. Component
+ * functions are a rendering choice only, so every field is checked inline.
+ */
+final class JavaEndpointSource {
+
+    private static final String INDENT = "    ";
+
+    private final String packageName;
+    private final String className;
+    private final String endpoint;
+    private final PayloadLimits limits;
+    private final List<String> constants = new ArrayList<>();
+    private final List<String> methods = new ArrayList<>();
+    private int patternCount;
+    private int literalsCount;
+    private int keysCount;
+    private int decimalCount;
+    private int elementCount;
+
+    JavaEndpointSource(String packageName, String className, String endpoint, PayloadLimits limits) {
+        this.packageName = packageName;
+        this.className = className;
+        this.endpoint = endpoint;
+        this.limits = limits;
+    }
+
+    String render(ExtractionResult extracted) {
+        List<String> ruleMethods = new ArrayList<>();
+        List<String> violations = new ArrayList<>();
+        List<String> ceilings = new ArrayList<>();
+        if (limits.hasMaxObjectKeys()) {
+            ceilings.add("objectOver(present(body), " + limits.maxObjectKeys() + ")");
+        }
+        extracted.requiredFields().forEach((fieldPath, descriptor) -> {
+            String ceiling = ceiling(path("body", fieldPath), descriptor.typeInfo());
+            if (ceiling != null) {
+                ceilings.add(ceiling);
+            }
+            ruleMethods.add(rule(ruleMethods.size(), fieldPath, descriptor.dependsOn(), descriptor));
+            violations.add(violation(fieldPath + "-invalid", fieldPath));
+        });
+        if (extracted.hasRootClosure()) {
+            ruleMethods.add(rule(ruleMethods.size(), "", List.of(), FieldDescriptor.of(extracted.rootClosure())));
+            violations.add(violation("rootObject-invalid", "(root)"));
+        }
+
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(packageName).append(";\n\n")
+            .append("import com.fasterxml.jackson.databind.JsonNode;\n\n");
+        if (constants.stream().anyMatch(constant -> constant.contains("BigDecimal"))) {
+            out.append("import java.math.BigDecimal;\n");
+        }
+        out.append("import java.util.List;\n");
+        if (keysCount > 0) {
+            out.append("import java.util.Set;\n");
+        }
+        if (patternCount > 0) {
+            out.append("import java.util.regex.Pattern;\n");
+        }
+        out.append('\n')
+            .append("import static ").append(packageName).append(".FeelValidationSupport.*;\n\n")
+            .append("/**\n")
+            .append(" * Validates {@code ").append(javadoc(endpoint)).append("} request bodies against the rules\n")
+            .append(" * the generated FEEL checks, reaching the same verdict and listing the\n")
+            .append(" * same failing rules in the same order.\n")
+            .append(" *\n")
+            .append(" * <p>Generated by feel-validation-generator. Do not edit.\n")
+            .append(" */\n")
+            .append("public final class ").append(className).append(" {\n\n")
+            .append(INDENT).append("public static final String ENDPOINT = ").append(quote(endpoint)).append(";\n");
+        if (!constants.isEmpty() || !violations.isEmpty()) {
+            out.append('\n');
+        }
+        for (int i = 0; i < violations.size(); i++) {
+            out.append(INDENT).append("private static final Violation RULE_").append(i).append(" = ")
+                .append(violations.get(i)).append(";\n");
+        }
+        for (String constant : constants) {
+            out.append(INDENT).append(constant).append('\n');
+        }
+        out.append('\n')
+            .append(INDENT).append("private ").append(className).append("() {\n")
+            .append(INDENT).append("}\n\n");
+
+        out.append(INDENT).append("/** Stops at the first failing rule. */\n")
+            .append(INDENT).append("public static boolean isValid(JsonNode body) {\n")
+            .append(INDENT).append(INDENT).append("return !oversized(body)");
+        for (int i = 0; i < ruleMethods.size(); i++) {
+            out.append("\n").append(INDENT).append(INDENT).append(INDENT).append("&& !rule").append(i).append("(body)");
+        }
+        out.append(";\n").append(INDENT).append("}\n\n");
+
+        out.append(INDENT).append("/** Every failing rule in order; an empty list for a valid payload. */\n")
+            .append(INDENT).append("public static List<Violation> validate(JsonNode body) {\n")
+            .append(INDENT).append(INDENT).append("if (oversized(body)) {\n")
+            .append(INDENT).append(INDENT).append(INDENT).append("return List.of(PAYLOAD_SIZE);\n")
+            .append(INDENT).append(INDENT).append("}\n")
+            .append(INDENT).append(INDENT).append("List<Violation> violations = null;\n");
+        for (int i = 0; i < ruleMethods.size(); i++) {
+            out.append(INDENT).append(INDENT).append("if (rule").append(i).append("(body)) {\n")
+                .append(INDENT).append(INDENT).append(INDENT)
+                .append("violations = add(violations, RULE_").append(i).append(");\n")
+                .append(INDENT).append(INDENT).append("}\n");
+        }
+        out.append(INDENT).append(INDENT).append("return done(violations);\n")
+            .append(INDENT).append("}\n\n");
+
+        out.append(INDENT).append("private static boolean oversized(JsonNode body) {\n")
+            .append(INDENT).append(INDENT).append("return ")
+            .append(ceilings.isEmpty() ? "false" : String.join("\n" + INDENT + INDENT + INDENT + "|| ", ceilings))
+            .append(";\n")
+            .append(INDENT).append("}\n");
+        for (String method : ruleMethods) {
+            out.append('\n').append(method);
+        }
+        for (String method : methods) {
+            out.append('\n').append(method);
+        }
+        return out.append("}\n").toString();
+    }
+
+    /** One rule: its trigger guard first, then the field check on the value at its path. */
+    private String rule(int index, String fieldPath, List<Trigger> dependsOn, FieldDescriptor descriptor) {
+        StringBuilder method = new StringBuilder();
+        method.append(INDENT).append("/** {@code ").append(javadoc(fieldPath.isEmpty() ? "(root)" : fieldPath))
+            .append("} */\n")
+            .append(INDENT).append("private static boolean rule").append(index).append("(JsonNode body) {\n");
+        if (!dependsOn.isEmpty()) {
+            method.append(INDENT).append(INDENT).append("if (!(")
+                .append(triggers(dependsOn, "body", "\n" + INDENT + INDENT + INDENT)).append(")) {\n")
+                .append(INDENT).append(INDENT).append(INDENT).append("return false;\n")
+                .append(INDENT).append(INDENT).append("}\n");
+        }
+        method.append(INDENT).append(INDENT).append("JsonNode value = ").append(path("body", fieldPath)).append(";\n")
+            .append(INDENT).append(INDENT).append("return ").append(field(descriptor, false, "value")).append(";\n")
+            .append(INDENT).append("}\n");
+        return method.toString();
+    }
+
+    /** The trigger disjunction, each path resolved below {@code root}; {@code separator} precedes each {@code ||}. */
+    private String triggers(List<Trigger> dependsOn, String root, String separator) {
+        List<String> triggers = new ArrayList<>();
+        for (Trigger trigger : dependsOn) {
+            triggers.add(switch (trigger) {
+                case PresenceTrigger p -> path(root, p.path()) + " != null";
+                case ValueTrigger v -> literals(v.allowedValues()) + ".contains(" + path(root, v.path()) + ")";
+            });
+        }
+        return String.join(separator + "|| ", triggers);
+    }
+
+    /** {@code inQuantifier} selects FEEL's {@code list contains} form of a typed enum test. */
+    private String field(FieldDescriptor descriptor, boolean inQuantifier, String value) {
+        if (descriptor.typeInfo() instanceof UnsatisfiableTypeInfo) {
+            return descriptor.nullable() ? value + " != null" : "true";
+        }
+        String violation = violation(descriptor, inQuantifier, value);
+        if (descriptor.nullable()) {
+            return violation == null ? "false" : value + " != null && (" + violation + ")";
+        }
+        return violation == null ? value + " == null" : value + " == null || " + violation;
+    }
+
+    /**
+     * The type clause first, then the constraints, then the enum test; an
+     * element value's own ceiling follows the type clause.
+     */
+    private String violation(FieldDescriptor descriptor, boolean inQuantifier, String value) {
+        List<String> parts = new ArrayList<>();
+        switch (descriptor.typeInfo()) {
+            case StringTypeInfo s -> stringChecks(s, value, parts);
+            case NumberTypeInfo n -> numberChecks(n, value, parts);
+            case BooleanTypeInfo b -> parts.add("!" + value + ".isBoolean()");
+            case ArrayTypeInfo a -> arrayChecks(a, value, parts);
+            case ObjectTypeInfo o -> objectChecks(o, value, parts);
+            case UnknownTypeInfo u -> {
+            }
+            case UnsatisfiableTypeInfo u -> throw new IllegalStateException(
+                "unsatisfiable fields are short-circuited by field");
+        }
+        String itemCeiling = inQuantifier ? ceiling(value, descriptor.typeInfo()) : null;
+        if (itemCeiling != null) {
+            parts.add(1, itemCeiling);
+        }
+        if (descriptor.hasEnum()) {
+            String allowed = literals(descriptor.enumValues());
+            if (descriptor.typeInfo() instanceof UnknownTypeInfo || inQuantifier) {
+                parts.add("!" + allowed + ".contains(" + value + ")");
+            } else {
+                parts.add("!" + allowed + ".contains(" + value + ") && " + allowed + ".comparesWithAll(" + value + ")");
+            }
+        }
+        if (parts.isEmpty()) {
+            return null;
+        }
+        return parts.size() == 1 ? parts.get(0) : "(" + String.join(")\n" + INDENT + INDENT + INDENT + "|| (", parts) + ")";
+    }
+
+    private void stringChecks(StringTypeInfo info, String value, List<String> parts) {
+        parts.add(switch (info.format()) {
+            case PLAIN -> "!" + value + ".isTextual()";
+            case DATE -> "!" + value + ".isTextual() || !isDate(" + value + ".textValue())";
+            case DATE_TIME -> "!" + value + ".isTextual() || !isDateTime(" + value + ".textValue())";
+            case TIME -> "!" + value + ".isTextual() || !isTime(" + value + ".textValue())";
+        });
+        String length = "codePoints(" + value + ".textValue())";
+        if (info.hasMinLength() && info.hasMaxLength()) {
+            parts.add(length + " < " + info.minLength() + " || " + length + " > " + info.maxLength());
+        } else if (info.hasMinLength()) {
+            parts.add(length + " < " + info.minLength());
+        } else if (info.hasMaxLength()) {
+            parts.add(length + " > " + info.maxLength());
+        }
+        if (info.hasPattern()) {
+            String pattern = pattern(info.pattern());
+            Integer fixedLength = PatternLowering.fixedLength(info.pattern());
+            if (pattern != null && fixedLength != null) {
+                parts.add(length + " != " + fixedLength
+                    + " || !" + pattern + ".matcher(" + value + ".textValue()).find()");
+            } else if (pattern != null) {
+                parts.add("!" + pattern + ".matcher(" + value + ".textValue()).find()");
+            }
+        }
+    }
+
+    private void numberChecks(NumberTypeInfo info, String value, List<String> parts) {
+        parts.add("!" + value + ".isNumber()");
+        if (info.hasMinimum()) {
+            parts.add("compare(" + value + ", " + number(info.minimum()) + ") < 0");
+        }
+        if (info.hasExclusiveMinimum()) {
+            parts.add("compare(" + value + ", " + number(info.exclusiveMinimum()) + ") <= 0");
+        }
+        if (info.hasMaximum()) {
+            parts.add("compare(" + value + ", " + number(info.maximum()) + ") > 0");
+        }
+        if (info.hasExclusiveMaximum()) {
+            parts.add("compare(" + value + ", " + number(info.exclusiveMaximum()) + ") >= 0");
+        }
+        if (info.hasMultipleOf()) {
+            parts.add("!multipleOf(" + value + ", " + number(info.multipleOf()) + ")");
+        }
+    }
+
+    private void arrayChecks(ArrayTypeInfo info, String value, List<String> parts) {
+        parts.add("!" + value + ".isArray()");
+        String size = value + ".size()";
+        if (info.hasMinItems() && info.hasMaxItems()) {
+            parts.add(size + " < " + info.minItems() + " || " + size + " > " + info.maxItems());
+        } else if (info.hasMinItems()) {
+            parts.add(size + " < " + info.minItems());
+        } else if (info.hasMaxItems()) {
+            parts.add(size + " > " + info.maxItems());
+        }
+        if (info.hasItems()) {
+            String element = element(info.items(), info.itemRequiredFields());
+            parts.add("anyElement(" + value + ", " + className + "::" + element + ")");
+        }
+    }
+
+    /**
+     * {@code some e in X satisfies (…)} as a method over one element: the
+     * element's own check, then its required fields, each behind its
+     * element-relative triggers.
+     */
+    private String element(FieldDescriptor items, Map<String, FieldDescriptor> itemRequiredFields) {
+        String name = "element" + elementCount++;
+        StringBuilder method = new StringBuilder();
+        method.append(INDENT).append("private static boolean ").append(name).append("(JsonNode element) {\n");
+        elementCheck(method, items.dependsOn(), field(items, true, "element"));
+        int fieldCount = 0;
+        for (Map.Entry<String, FieldDescriptor> entry : new TreeMap<>(itemRequiredFields).entrySet()) {
+            String local = "field" + fieldCount++;
+            method.append(INDENT).append(INDENT).append("JsonNode ").append(local).append(" = ")
+                .append(path("element", entry.getKey())).append(";\n");
+            elementCheck(method, entry.getValue().dependsOn(), field(entry.getValue(), true, local));
+        }
+        method.append(INDENT).append(INDENT).append("return false;\n")
+            .append(INDENT).append("}\n");
+        methods.add(method.toString());
+        return name;
+    }
+
+    private void elementCheck(StringBuilder method, List<Trigger> dependsOn, String check) {
+        String condition = dependsOn.isEmpty()
+            ? check
+            : "(" + triggers(dependsOn, "element", " ") + ") && (" + check + ")";
+        method.append(INDENT).append(INDENT).append("if (").append(condition).append(") {\n")
+            .append(INDENT).append(INDENT).append(INDENT).append("return true;\n")
+            .append(INDENT).append(INDENT).append("}\n");
+    }
+
+    private void objectChecks(ObjectTypeInfo info, String value, List<String> parts) {
+        parts.add("!" + value + ".isObject()");
+        if (info.isClosed()) {
+            parts.add("hasKeyOutside(" + value + ", " + keys(info.allowedKeys()) + ")");
+        }
+    }
+
+    /** The oversized pre-check for a value of the given type, or null when no ceiling applies. */
+    private String ceiling(String value, TypeInfo typeInfo) {
+        if (typeInfo instanceof StringTypeInfo && limits.hasMaxStringLength()) {
+            return "stringOver(" + value + ", " + limits.maxStringLength() + ")";
+        }
+        if (typeInfo instanceof ArrayTypeInfo && limits.hasMaxArrayItems()) {
+            return "arrayOver(" + value + ", " + limits.maxArrayItems() + ")";
+        }
+        if (typeInfo instanceof ObjectTypeInfo && limits.hasMaxObjectKeys()) {
+            return "objectOver(" + value + ", " + limits.maxObjectKeys() + ")";
+        }
+        return null;
+    }
+
+    /** {@code present(get(get(root, "a"), "b"))}: resolves a dot path as FEEL does. */
+    private static String path(String root, String dotPath) {
+        String expression = root;
+        if (!dotPath.isEmpty()) {
+            for (String segment : dotPath.split("\\.")) {
+                expression = "get(" + expression + ", " + quote(segment) + ")";
+            }
+        }
+        return "present(" + expression + ")";
+    }
+
+    /** Null for a pattern Java can't compile: FEEL's {@code matches()} fails on it and never reports. */
+    private String pattern(String regex) {
+        try {
+            Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+        String name = "PATTERN_" + patternCount++;
+        constants.add("private static final Pattern " + name + " = Pattern.compile(" + quote(regex) + ");");
+        return name;
+    }
+
+    private String literals(List<FeelLiteral> values) {
+        List<String> arguments = new ArrayList<>();
+        for (FeelLiteral literal : values) {
+            arguments.add(switch (literal) {
+                case FeelString s -> quote(s.value());
+                case FeelNumber n -> "new BigDecimal(\"" + n.value().toString() + "\")";
+                case FeelBoolean b -> Boolean.toString(b.value());
+                case FeelNull n -> "(Object) null";
+            });
+        }
+        String name = "LITERALS_" + literalsCount++;
+        constants.add("private static final Literals " + name + " = literals(" + String.join(", ", arguments) + ");");
+        return name;
+    }
+
+    private String keys(Iterable<String> allowedKeys) {
+        List<String> quoted = new ArrayList<>();
+        for (String key : allowedKeys) {
+            quoted.add(quote(key));
+        }
+        quoted.sort(null);
+        String name = "KEYS_" + keysCount++;
+        constants.add("private static final Set<String> " + name + " = Set.of(" + String.join(", ", quoted) + ");");
+        return name;
+    }
+
+    /** A {@code long} literal when the bound is integral and fits, else a hoisted {@link BigDecimal}. */
+    private String number(BigDecimal value) {
+        try {
+            return value.longValueExact() + "L";
+        } catch (ArithmeticException e) {
+            String name = "DECIMAL_" + decimalCount++;
+            constants.add("private static final BigDecimal " + name + " = new BigDecimal(\"" + value + "\");");
+            return name;
+        }
+    }
+
+    private static String violation(String id, String field) {
+        return "new Violation(" + quote(id) + ", " + quote(field) + ")";
+    }
+
+    /** A Java string literal; everything outside printable ASCII is a unicode escape. */
+    static String quote(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /** Text safe inside a {@code {@code …}} doc tag: no comment terminator, braces or unicode escapes. */
+    private static String javadoc(String text) {
+        StringBuilder safe = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '{' || c == '}' || c == '\\' || c == '@' || c < 0x20 || c > 0x7e) {
+                safe.append('?');
+            } else {
+                safe.append(c);
+            }
+        }
+        return safe.toString().replace("*/", "*?");
+    }
+}
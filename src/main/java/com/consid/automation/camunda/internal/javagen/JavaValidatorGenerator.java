@@ -0,0 +1,121 @@
+package com.consid.automation.camunda.internal.javagen;
+
+import com.consid.automation.camunda.internal.model.PayloadLimits;
+import com.consid.automation.camunda.internal.openapi.ExtractionResult;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates plain Java validators next to the FEEL: one public final class
+ * per endpoint heading, plus the {@value #SUPPORT_CLASS} helpers they share.
+ * The generated sources depend on nothing but Jackson's {@code JsonNode}, so a
+ * gateway can compile them in and validate a webhook body without this plugin
+ * or a FEEL engine on its classpath.
+ *
+ * <p>An endpoint with nothing to check gets no class, as it gets no FEEL
+ * block. Class names are derived from the endpoint ({@code POST /customers/{id}}
+ * becomes {@code PostCustomersIdValidator}), with a numeric suffix on a clash.
+ */
+public final class JavaValidatorGenerator {
+
+    public static final String SUPPORT_CLASS = "FeelValidationSupport";
+
+    private static final String SUPPORT_TEMPLATE = SUPPORT_CLASS + ".java.template";
+
+    private final String packageName;
+    private final PayloadLimits limits;
+
+    public JavaValidatorGenerator(String packageName, PayloadLimits limits) {
+        if (!isPackageName(packageName)) {
+            throw new IllegalArgumentException("not a valid Java package name: \"" + packageName + "\"");
+        }
+        this.packageName = packageName;
+        this.limits = limits;
+    }
+
+    /**
+     * Source of every class to write, keyed by simple class name, the support
+     * class first and then the endpoints in heading order.
+     */
+    public Map<String, String> generate(Map<String, ExtractionResult> byEndpoint) {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put(SUPPORT_CLASS, supportSource());
+        Set<String> taken = new HashSet<>(Set.of(SUPPORT_CLASS.toLowerCase(Locale.ROOT)));
+        byEndpoint.forEach((heading, extracted) -> {
+            if (extracted.requiredFields().isEmpty() && !extracted.hasRootClosure()) {
+                return;
+            }
+            String endpoint = heading.startsWith("# ") ? heading.substring(2) : heading;
+            String className = uniqueName(className(endpoint), taken);
+            sources.put(className, new JavaEndpointSource(packageName, className, endpoint, limits).render(extracted));
+        });
+        return sources;
+    }
+
+    /** The package as a relative directory, e.g. {@code com/acme/validation}. */
+    public String packageDirectory() {
+        return packageName.replace('.', '/');
+    }
+
+    /** {@code POST /customers/{id}/order-items} → {@code PostCustomersIdOrderItemsValidator}. */
+    static String className(String endpoint) {
+        StringBuilder name = new StringBuilder();
+        int space = endpoint.indexOf(' ');
+        String method = space < 0 ? "" : endpoint.substring(0, space).toLowerCase(Locale.ROOT);
+        boolean wordStart = true;
+        for (int i = 0; i < endpoint.length(); i++) {
+            char c = i < method.length() ? method.charAt(i) : endpoint.charAt(i);
+            if (c < 0x80 && Character.isLetterOrDigit(c)) {
+                name.append(wordStart ? Character.toUpperCase(c) : c);
+                wordStart = false;
+            } else {
+                wordStart = true;
+            }
+        }
+        if (name.isEmpty() || !Character.isLetter(name.charAt(0))) {
+            name.insert(0, "Endpoint");
+        }
+        return name.append("Validator").toString();
+    }
+
+    /** Suffixes a clash with 2, 3, …; names are compared ignoring case, as some file systems do. */
+    private static String uniqueName(String base, Set<String> taken) {
+        String name = base;
+        for (int suffix = 2; !taken.add(name.toLowerCase(Locale.ROOT)); suffix++) {
+            name = base + suffix;
+        }
+        return name;
+    }
+
+    private String supportSource() {
+        try (InputStream in = JavaValidatorGenerator.class.getResourceAsStream(SUPPORT_TEMPLATE)) {
+            if (in == null) {
+                throw new IllegalStateException("missing resource " + SUPPORT_TEMPLATE);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("${package}", packageName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isPackageName(String packageName) {
+        if (packageName == null || packageName.isEmpty()) {
+            return false;
+        }
+        for (String segment : packageName.split("\\.", -1)) {
+            if (!SourceVersion.isIdentifier(segment) || SourceVersion.isKeyword(segment)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
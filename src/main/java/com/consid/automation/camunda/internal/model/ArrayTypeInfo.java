@@ -9,7 +9,9 @@ import java.util.Map;
  * the array has no items schema or items don't resolve). When items are
  * object-typed, {@code itemRequiredFields} maps element-relative paths to the
  * descriptors needed to validate them; the builder folds these into a
- * {@code some e in X satisfies (...)} clause.
+ * {@code some e in X satisfies (...)} clause. The triggers of those
+ * descriptors, and of {@code items}, are element-relative too: they name a
+ * path under the same element, never one from the request body root.
  */
 public record ArrayTypeInfo(Integer minItems,
                             Integer maxItems,
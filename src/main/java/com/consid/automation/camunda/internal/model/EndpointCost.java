@@ -0,0 +1,41 @@
+package com.consid.automation.camunda.internal.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Evaluation-cost estimate of one endpoint: its rules' {@link RuleCost}s,
+ * summed (clauses, regexes, score) or maxed (quantifier depth, enum size).
+ * The score saturates at {@link Long#MAX_VALUE}.
+ */
+public record EndpointCost(String endpoint, List<RuleCost> rules) {
+
+    public EndpointCost {
+        Objects.requireNonNull(endpoint, "endpoint must not be null");
+        rules = List.copyOf(rules);
+    }
+
+    public long score() {
+        long total = 0;
+        for (RuleCost rule : rules) {
+            total = total > Long.MAX_VALUE - rule.score() ? Long.MAX_VALUE : total + rule.score();
+        }
+        return total;
+    }
+
+    public int clauses() {
+        return rules.stream().mapToInt(RuleCost::clauses).sum();
+    }
+
+    public int regexes() {
+        return rules.stream().mapToInt(RuleCost::regexes).sum();
+    }
+
+    public int quantifierDepth() {
+        return rules.stream().mapToInt(RuleCost::quantifierDepth).max().orElse(0);
+    }
+
+    public int largestEnum() {
+        return rules.stream().mapToInt(RuleCost::largestEnum).max().orElse(0);
+    }
+}
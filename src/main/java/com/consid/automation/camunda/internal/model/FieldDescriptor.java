@@ -12,7 +12,7 @@ import java.util.Objects;
  *       {@code field=null or (…)} to {@code field!=null and (…)}.</li>
  *   <li>{@code enumValues} — the allowed-value set; empty means no enum check.</li>
  *   <li>{@code dependsOn} — triggers that make this field conditionally required.
- *       Empty means unconditionally required.</li>
+ *       Empty means unconditionally required. Kept in {@link Trigger#normalize(List) normal form}.</li>
  * </ul>
  */
 public record FieldDescriptor(TypeInfo typeInfo,
@@ -23,7 +23,7 @@ public record FieldDescriptor(TypeInfo typeInfo,
     public FieldDescriptor {
         Objects.requireNonNull(typeInfo, "typeInfo");
         enumValues = enumValues == null ? List.of() : List.copyOf(enumValues);
-        dependsOn = dependsOn == null ? List.of() : List.copyOf(dependsOn);
+        dependsOn = dependsOn == null ? List.of() : Trigger.normalize(List.copyOf(dependsOn));
     }
 
     public static FieldDescriptor of(TypeInfo typeInfo) {
@@ -47,4 +47,12 @@ public record FieldDescriptor(TypeInfo typeInfo,
     public FieldDescriptor withDependsOn(List<Trigger> dependsOn) {
         return new FieldDescriptor(typeInfo, nullable, enumValues, dependsOn);
     }
+
+    /** Returns a copy of this descriptor with {@code prefix} prepended to every trigger path. */
+    public FieldDescriptor withTriggerPrefix(String prefix) {
+        if (!isConditional()) {
+            return this;
+        }
+        return withDependsOn(dependsOn.stream().map(trigger -> trigger.withPrefix(prefix)).toList());
+    }
 }
@@ -0,0 +1,35 @@
+package com.consid.automation.camunda.internal.model;
+
+/**
+ * Global size ceilings applied to every payload regardless of what the spec
+ * declares. Each slot is null when that ceiling is disabled; {@link #NONE}
+ * disables all three and keeps the generated FEEL unchanged.
+ *
+ * <p>The rule generator renders the enabled ceilings as a cheap pre-check that
+ * runs before any per-field rule, so an oversized field is rejected without
+ * iterating its arrays or running regexes over its strings. Array element
+ * values have no path of their own; their ceilings run inside the quantifier
+ * body, ahead of each element's regex.
+ */
+public record PayloadLimits(Integer maxArrayItems,
+                            Integer maxStringLength,
+                            Integer maxObjectKeys) {
+
+    public static final PayloadLimits NONE = new PayloadLimits(null, null, null);
+
+    public boolean hasMaxArrayItems() {
+        return maxArrayItems != null;
+    }
+
+    public boolean hasMaxStringLength() {
+        return maxStringLength != null;
+    }
+
+    public boolean hasMaxObjectKeys() {
+        return maxObjectKeys != null;
+    }
+
+    public boolean isEmpty() {
+        return !hasMaxArrayItems() && !hasMaxStringLength() && !hasMaxObjectKeys();
+    }
+}
@@ -0,0 +1,19 @@
+package com.consid.automation.camunda.internal.model;
+
+import java.util.Objects;
+
+/**
+ * Static evaluation-cost estimate of one {@link ValidationRule}.
+ *
+ * <p>{@code clauses}, {@code regexes}, {@code quantifierDepth} and
+ * {@code largestEnum} describe the rendered expression as written;
+ * {@code score} weighs each clause by what it costs the FEEL engine and
+ * multiplies quantifier bodies by their assumed element count, so it grows
+ * with the per-payload work rather than the expression length.
+ */
+public record RuleCost(String ruleId, int clauses, int regexes, int quantifierDepth, int largestEnum, long score) {
+
+    public RuleCost {
+        Objects.requireNonNull(ruleId, "ruleId must not be null");
+    }
+}
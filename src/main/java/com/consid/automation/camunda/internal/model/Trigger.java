@@ -1,6 +1,11 @@
 package com.consid.automation.camunda.internal.model;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A conditional-requirement trigger. A field is required when at least one
@@ -17,6 +22,11 @@ import java.util.List;
  *
  * <p>{@code path} is a dot-path from the request body root. The FEEL renderer
  * prepends {@code req.} via {@link #withPrefix(String)} when emitting.
+ *
+ * <p>A trigger list is a disjunction. {@link #normalize(List)} reduces it to
+ * one entry per path: duplicates collapse, value triggers on the same path
+ * merge their literals, and a presence trigger absorbs the non-null literals
+ * of a value trigger on its path ({@code a!=null or a="x"} is just {@code a!=null}).
  */
 public sealed interface Trigger permits PresenceTrigger, ValueTrigger {
 
@@ -32,4 +42,35 @@ public sealed interface Trigger permits PresenceTrigger, ValueTrigger {
     static Trigger value(String path, List<FeelLiteral> allowedValues) {
         return new ValueTrigger(path, allowedValues);
     }
+
+    /**
+     * Returns the deduplicated, subsumption-reduced form of a trigger
+     * disjunction, in one pass. Paths keep the position of their first
+     * occurrence; a list already in normal form is returned unchanged.
+     */
+    static List<Trigger> normalize(List<Trigger> triggers) {
+        if (triggers.size() < 2) {
+            return triggers;
+        }
+        Map<String, Set<FeelLiteral>> valuesByPath = new LinkedHashMap<>();
+        Set<String> present = new LinkedHashSet<>();
+        for (Trigger trigger : triggers) {
+            Set<FeelLiteral> values = valuesByPath.computeIfAbsent(trigger.path(), path -> new LinkedHashSet<>());
+            switch (trigger) {
+                case PresenceTrigger p -> present.add(p.path());
+                case ValueTrigger v -> values.addAll(v.allowedValues());
+            }
+        }
+        List<Trigger> normalized = new ArrayList<>(valuesByPath.size());
+        valuesByPath.forEach((path, values) -> {
+            if (present.contains(path)) {
+                normalized.add(presence(path));
+                values.removeIf(value -> !(value instanceof FeelNull));
+            }
+            if (!values.isEmpty()) {
+                normalized.add(value(path, List.copyOf(values)));
+            }
+        });
+        return normalized.equals(triggers) ? triggers : List.copyOf(normalized);
+    }
 }
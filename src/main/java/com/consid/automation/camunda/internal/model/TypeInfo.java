@@ -11,5 +11,5 @@ package com.consid.automation.camunda.internal.model;
  */
 public sealed interface TypeInfo
     permits StringTypeInfo, NumberTypeInfo, BooleanTypeInfo,
-            ArrayTypeInfo, ObjectTypeInfo, UnknownTypeInfo {
+            ArrayTypeInfo, ObjectTypeInfo, UnknownTypeInfo, UnsatisfiableTypeInfo {
 }
@@ -0,0 +1,18 @@
+package com.consid.automation.camunda.internal.model;
+
+import java.util.Objects;
+
+/**
+ * Marks a field whose declared constraints contradict each other (e.g.
+ * {@code minLength > maxLength}), so no non-null value can ever be valid. The
+ * expression builder renders it as a constant violation instead of emitting
+ * clauses that would only be evaluated to reach the same verdict.
+ *
+ * <p>{@code reason} names the contradiction for diagnostics.
+ */
+public record UnsatisfiableTypeInfo(String reason) implements TypeInfo {
+
+    public UnsatisfiableTypeInfo {
+        Objects.requireNonNull(reason, "reason");
+    }
+}
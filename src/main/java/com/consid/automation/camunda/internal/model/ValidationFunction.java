@@ -0,0 +1,16 @@
+package com.consid.automation.camunda.internal.model;
+
+import java.util.Objects;
+
+/**
+ * Immutable representation of a shared validator for a reused component: a
+ * named definition rendered once per endpoint and invoked by
+ * {@link ValidationRule}s at each of the component's use sites.
+ */
+public record ValidationFunction(String name, String definition) {
+
+    public ValidationFunction {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(definition, "definition must not be null");
+    }
+}
@@ -4,8 +4,12 @@ import java.util.Objects;
 
 /**
  * Immutable representation of a single validation rule.
+ *
+ * <p>{@code ceilingExpression} is the optional size pre-check for the rule's
+ * field (true when the value exceeds a global {@link PayloadLimits} ceiling);
+ * null when no ceiling applies.
  */
-public record ValidationRule(String id, String invalidExpression, String fieldPath) {
+public record ValidationRule(String id, String invalidExpression, String fieldPath, String ceilingExpression) {
 
     public ValidationRule {
         Objects.requireNonNull(id, "id must not be null");
@@ -14,6 +18,15 @@ public record ValidationRule(String id, String invalidExpression, String fieldPa
     }
 
     public static ValidationRule create(String id, String invalidExpression, String fieldPath) {
-        return new ValidationRule(id, invalidExpression, fieldPath);
+        return new ValidationRule(id, invalidExpression, fieldPath, null);
+    }
+
+    public static ValidationRule create(String id, String invalidExpression, String fieldPath,
+                                        String ceilingExpression) {
+        return new ValidationRule(id, invalidExpression, fieldPath, ceilingExpression);
+    }
+
+    public boolean hasCeiling() {
+        return ceilingExpression != null;
     }
 }
@@ -0,0 +1,163 @@
+package com.consid.automation.camunda.internal.openapi;
+
+import com.consid.automation.camunda.internal.model.FieldDescriptor;
+import com.consid.automation.camunda.internal.model.Trigger;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which component use sites collapse into a call to a shared
+ * validator instead of being inlined as one rule per inner field.
+ *
+ * <p>A component qualifies once it is expanded at {@code threshold} or more
+ * field paths across all scanned endpoints. A use site is only collapsed when
+ * its inlined fields are exactly the component's own fields re-rooted at the
+ * site, descriptors included — a recursion cut short by an ancestor on the
+ * stack, for example, would otherwise validate more deeply through the
+ * function than inline, and a trigger or constraint that only the site adds
+ * would be lost in the call.
+ *
+ * <p>Endpoint fields reach {@link #callSites} already simplified, so the
+ * component's own fields go through the same simplifier before they are
+ * compared, and {@link #componentFields} hands out that simplified form for
+ * the function body.
+ */
+public final class ComponentReuse {
+
+    private static final ComponentReuse NONE = new ComponentReuse(null, UnaryOperator.identity(), Set.of());
+
+    private final RequiredFieldsExtractor extractor;
+    private final UnaryOperator<Map<String, FieldDescriptor>> simplifier;
+    private final Set<String> reusedComponents;
+    private final Map<String, Map<String, FieldDescriptor>> componentFields = new HashMap<>();
+
+    private ComponentReuse(RequiredFieldsExtractor extractor,
+                           UnaryOperator<Map<String, FieldDescriptor>> simplifier,
+                           Set<String> reusedComponents) {
+        this.extractor = extractor;
+        this.simplifier = simplifier;
+        this.reusedComponents = reusedComponents;
+    }
+
+    /** Every component stays inlined. */
+    public static ComponentReuse none() {
+        return NONE;
+    }
+
+    /**
+     * @param simplifier the rewrite {@code results} went through after
+     *                   extraction, applied to each component's own fields
+     */
+    public static ComponentReuse analyze(RequiredFieldsExtractor extractor,
+                                         Collection<ExtractionResult> results,
+                                         int threshold,
+                                         UnaryOperator<Map<String, FieldDescriptor>> simplifier) {
+        Map<String, Integer> useCounts = new HashMap<>();
+        for (ExtractionResult result : results) {
+            result.componentRefs().forEach((path, component) -> {
+                if (!fieldsUnder(result.requiredFields(), path).isEmpty()) {
+                    useCounts.merge(component, 1, Integer::sum);
+                }
+            });
+        }
+        Set<String> reused = useCounts.entrySet().stream()
+            .filter(entry -> entry.getValue() >= threshold)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toCollection(TreeSet::new));
+        return new ComponentReuse(extractor, simplifier, reused);
+    }
+
+    public Set<String> reusedComponents() {
+        return reusedComponents;
+    }
+
+    /**
+     * Outermost use sites of reused components in {@code result}, path → component.
+     * Uses nested inside another collapsed site are covered by that site's function.
+     */
+    public Map<String, String> callSites(ExtractionResult result) {
+        Map<String, String> sites = new LinkedHashMap<>();
+        if (reusedComponents.isEmpty()) {
+            return sites;
+        }
+        result.componentRefs().forEach((path, component) -> {
+            if (reusedComponents.contains(component)
+                && enclosingCallSite(path, sites) == null
+                && matchesComponent(result.requiredFields(), path, component)) {
+                sites.put(path, component);
+            }
+        });
+        return sites;
+    }
+
+    /** The component's own required fields, simplified and keyed relative to the component root. */
+    public Map<String, FieldDescriptor> componentFields(String component) {
+        return componentFields.computeIfAbsent(component,
+            name -> simplifier.apply(extractor.extractComponent(name).requiredFields()));
+    }
+
+    /**
+     * Returns the call site {@code fieldPath} lies strictly inside, or null.
+     * Shallowest first, so with nested sites the outermost wins.
+     */
+    public static String enclosingCallSite(String fieldPath, Map<String, String> callSites) {
+        for (int dot = fieldPath.indexOf('.'); dot >= 0; dot = fieldPath.indexOf('.', dot + 1)) {
+            String ancestor = fieldPath.substring(0, dot);
+            if (callSites.containsKey(ancestor)) {
+                return ancestor;
+            }
+        }
+        return null;
+    }
+
+    private boolean matchesComponent(Map<String, FieldDescriptor> requiredFields, String path, String component) {
+        Set<String> inlined = fieldsUnder(requiredFields, path);
+        Map<String, FieldDescriptor> own = componentFields(component);
+        if (inlined.isEmpty() || inlined.size() != own.size()) {
+            return false;
+        }
+        FieldDescriptor site = requiredFields.get(path);
+        List<Trigger> siteTriggers = site == null ? List.of() : site.dependsOn();
+        for (Map.Entry<String, FieldDescriptor> entry : own.entrySet()) {
+            FieldDescriptor expected = rerooted(entry.getValue(), path, siteTriggers);
+            if (expected == null || !expected.equals(requiredFields.get(path + "." + entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The descriptor the extractor inlines at {@code path} for a component
+     * field: its triggers re-rooted at the site, after the site's own. Null
+     * when a conditional field sits under a conditional site — inline the two
+     * trigger lists are one disjunction, while the call guards the function's
+     * own triggers with the site's.
+     */
+    private static FieldDescriptor rerooted(FieldDescriptor descriptor, String path, List<Trigger> siteTriggers) {
+        if (!descriptor.isConditional()) {
+            return siteTriggers.isEmpty() ? descriptor : descriptor.withDependsOn(siteTriggers);
+        }
+        if (!siteTriggers.isEmpty()) {
+            return null;
+        }
+        return descriptor.withDependsOn(descriptor.dependsOn().stream()
+            .map(trigger -> trigger.withPrefix(path + "."))
+            .toList());
+    }
+
+    private static Set<String> fieldsUnder(Map<String, FieldDescriptor> requiredFields, String path) {
+        String prefix = path + ".";
+        return requiredFields.keySet().stream()
+            .filter(key -> key.startsWith(prefix))
+            .collect(Collectors.toSet());
+    }
+}
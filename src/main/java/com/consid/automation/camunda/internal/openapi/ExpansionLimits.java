@@ -0,0 +1,29 @@
+package com.consid.automation.camunda.internal.openapi;
+
+/**
+ * Bounds on how far the extractor walks a schema graph.
+ *
+ * <ul>
+ *   <li>{@code maxValidationDepth} — null keeps the default behaviour of
+ *       validating a recursive schema to its first level only. When set,
+ *       recursion is unrolled and every nested object / array-item level up to
+ *       this many field-path segments is validated; deeper required fields are
+ *       dropped with a warning.</li>
+ *   <li>{@code maxExpandedNodes} — null leaves the walk unbudgeted. When set,
+ *       the ceiling on schema nodes expanded for one endpoint, checked up front
+ *       against a memoized estimate and again while walking, so a pathological
+ *       spec fails fast instead of stalling the build.</li>
+ * </ul>
+ */
+public record ExpansionLimits(Integer maxValidationDepth, Integer maxExpandedNodes) {
+
+    public static final ExpansionLimits DEFAULT = new ExpansionLimits(null, null);
+
+    public boolean isDepthBounded() {
+        return maxValidationDepth != null;
+    }
+
+    public boolean hasNodeBudget() {
+        return maxExpandedNodes != null;
+    }
+}
@@ -17,17 +17,37 @@ import java.util.Map;
  *   <li>{@code rootClosure} — non-null when the root schema declares
  *       {@code additionalProperties: false}, carrying the closed set of
  *       allowed top-level keys. Null otherwise.</li>
+ *   <li>{@code componentRefs} — path → component name for every required
+ *       object property whose inner fields were expanded from a
+ *       {@code #/components/schemas/} reference. Lets the generator collapse
+ *       a heavily reused component into one shared function call.</li>
+ *   <li>{@code expandedNodes} — how many schema nodes the walk expanded;
+ *       reported so authors can see which endpoints are expensive to build.</li>
  * </ul>
  *
  * <p>The rule generator handles each separately: required fields become per-field
  * rules; the root closure becomes one extra "no unexpected top-level keys" rule.
  */
 public record ExtractionResult(Map<String, FieldDescriptor> requiredFields,
-                               ObjectTypeInfo rootClosure) {
+                               ObjectTypeInfo rootClosure,
+                               Map<String, String> componentRefs,
+                               int expandedNodes) {
 
     public ExtractionResult {
         // Preserve iteration order — downstream rule rendering depends on it.
         requiredFields = Collections.unmodifiableMap(new LinkedHashMap<>(requiredFields));
+        componentRefs = componentRefs == null
+            ? Map.of()
+            : Collections.unmodifiableMap(new LinkedHashMap<>(componentRefs));
+    }
+
+    public ExtractionResult(Map<String, FieldDescriptor> requiredFields, ObjectTypeInfo rootClosure) {
+        this(requiredFields, rootClosure, Map.of(), 0);
+    }
+
+    /** Returns a copy carrying the given required fields, preserving all other components. */
+    public ExtractionResult withRequiredFields(Map<String, FieldDescriptor> requiredFields) {
+        return new ExtractionResult(requiredFields, rootClosure, componentRefs, expandedNodes);
     }
 
     public boolean hasRootClosure() {
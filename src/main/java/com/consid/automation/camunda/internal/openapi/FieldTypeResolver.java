@@ -8,6 +8,10 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
@@ -49,16 +53,39 @@ public class FieldTypeResolver {
     /**
      * Build a {@link FieldDescriptor} for the given schema, resolving any
      * {@code $ref} first.
+     *
+     * <p>Nested arrays are resolved without recursion: the {@code items} chain
+     * is walked down to its innermost element and the array descriptors are
+     * then wrapped around it from the inside out. An array whose items lead
+     * back to itself ends the chain with an unknown element type.
      */
     public FieldDescriptor resolve(Schema<?> schema) {
-        if (schema == null) {
-            return FieldDescriptor.of(UnknownTypeInfo.INSTANCE);
+        Deque<Schema<?>> arrays = new ArrayDeque<>();
+        Set<Schema<?>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        FieldDescriptor descriptor = FieldDescriptor.of(UnknownTypeInfo.INSTANCE);
+        Schema<?> current = schema;
+        while (current != null) {
+            Schema<?> resolved = resolveSchemaReference(current);
+            if (!isArray(resolved) || resolved.getItems() == null) {
+                descriptor = describe(resolved, typeInfoFor(resolved));
+                break;
+            }
+            if (!seen.add(resolved)) {
+                break;
+            }
+            arrays.push(resolved);
+            current = resolved.getItems();
+        }
+        while (!arrays.isEmpty()) {
+            Schema<?> array = arrays.pop();
+            descriptor = describe(array,
+                new ArrayTypeInfo(array.getMinItems(), array.getMaxItems(), descriptor, Map.of()));
         }
-        Schema<?> resolved = resolveSchemaReference(schema);
-        TypeInfo typeInfo = typeInfoFor(resolved);
-        boolean nullable = isNullable(resolved);
-        List<FeelLiteral> enumValues = enumValuesFrom(resolved);
-        return new FieldDescriptor(typeInfo, nullable, enumValues, List.of());
+        return descriptor;
+    }
+
+    private FieldDescriptor describe(Schema<?> resolved, TypeInfo typeInfo) {
+        return new FieldDescriptor(typeInfo, isNullable(resolved), enumValuesFrom(resolved), List.of());
     }
 
     /**
@@ -70,21 +97,37 @@ public class FieldTypeResolver {
         if (schema == null) {
             return null;
         }
-        String ref = schema.get$ref();
-        if (ref == null || !ref.startsWith(SCHEMA_PATH_PREFIX)) {
+        String schemaName = componentName(schema);
+        if (schemaName == null) {
             return schema;
         }
-        String schemaName = ref.substring(SCHEMA_PATH_PREFIX.length());
-        Components components = openAPI.getComponents();
-        @SuppressWarnings("rawtypes")
-        Map<String, Schema> schemas = components == null ? null : components.getSchemas();
-        Schema<?> resolved = schemas == null ? null : schemas.get(schemaName);
+        Schema<?> resolved = componentSchema(schemaName);
         if (resolved == null) {
-            throw new IllegalStateException("Unresolved $ref: " + ref);
+            throw new IllegalStateException("Unresolved $ref: " + schema.get$ref());
         }
         return resolved;
     }
 
+    /**
+     * Name of the {@code #/components/schemas/} entry the schema points at, or
+     * null when it is an inline schema (or references something else).
+     */
+    public String componentName(Schema<?> schema) {
+        String ref = schema == null ? null : schema.get$ref();
+        if (ref == null || !ref.startsWith(SCHEMA_PATH_PREFIX)) {
+            return null;
+        }
+        return ref.substring(SCHEMA_PATH_PREFIX.length());
+    }
+
+    /** Looks up a component schema by name; null when the document has no such component. */
+    public Schema<?> componentSchema(String schemaName) {
+        Components components = openAPI.getComponents();
+        @SuppressWarnings("rawtypes")
+        Map<String, Schema> schemas = components == null ? null : components.getSchemas();
+        return schemas == null ? null : schemas.get(schemaName);
+    }
+
     private TypeInfo typeInfoFor(Schema<?> schema) {
         String primary = primaryType(schema);
         if (primary == null) {
@@ -161,9 +204,9 @@ public class FieldTypeResolver {
         return new NumberTypeInfo(inclusiveMin, exclusiveMin, inclusiveMax, exclusiveMax, schema.getMultipleOf());
     }
 
+    /** Array without {@code items}; arrays with items are assembled in {@link #resolve}. */
     private ArrayTypeInfo arrayTypeInfo(Schema<?> schema) {
-        FieldDescriptor items = schema.getItems() == null ? null : resolve(schema.getItems());
-        return new ArrayTypeInfo(schema.getMinItems(), schema.getMaxItems(), items, Map.of());
+        return new ArrayTypeInfo(schema.getMinItems(), schema.getMaxItems(), null, Map.of());
     }
 
     /**
@@ -252,6 +295,11 @@ public class FieldTypeResolver {
         return types.stream().anyMatch(t -> "null".equalsIgnoreCase(t));
     }
 
+    private boolean isArray(Schema<?> schema) {
+        String primary = primaryType(schema);
+        return primary != null && "array".equalsIgnoreCase(primary);
+    }
+
     private boolean schemaIndicatesObject(Schema<?> schema) {
         return schema.getProperties() != null
             || schema.getRequired() != null
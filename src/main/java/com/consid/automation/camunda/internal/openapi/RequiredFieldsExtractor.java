@@ -6,40 +6,70 @@ import com.consid.automation.camunda.internal.model.*;
 import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.Schema;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Walks an OpenAPI schema and produces a path-keyed map of {@link FieldDescriptor}s
  * for everything the FEEL generator must enforce: direct required fields,
  * dependent-required dependents, if/then dependents, discriminated oneOf
  * branches, and nested-object inner required fields with trigger inheritance.
+ *
+ * <p>The traversal runs on an explicit work stack rather than Java call
+ * frames, so schema nesting depth is bounded by heap (and the expansion
+ * limits), not by the thread stack size.
  */
 public class RequiredFieldsExtractor {
 
     private final FieldTypeResolver typeResolver;
     private final Diagnostics diagnostics;
+    private final ExpansionLimits limits;
 
     public RequiredFieldsExtractor(FieldTypeResolver typeResolver) {
         this(typeResolver, Diagnostics.NOOP);
     }
 
     public RequiredFieldsExtractor(FieldTypeResolver typeResolver, Diagnostics diagnostics) {
+        this(typeResolver, diagnostics, ExpansionLimits.DEFAULT);
+    }
+
+    public RequiredFieldsExtractor(FieldTypeResolver typeResolver, Diagnostics diagnostics, ExpansionLimits limits) {
         this.typeResolver = typeResolver;
         this.diagnostics = diagnostics;
+        this.limits = limits;
     }
 
     public ExtractionResult extract(Schema<?> schema) {
         Map<String, FieldDescriptor> requiredFields = new LinkedHashMap<>();
-        Set<Schema<?>> activeStack = Collections.newSetFromMap(new IdentityHashMap<>());
-        collectRequiredFields(schema, requiredFields, "", activeStack, List.of());
-        return new ExtractionResult(requiredFields, rootClosureFor(schema));
+        Walk walk = new Walk();
+        collectRequiredFields(schema, requiredFields, "", walk, List.of());
+        walk.run();
+        walk.reportDepthCuts();
+        return new ExtractionResult(requiredFields, rootClosureFor(schema),
+            walk.unambiguousComponentRefs(), walk.expandedNodes);
+    }
+
+    /**
+     * Extracts a named component on its own, with paths relative to the
+     * component root. Used to build the body of a shared component function.
+     */
+    public ExtractionResult extractComponent(String componentName) {
+        Schema<?> component = typeResolver.componentSchema(componentName);
+        if (component == null) {
+            throw new IllegalStateException("Unresolved component: " + componentName);
+        }
+        return extract(component);
     }
 
     /**
@@ -60,15 +90,19 @@ public class RequiredFieldsExtractor {
     }
 
     /**
-     * Recursively collects required fields from a schema.
-     * {@code activeStack} tracks schemas currently on the recursion path so a
-     * self-referential schema terminates while a component reused at multiple
-     * field paths is still expanded each time. {@code inheritedTriggers} carry
+     * Collects required fields from a schema. Entering the schema happens
+     * immediately; its parts are scheduled on the walk's work stack in the
+     * order a depth-first recursion would visit them, so map insertion order
+     * (and therefore rule order) is independent of the traversal mechanism.
+     * {@code walk} tracks schemas currently on the expansion path so a
+     * self-referential schema terminates (or, with a depth bound, unrolls until
+     * the bound) while a component reused at multiple field paths is still
+     * expanded each time. {@code inheritedTriggers} carry
      * conditional triggers from an ancestor down into a nested object's required
      * fields.
      */
     private void collectRequiredFields(Schema<?> schema, Map<String, FieldDescriptor> requiredFields,
-                                       String pathPrefix, Set<Schema<?>> activeStack,
+                                       String pathPrefix, Walk walk,
                                        List<Trigger> inheritedTriggers) {
         if (schema == null) {
             return;
@@ -77,42 +111,42 @@ public class RequiredFieldsExtractor {
         if (schema == null) {
             return;
         }
-        if (!activeStack.add(schema)) {
+        if (!walk.enter(schema)) {
             return;
         }
-        try {
-            processDirectRequiredFields(schema, requiredFields, pathPrefix, inheritedTriggers);
-            processDependentRequired(schema, requiredFields, pathPrefix, inheritedTriggers);
-            processConditional(schema, requiredFields, pathPrefix, inheritedTriggers);
-            processComposition(schema.getAllOf(), requiredFields, pathPrefix, activeStack, inheritedTriggers);
-            processOneOf(schema, requiredFields, pathPrefix, activeStack, inheritedTriggers);
-            processComposition(schema.getAnyOf(), requiredFields, pathPrefix, activeStack, inheritedTriggers);
-            processNestedProperties(schema, requiredFields, pathPrefix, activeStack);
-        } finally {
-            activeStack.remove(schema);
-        }
+        // Scheduled in reverse: the work stack runs the last push first.
+        Schema<?> entered = schema;
+        walk.then(() -> walk.exit(entered));
+        walk.then(() -> processNestedProperties(entered, requiredFields, pathPrefix, walk));
+        walk.then(() -> processComposition(entered.getAnyOf(), requiredFields, pathPrefix, walk, inheritedTriggers));
+        walk.then(() -> processOneOf(entered, requiredFields, pathPrefix, walk, inheritedTriggers));
+        walk.then(() -> processComposition(entered.getAllOf(), requiredFields, pathPrefix, walk, inheritedTriggers));
+        walk.then(() -> processConditional(entered, requiredFields, pathPrefix, walk, inheritedTriggers));
+        walk.then(() -> processDependentRequired(entered, requiredFields, pathPrefix, walk, inheritedTriggers));
+        walk.then(() -> processDirectRequiredFields(entered, requiredFields, pathPrefix, walk, inheritedTriggers));
     }
 
     private void processDirectRequiredFields(Schema<?> schema, Map<String, FieldDescriptor> requiredFields,
-                                             String pathPrefix, List<Trigger> inheritedTriggers) {
+                                             String pathPrefix, Walk walk, List<Trigger> inheritedTriggers) {
         if (schema.getRequired() == null || schema.getProperties() == null) {
             return;
         }
         List<String> requiredFieldsList = new ArrayList<>(schema.getRequired());
         Collections.sort(requiredFieldsList);
         var properties = schema.getProperties();
-        for (String requiredField : requiredFieldsList) {
+        walk.each(requiredFieldsList, requiredField -> {
             String fullFieldPath = buildFieldPath(pathPrefix, requiredField);
             if (requiredFields.containsKey(fullFieldPath)) {
-                continue;
+                return;
             }
             Schema<?> propertySchema = properties.get(requiredField);
-            FieldDescriptor base = enrichArrayItems(typeResolver.resolve(propertySchema), propertySchema);
-            FieldDescriptor descriptor = inheritedTriggers.isEmpty()
-                ? base
-                : base.withDependsOn(inheritedTriggers);
-            requiredFields.put(fullFieldPath, descriptor);
-        }
+            enrichArrayItems(typeResolver.resolve(propertySchema), propertySchema, fullFieldPath, walk, base -> {
+                FieldDescriptor descriptor = inheritedTriggers.isEmpty()
+                    ? base
+                    : base.withDependsOn(inheritedTriggers);
+                requiredFields.put(fullFieldPath, descriptor);
+            });
+        });
     }
 
     /**
@@ -120,31 +154,40 @@ public class RequiredFieldsExtractor {
      * them to the descriptor's {@link ArrayTypeInfo}. Without this, an array of
      * objects passes validation as long as the list is well-typed — the
      * element-level required-field checks never get emitted.
+     *
+     * <p>Items share the enclosing walk: an element schema that is already being
+     * expanded (a category whose {@code children} are categories) is a cycle
+     * like any other, and counts one level towards the depth bound.
+     *
+     * <p>The enriched descriptor is handed to {@code sink} once the item walk
+     * has drained — immediately when there is nothing to walk.
      */
-    private FieldDescriptor enrichArrayItems(FieldDescriptor descriptor, Schema<?> propertySchema) {
+    private void enrichArrayItems(FieldDescriptor descriptor, Schema<?> propertySchema,
+                                  String fieldPath, Walk walk, Consumer<FieldDescriptor> sink) {
         if (!(descriptor.typeInfo() instanceof ArrayTypeInfo array)) {
-            return descriptor;
+            sink.accept(descriptor);
+            return;
         }
         Schema<?> items = propertySchema == null ? null : propertySchema.getItems();
-        if (items == null) {
-            return descriptor;
+        if (items == null || !walk.canDescend(fieldPath)) {
+            sink.accept(descriptor);
+            return;
         }
-        Map<String, FieldDescriptor> itemRequired = extractItemRequiredFields(items);
-        return descriptor.withTypeInfo(new ArrayTypeInfo(
-            array.minItems(), array.maxItems(), array.items(), itemRequired));
-    }
-
-    private Map<String, FieldDescriptor> extractItemRequiredFields(Schema<?> itemsSchema) {
-        Map<String, FieldDescriptor> inner = new LinkedHashMap<>();
-        Set<Schema<?>> innerStack = Collections.newSetFromMap(new IdentityHashMap<>());
-        collectRequiredFields(itemsSchema, inner, "", innerStack, List.of());
-        return inner;
+        Map<String, FieldDescriptor> itemRequired = new LinkedHashMap<>();
+        walk.descend(true);
+        walk.then(() -> {
+            walk.ascend(true);
+            sink.accept(descriptor.withTypeInfo(new ArrayTypeInfo(
+                array.minItems(), array.maxItems(), array.items(), itemRequired)));
+        });
+        collectRequiredFields(items, itemRequired, "", walk, List.of());
     }
 
     @SuppressWarnings("rawtypes")
     private void processDependentRequired(Schema<?> schema,
                                           Map<String, FieldDescriptor> requiredFields,
                                           String pathPrefix,
+                                          Walk walk,
                                           List<Trigger> inheritedTriggers) {
         Map<String, List<String>> dependentRequired = schema.getDependentRequired();
         if (dependentRequired == null || dependentRequired.isEmpty()) {
@@ -156,14 +199,17 @@ public class RequiredFieldsExtractor {
         }
         List<String> triggers = new ArrayList<>(dependentRequired.keySet());
         Collections.sort(triggers);
+        List<Map.Entry<Trigger, String>> pairs = new ArrayList<>();
         for (String trigger : triggers) {
             Trigger presence = Trigger.presence(buildFieldPath(pathPrefix, trigger));
             List<String> dependents = new ArrayList<>(dependentRequired.get(trigger));
             Collections.sort(dependents);
             for (String dependent : dependents) {
-                addConditional(properties, dependent, presence, pathPrefix, requiredFields, inheritedTriggers);
+                pairs.add(Map.entry(presence, dependent));
             }
         }
+        walk.each(pairs, pair -> addConditional(
+            properties, pair.getValue(), pair.getKey(), pathPrefix, requiredFields, walk, inheritedTriggers));
     }
 
     /**
@@ -176,6 +222,7 @@ public class RequiredFieldsExtractor {
     private void processConditional(Schema<?> schema,
                                     Map<String, FieldDescriptor> requiredFields,
                                     String pathPrefix,
+                                    Walk walk,
                                     List<Trigger> inheritedTriggers) {
         Schema<?> ifSchema = schema.getIf();
         Schema<?> thenSchema = schema.getThen();
@@ -200,9 +247,8 @@ public class RequiredFieldsExtractor {
         }
         List<String> dependents = new ArrayList<>(thenRequired);
         Collections.sort(dependents);
-        for (String dependent : dependents) {
-            addConditional(properties, dependent, trigger, pathPrefix, requiredFields, inheritedTriggers);
-        }
+        walk.each(dependents, dependent ->
+            addConditional(properties, dependent, trigger, pathPrefix, requiredFields, walk, inheritedTriggers));
     }
 
     /** Pulls a value trigger out of a supported {@code if} subschema, or null when the shape isn't handled. */
@@ -245,6 +291,7 @@ public class RequiredFieldsExtractor {
                                 Trigger trigger,
                                 String pathPrefix,
                                 Map<String, FieldDescriptor> requiredFields,
+                                Walk walk,
                                 List<Trigger> inheritedTriggers) {
         String fieldPath = buildFieldPath(pathPrefix, fieldName);
         FieldDescriptor existing = requiredFields.get(fieldPath);
@@ -253,20 +300,21 @@ public class RequiredFieldsExtractor {
             return;
         }
         if (existing != null) {
-            // Multiple triggers for the same field: OR-merge them.
-            if (existing.dependsOn().contains(trigger)) {
-                return;
-            }
-            List<Trigger> merged = new ArrayList<>(existing.dependsOn());
+            // Multiple triggers for the same field: OR-merge them (normalized by the descriptor).
+            List<Trigger> merged = new ArrayList<>(existing.dependsOn().size() + 1);
+            merged.addAll(existing.dependsOn());
             merged.add(trigger);
-            requiredFields.put(fieldPath, existing.withDependsOn(merged));
+            FieldDescriptor updated = existing.withDependsOn(merged);
+            if (!updated.dependsOn().equals(existing.dependsOn())) {
+                requiredFields.put(fieldPath, updated);
+            }
             return;
         }
         Schema<?> propertySchema = properties.get(fieldName);
-        FieldDescriptor base = enrichArrayItems(typeResolver.resolve(propertySchema), propertySchema);
         List<Trigger> dependsOn = new ArrayList<>(inheritedTriggers);
         dependsOn.add(trigger);
-        requiredFields.put(fieldPath, base.withDependsOn(dependsOn));
+        enrichArrayItems(typeResolver.resolve(propertySchema), propertySchema, fieldPath, walk,
+            base -> requiredFields.put(fieldPath, base.withDependsOn(dependsOn)));
     }
 
     /**
@@ -277,7 +325,7 @@ public class RequiredFieldsExtractor {
      * falls back to union-merge so existing fixtures keep working.
      */
     private void processOneOf(Schema<?> schema, Map<String, FieldDescriptor> requiredFields,
-                              String pathPrefix, Set<Schema<?>> activeStack,
+                              String pathPrefix, Walk walk,
                               List<Trigger> inheritedTriggers) {
         List<?> oneOf = schema.getOneOf();
         if (oneOf == null || oneOf.isEmpty()) {
@@ -291,7 +339,7 @@ public class RequiredFieldsExtractor {
                 "oneOf without `discriminator.mapping` falls back to union-merge "
                     + "(all branches' required fields are accumulated, which is stricter than the spec implies); "
                     + "add a `discriminator` with explicit `mapping` to scope branch fields to their type value");
-            processComposition(oneOf, requiredFields, pathPrefix, activeStack, inheritedTriggers);
+            processComposition(oneOf, requiredFields, pathPrefix, walk, inheritedTriggers);
             return;
         }
         String discriminatorPath = buildFieldPath(pathPrefix, propertyName);
@@ -301,23 +349,23 @@ public class RequiredFieldsExtractor {
         Map<String, String> refToValue = new HashMap<>();
         mapping.forEach((value, ref) -> refToValue.put(ref, value));
 
-        for (Object element : oneOf) {
+        walk.each(oneOf, element -> {
             if (!(element instanceof Schema<?> branch)) {
-                continue;
+                return;
             }
             String ref = branch.get$ref();
             String discriminatorValue = ref == null ? null : refToValue.get(ref);
             if (discriminatorValue == null) {
                 // Branch not in mapping — union-merge fallback for that branch alone.
-                collectRequiredFields(branch, requiredFields, pathPrefix, activeStack, inheritedTriggers);
+                collectRequiredFields(branch, requiredFields, pathPrefix, walk, inheritedTriggers);
             } else {
                 Trigger branchTrigger = Trigger.value(
                     discriminatorPath, List.of(new FeelString(discriminatorValue)));
                 List<Trigger> branchTriggers = new ArrayList<>(inheritedTriggers);
                 branchTriggers.add(branchTrigger);
-                collectRequiredFields(branch, requiredFields, pathPrefix, activeStack, branchTriggers);
+                collectRequiredFields(branch, requiredFields, pathPrefix, walk, branchTriggers);
             }
-        }
+        });
     }
 
     /**
@@ -342,16 +390,16 @@ public class RequiredFieldsExtractor {
     }
 
     private void processComposition(List<?> schemas, Map<String, FieldDescriptor> requiredFields,
-                                    String pathPrefix, Set<Schema<?>> activeStack,
+                                    String pathPrefix, Walk walk,
                                     List<Trigger> inheritedTriggers) {
         if (schemas == null || schemas.isEmpty()) {
             return;
         }
-        for (Object element : schemas) {
+        walk.each(schemas, element -> {
             if (element instanceof Schema<?> composedSchema) {
-                collectRequiredFields(composedSchema, requiredFields, pathPrefix, activeStack, inheritedTriggers);
+                collectRequiredFields(composedSchema, requiredFields, pathPrefix, walk, inheritedTriggers);
             }
-        }
+        });
     }
 
     /**
@@ -364,26 +412,166 @@ public class RequiredFieldsExtractor {
      */
     @SuppressWarnings("rawtypes") // Schema's API exposes Map<String, Schema> raw.
     private void processNestedProperties(Schema<?> schema, Map<String, FieldDescriptor> requiredFields,
-                                         String pathPrefix, Set<Schema<?>> activeStack) {
+                                         String pathPrefix, Walk walk) {
         Map<String, Schema> properties = schema.getProperties();
         if (properties == null) {
             return;
         }
         List<String> propertyNames = new ArrayList<>(properties.keySet());
         Collections.sort(propertyNames);
-        for (String propName : propertyNames) {
+        walk.each(propertyNames, propName -> {
             Schema<?> propSchema = properties.get(propName);
             String newPath = buildFieldPath(pathPrefix, propName);
             FieldDescriptor descriptor = typeResolver.resolve(propSchema);
             if (!(descriptor.typeInfo() instanceof ObjectTypeInfo)) {
-                continue;
+                return;
             }
             FieldDescriptor parent = requiredFields.get(newPath);
             if (parent == null) {
-                continue;
+                return;
+            }
+            if (!walk.canDescend(newPath)) {
+                return;
             }
             List<Trigger> downstream = parent.isConditional() ? parent.dependsOn() : List.of();
-            collectRequiredFields(propSchema, requiredFields, newPath, activeStack, downstream);
+            walk.recordComponentRef(newPath, typeResolver.componentName(propSchema));
+            walk.descend(false);
+            walk.then(() -> walk.ascend(false));
+            collectRequiredFields(propSchema, requiredFields, newPath, walk, downstream);
+        });
+    }
+
+    /**
+     * Per-extraction traversal state.
+     *
+     * <p>{@code levels} holds the schemas on the recursion path. Unbounded, a
+     * single set spans every level, so any re-entry is a cycle and is cut.
+     * Depth-bounded, each nested object / items level gets its own set: a schema
+     * may recur further down (the bound terminates it) but not within one level,
+     * where a composition cycle like {@code A allOf [B]}, {@code B allOf [A]}
+     * would otherwise never descend.
+     *
+     * <p>{@code componentRefs} collects every component expanded at a path; a path
+     * reached through two different components (e.g. the same property in two
+     * {@code allOf} branches) mixes their fields and is dropped from the result.
+     * Refs inside array items are element-relative and not recorded.
+     *
+     * <p>{@code pending} is the work stack standing in for the call stack:
+     * each task runs to completion and pushes whatever must happen next, and
+     * a task pushed later runs earlier. {@link #each} keeps a loop's elements
+     * in order by rescheduling itself underneath the element being processed.
+     */
+    private final class Walk {
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private final Deque<Set<Schema<?>>> levels = new ArrayDeque<>();
+        private final Map<String, Set<String>> componentRefs = new LinkedHashMap<>();
+        private int depth;
+        private int itemScopes;
+        private final long budget = limits.hasNodeBudget() ? limits.maxExpandedNodes() : Long.MAX_VALUE;
+        private int expandedNodes;
+        private String firstDepthCut;
+        private int depthCuts;
+
+        private Walk() {
+            levels.push(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+
+        private void then(Runnable task) {
+            pending.push(task);
+        }
+
+        private <T> void each(List<T> elements, Consumer<T> action) {
+            Iterator<T> remaining = elements.iterator();
+            if (!remaining.hasNext()) {
+                return;
+            }
+            then(new Runnable() {
+                @Override
+                public void run() {
+                    T element = remaining.next();
+                    if (remaining.hasNext()) {
+                        then(this);
+                    }
+                    action.accept(element);
+                }
+            });
+        }
+
+        private void run() {
+            while (!pending.isEmpty()) {
+                pending.pop().run();
+            }
+        }
+
+        private boolean enter(Schema<?> schema) {
+            if (!levels.peek().add(schema)) {
+                return false;
+            }
+            if (++expandedNodes > budget) {
+                throw new IllegalStateException("schema expansion exceeded maxExpandedNodes ("
+                    + limits.maxExpandedNodes() + "); raise the budget or lower maxValidationDepth");
+            }
+            return true;
+        }
+
+        private void exit(Schema<?> schema) {
+            levels.peek().remove(schema);
+        }
+
+        /** Whether fields one level below {@code fieldPath} are still within the depth bound. */
+        private boolean canDescend(String fieldPath) {
+            if (!limits.isDepthBounded() || depth + 1 < limits.maxValidationDepth()) {
+                return true;
+            }
+            if (depthCuts++ == 0) {
+                firstDepthCut = fieldPath;
+            }
+            return false;
+        }
+
+        private void descend(boolean intoItems) {
+            depth++;
+            if (intoItems) {
+                itemScopes++;
+            }
+            if (limits.isDepthBounded()) {
+                levels.push(Collections.newSetFromMap(new IdentityHashMap<>()));
+            }
+        }
+
+        private void ascend(boolean fromItems) {
+            depth--;
+            if (fromItems) {
+                itemScopes--;
+            }
+            if (limits.isDepthBounded()) {
+                levels.pop();
+            }
+        }
+
+        private void recordComponentRef(String path, String componentName) {
+            if (componentName != null && itemScopes == 0) {
+                componentRefs.computeIfAbsent(path, p -> new LinkedHashSet<>()).add(componentName);
+            }
+        }
+
+        private void reportDepthCuts() {
+            if (depthCuts == 0) {
+                return;
+            }
+            diagnostics.warn(firstDepthCut, "maxValidationDepth (" + limits.maxValidationDepth()
+                + ") reached; required fields below this level are not validated"
+                + (depthCuts > 1 ? " (" + depthCuts + " locations)" : ""));
+        }
+
+        private Map<String, String> unambiguousComponentRefs() {
+            Map<String, String> refs = new LinkedHashMap<>();
+            componentRefs.forEach((path, names) -> {
+                if (names.size() == 1) {
+                    refs.put(path, names.iterator().next());
+                }
+            });
+            return refs;
         }
     }
 
@@ -0,0 +1,131 @@
+package com.consid.automation.camunda.internal.openapi;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The graph of {@code #/components/schemas} references in a parsed spec,
+ * used to tell which endpoints a spec edit can affect. An endpoint's
+ * {@linkplain #fingerprint fingerprint} covers its request body schema and
+ * every component schema reachable from it, through {@code $ref}s and
+ * discriminator mappings alike; an edit anywhere else leaves it unchanged.
+ */
+public final class SchemaDependencies {
+
+    private static final String COMPONENT_PREFIX = "#/components/schemas/";
+
+    private final ObjectMapper mapper = Json.mapper();
+    private final String version;
+    private final Map<String, String> jsonByComponent = new HashMap<>();
+    private final Map<String, Set<String>> referencesByComponent = new HashMap<>();
+
+    @SuppressWarnings("rawtypes")
+    public SchemaDependencies(OpenAPI openAPI) {
+        this.version = String.valueOf(openAPI.getOpenapi());
+        Map<String, Schema> schemas = openAPI.getComponents() == null ? null : openAPI.getComponents().getSchemas();
+        if (schemas != null) {
+            schemas.forEach((name, schema) -> {
+                JsonNode node = mapper.valueToTree(schema);
+                jsonByComponent.put(name, node.toString());
+                referencesByComponent.put(name, references(node));
+            });
+        }
+    }
+
+    /** The names of the component schemas {@code schema} reaches, directly or not, sorted. */
+    public Set<String> components(Schema<?> schema) {
+        Set<String> reached = new TreeSet<>();
+        Deque<String> pending = new ArrayDeque<>(references(mapper.valueToTree(schema)));
+        while (!pending.isEmpty()) {
+            String component = pending.pop();
+            if (jsonByComponent.containsKey(component) && reached.add(component)) {
+                pending.addAll(referencesByComponent.get(component));
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * A SHA-256 over the OpenAPI version, {@code schema} and the component
+     * schemas it reaches; equal fingerprints mean the extraction for the
+     * endpoint would come out the same.
+     */
+    public String fingerprint(Schema<?> schema) {
+        MessageDigest digest = sha256();
+        update(digest, version);
+        update(digest, mapper.valueToTree(schema).toString());
+        for (String component : components(schema)) {
+            update(digest, component);
+            update(digest, jsonByComponent.get(component));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Component names referenced anywhere in {@code node}: {@code $ref}
+     * values, and discriminator mapping values given as a reference or as a
+     * bare schema name.
+     */
+    private static Set<String> references(JsonNode node) {
+        Set<String> references = new HashSet<>();
+        Deque<JsonNode> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            JsonNode current = pending.pop();
+            if (current.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = current.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    JsonNode value = field.getValue();
+                    if ("$ref".equals(field.getKey()) && value.isTextual()) {
+                        addReference(references, value.asText());
+                    } else if ("mapping".equals(field.getKey()) && value.isObject()) {
+                        value.elements().forEachRemaining(target -> addReference(references, target.asText()));
+                    } else {
+                        pending.push(value);
+                    }
+                }
+            } else if (current.isArray()) {
+                current.elements().forEachRemaining(pending::push);
+            }
+        }
+        return references;
+    }
+
+    private static void addReference(Set<String> references, String reference) {
+        if (reference.startsWith(COMPONENT_PREFIX)) {
+            references.add(reference.substring(COMPONENT_PREFIX.length()));
+        } else if (!reference.contains("/") && !reference.contains("#")) {
+            references.add(reference);
+        }
+    }
+
+    private static void update(MessageDigest digest, String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.consid.automation.camunda.internal.openapi;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates, before any extraction runs, how many schema nodes
+ * {@link RequiredFieldsExtractor} would expand for an endpoint, and reports
+ * recursive schemas that are cut at their first level.
+ *
+ * <p>The extractor re-expands a shared component at every path that reaches
+ * it, so a DAG-shaped spec (A → 2×B → 4×C …) costs exponentially many nodes.
+ * The estimator walks the same edges — compositions at the same level, required
+ * object properties and array items one level down — but memoizes each
+ * (schema, depth) subtree, so the count of an exponential expansion is computed
+ * in time linear in the number of distinct schemas. Counts saturate at
+ * {@link Long#MAX_VALUE}.
+ *
+ * <p>A subtree whose count depended on a cycle cut is not memoized, since the
+ * same schema reached from elsewhere may not hit that cut. Required fields are
+ * read from each schema's own {@code required}, {@code dependentRequired} and
+ * {@code then.required}, which is close to — not exactly — what the extractor
+ * expands; the extractor enforces the same budget while walking as a backstop.
+ *
+ * <p>Like the extractor, the walk keeps its path on an explicit stack of
+ * frames, so arbitrarily deep specs cannot overflow the thread stack.
+ */
+public final class SchemaExpansionEstimator {
+
+    private final FieldTypeResolver typeResolver;
+    private final Diagnostics diagnostics;
+    private final ExpansionLimits limits;
+    private final Map<Schema<?>, Map<Integer, Long>> memo = new IdentityHashMap<>();
+    private final Set<String> reportedCycles = new HashSet<>();
+    private int pathLength;
+
+    public SchemaExpansionEstimator(FieldTypeResolver typeResolver, Diagnostics diagnostics, ExpansionLimits limits) {
+        this.typeResolver = typeResolver;
+        this.diagnostics = diagnostics;
+        this.limits = limits;
+    }
+
+    public long estimate(Schema<?> root) {
+        Map<Schema<?>, Map<Integer, Integer>> onPath = new IdentityHashMap<>();
+        Deque<Frame> stack = new ArrayDeque<>();
+        Count result = enter(new Edge(root, 0, "(root)"), onPath, stack);
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            if (frame.edges.hasNext()) {
+                Count leaf = enter(frame.edges.next(), onPath, stack);
+                if (leaf != null) {
+                    frame.total = frame.total.plus(leaf);
+                }
+                continue;
+            }
+            stack.pop();
+            Count total = leave(frame);
+            if (stack.isEmpty()) {
+                result = total;
+            } else {
+                stack.peek().total = stack.peek().total.plus(total);
+            }
+        }
+        return result.nodes();
+    }
+
+    /**
+     * {@code cutAt} is the path position of the shallowest on-path schema a
+     * cycle in this subtree was cut at ({@link Integer#MAX_VALUE} for none).
+     * A subtree is context-free, and so memoizable, when every cut points at
+     * itself or below.
+     */
+    private record Count(long nodes, int cutAt) {
+        static final Count NONE = new Count(0, Integer.MAX_VALUE);
+
+        Count plus(Count other) {
+            long sum = nodes + other.nodes;
+            return new Count(sum < 0 ? Long.MAX_VALUE : sum, Math.min(cutAt, other.cutAt));
+        }
+    }
+
+    private record Edge(Schema<?> schema, int depth, String location) {
+    }
+
+    /** A schema being counted: its outgoing edges still to visit and the count so far. */
+    private static final class Frame {
+        private final Schema<?> resolved;
+        private final int depth;
+        private final int position;
+        private final Map<Integer, Integer> depthsOnPath;
+        private final Iterator<Edge> edges;
+        private Count total = new Count(1, Integer.MAX_VALUE);
+
+        private Frame(Schema<?> resolved, int depth, int position,
+                      Map<Integer, Integer> depthsOnPath, List<Edge> edges) {
+            this.resolved = resolved;
+            this.depth = depth;
+            this.position = position;
+            this.depthsOnPath = depthsOnPath;
+            this.edges = edges.iterator();
+        }
+    }
+
+    /**
+     * Returns the count directly when the edge ends here (no schema, memoized,
+     * or a cycle cut); otherwise pushes a frame for it and returns null.
+     */
+    private Count enter(Edge edge, Map<Schema<?>, Map<Integer, Integer>> onPath, Deque<Frame> stack) {
+        Schema<?> schema = edge.schema();
+        int depth = edge.depth();
+        if (schema == null) {
+            return Count.NONE;
+        }
+        String componentName = typeResolver.componentName(schema);
+        Schema<?> resolved = typeResolver.resolveSchemaReference(schema);
+        if (resolved == null) {
+            return Count.NONE;
+        }
+        Long memoized = memo.getOrDefault(resolved, Map.of()).get(depth);
+        if (memoized != null) {
+            return new Count(memoized, Integer.MAX_VALUE);
+        }
+        Map<Integer, Integer> depthsOnPath = onPath.computeIfAbsent(resolved, key -> new HashMap<>());
+        Integer cutAt = limits.isDepthBounded() || depthsOnPath.containsKey(depth)
+            ? depthsOnPath.get(depth)
+            : depthsOnPath.values().stream().min(Integer::compare).orElse(null);
+        if (cutAt != null) {
+            reportCycle(componentName == null ? edge.location() : componentName, depthsOnPath.containsKey(depth));
+            return new Count(0, cutAt);
+        }
+        int position = pathLength++;
+        depthsOnPath.put(depth, position);
+        stack.push(new Frame(resolved, depth, position, depthsOnPath, edgesOf(resolved, depth, edge.location())));
+        return null;
+    }
+
+    private Count leave(Frame frame) {
+        frame.depthsOnPath.remove(frame.depth);
+        pathLength--;
+        if (frame.total.cutAt() >= frame.position) {
+            memo.computeIfAbsent(frame.resolved, key -> new HashMap<>()).put(frame.depth, frame.total.nodes());
+        }
+        return frame.total;
+    }
+
+    /** Compositions at the same depth, then required object / array-item children one level down. */
+    private List<Edge> edgesOf(Schema<?> schema, int depth, String location) {
+        List<Edge> edges = new ArrayList<>();
+        addMembers(edges, schema.getAllOf(), depth, location);
+        addMembers(edges, schema.getOneOf(), depth, location);
+        addMembers(edges, schema.getAnyOf(), depth, location);
+        addRequiredChildren(edges, schema, depth, location);
+        return edges;
+    }
+
+    private void addMembers(List<Edge> edges, List<?> members, int depth, String location) {
+        if (members == null) {
+            return;
+        }
+        for (Object member : members) {
+            if (member instanceof Schema<?> memberSchema) {
+                edges.add(new Edge(memberSchema, depth, location));
+            }
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void addRequiredChildren(List<Edge> edges, Schema<?> schema, int depth, String location) {
+        Map<String, Schema> properties = schema.getProperties();
+        if (properties == null || !canDescend(depth)) {
+            return;
+        }
+        for (String name : requiredNames(schema)) {
+            Schema<?> property = properties.get(name);
+            Schema<?> resolved = typeResolver.resolveSchemaReference(property);
+            if (resolved == null) {
+                continue;
+            }
+            Schema<?> child = resolved.getItems() != null ? resolved.getItems() : property;
+            if (resolved.getItems() != null || describesObject(resolved)) {
+                String childLocation = "(root)".equals(location) ? name : location + "." + name;
+                edges.add(new Edge(child, depth + 1, childLocation));
+            }
+        }
+    }
+
+    private boolean canDescend(int depth) {
+        return !limits.isDepthBounded() || depth + 1 < limits.maxValidationDepth();
+    }
+
+    private Set<String> requiredNames(Schema<?> schema) {
+        Set<String> names = new LinkedHashSet<>();
+        if (schema.getRequired() != null) {
+            names.addAll(schema.getRequired());
+        }
+        if (schema.getDependentRequired() != null) {
+            schema.getDependentRequired().values().forEach(names::addAll);
+        }
+        Schema<?> thenSchema = schema.getThen();
+        if (thenSchema != null && thenSchema.getRequired() != null) {
+            names.addAll(thenSchema.getRequired());
+        }
+        return names;
+    }
+
+    private static boolean describesObject(Schema<?> schema) {
+        return "object".equals(schema.getType())
+            || schema.getProperties() != null
+            || schema.getAllOf() != null
+            || schema.getOneOf() != null
+            || schema.getAnyOf() != null;
+    }
+
+    /**
+     * Only descent cycles are reported: a composition cycle at a single level
+     * ({@code sameLevel}) has no deeper data to validate, so cutting it loses nothing.
+     */
+    private void reportCycle(String label, boolean sameLevel) {
+        if (limits.isDepthBounded() || sameLevel || !reportedCycles.add(label)) {
+            return;
+        }
+        diagnostics.warn(label, "recursive schema is only validated to its first level; "
+            + "set maxValidationDepth to validate nested levels");
+    }
+}
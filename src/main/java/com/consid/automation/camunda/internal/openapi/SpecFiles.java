@@ -0,0 +1,53 @@
+package com.consid.automation.camunda.internal.openapi;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The files a spec is made of: the spec itself and every local file reachable
+ * from it through {@code $ref}s, in JSON or YAML. Remote references and
+ * references that do not name an existing file are left out.
+ */
+public final class SpecFiles {
+
+    /** {@code $ref} keys in JSON or YAML, quoted or not, up to the fragment. */
+    private static final Pattern FILE_REFERENCE =
+        Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+
+    private SpecFiles() {
+    }
+
+    /** Absolute, normalized paths, the spec first. */
+    public static Set<Path> of(Path spec) throws IOException {
+        Set<Path> files = new LinkedHashSet<>();
+        Deque<Path> pending = new ArrayDeque<>();
+        pending.add(spec.toAbsolutePath().normalize());
+        while (!pending.isEmpty()) {
+            Path file = pending.pop();
+            if (!Files.isRegularFile(file) || !files.add(file)) {
+                continue;
+            }
+            Matcher reference = FILE_REFERENCE.matcher(Files.readString(file));
+            while (reference.find()) {
+                String target = reference.group(1);
+                if (target.contains("://")) {
+                    continue;
+                }
+                try {
+                    pending.add(file.resolveSibling(target).normalize());
+                } catch (InvalidPathException e) {
+                    // not a file name; the parser reports what it cannot resolve
+                }
+            }
+        }
+        return files;
+    }
+}
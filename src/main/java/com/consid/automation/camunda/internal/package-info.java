@@ -4,7 +4,13 @@
  * change in any release, including patch releases, without notice.
  *
  * <p>The public API surface is exactly the types in
- * {@link com.consid.automation.camunda} — the {@code FEELValidationGenerator}
- * builder and the {@code FEELValidationGeneratorMojo} parameter set.
+ * {@link com.consid.automation.camunda} — the {@code FEELValidationGenerator},
+ * {@code ValidationPlan} and {@code PayloadValidator} builders,
+ * {@code PayloadVerdict}, the
+ * {@code FEELValidationGeneratorCli}, {@code FeelCorpusEvaluator} and
+ * {@code FeelWebhookSimulator} command lines, and the
+ * {@code FEELValidationGeneratorMojo}, {@code FEELWatchMojo},
+ * {@code FEELVerificationMojo}, {@code FEELBpmnSyncMojo} and
+ * {@code FEELBpmnDriftMojo} parameter sets.
  */
 package com.consid.automation.camunda.internal;
@@ -0,0 +1,87 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The compiled rules of one endpoint, in the order the generated FEEL lists
+ * them. Immutable and safe to share between threads.
+ *
+ * <p>As in the FEEL, the size ceilings run first: an oversized payload fails
+ * with the single {@code payloadSize-invalid} rule and no per-field rule is
+ * evaluated for it.
+ */
+public final class CompiledEndpoint {
+
+    static final RuleFailure PAYLOAD_SIZE_FAILURE = new RuleFailure("payloadSize-invalid", "(root)");
+
+    private final String endpoint;
+    private final CompiledRule[] rules;
+    private final Predicate<JsonNode>[] ceilings;
+
+    CompiledEndpoint(String endpoint, List<CompiledRule> rules, List<Predicate<JsonNode>> ceilings) {
+        this.endpoint = endpoint;
+        this.rules = rules.toArray(new CompiledRule[0]);
+        @SuppressWarnings("unchecked")
+        Predicate<JsonNode>[] ceilingArray = ceilings.toArray(new Predicate[0]);
+        this.ceilings = ceilingArray;
+    }
+
+    /** The endpoint as {@code METHOD /path}. */
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /** Stops at the first failing rule; allocates nothing for a valid payload. */
+    public boolean isValid(JsonNode body) {
+        if (oversized(body)) {
+            return false;
+        }
+        for (CompiledRule rule : rules) {
+            if (rule.violates(body)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Every failing rule in order; an empty (shared) list for a valid payload. */
+    public List<RuleFailure> failures(JsonNode body) {
+        if (oversized(body)) {
+            return List.of(PAYLOAD_SIZE_FAILURE);
+        }
+        List<RuleFailure> failures = null;
+        for (CompiledRule rule : rules) {
+            if (rule.violates(body)) {
+                if (failures == null) {
+                    failures = new ArrayList<>();
+                }
+                failures.add(rule.failure());
+            }
+        }
+        return failures == null ? List.of() : List.copyOf(failures);
+    }
+
+    private boolean oversized(JsonNode body) {
+        for (Predicate<JsonNode> ceiling : ceilings) {
+            if (ceiling.test(body)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One per-field (or root-closure) rule: violated when its guard fires for
+     * the body and the value at its path violates the compiled descriptor.
+     */
+    record CompiledRule(RuleFailure failure, JsonPath path, Predicate<JsonNode> guard, ValueCheck check) {
+
+        boolean violates(JsonNode body) {
+            return guard.test(body) && check.violates(path.resolve(body));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A schema {@code pattern} compiled once, with one reusable {@link Matcher}
+ * per thread so a test allocates nothing. Uses find semantics, like FEEL's
+ * {@code matches()}.
+ */
+final class CompiledPattern {
+
+    private final ThreadLocal<Matcher> matchers;
+
+    CompiledPattern(Pattern pattern) {
+        this.matchers = ThreadLocal.withInitial(() -> pattern.matcher(""));
+    }
+
+    boolean matches(String value) {
+        return matchers.get().reset(value).find();
+    }
+}
@@ -0,0 +1,49 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+
+/**
+ * A schema number (bound, divisor or enum value) prepared for comparison with
+ * JSON numbers. When it is integral and fits a {@code long}, int and long
+ * nodes are compared without building a {@link BigDecimal}; every other node
+ * is compared by exact decimal value, as FEEL compares numbers.
+ */
+record Decimal(BigDecimal value, boolean isLong, long longValue) {
+
+    static Decimal of(BigDecimal value) {
+        try {
+            return new Decimal(value, true, value.longValueExact());
+        } catch (ArithmeticException e) {
+            return new Decimal(value, false, 0);
+        }
+    }
+
+    /** Sign of {@code number - this}; {@code number} must be a numeric node. */
+    int compareFrom(JsonNode number) {
+        if (isLong && isPlainIntegral(number)) {
+            return Long.compare(number.longValue(), longValue);
+        }
+        return number.decimalValue().compareTo(value);
+    }
+
+    /**
+     * Whether {@code number} is a multiple of this divisor. A zero divisor
+     * never divides: FEEL's {@code modulo(x, 0)} is null, and {@code null!=0}
+     * reports a violation.
+     */
+    boolean divides(JsonNode number) {
+        if (value.signum() == 0) {
+            return false;
+        }
+        if (isLong && isPlainIntegral(number)) {
+            return number.longValue() % longValue == 0;
+        }
+        return number.decimalValue().remainder(value).signum() == 0;
+    }
+
+    static boolean isPlainIntegral(JsonNode number) {
+        return number.isInt() || number.isLong();
+    }
+}
@@ -0,0 +1,64 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The part of an array element its item check reads: the element's own kind
+ * and keys, plus the full value at each of its required-field and trigger
+ * paths. Reading an element through its shape keeps every other key with a
+ * {@code null} placeholder, so closed-object checks still see its name, and
+ * skips its value unparsed.
+ */
+final class ElementShape {
+
+    /** Keeps non-integral numbers exact, as the streaming scalar checks do. */
+    private static final ObjectMapper READER =
+        new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private final Map<String, ElementShape> children = new HashMap<>();
+    /** True at the end of a required-field or trigger path: the value is read whole. */
+    private boolean whole;
+
+    static ElementShape of(Iterable<String> paths) {
+        ElementShape root = new ElementShape();
+        for (String path : paths) {
+            ElementShape node = root;
+            for (String segment : path.split("\\.")) {
+                node = node.children.computeIfAbsent(segment, key -> new ElementShape());
+            }
+            node.whole = true;
+        }
+        return root;
+    }
+
+    /** Reads the value at the parser's current token, leaving the parser on its last token. */
+    JsonNode read(JsonParser parser) throws IOException {
+        if (whole || parser.currentToken() != JsonToken.START_OBJECT) {
+            return READER.readTree(parser);
+        }
+        ObjectNode object = JsonNodeFactory.instance.objectNode();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            ElementShape child = children.get(name);
+            if (child == null) {
+                parser.skipChildren();
+                object.set(name, NullNode.getInstance());
+            } else {
+                object.set(name, child.read(parser));
+            }
+        }
+        return object;
+    }
+}
@@ -0,0 +1,44 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A pre-split dot path ({@code address.street}) resolved the way a FEEL path
+ * expression resolves it: a missing key, a JSON {@code null} and a step
+ * through a non-object all yield null.
+ *
+ * <p>FEEL projects a path step over a list ({@code [{a: 1}].a} is
+ * {@code [1]}); here it yields null. A required parent holding a list fails
+ * its own rule either way, so only the per-rule detail can differ.
+ */
+final class JsonPath {
+
+    static final JsonPath ROOT = new JsonPath(new String[0]);
+
+    private final String[] segments;
+
+    private JsonPath(String[] segments) {
+        this.segments = segments;
+    }
+
+    static JsonPath of(String dotPath) {
+        return dotPath.isEmpty() ? ROOT : new JsonPath(dotPath.split("\\."));
+    }
+
+    /** The value at this path below {@code root}, or null when FEEL would see null. */
+    JsonNode resolve(JsonNode root) {
+        JsonNode node = root;
+        for (String segment : segments) {
+            if (node == null || !node.isObject()) {
+                return null;
+            }
+            node = node.get(segment);
+        }
+        return present(node);
+    }
+
+    /** Maps a JSON {@code null} to null, so every check sees a single "absent" value. */
+    static JsonNode present(JsonNode node) {
+        return node == null || node.isNull() || node.isMissingNode() ? null : node;
+    }
+}
@@ -0,0 +1,105 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.consid.automation.camunda.internal.model.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An enum or value-trigger literal list, hashed by kind for membership tests:
+ * strings in a {@link HashSet}, integral numbers in a sorted {@code long[]}
+ * (binary-searched for int and long nodes), and every number as a
+ * {@link Decimal} for the other numeric nodes. A lookup never allocates
+ * except for a non-integral JSON number.
+ */
+final class LiteralSet {
+
+    private static final int STRING = 1;
+    private static final int NUMBER = 2;
+    private static final int BOOLEAN = 4;
+
+    private final Set<String> strings = new HashSet<>();
+    private final long[] longs;
+    private final Decimal[] numbers;
+    private final boolean hasTrue;
+    private final boolean hasFalse;
+    private final boolean hasNull;
+    private final int kinds;
+
+    LiteralSet(List<FeelLiteral> literals) {
+        List<Decimal> decimals = new ArrayList<>();
+        boolean hasTrue = false;
+        boolean hasFalse = false;
+        boolean hasNull = false;
+        int kinds = 0;
+        for (FeelLiteral literal : literals) {
+            switch (literal) {
+                case FeelString s -> {
+                    strings.add(s.value());
+                    kinds |= STRING;
+                }
+                case FeelNumber n -> {
+                    decimals.add(Decimal.of(n.value()));
+                    kinds |= NUMBER;
+                }
+                case FeelBoolean b -> {
+                    if (b.value()) {
+                        hasTrue = true;
+                    } else {
+                        hasFalse = true;
+                    }
+                    kinds |= BOOLEAN;
+                }
+                case FeelNull n -> hasNull = true;
+            }
+        }
+        this.numbers = decimals.toArray(new Decimal[0]);
+        this.longs = decimals.stream().filter(Decimal::isLong).mapToLong(Decimal::longValue).sorted().toArray();
+        this.hasTrue = hasTrue;
+        this.hasFalse = hasFalse;
+        this.hasNull = hasNull;
+        this.kinds = kinds;
+    }
+
+    /** Whether FEEL's {@code =} holds between {@code value} and one of the literals. */
+    boolean contains(JsonNode value) {
+        if (value == null) {
+            return hasNull;
+        }
+        if (value.isTextual()) {
+            return strings.contains(value.textValue());
+        }
+        if (value.isBoolean()) {
+            return value.booleanValue() ? hasTrue : hasFalse;
+        }
+        if (value.isNumber()) {
+            if (Decimal.isPlainIntegral(value)) {
+                return Arrays.binarySearch(longs, value.longValue()) >= 0;
+            }
+            for (Decimal number : numbers) {
+                if (number.compareFrom(value) == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether FEEL can compare {@code value} with every literal. A comparison
+     * across kinds ({@code [1] = "a"}) is null rather than false, so an
+     * {@code X in (…)} test over such a value is null, not false.
+     */
+    boolean comparesWithAll(JsonNode value) {
+        if (value == null || kinds == 0) {
+            return true;
+        }
+        int kind = value.isTextual() ? STRING : value.isNumber() ? NUMBER : value.isBoolean() ? BOOLEAN : 0;
+        return (kinds & ~kind) == 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One position of a {@link StreamingEndpoint}'s path trie: the rule whose
+ * value sits here (at most one, since rule paths are unique), the triggers
+ * reading it, the ceiling its type is subject to, and the keys below it that
+ * anything reads. Filled in by {@link StreamingRuleCompiler} and not changed
+ * afterwards.
+ */
+final class PathNode {
+
+    final Map<String, PathNode> children = new HashMap<>();
+    int rule = -1;
+    int[] triggers = new int[0];
+    /** Keys a closed object rule allows here, or null. */
+    Set<String> allowedKeys;
+    int maxCodePoints = -1;
+    int maxItems = -1;
+    int maxKeys = -1;
+
+    /** The node at a dot path below this one, created on first use. */
+    PathNode descend(String dotPath) {
+        PathNode node = this;
+        if (!dotPath.isEmpty()) {
+            for (String segment : dotPath.split("\\.")) {
+                node = node.children.computeIfAbsent(segment, key -> new PathNode());
+            }
+        }
+        return node;
+    }
+
+    void addTrigger(int trigger) {
+        if (Arrays.stream(triggers).noneMatch(existing -> existing == trigger)) {
+            triggers = Arrays.copyOf(triggers, triggers.length + 1);
+            triggers[triggers.length - 1] = trigger;
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.consid.automation.camunda.internal.feel.PatternLowering;
+import com.consid.automation.camunda.internal.model.*;
+import com.consid.automation.camunda.internal.openapi.ExtractionResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles an endpoint's {@link ExtractionResult} into a {@link CompiledEndpoint}:
+ * one tree of pre-built {@link ValueCheck}s per rule that reaches the verdict
+ * the FEEL rendered by {@code FEELExpressionBuilder} reaches for the same
+ * payload. It must be kept in step with the builder, clause for clause:
+ * <ul>
+ *   <li>A missing field and JSON {@code null} are the same absent value.</li>
+ *   <li>Only a clause that is true counts. FEEL yields null rather than false
+ *       for some ill-typed operations, and a null rule is not a violation; the
+ *       checks model the two cases where that changes a verdict — a regex FEEL
+ *       can't compile never matches or fails, and an inline typed enum test over
+ *       a value of another kind is null.</li>
+ *   <li>A trigger fires when the value at its path equals one of its literals
+ *       (or, for a presence trigger, is present). Triggers of an array
+ *       element's fields are element-relative and resolve against that
+ *       element, as {@code e.}-qualified triggers do in the FEEL.</li>
+ *   <li>String lengths count code points, numbers compare by exact decimal
+ *       value, and patterns use find semantics.</li>
+ * </ul>
+ * Component functions are a rendering choice only, so every field is checked
+ * inline.
+ */
+public final class PayloadRuleCompiler {
+
+    private static final Predicate<JsonNode> ALWAYS = body -> true;
+
+    private final PayloadLimits limits;
+
+    public PayloadRuleCompiler(PayloadLimits limits) {
+        this.limits = limits;
+    }
+
+    public CompiledEndpoint compile(String endpoint, ExtractionResult extracted) {
+        List<CompiledEndpoint.CompiledRule> rules = new ArrayList<>();
+        List<Predicate<JsonNode>> ceilings = new ArrayList<>();
+        if (limits.hasMaxObjectKeys()) {
+            ceilings.add(ceiling(JsonPath.ROOT, ObjectTypeInfo.OPEN));
+        }
+        extracted.requiredFields().forEach((fieldPath, descriptor) -> {
+            JsonPath path = JsonPath.of(fieldPath);
+            rules.add(new CompiledEndpoint.CompiledRule(new RuleFailure(fieldPath + "-invalid", fieldPath),
+                path, guard(descriptor.dependsOn()), field(descriptor, false)));
+            Predicate<JsonNode> ceiling = ceiling(path, descriptor.typeInfo());
+            if (ceiling != null) {
+                ceilings.add(ceiling);
+            }
+        });
+        if (extracted.hasRootClosure()) {
+            rules.add(new CompiledEndpoint.CompiledRule(new RuleFailure("rootObject-invalid", "(root)"),
+                JsonPath.ROOT, ALWAYS, field(FieldDescriptor.of(extracted.rootClosure()), false)));
+        }
+        return new CompiledEndpoint(endpoint, rules, ceilings);
+    }
+
+    /** The rule's trigger disjunction, resolved from the request body. */
+    private static Predicate<JsonNode> guard(List<Trigger> dependsOn) {
+        if (dependsOn.isEmpty()) {
+            return ALWAYS;
+        }
+        List<Predicate<JsonNode>> triggers = new ArrayList<>();
+        for (Trigger trigger : dependsOn) {
+            JsonPath path = JsonPath.of(trigger.path());
+            triggers.add(switch (trigger) {
+                case PresenceTrigger p -> body -> path.resolve(body) != null;
+                case ValueTrigger v -> {
+                    LiteralSet values = new LiteralSet(v.allowedValues());
+                    yield body -> values.contains(path.resolve(body));
+                }
+            });
+        }
+        if (triggers.size() == 1) {
+            return triggers.get(0);
+        }
+        return body -> {
+            for (Predicate<JsonNode> trigger : triggers) {
+                if (trigger.test(body)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * {@code inQuantifier} selects FEEL's hoisted {@code list contains} form of
+     * a typed enum test, which is false rather than null across kinds.
+     */
+    ValueCheck field(FieldDescriptor descriptor, boolean inQuantifier) {
+        if (descriptor.typeInfo() instanceof UnsatisfiableTypeInfo) {
+            return descriptor.nullable() ? value -> value != null : value -> true;
+        }
+        ValueCheck violation = violation(descriptor, inQuantifier);
+        if (descriptor.nullable()) {
+            return violation == null ? ValueCheck.NEVER : value -> value != null && violation.violates(value);
+        }
+        return violation == null
+            ? value -> value == null
+            : value -> value == null || violation.violates(value);
+    }
+
+    /**
+     * The type clause first, then the constraints, then the enum test, so every
+     * check after the first one only ever sees a value of the declared type.
+     * Inside a quantifier the element value's own ceiling follows the type
+     * clause, as in the FEEL.
+     */
+    private ValueCheck violation(FieldDescriptor descriptor, boolean inQuantifier) {
+        List<ValueCheck> parts = new ArrayList<>();
+        switch (descriptor.typeInfo()) {
+            case StringTypeInfo s -> stringChecks(s, parts);
+            case NumberTypeInfo n -> numberChecks(n, parts);
+            case BooleanTypeInfo b -> parts.add(value -> !value.isBoolean());
+            case ArrayTypeInfo a -> arrayChecks(a, parts);
+            case ObjectTypeInfo o -> objectChecks(o, parts);
+            case UnknownTypeInfo u -> {
+            }
+            case UnsatisfiableTypeInfo u -> throw new IllegalStateException(
+                "unsatisfiable fields are short-circuited by field");
+        }
+        ValueCheck itemCeiling = inQuantifier ? oversized(descriptor.typeInfo()) : null;
+        if (itemCeiling != null) {
+            parts.add(1, itemCeiling);
+        }
+        if (descriptor.hasEnum()) {
+            LiteralSet allowed = new LiteralSet(descriptor.enumValues());
+            if (descriptor.typeInfo() instanceof UnknownTypeInfo || inQuantifier) {
+                parts.add(value -> !allowed.contains(value));
+            } else {
+                parts.add(value -> !allowed.contains(value) && allowed.comparesWithAll(value));
+            }
+        }
+        return parts.isEmpty() ? null : ValueCheck.anyOf(parts.toArray(new ValueCheck[0]));
+    }
+
+    private static void stringChecks(StringTypeInfo info, List<ValueCheck> parts) {
+        parts.add(switch (info.format()) {
+            case PLAIN -> value -> !value.isTextual();
+            case DATE -> value -> !value.isTextual() || !TemporalSyntax.isDate(value.textValue());
+            case DATE_TIME -> value -> !value.isTextual() || !TemporalSyntax.isDateTime(value.textValue());
+            case TIME -> value -> !value.isTextual() || !TemporalSyntax.isTime(value.textValue());
+        });
+        if (info.hasMinLength() || info.hasMaxLength()) {
+            int min = info.hasMinLength() ? info.minLength() : 0;
+            int max = info.hasMaxLength() ? info.maxLength() : Integer.MAX_VALUE;
+            parts.add(value -> {
+                int length = codePoints(value.textValue());
+                return length < min || length > max;
+            });
+        }
+        if (info.hasPattern()) {
+            CompiledPattern pattern = compile(info.pattern());
+            Integer length = PatternLowering.fixedLength(info.pattern());
+            if (pattern != null && length != null) {
+                int expected = length;
+                parts.add(value -> codePoints(value.textValue()) != expected || !pattern.matches(value.textValue()));
+            } else if (pattern != null) {
+                parts.add(value -> !pattern.matches(value.textValue()));
+            }
+        }
+    }
+
+    private static void numberChecks(NumberTypeInfo info, List<ValueCheck> parts) {
+        parts.add(value -> !value.isNumber());
+        if (info.hasMinimum()) {
+            Decimal minimum = Decimal.of(info.minimum());
+            parts.add(value -> minimum.compareFrom(value) < 0);
+        }
+        if (info.hasExclusiveMinimum()) {
+            Decimal minimum = Decimal.of(info.exclusiveMinimum());
+            parts.add(value -> minimum.compareFrom(value) <= 0);
+        }
+        if (info.hasMaximum()) {
+            Decimal maximum = Decimal.of(info.maximum());
+            parts.add(value -> maximum.compareFrom(value) > 0);
+        }
+        if (info.hasExclusiveMaximum()) {
+            Decimal maximum = Decimal.of(info.exclusiveMaximum());
+            parts.add(value -> maximum.compareFrom(value) >= 0);
+        }
+        if (info.hasMultipleOf()) {
+            Decimal divisor = Decimal.of(info.multipleOf());
+            parts.add(value -> !divisor.divides(value));
+        }
+    }
+
+    private void arrayChecks(ArrayTypeInfo info, List<ValueCheck> parts) {
+        parts.add(value -> !value.isArray());
+        if (info.hasMinItems() || info.hasMaxItems()) {
+            int min = info.hasMinItems() ? info.minItems() : 0;
+            int max = info.hasMaxItems() ? info.maxItems() : Integer.MAX_VALUE;
+            parts.add(value -> value.size() < min || value.size() > max);
+        }
+        if (info.hasItems()) {
+            ValueCheck element = element(info.items(), info.itemRequiredFields());
+            parts.add(value -> {
+                for (int i = 0; i < value.size(); i++) {
+                    if (element.violates(JsonPath.present(value.get(i)))) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * {@code some e in X satisfies (…)}: the element's own check, then its
+     * required fields, each behind its triggers resolved from the element.
+     */
+    ValueCheck element(FieldDescriptor items, Map<String, FieldDescriptor> itemRequiredFields) {
+        List<ValueCheck> checks = new ArrayList<>();
+        checks.add(elementCheck(JsonPath.ROOT, items));
+        itemRequiredFields.forEach((fieldPath, descriptor) ->
+            checks.add(elementCheck(JsonPath.of(fieldPath), descriptor)));
+        return ValueCheck.anyOf(checks.toArray(new ValueCheck[0]));
+    }
+
+    private ValueCheck elementCheck(JsonPath path, FieldDescriptor descriptor) {
+        Predicate<JsonNode> guard = guard(descriptor.dependsOn());
+        ValueCheck check = field(descriptor, true);
+        if (guard == ALWAYS) {
+            return path == JsonPath.ROOT ? check : element -> check.violates(path.resolve(element));
+        }
+        return element -> guard.test(element) && check.violates(path.resolve(element));
+    }
+
+    private static void objectChecks(ObjectTypeInfo info, List<ValueCheck> parts) {
+        parts.add(value -> !value.isObject());
+        if (info.isClosed()) {
+            Set<String> allowedKeys = new HashSet<>(info.allowedKeys());
+            parts.add(value -> {
+                Iterator<String> keys = value.fieldNames();
+                while (keys.hasNext()) {
+                    if (!allowedKeys.contains(keys.next())) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+    }
+
+    /**
+     * The oversized pre-check for a value of the given type, or null when no
+     * ceiling applies; a wrongly typed value is left to the regular rule.
+     */
+    private Predicate<JsonNode> ceiling(JsonPath path, TypeInfo typeInfo) {
+        ValueCheck check = oversized(typeInfo);
+        if (check == null) {
+            return null;
+        }
+        return body -> {
+            JsonNode value = path.resolve(body);
+            return value != null && check.violates(value);
+        };
+    }
+
+    /** True for a present value of the given type above its ceiling; null when no ceiling applies. */
+    private ValueCheck oversized(TypeInfo typeInfo) {
+        if (typeInfo instanceof StringTypeInfo && limits.hasMaxStringLength()) {
+            int max = limits.maxStringLength();
+            return value -> value.isTextual() && codePoints(value.textValue()) > max;
+        }
+        if (typeInfo instanceof ArrayTypeInfo && limits.hasMaxArrayItems()) {
+            int max = limits.maxArrayItems();
+            return value -> value.isArray() && value.size() > max;
+        }
+        if (typeInfo instanceof ObjectTypeInfo && limits.hasMaxObjectKeys()) {
+            int max = limits.maxObjectKeys();
+            return value -> value.isObject() && value.size() > max;
+        }
+        return null;
+    }
+
+    /**
+     * Null for a pattern Java can't compile: FEEL's {@code matches()} fails on
+     * it, and {@code not(null)} never reports a violation.
+     */
+    private static CompiledPattern compile(String pattern) {
+        try {
+            return new CompiledPattern(Pattern.compile(pattern));
+        } catch (PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    private static int codePoints(String value) {
+        return value.codePointCount(0, value.length());
+    }
+}
@@ -0,0 +1,15 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import java.util.Objects;
+
+/**
+ * A rule that failed for a payload: the same {@code id} / {@code field} pair
+ * the generated response FEEL reports in its {@code details}.
+ */
+public record RuleFailure(String id, String field) {
+
+    public RuleFailure {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(field, "field must not be null");
+    }
+}
@@ -0,0 +1,339 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BigIntegerNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The rules of one endpoint, compiled for a single pass over a
+ * {@link JsonParser} token stream instead of a {@link JsonNode} tree. Reaches
+ * the verdict {@link CompiledEndpoint} reaches for the same payload.
+ *
+ * <p>Every rule, trigger and ceiling path is merged into one trie of
+ * {@link PathNode}s. A value whose key has no node is skipped with
+ * {@link JsonParser#skipChildren()}. A scalar at a node is checked as it
+ * streams past. An object or an array at a node only has its keys or elements
+ * counted, because every check on a container depends on nothing but its kind,
+ * its size, its key names and, for array items, each element on its own. Each
+ * element is read into a small tree holding only what its item check reads
+ * (see {@link ElementShape}) and dropped after the check, so memory is bounded
+ * by the largest element rather than by the payload.
+ *
+ * <p>Which rules have seen their value, which were violated and which triggers
+ * fired are kept in bitsets. A rule whose value never streamed past is checked
+ * as absent at the end, and a guarded rule counts only once one of its
+ * triggers has fired, whichever comes first in the stream. Parsing stops at
+ * the first oversized value, or once the requested number of violations is
+ * certain.
+ *
+ * <p>Duplicate keys are rejected as malformed input: a tree keeps the last
+ * value, which a single pass can't know it has seen.
+ */
+public final class StreamingEndpoint {
+
+    private final String endpoint;
+    private final PathNode root;
+    private final StreamRule[] rules;
+    private final StreamTrigger[] triggers;
+
+    StreamingEndpoint(String endpoint, PathNode root, List<StreamRule> rules, List<StreamTrigger> triggers) {
+        this.endpoint = endpoint;
+        this.root = root;
+        this.rules = rules.toArray(new StreamRule[0]);
+        this.triggers = triggers.toArray(new StreamTrigger[0]);
+    }
+
+    /** The endpoint as {@code METHOD /path}. */
+    public String endpoint() {
+        return endpoint;
+    }
+
+    /** Stops reading at the first violation the payload is certain to have. */
+    public boolean isValid(JsonParser parser) throws IOException {
+        return failures(parser, 1).isEmpty();
+    }
+
+    /**
+     * The failing rules in rule order, reading the body from the parser's
+     * current token, or its next one when it has none yet. With fewer than
+     * all violations requested, parsing stops once that many are certain, so
+     * the list holds the first {@code maxFailures} violations in stream order.
+     */
+    public List<RuleFailure> failures(JsonParser parser, int maxFailures) throws IOException {
+        if (maxFailures < 1) {
+            throw new IllegalArgumentException("maxFailures must be positive: " + maxFailures);
+        }
+        parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+        Run run = new Run(maxFailures);
+        run.read(parser);
+        return run.result();
+    }
+
+    /** Mutable state of one pass; confined to the calling thread. */
+    private final class Run {
+        private final int maxFailures;
+        private final BitSet ruleSeen = new BitSet(rules.length);
+        private final BitSet ruleViolated = new BitSet(rules.length);
+        private final BitSet triggerSeen = new BitSet(triggers.length);
+        private final BitSet triggerFired = new BitSet(triggers.length);
+        private final BitSet certain = new BitSet(rules.length);
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        private int certainCount;
+        private boolean oversized;
+        private boolean stopped;
+
+        Run(int maxFailures) {
+            this.maxFailures = maxFailures;
+        }
+
+        void read(JsonParser parser) throws IOException {
+            JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+            if (token == null) {
+                return;
+            }
+            value(parser, root, token);
+            while (!stopped && !frames.isEmpty()) {
+                Frame frame = frames.peek();
+                token = parser.nextToken();
+                if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                    frames.pop();
+                    settleContainer(frame);
+                } else if (frame.array) {
+                    element(parser, frame);
+                } else {
+                    member(parser, frame);
+                }
+            }
+        }
+
+        private void value(JsonParser parser, PathNode node, JsonToken token) throws IOException {
+            switch (token) {
+                case START_OBJECT -> frames.push(new Frame(node, false));
+                case START_ARRAY -> frames.push(new Frame(node, true));
+                case VALUE_NULL -> settle(node, null);
+                case VALUE_STRING -> settle(node, TextNode.valueOf(parser.getText()));
+                case VALUE_TRUE -> settle(node, BooleanNode.TRUE);
+                case VALUE_FALSE -> settle(node, BooleanNode.FALSE);
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> settle(node, number(parser));
+                default -> throw new IOException("Unexpected " + token + " at " + parser.currentLocation());
+            }
+        }
+
+        private void member(JsonParser parser, Frame frame) throws IOException {
+            frame.count++;
+            PathNode node = frame.node;
+            if (node.maxKeys >= 0 && frame.count > node.maxKeys) {
+                oversize();
+                return;
+            }
+            String name = parser.currentName();
+            if (node.allowedKeys != null && !node.allowedKeys.contains(name)) {
+                frame.disallowedKey = true;
+            }
+            JsonToken token = parser.nextToken();
+            PathNode child = node.children.get(name);
+            if (child == null) {
+                parser.skipChildren();
+            } else {
+                value(parser, child, token);
+            }
+        }
+
+        private void element(JsonParser parser, Frame frame) throws IOException {
+            frame.count++;
+            PathNode node = frame.node;
+            if (node.maxItems >= 0 && frame.count > node.maxItems) {
+                oversize();
+                return;
+            }
+            StreamRule rule = node.rule < 0 ? null : rules[node.rule];
+            if (rule == null || rule.element() == null || frame.elementViolated) {
+                parser.skipChildren();
+                return;
+            }
+            JsonNode element = JsonPath.present(rule.elementShape().read(parser));
+            if (rule.element().violates(element)) {
+                frame.elementViolated = true;
+                record(node.rule, true);
+            }
+        }
+
+        /** A scalar (or JSON null, passed as null) at a node. */
+        private void settle(PathNode node, JsonNode value) {
+            if (value != null && value.isTextual() && node.maxCodePoints >= 0
+                && value.textValue().codePointCount(0, value.textValue().length()) > node.maxCodePoints) {
+                oversize();
+                return;
+            }
+            if (node.rule >= 0) {
+                record(node.rule, rules[node.rule].scalar().violates(value));
+            }
+            for (int trigger : node.triggers) {
+                fire(trigger, triggers[trigger].fires().test(value));
+            }
+        }
+
+        private void settleContainer(Frame frame) {
+            PathNode node = frame.node;
+            if (node.rule >= 0) {
+                StreamRule rule = rules[node.rule];
+                record(node.rule, frame.array
+                    ? rule.arrayViolates() || frame.elementViolated
+                        || frame.count < rule.minItems() || frame.count > rule.maxItems()
+                    : rule.objectViolates() || frame.disallowedKey);
+            }
+            for (int trigger : node.triggers) {
+                fire(trigger, triggers[trigger].firesOnContainer());
+            }
+        }
+
+        private void record(int rule, boolean violated) {
+            ruleSeen.set(rule);
+            if (violated) {
+                ruleViolated.set(rule);
+                if (guardFired(rule)) {
+                    certain(rule);
+                }
+            }
+        }
+
+        private void fire(int trigger, boolean fired) {
+            triggerSeen.set(trigger);
+            if (fired) {
+                triggerFired.set(trigger);
+                for (int rule : triggers[trigger].dependents()) {
+                    if (ruleViolated.get(rule)) {
+                        certain(rule);
+                    }
+                }
+            }
+        }
+
+        private boolean guardFired(int rule) {
+            int[] guard = rules[rule].triggers();
+            if (guard.length == 0) {
+                return true;
+            }
+            for (int trigger : guard) {
+                if (triggerFired.get(trigger)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void certain(int rule) {
+            if (!certain.get(rule)) {
+                certain.set(rule);
+                if (++certainCount >= maxFailures) {
+                    stopped = true;
+                }
+            }
+        }
+
+        private void oversize() {
+            oversized = true;
+            stopped = true;
+        }
+
+        List<RuleFailure> result() {
+            if (oversized) {
+                return List.of(CompiledEndpoint.PAYLOAD_SIZE_FAILURE);
+            }
+            if (!stopped) {
+                settleAbsent();
+            }
+            if (certain.isEmpty()) {
+                return List.of();
+            }
+            List<RuleFailure> failures = new ArrayList<>(certain.cardinality());
+            for (int rule = certain.nextSetBit(0); rule >= 0 && failures.size() < maxFailures;
+                 rule = certain.nextSetBit(rule + 1)) {
+                failures.add(rules[rule].failure());
+            }
+            return List.copyOf(failures);
+        }
+
+        /** Everything the stream never reached is absent: settle triggers first, then rules. */
+        private void settleAbsent() {
+            for (int trigger = triggerSeen.nextClearBit(0); trigger < triggers.length;
+                 trigger = triggerSeen.nextClearBit(trigger + 1)) {
+                triggerSeen.set(trigger);
+                if (triggers[trigger].firesWhenAbsent()) {
+                    triggerFired.set(trigger);
+                }
+            }
+            for (int rule = 0; rule < rules.length; rule++) {
+                boolean violated = ruleSeen.get(rule) ? ruleViolated.get(rule) : rules[rule].violatesWhenAbsent();
+                if (violated && guardFired(rule)) {
+                    certain.set(rule);
+                }
+            }
+        }
+    }
+
+    /** The node types the tree validator sees for the same JSON number. */
+    private static JsonNode number(JsonParser parser) throws IOException {
+        return switch (parser.getNumberType()) {
+            case INT -> IntNode.valueOf(parser.getIntValue());
+            case LONG -> LongNode.valueOf(parser.getLongValue());
+            case BIG_INTEGER -> BigIntegerNode.valueOf(parser.getBigIntegerValue());
+            default -> DecimalNode.valueOf(parser.getDecimalValue());
+        };
+    }
+
+    /** An open object or array at a node. */
+    private static final class Frame {
+        final PathNode node;
+        final boolean array;
+        int count;
+        boolean disallowedKey;
+        boolean elementViolated;
+
+        Frame(PathNode node, boolean array) {
+            this.node = node;
+            this.array = array;
+        }
+    }
+
+    /**
+     * One rule split by the kind of value that reaches it: a check for scalars
+     * and absence, the kind-only part of its verdict on an object or array,
+     * and the parts that depend on a container's size, keys or elements.
+     */
+    record StreamRule(RuleFailure failure,
+                      int[] triggers,
+                      ValueCheck scalar,
+                      boolean violatesWhenAbsent,
+                      boolean objectViolates,
+                      boolean arrayViolates,
+                      int minItems,
+                      int maxItems,
+                      ValueCheck element,
+                      ElementShape elementShape) {
+    }
+
+    /**
+     * One distinct trigger, shared by every rule whose guard lists it and
+     * evaluated once at its path; {@code dependents} are those rules.
+     */
+    record StreamTrigger(Predicate<JsonNode> fires,
+                         boolean firesOnContainer,
+                         boolean firesWhenAbsent,
+                         int[] dependents) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.consid.automation.camunda.internal.model.*;
+import com.consid.automation.camunda.internal.openapi.ExtractionResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Compiles an endpoint's {@link ExtractionResult} into a
+ * {@link StreamingEndpoint}. The per-value checks are the ones
+ * {@link PayloadRuleCompiler} builds, so both validators share one
+ * implementation of the FEEL semantics; this class only splits each rule by
+ * the kind of value that reaches it and lays the paths out as a trie.
+ *
+ * <p>The part of a rule's verdict on an object or array that doesn't depend
+ * on its size, keys or elements is decided here, once, by running the rule's
+ * check on an empty container: type and enum clauses only look at a value's
+ * kind.
+ */
+public final class StreamingRuleCompiler {
+
+    private static final JsonNode EMPTY_OBJECT = JsonNodeFactory.instance.objectNode();
+    private static final JsonNode EMPTY_ARRAY = JsonNodeFactory.instance.arrayNode();
+    private static final ArrayTypeInfo UNBOUNDED_ARRAY = new ArrayTypeInfo(null, null);
+
+    private final PayloadLimits limits;
+    private final PayloadRuleCompiler checks;
+
+    public StreamingRuleCompiler(PayloadLimits limits) {
+        this.limits = limits;
+        this.checks = new PayloadRuleCompiler(limits);
+    }
+
+    public StreamingEndpoint compile(String endpoint, ExtractionResult extracted) {
+        PathNode root = new PathNode();
+        List<StreamingEndpoint.StreamRule> rules = new ArrayList<>();
+        Map<Trigger, Integer> triggerSlots = new HashMap<>();
+        List<Trigger> distinctTriggers = new ArrayList<>();
+        List<List<Integer>> dependents = new ArrayList<>();
+        if (limits.hasMaxObjectKeys()) {
+            root.maxKeys = limits.maxObjectKeys();
+        }
+        extracted.requiredFields().forEach((fieldPath, descriptor) -> {
+            PathNode node = root.descend(fieldPath);
+            ceiling(node, descriptor.typeInfo());
+            int[] guard = new int[descriptor.dependsOn().size()];
+            for (int i = 0; i < guard.length; i++) {
+                Trigger trigger = descriptor.dependsOn().get(i);
+                guard[i] = triggerSlots.computeIfAbsent(trigger, key -> {
+                    distinctTriggers.add(key);
+                    dependents.add(new ArrayList<>());
+                    return distinctTriggers.size() - 1;
+                });
+                dependents.get(guard[i]).add(rules.size());
+                root.descend(trigger.path()).addTrigger(guard[i]);
+            }
+            addRule(node, new RuleFailure(fieldPath + "-invalid", fieldPath), guard, descriptor, rules);
+        });
+        if (extracted.hasRootClosure()) {
+            addRule(root, new RuleFailure("rootObject-invalid", "(root)"), new int[0],
+                FieldDescriptor.of(extracted.rootClosure()), rules);
+        }
+        List<StreamingEndpoint.StreamTrigger> triggers = new ArrayList<>();
+        for (int i = 0; i < distinctTriggers.size(); i++) {
+            triggers.add(trigger(distinctTriggers.get(i),
+                dependents.get(i).stream().mapToInt(Integer::intValue).toArray()));
+        }
+        return new StreamingEndpoint(endpoint, root, rules, triggers);
+    }
+
+    private void addRule(PathNode node, RuleFailure failure, int[] guard, FieldDescriptor descriptor,
+                         List<StreamingEndpoint.StreamRule> rules) {
+        node.rule = rules.size();
+        ValueCheck scalar = checks.field(descriptor, false);
+        boolean arrayViolates;
+        int minItems = 0;
+        int maxItems = Integer.MAX_VALUE;
+        ValueCheck element = null;
+        ElementShape elementShape = null;
+        if (descriptor.typeInfo() instanceof ArrayTypeInfo array) {
+            arrayViolates = checks.field(descriptor.withTypeInfo(UNBOUNDED_ARRAY), false).violates(EMPTY_ARRAY);
+            minItems = array.hasMinItems() ? array.minItems() : 0;
+            maxItems = array.hasMaxItems() ? array.maxItems() : Integer.MAX_VALUE;
+            if (array.hasItems()) {
+                element = checks.element(array.items(), array.itemRequiredFields());
+                elementShape = ElementShape.of(elementPaths(array));
+            }
+        } else {
+            arrayViolates = scalar.violates(EMPTY_ARRAY);
+        }
+        if (descriptor.typeInfo() instanceof ObjectTypeInfo object && object.isClosed()) {
+            node.allowedKeys = new HashSet<>(object.allowedKeys());
+        }
+        rules.add(new StreamingEndpoint.StreamRule(failure, guard, scalar, scalar.violates(null),
+            scalar.violates(EMPTY_OBJECT), arrayViolates, minItems, maxItems, element, elementShape));
+    }
+
+    /** The element paths the item check reads: its required fields and the paths their triggers test. */
+    private static Set<String> elementPaths(ArrayTypeInfo array) {
+        Set<String> paths = new LinkedHashSet<>(array.itemRequiredFields().keySet());
+        array.items().dependsOn().forEach(trigger -> paths.add(trigger.path()));
+        array.itemRequiredFields().values()
+            .forEach(descriptor -> descriptor.dependsOn().forEach(trigger -> paths.add(trigger.path())));
+        return paths;
+    }
+
+    private static StreamingEndpoint.StreamTrigger trigger(Trigger trigger, int[] dependents) {
+        Predicate<JsonNode> fires = switch (trigger) {
+            case PresenceTrigger p -> value -> value != null;
+            case ValueTrigger v -> new LiteralSet(v.allowedValues())::contains;
+        };
+        return new StreamingEndpoint.StreamTrigger(fires, fires.test(EMPTY_OBJECT), fires.test(null), dependents);
+    }
+
+    /** The same ceilings {@link PayloadRuleCompiler} pre-checks, keyed by the field's declared type. */
+    private void ceiling(PathNode node, TypeInfo typeInfo) {
+        if (typeInfo instanceof StringTypeInfo && limits.hasMaxStringLength()) {
+            node.maxCodePoints = limits.maxStringLength();
+        } else if (typeInfo instanceof ArrayTypeInfo && limits.hasMaxArrayItems()) {
+            node.maxItems = limits.maxArrayItems();
+        } else if (typeInfo instanceof ObjectTypeInfo && limits.hasMaxObjectKeys()) {
+            node.maxKeys = limits.maxObjectKeys();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import java.time.DateTimeException;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+
+/**
+ * Allocation-free recognizers for the strings FEEL's {@code date(X)},
+ * {@code time(X)} and {@code date and time(X)} accept, i.e. those that make
+ * the generated {@code …(X)=null} type clause false:
+ * <ul>
+ *   <li>date: {@code yyyy-MM-dd}, a calendar-valid day; years beyond four
+ *       digits only with a leading minus, as FEEL's date grammar and
+ *       {@code LocalDate.parse} jointly allow;</li>
+ *   <li>time: {@code HH:mm[:ss[.fffffffff]]} with an optional {@code Z},
+ *       {@code ±HH:mm[:ss]} offset or {@code @zone} id;</li>
+ *   <li>date and time: a date alone (midnight) or {@code <date>T<time>}.</li>
+ * </ul>
+ * Only a zone id is validated through {@link ZoneId#of}, which allocates.
+ */
+final class TemporalSyntax {
+
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private TemporalSyntax() {
+    }
+
+    static boolean isDate(String value) {
+        return dateEnd(value) == value.length();
+    }
+
+    static boolean isTime(String value) {
+        return timeEnd(value, 0) == value.length();
+    }
+
+    static boolean isDateTime(String value) {
+        int date = dateEnd(value);
+        if (date < 0 || date == value.length()) {
+            return date == value.length();
+        }
+        return value.charAt(date) == 'T' && timeEnd(value, date + 1) == value.length();
+    }
+
+    /** End index of a leading date, or -1. */
+    private static int dateEnd(String value) {
+        boolean negative = !value.isEmpty() && value.charAt(0) == '-';
+        int start = negative ? 1 : 0;
+        int yearEnd = digitsEnd(value, start);
+        int yearDigits = yearEnd - start;
+        if (yearDigits < 4 || yearDigits > 9
+            || (yearDigits > 4 && (!negative || value.charAt(start) == '0'))) {
+            return -1;
+        }
+        long year = number(value, start, yearEnd);
+        int month = twoDigitsAfter(value, yearEnd, '-');
+        int day = twoDigitsAfter(value, yearEnd + 3, '-');
+        if (month < 1 || month > 12 || day < 1
+            || day > Month.of(month).length(Year.isLeap(negative ? -year : year))) {
+            return -1;
+        }
+        return yearEnd + 6;
+    }
+
+    /** End index of a time with its optional offset or zone starting at {@code from}, or -1. */
+    private static int timeEnd(String value, int from) {
+        int hour = twoDigitsAt(value, from);
+        int minute = twoDigitsAfter(value, from + 2, ':');
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        int end = from + 5;
+        int second = twoDigitsAfter(value, end, ':');
+        if (second >= 0) {
+            if (second > 59) {
+                return -1;
+            }
+            end += 3;
+            if (end < value.length() && value.charAt(end) == '.') {
+                int fractionEnd = digitsEnd(value, end + 1);
+                int digits = fractionEnd - end - 1;
+                if (digits < 1 || digits > 9) {
+                    return -1;
+                }
+                end = fractionEnd;
+            }
+        }
+        return zoneEnd(value, end);
+    }
+
+    private static int zoneEnd(String value, int from) {
+        if (from >= value.length()) {
+            return from;
+        }
+        char sign = value.charAt(from);
+        if (sign == 'Z') {
+            return from + 1;
+        }
+        if (sign == '@') {
+            try {
+                ZoneId.of(value.substring(from + 1));
+                return value.length();
+            } catch (DateTimeException e) {
+                return -1;
+            }
+        }
+        if (sign != '+' && sign != '-') {
+            return -1;
+        }
+        int hours = twoDigitsAt(value, from + 1);
+        int minutes = twoDigitsAfter(value, from + 3, ':');
+        if (hours < 0 || minutes < 0 || minutes > 59) {
+            return -1;
+        }
+        int end = from + 6;
+        int seconds = twoDigitsAfter(value, end, ':');
+        if (seconds > 59) {
+            return -1;
+        }
+        if (seconds >= 0) {
+            end += 3;
+        }
+        int total = hours * 3600 + minutes * 60 + Math.max(seconds, 0);
+        return total > MAX_OFFSET_SECONDS ? -1 : end;
+    }
+
+    /** The two digits following {@code separator} at {@code index}, or -1. */
+    private static int twoDigitsAfter(String value, int index, char separator) {
+        if (index >= value.length() || value.charAt(index) != separator) {
+            return -1;
+        }
+        return twoDigitsAt(value, index + 1);
+    }
+
+    private static int twoDigitsAt(String value, int index) {
+        return digitsEnd(value, index) >= index + 2 && index + 2 <= value.length()
+            ? (int) number(value, index, index + 2)
+            : -1;
+    }
+
+    private static int digitsEnd(String value, int from) {
+        int end = from;
+        while (end < value.length() && value.charAt(end) >= '0' && value.charAt(end) <= '9') {
+            end++;
+        }
+        return end;
+    }
+
+    private static long number(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * One pre-built node of a compiled rule: the Java counterpart of a FEEL
+ * violation clause. Implementations are immutable and safe to share between
+ * threads.
+ */
+@FunctionalInterface
+interface ValueCheck {
+
+    ValueCheck NEVER = value -> false;
+
+    /**
+     * True when {@code value} violates the check. {@code value} is null for a
+     * missing field and for JSON {@code null} alike, as in FEEL.
+     */
+    boolean violates(JsonNode value);
+
+    /** OR-chains the checks in order, stopping at the first violation. */
+    static ValueCheck anyOf(ValueCheck... checks) {
+        if (checks.length == 1) {
+            return checks[0];
+        }
+        return value -> {
+            for (ValueCheck check : checks) {
+                if (check.violates(value)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+}
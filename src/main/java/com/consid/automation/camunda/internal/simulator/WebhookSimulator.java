@@ -0,0 +1,288 @@
+package com.consid.automation.camunda.internal.simulator;
+
+import com.consid.automation.camunda.internal.corpus.CorpusReport;
+import com.consid.automation.camunda.internal.corpus.EndpointResult;
+import com.consid.automation.camunda.internal.corpus.FeelEvaluator;
+import com.consid.automation.camunda.internal.corpus.PayloadCorpus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.camunda.feel.syntaxtree.ParsedExpression;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves generated FEEL the way a Camunda webhook connector does, without a
+ * cluster: one route per {@code # METHOD /path} block, the JSON body bound as
+ * {@code request.body}, each request handled on its own virtual thread by the
+ * JDK's {@link HttpServer}. Every block is parsed once at start.
+ *
+ * <p>A response expression answers with its own {@code statusCode} and
+ * {@code body}. An activation condition has neither, so the answer is built
+ * in the same shape from the configured status codes, with empty
+ * {@code details}. Accepted requests get a fresh {@code processInstanceKey},
+ * bound as {@code correlation.processInstanceKey} as a started process would.
+ *
+ * <p>Each route counts accepted, rejected and failed requests and the latency
+ * of the FEEL evaluation alone, readable as {@link #stats()} while requests
+ * are still coming in; {@link #resetStats()} starts over, after a warm-up.
+ */
+public final class WebhookSimulator implements AutoCloseable {
+
+    /** Path of the live counters: {@code GET} reads them as JSON, {@code DELETE} resets them. */
+    public static final String STATS_PATH = "/_simulator/stats";
+
+    /** The messages of the generator's response template. */
+    static final String ACCEPTED_MESSAGE = "Process successfully started.";
+    static final String REJECTED_MESSAGE = "Process creation failed.";
+
+    /** Pending connections the server queues; load generators open many at once. */
+    private static final int BACKLOG = 1024;
+    private static final Pattern PATH_PARAMETER = Pattern.compile("\\{[^/}]+}");
+    private static final Pattern HEADING = Pattern.compile("([A-Z]+) (/\\S*)");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final FeelEvaluator evaluator = new FeelEvaluator();
+    private final List<String> endpoints;
+    private final List<Route> routes;
+    private final int successStatusCode;
+    private final int failStatusCode;
+    private final AtomicLong processInstanceKeys = new AtomicLong(1);
+    private final AtomicReference<Window> window;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    private WebhookSimulator(Map<String, String> expressions,
+                             int successStatusCode,
+                             int failStatusCode,
+                             InetSocketAddress address) throws IOException {
+        List<Route> parsed = new ArrayList<>(expressions.size());
+        for (Map.Entry<String, String> block : expressions.entrySet()) {
+            parsed.add(route(block.getKey(), evaluator.parse(block.getKey(), block.getValue())));
+        }
+        this.endpoints = List.copyOf(expressions.keySet());
+        this.routes = parsed.stream().sorted(Comparator.comparingInt(Route::parameters)).toList();
+        this.successStatusCode = successStatusCode;
+        this.failStatusCode = failStatusCode;
+        this.window = new AtomicReference<>(newWindow(endpoints));
+        this.server = HttpServer.create(address, BACKLOG);
+        server.setExecutor(executor);
+        server.createContext(STATS_PATH, this::handleStats);
+        server.createContext("/", this::handleWebhook);
+        server.start();
+    }
+
+    /**
+     * Parses every block and starts listening on {@code address}; port 0 picks
+     * a free port.
+     *
+     * @param expressions endpoint headings mapped to their FEEL, as in a {@code FeelDocument}
+     * @param successStatusCode status for an accepted payload when a block is an activation condition
+     * @param failStatusCode status for a rejected payload when a block is an activation condition
+     * @throws IllegalArgumentException if a heading is not {@code METHOD /path} or a block does not parse
+     * @throws IOException if the address cannot be bound
+     */
+    public static WebhookSimulator start(Map<String, String> expressions,
+                                         int successStatusCode,
+                                         int failStatusCode,
+                                         InetSocketAddress address) throws IOException {
+        return new WebhookSimulator(expressions, successStatusCode, failStatusCode, address);
+    }
+
+    /** The base URI requests go to. */
+    public URI uri() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getHostString() + ":" + address.getPort());
+    }
+
+    /**
+     * One result per endpoint, in file order, for the requests since start or
+     * the last reset; throughput is over that wall-clock time.
+     */
+    public List<EndpointResult> stats() {
+        Window current = window.get();
+        long elapsed = System.nanoTime() - current.start;
+        List<EndpointResult> results = new ArrayList<>(current.counters.size());
+        current.counters.forEach((endpoint, counters) -> results.add(counters.result(endpoint, elapsed)));
+        return results;
+    }
+
+    /** Starts counting from zero; requests in flight may land in either window. */
+    public void resetStats() {
+        window.set(newWindow(endpoints));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handleWebhook(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getRawPath();
+            Set<String> allowed = new LinkedHashSet<>();
+            for (Route route : routes) {
+                if (route.path.matcher(path).matches()) {
+                    if (route.method.equals(method)) {
+                        handle(exchange, route);
+                        return;
+                    }
+                    allowed.add(route.method);
+                }
+            }
+            if (allowed.isEmpty()) {
+                send(exchange, 404, message("No webhook for " + method + " " + path));
+            } else {
+                exchange.getResponseHeaders().set("Allow", String.join(", ", allowed));
+                send(exchange, 405, message("No webhook for " + method + " " + path));
+            }
+        }
+    }
+
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        Object body;
+        try {
+            String json = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            body = json.isBlank() ? null : PayloadCorpus.parse(json, route.endpoint);
+        } catch (IOException e) {
+            send(exchange, 400, message(e.getMessage()));
+            return;
+        }
+        Counters counters = window.get().counters.get(route.endpoint);
+        long processInstanceKey = processInstanceKeys.getAndIncrement();
+        Object value;
+        long begin = System.nanoTime();
+        try {
+            value = evaluator.value(route.expression, body,
+                Map.of("correlation", Map.of("processInstanceKey", processInstanceKey)));
+        } catch (IllegalStateException e) {
+            counters.record(FeelEvaluator.Outcome.FAILED, System.nanoTime() - begin);
+            send(exchange, 500, message("FEEL evaluation failed: " + e.getMessage()));
+            return;
+        }
+        long nanos = System.nanoTime() - begin;
+        if (value instanceof Map<?, ?> context && context.containsKey("statusCode")) {
+            boolean valid = Boolean.TRUE.equals(context.get("isValid"));
+            if (!(context.get("statusCode") instanceof Number statusCode)) {
+                counters.record(FeelEvaluator.Outcome.FAILED, nanos);
+                send(exchange, 500, message("FEEL for " + route.endpoint + " has no numeric statusCode"));
+                return;
+            }
+            counters.record(valid ? FeelEvaluator.Outcome.ACCEPTED : FeelEvaluator.Outcome.REJECTED, nanos);
+            send(exchange, statusCode.intValue(), context.get("body"));
+            return;
+        }
+        Object verdict = value instanceof Map<?, ?> context ? context.get("isValid") : value;
+        boolean valid = Boolean.TRUE.equals(verdict);
+        counters.record(valid ? FeelEvaluator.Outcome.ACCEPTED : FeelEvaluator.Outcome.REJECTED, nanos);
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("message", valid ? ACCEPTED_MESSAGE : REJECTED_MESSAGE);
+        response.put("processInstanceKey", valid ? processInstanceKey : null);
+        response.put("details", List.of());
+        send(exchange, valid ? successStatusCode : failStatusCode, response);
+    }
+
+    private void handleStats(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            switch (exchange.getRequestMethod()) {
+                case "GET" -> send(exchange, 200, CorpusReport.json(stats()).getBytes(StandardCharsets.UTF_8));
+                case "DELETE" -> {
+                    resetStats();
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> {
+                    exchange.getResponseHeaders().set("Allow", "GET, DELETE");
+                    send(exchange, 405, message("Use GET or DELETE on " + STATS_PATH));
+                }
+            }
+        }
+    }
+
+    private static void send(HttpExchange exchange, int statusCode, Object body) throws IOException {
+        send(exchange, statusCode, MAPPER.writeValueAsBytes(body));
+    }
+
+    private static void send(HttpExchange exchange, int statusCode, byte[] json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, json.length);
+        exchange.getResponseBody().write(json);
+    }
+
+    private static Map<String, Object> message(String message) {
+        return Map.of("message", message);
+    }
+
+    /** {@code POST /customers/{id}} as a route matching any single segment in place of {@code {id}}. */
+    static Route route(String endpoint, ParsedExpression expression) {
+        Matcher heading = HEADING.matcher(endpoint);
+        if (!heading.matches()) {
+            throw new IllegalArgumentException("endpoint heading \"# " + endpoint + "\" is not METHOD /path");
+        }
+        String path = heading.group(2);
+        StringBuilder regex = new StringBuilder();
+        Matcher parameter = PATH_PARAMETER.matcher(path);
+        int last = 0;
+        int parameters = 0;
+        while (parameter.find()) {
+            regex.append(Pattern.quote(path.substring(last, parameter.start()))).append("[^/]+");
+            last = parameter.end();
+            parameters++;
+        }
+        regex.append(Pattern.quote(path.substring(last)));
+        return new Route(endpoint, heading.group(1), Pattern.compile(regex.toString()), parameters, expression);
+    }
+
+    private static Window newWindow(List<String> endpoints) {
+        Map<String, Counters> counters = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> counters.put(endpoint, new Counters()));
+        return new Window(System.nanoTime(), counters);
+    }
+
+    /**
+     * A mounted block; routes with fewer path parameters are tried first, so
+     * {@code /customers/search} wins over {@code /customers/{id}}.
+     */
+    record Route(String endpoint, String method, Pattern path, int parameters, ParsedExpression expression) {
+    }
+
+    /** The counters since {@code start}; replaced as a whole on reset. */
+    private record Window(long start, Map<String, Counters> counters) {
+    }
+
+    private static final class Counters {
+        private final LongAdder[] outcomes = {new LongAdder(), new LongAdder(), new LongAdder()};
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        void record(FeelEvaluator.Outcome outcome, long nanos) {
+            outcomes[outcome.ordinal()].increment();
+            latencies.record(nanos);
+        }
+
+        EndpointResult result(String endpoint, long elapsedNanos) {
+            long accepted = outcomes[FeelEvaluator.Outcome.ACCEPTED.ordinal()].sum();
+            long rejected = outcomes[FeelEvaluator.Outcome.REJECTED.ordinal()].sum();
+            long failed = outcomes[FeelEvaluator.Outcome.FAILED.ordinal()].sum();
+            return new EndpointResult(endpoint, accepted, rejected, failed, accepted + rejected + failed,
+                elapsedNanos, latencies.percentile(0.50), latencies.percentile(0.99), latencies.percentile(0.999));
+        }
+    }
+}
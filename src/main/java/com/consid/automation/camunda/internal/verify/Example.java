@@ -0,0 +1,12 @@
+package com.consid.automation.camunda.internal.verify;
+
+import java.util.List;
+
+/**
+ * A consumer-supplied request body with the verdict the generated FEEL must
+ * reach for one endpoint. {@code failures}, when given, lists the rule ids a
+ * response expression must report, in order; {@code null} leaves them
+ * unchecked.
+ */
+public record Example(String name, String endpoint, boolean valid, Object body, List<String> failures) {
+}
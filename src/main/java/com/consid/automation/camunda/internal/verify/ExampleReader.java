@@ -0,0 +1,95 @@
+package com.consid.automation.camunda.internal.verify;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads {@link Example}s from every {@code *.json} file below a directory, in
+ * path order. A file holds one example object or an array of them:
+ *
+ * <pre>
+ * { "name": "adult customer", "endpoint": "POST /customers", "valid": true,
+ *   "body": { "firstName": "Ada", "age": 36 } }
+ * </pre>
+ *
+ * <p>{@code endpoint}, {@code valid} and {@code body} are required;
+ * {@code name} defaults to the file's relative path (with the array index), and
+ * {@code failures} optionally lists the expected failing rule ids.
+ */
+public final class ExampleReader {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    private ExampleReader() {
+    }
+
+    public static List<Example> read(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory)) {
+            files = walk.filter(Files::isRegularFile)
+                .filter(file -> file.getFileName().toString().endsWith(".json"))
+                .sorted()
+                .toList();
+        }
+        List<Example> examples = new ArrayList<>();
+        for (Path file : files) {
+            String source = directory.relativize(file).toString().replace('\\', '/');
+            JsonNode root;
+            try {
+                root = MAPPER.readTree(file.toFile());
+            } catch (JsonProcessingException e) {
+                throw new IOException("malformed example file " + source + ": " + e.getOriginalMessage(), e);
+            }
+            if (root.isArray()) {
+                for (int i = 0; i < root.size(); i++) {
+                    examples.add(example(root.get(i), source + "[" + i + "]"));
+                }
+            } else {
+                examples.add(example(root, source));
+            }
+        }
+        return examples;
+    }
+
+    private static Example example(JsonNode node, String source) throws IOException {
+        if (!node.isObject()) {
+            throw new IOException("example " + source + " is not a JSON object");
+        }
+        JsonNode endpoint = node.get("endpoint");
+        JsonNode valid = node.get("valid");
+        if (endpoint == null || !endpoint.isTextual() || valid == null || !valid.isBoolean() || !node.has("body")) {
+            throw new IOException("example " + source + " needs \"endpoint\" (string), \"valid\" (boolean) and \"body\"");
+        }
+        JsonNode name = node.get("name");
+        return new Example(
+            name != null && name.isTextual() ? name.asText() : source,
+            endpoint.asText().trim(),
+            valid.booleanValue(),
+            MAPPER.treeToValue(node.get("body"), Object.class),
+            failures(node.get("failures"), source));
+    }
+
+    private static List<String> failures(JsonNode node, String source) throws IOException {
+        if (node == null) {
+            return null;
+        }
+        if (!node.isArray()) {
+            throw new IOException("example " + source + " has \"failures\" that is not an array of rule ids");
+        }
+        List<String> ids = new ArrayList<>(node.size());
+        for (JsonNode id : node) {
+            ids.add(id.asText());
+        }
+        return List.copyOf(ids);
+    }
+}
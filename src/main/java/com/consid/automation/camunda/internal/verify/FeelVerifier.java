@@ -0,0 +1,127 @@
+package com.consid.automation.camunda.internal.verify;
+
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.consid.automation.camunda.internal.corpus.FeelEvaluator;
+
+import org.camunda.feel.syntaxtree.ParsedExpression;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Checks a generated FEEL document against {@link Example}s. Each endpoint
+ * block is parsed once; the examples are then evaluated in parallel, sharing
+ * the parsed expressions, and every problem is collected rather than stopping
+ * at the first.
+ */
+public final class FeelVerifier {
+
+    private final FeelEvaluator evaluator;
+    private final int threads;
+
+    public FeelVerifier(FeelEvaluator evaluator, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        this.evaluator = evaluator;
+        this.threads = threads;
+    }
+
+    public VerificationReport verify(FeelDocument document, List<Example> examples) throws InterruptedException {
+        List<String> problems = new ArrayList<>();
+        Map<String, ParsedExpression> parsed = new LinkedHashMap<>();
+        for (Map.Entry<String, String> block : document.expressions().entrySet()) {
+            try {
+                parsed.put(block.getKey(), evaluator.parse(block.getKey(), block.getValue()));
+            } catch (IllegalArgumentException e) {
+                problems.add(e.getMessage());
+            }
+        }
+
+        List<Example> runnable = new ArrayList<>();
+        for (Example example : examples) {
+            if (parsed.containsKey(example.endpoint())) {
+                runnable.add(example);
+            } else if (!document.expressions().containsKey(example.endpoint())) {
+                problems.add("example \"" + example.name() + "\" names " + example.endpoint()
+                    + ", which has no FEEL block");
+            }
+        }
+
+        List<Checked> checked = evaluateAll(parsed, runnable);
+        Map<String, long[]> timings = new LinkedHashMap<>();
+        for (String endpoint : parsed.keySet()) {
+            timings.put(endpoint, new long[3]);
+        }
+        for (Checked result : checked) {
+            long[] timing = timings.get(result.example().endpoint());
+            timing[0]++;
+            timing[1] += result.nanos();
+            timing[2] = Math.max(timing[2], result.nanos());
+            if (result.problem() != null) {
+                problems.add(result.problem());
+            }
+        }
+        List<VerificationReport.EndpointTiming> endpoints = new ArrayList<>(timings.size());
+        timings.forEach((endpoint, timing) ->
+            endpoints.add(new VerificationReport.EndpointTiming(endpoint, (int) timing[0], timing[1], timing[2])));
+        return new VerificationReport(endpoints, problems);
+    }
+
+    private List<Checked> evaluateAll(Map<String, ParsedExpression> parsed, List<Example> examples)
+        throws InterruptedException {
+        if (examples.isEmpty()) {
+            return List.of();
+        }
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(threads, examples.size()));
+        try {
+            List<Future<Checked>> futures = new ArrayList<>(examples.size());
+            for (Example example : examples) {
+                futures.add(workers.submit(() -> check(parsed.get(example.endpoint()), example)));
+            }
+            List<Checked> checked = new ArrayList<>(futures.size());
+            for (Future<Checked> future : futures) {
+                try {
+                    checked.add(future.get());
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("FEEL verification failed", e.getCause());
+                }
+            }
+            return checked;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Checked check(ParsedExpression expression, Example example) {
+        long start = System.nanoTime();
+        FeelEvaluator.Evaluation evaluation = evaluator.examine(expression, example.body());
+        long nanos = System.nanoTime() - start;
+        return new Checked(example, nanos, problem(example, evaluation));
+    }
+
+    static String problem(Example example, FeelEvaluator.Evaluation evaluation) {
+        String prefix = "example \"" + example.name() + "\" for " + example.endpoint() + ": ";
+        if (evaluation.outcome() == FeelEvaluator.Outcome.FAILED) {
+            return prefix + "FEEL evaluation failed: " + evaluation.error();
+        }
+        boolean accepted = evaluation.outcome() == FeelEvaluator.Outcome.ACCEPTED;
+        if (accepted != example.valid()) {
+            return prefix + (example.valid() ? "expected valid, but the FEEL rejected it"
+                : "expected invalid, but the FEEL accepted it");
+        }
+        if (example.failures() != null && !example.failures().equals(evaluation.failures())) {
+            return prefix + "expected failures " + example.failures() + ", but got " + evaluation.failures();
+        }
+        return null;
+    }
+
+    private record Checked(Example example, long nanos, String problem) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.consid.automation.camunda.internal.verify;
+
+import java.util.List;
+
+/**
+ * The outcome of verifying a FEEL document against its examples: one timing
+ * per endpoint, in document order, and every problem found (parse errors,
+ * wrong verdicts, examples naming an unknown endpoint). Verification passed
+ * when {@code problems} is empty.
+ */
+public record VerificationReport(List<EndpointTiming> endpoints, List<String> problems) {
+
+    public VerificationReport {
+        endpoints = List.copyOf(endpoints);
+        problems = List.copyOf(problems);
+    }
+
+    public boolean passed() {
+        return problems.isEmpty();
+    }
+
+    /** How long an endpoint's examples took to evaluate, summed and at the slowest. */
+    public record EndpointTiming(String endpoint, int examples, long totalNanos, long maxNanos) {
+    }
+}
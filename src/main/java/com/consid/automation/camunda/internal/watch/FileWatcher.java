@@ -0,0 +1,102 @@
+package com.consid.automation.camunda.internal.watch;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits for changes to a set of files with a {@link WatchService} on their
+ * directories. Editors save in bursts (write, rename, touch), so a change is
+ * only reported once no further event has arrived for the debounce interval.
+ * The set of files can be replaced between waits, as a spec gains or loses
+ * referenced files.
+ */
+public final class FileWatcher implements AutoCloseable {
+
+    private final WatchService service;
+    private final long debounceMillis;
+    private final Map<Path, WatchKey> keysByDirectory = new HashMap<>();
+    private Set<Path> files = Set.of();
+
+    public FileWatcher(Duration debounce) throws IOException {
+        this.service = FileSystems.getDefault().newWatchService();
+        this.debounceMillis = Math.max(0, debounce.toMillis());
+    }
+
+    /** Watches exactly {@code watched} from now on; directories no longer needed are released. */
+    public void watch(Set<Path> watched) throws IOException {
+        Set<Path> absolute = new HashSet<>();
+        Set<Path> directories = new HashSet<>();
+        for (Path file : watched) {
+            Path path = file.toAbsolutePath().normalize();
+            absolute.add(path);
+            directories.add(path.getParent());
+        }
+        for (Path directory : directories) {
+            if (!keysByDirectory.containsKey(directory)) {
+                keysByDirectory.put(directory, directory.register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE));
+            }
+        }
+        keysByDirectory.entrySet().removeIf(entry -> {
+            if (directories.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().cancel();
+            return true;
+        });
+        this.files = Set.copyOf(absolute);
+    }
+
+    /**
+     * Blocks until a watched file changes and the burst of events has settled,
+     * then returns the watched files that changed, sorted.
+     */
+    public Set<Path> awaitChanges() throws InterruptedException {
+        Set<Path> changed = new TreeSet<>();
+        WatchKey key = service.take();
+        while (true) {
+            collect(key, changed);
+            key = service.poll(debounceMillis, TimeUnit.MILLISECONDS);
+            if (key == null) {
+                if (!changed.isEmpty()) {
+                    return changed;
+                }
+                key = service.take();
+            }
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                files.stream().filter(file -> file.getParent().equals(directory)).forEach(changed::add);
+            } else {
+                Path file = directory.resolve((Path) event.context());
+                if (files.contains(file)) {
+                    changed.add(file);
+                }
+            }
+        }
+        key.reset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        service.close();
+    }
+}
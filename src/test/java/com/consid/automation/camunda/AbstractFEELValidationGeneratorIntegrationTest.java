@@ -159,6 +159,15 @@ public abstract class AbstractFEELValidationGeneratorIntegrationTest {
             new Scenario("orders-array-items-quantity-below-min",
                 "openapi/orders-array-items-api.json",
                 "payloads/orders-array-items-quantity-below-min-variables.json", false),
+            new Scenario("orders-item-digital-with-url",
+                "openapi/orders-item-conditional-api.json",
+                "payloads/orders-item-digital-with-url-variables.json", true),
+            new Scenario("orders-item-digital-without-url",
+                "openapi/orders-item-conditional-api.json",
+                "payloads/orders-item-digital-without-url-variables.json", false),
+            new Scenario("orders-item-physical-without-url",
+                "openapi/orders-item-conditional-api.json",
+                "payloads/orders-item-physical-without-url-variables.json", true),
             new Scenario("events-formats-valid",
                 "openapi/events-formats-and-const-api.json",
                 "payloads/events-formats-valid-variables.json", true),
@@ -197,7 +206,10 @@ public abstract class AbstractFEELValidationGeneratorIntegrationTest {
                 "payloads/customers-kitchen-sink-valid-variables.json", true),
             new Scenario("customers-kitchen-sink-invalid",
                 "openapi/customers-kitchen-sink-api.json",
-                "payloads/customers-kitchen-sink-invalid-variables.json", false)
+                "payloads/customers-kitchen-sink-invalid-variables.json", false),
+            new Scenario("customers-kitchen-sink-status-wrong-type",
+                "openapi/customers-kitchen-sink-api.json",
+                "payloads/customers-kitchen-sink-status-wrong-type-variables.json", false)
         );
     }
 
@@ -0,0 +1,136 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.feel.HashManifest;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the {@code check-bpmn} goal's wiring: hashes taken from the manifest
+ * or the FEEL file, drift reported as a build failure, and missing inputs
+ * reported. The comparison itself is covered by {@code BpmnDriftCheckTest}.
+ */
+public class FEELBpmnDriftMojoTest {
+
+    private static final String EXPRESSION = "{\n  isValid: request.body.name != null\n}.isValid";
+
+    private static final String BPMN = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <bpmn:definitions xmlns:bpmn="http://www.omg.org/spec/BPMN/20100524/MODEL"
+                          xmlns:zeebe="http://camunda.org/schema/zeebe/1.0" id="d">
+          <bpmn:process id="p" isExecutable="true">
+            <bpmn:startEvent id="start" zeebe:modelerTemplate="io.camunda.connectors.webhook.WebhookConnectorStartMessage.v1">
+              <bpmn:extensionElements>
+                <zeebe:properties>
+                  <zeebe:property name="inbound.method" value="POST" />
+                  <zeebe:property name="inbound.context" value="customers" />
+                  <zeebe:property name="activationCondition" value="%s" />
+                </zeebe:properties>
+              </bpmn:extensionElements>
+            </bpmn:startEvent>
+          </bpmn:process>
+        </bpmn:definitions>
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    private FEELBpmnDriftMojo mojo;
+    private Log mockLog;
+    private Path bpmnDirectory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mojo = new FEELBpmnDriftMojo();
+        mockLog = mock(Log.class);
+        mojo.setLog(mockLog);
+        Path feelFile = Files.writeString(tempDir.resolve("validation.feel"), "# POST /inbound/customers\n" + EXPRESSION + "\n");
+        bpmnDirectory = Files.createDirectories(tempDir.resolve("bpmn"));
+        setField("outputFile", feelFile.toString());
+        setField("bpmnDirectory", bpmnDirectory.toString());
+        setField("inboundPathPrefix", "/inbound/");
+        setField("checkThreads", 2);
+    }
+
+    @Test
+    public void test_mojo_does_pass_conditions_matching_the_manifest_as_expected() throws Exception {
+        // given
+        Path manifest = tempDir.resolve("validation.hashes.json");
+        new HashManifest().write(manifest, Map.of("POST /inbound/customers", EXPRESSION));
+        setField("hashManifestFile", manifest.toString());
+        Files.writeString(bpmnDirectory.resolve("customers.bpmn"),
+            BPMN.formatted("={&#10;  isValid: request.body.name != null&#10;}.isValid"));
+
+        // when
+        mojo.execute();
+
+        // then
+        verify(mockLog).info("BPMN check passed: 1 webhooks in 1 files");
+    }
+
+    @Test
+    public void test_mojo_does_fail_on_drifted_condition_as_expected() throws Exception {
+        // given
+        Files.writeString(bpmnDirectory.resolve("customers.bpmn"), BPMN.formatted("=true"));
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessageContaining("BPMN activation conditions drifted from")
+            .hasMessageContaining("customers.bpmn (event 'start'): activationCondition drifted from "
+                + "'# POST /inbound/customers'")
+            .hasMessageContaining("    + true");
+    }
+
+    @Test
+    public void test_mojo_does_fail_when_hash_manifest_missing_as_expected() throws Exception {
+        // given
+        setField("hashManifestFile", tempDir.resolve("missing.json").toString());
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessageContaining("Hash manifest not found");
+    }
+
+    @Test
+    public void test_mojo_does_skip_when_configured_as_expected() throws Exception {
+        // given
+        setField("skipBpmnCheck", true);
+        setField("bpmnDirectory", tempDir.resolve("missing").toString());
+
+        // when
+        mojo.execute();
+
+        // then
+        verify(mockLog).info("BPMN check skipped");
+    }
+
+    @Test
+    public void test_mojo_does_reject_non_positive_check_threads_as_expected() throws Exception {
+        // given
+        setField("checkThreads", -1);
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoExecutionException.class)
+            .hasMessage("checkThreads must be positive: -1");
+    }
+
+    private void setField(String name, Object value) throws NoSuchFieldException, IllegalAccessException {
+        var field = FEELBpmnDriftMojo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+}
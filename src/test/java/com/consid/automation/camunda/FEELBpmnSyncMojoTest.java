@@ -0,0 +1,119 @@
+package com.consid.automation.camunda;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the {@code sync-bpmn} goal's wiring: FEEL headings looked up from the
+ * BPMN's inbound properties, results logged, and missing inputs reported.
+ * The rewriting itself is covered by {@code BpmnConditionSyncTest}.
+ */
+public class FEELBpmnSyncMojoTest {
+
+    private static final String BPMN = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <bpmn:definitions xmlns:bpmn="http://www.omg.org/spec/BPMN/20100524/MODEL"
+                          xmlns:zeebe="http://camunda.org/schema/zeebe/1.0" id="d">
+          <bpmn:process id="p" isExecutable="true">
+            <bpmn:startEvent id="start" zeebe:modelerTemplate="io.camunda.connectors.webhook.WebhookConnectorStartMessage.v1">
+              <bpmn:extensionElements>
+                <zeebe:properties>
+                  <zeebe:property name="inbound.method" value="%s" />
+                  <zeebe:property name="inbound.context" value="%s" />
+                  <zeebe:property name="activationCondition" value="=false" />
+                </zeebe:properties>
+              </bpmn:extensionElements>
+            </bpmn:startEvent>
+          </bpmn:process>
+        </bpmn:definitions>
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    private FEELBpmnSyncMojo mojo;
+    private Log mockLog;
+    private Path feelFile;
+    private Path bpmnDirectory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mojo = new FEELBpmnSyncMojo();
+        mockLog = mock(Log.class);
+        mojo.setLog(mockLog);
+        feelFile = Files.writeString(tempDir.resolve("validation.feel"),
+            "# POST /webhooks/customers\n{\n  isValid: request.body.name != null\n}.isValid\n");
+        bpmnDirectory = Files.createDirectories(tempDir.resolve("bpmn"));
+        setField("outputFile", feelFile.toString());
+        setField("bpmnDirectory", bpmnDirectory.toString());
+        setField("inboundPathPrefix", "/webhooks/");
+        setField("syncThreads", 2);
+    }
+
+    @Test
+    public void test_mojo_does_update_matching_webhooks_and_warn_about_others_as_expected() throws Exception {
+        // given
+        Path customers = Files.writeString(bpmnDirectory.resolve("customers.bpmn"), BPMN.formatted("post", "Customers"));
+        Files.writeString(bpmnDirectory.resolve("orders.bpmn"), BPMN.formatted("POST", "orders"));
+
+        // when
+        mojo.execute();
+
+        // then
+        assertThat(Files.readString(customers))
+            .contains("value=\"={&#10;  isValid: request.body.name != null&#10;}.isValid\"");
+        verify(mockLog).warn("orders.bpmn (event 'start'): no FEEL block headed '# POST /webhooks/orders'");
+        verify(mockLog).info("BPMN sync: 2 files, 2 webhooks, 1 conditions updated in 1 files");
+    }
+
+    @Test
+    public void test_mojo_does_report_malformed_bpmn_as_failure_as_expected() throws Exception {
+        // given
+        Files.writeString(bpmnDirectory.resolve("broken.bpmn"), "<bpmn:definitions>");
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessageContaining("malformed BPMN");
+    }
+
+    @Test
+    public void test_mojo_does_fail_when_bpmn_directory_missing_as_expected() throws Exception {
+        // given
+        setField("bpmnDirectory", tempDir.resolve("missing").toString());
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessageContaining("BPMN directory not found");
+    }
+
+    @Test
+    public void test_mojo_does_reject_non_positive_sync_threads_as_expected() throws Exception {
+        // given
+        setField("syncThreads", 0);
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoExecutionException.class)
+            .hasMessage("syncThreads must be positive: 0");
+    }
+
+    private void setField(String name, Object value) throws NoSuchFieldException, IllegalAccessException {
+        var field = FEELBpmnSyncMojo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+}
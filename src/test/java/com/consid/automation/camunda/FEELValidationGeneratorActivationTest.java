@@ -6,11 +6,13 @@ import com.consid.automation.camunda.internal.openapi.*;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -79,4 +81,297 @@ public class FEELValidationGeneratorActivationTest extends AbstractFEELValidatio
                 .isEqualTo(scenario.expectedValid());
         }
     }
+
+    @Test
+    public void test_max_array_items_ceiling_does_reject_oversized_payload_before_rules_as_expected() throws IOException {
+        // given — the payload is valid against the spec but carries two line items
+        Path specFile = resolveResourcePath("openapi/orders-array-items-api.json");
+        Path outputFile = tempDir.resolve("orders-ceiling.feel");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile.toAbsolutePath())
+            .withMaxArrayItems(1)
+            .build();
+        Map<String, Object> context = buildEvaluationContext(
+            loadJsonResource("payloads/orders-array-items-valid-variables.json"));
+
+        // when
+        generator.generate();
+        List<String> expressions = extractFeelExpressions(Files.readString(outputFile).stripTrailing());
+
+        // then
+        assertThat(expressions).hasSize(1);
+        assertThat(expressions.get(0))
+            .contains("rules: if (req.lineItems instance of list and count(req.lineItems)>1) then [");
+        var evaluation = FEEL_ENGINE.evalExpression(expressions.get(0), context);
+        assertThat(evaluation.isRight())
+            .withFailMessage(() -> "FEEL evaluation failure: " + evaluation.left().get())
+            .isTrue();
+        assertThat((Boolean) evaluation.getOrElse(null)).isFalse();
+    }
+
+    @Test
+    public void test_split_output_does_write_each_endpoint_block_and_index_as_expected() throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/customers-orders-two-endpoints-api.json");
+        Path outputFile = tempDir.resolve("validation.feel");
+        Path splitDirectory = tempDir.resolve("split");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile)
+            .withSplitOutputDirectory(splitDirectory)
+            .build();
+
+        // when
+        generator.generate();
+
+        // then — the split files are the main output's blocks, in the same order
+        String customers = Files.readString(splitDirectory.resolve("post-customers.feel"));
+        String orders = Files.readString(splitDirectory.resolve("put-orders-id.feel"));
+        assertThat(customers).startsWith("# POST /customers\n");
+        assertThat(orders).startsWith("# PUT /orders/{id}\n");
+        assertThat(customers + "\n\n" + orders).isEqualTo(Files.readString(outputFile));
+        var index = OBJECT_MAPPER.readTree(splitDirectory.resolve("index.json").toFile()).path("endpoints");
+        assertThat(index).extracting(entry -> entry.path("endpoint").asText())
+            .containsExactly("POST /customers", "PUT /orders/{id}");
+        assertThat(index).extracting(entry -> entry.path("file").asText())
+            .containsExactly("post-customers.feel", "put-orders-id.feel");
+    }
+
+    @Test
+    public void test_hash_manifest_does_record_a_hash_per_endpoint_as_expected() throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/customers-orders-two-endpoints-api.json");
+        Path outputFile = tempDir.resolve("validation.feel");
+        Path manifest = tempDir.resolve("validation.hashes.json");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile)
+            .withHashManifest(manifest)
+            .build();
+
+        // when
+        generator.generate();
+
+        // then — each hash is that of the block's expression, heading excluded
+        var endpoints = OBJECT_MAPPER.readTree(manifest.toFile()).path("endpoints");
+        List<String> expressions = extractFeelExpressions(Files.readString(outputFile).stripTrailing());
+        assertThat(endpoints.path("POST /customers").asText()).isEqualTo(HashManifest.hash(expressions.get(0)));
+        assertThat(endpoints.path("PUT /orders/{id}").asText()).isEqualTo(HashManifest.hash(expressions.get(1)));
+    }
+
+    @Test
+    public void test_non_positive_ceiling_does_fail_fast_as_expected() {
+        assertThatThrownBy(() -> FEELValidationGenerator.builder().withMaxStringLength(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxStringLength must be positive");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "payloads/customers-shared-variables.json, true",
+        "payloads/customers-shared-missing-street-variables.json, false",
+        "payloads/customers-shared-bad-country-variables.json, false"
+    })
+    public void test_component_function_threshold_does_call_shared_function_as_expected(
+        String payloadResource, boolean expectedValid) throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/customers-shared-api.json");
+        Path outputFile = tempDir.resolve("shared-functions.feel");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile.toAbsolutePath())
+            .withComponentFunctionThreshold(2)
+            .build();
+        Map<String, Object> context = buildEvaluationContext(loadJsonResource(payloadResource));
+
+        // when
+        generator.generate();
+        List<String> expressions = extractFeelExpressions(Files.readString(outputFile).stripTrailing());
+
+        // then — one definition, two calls, no inlined Address fields, enum-bearing country included
+        assertThat(expressions).hasSize(1);
+        assertThat(expressions.get(0))
+            .containsOnlyOnce("validateAddress: function(v)")
+            .contains("{invalid: validateAddress(req.billingAddress)}")
+            .contains("{invalid: validateAddress(req.shippingAddress)}")
+            .doesNotContain("req.billingAddress.city")
+            .doesNotContain("req.shippingAddress.country");
+        var evaluation = FEEL_ENGINE.evalExpression(expressions.get(0), context);
+        assertThat(evaluation.isRight())
+            .withFailMessage(() -> "FEEL evaluation failure: " + evaluation.left().get())
+            .isTrue();
+        assertThat((Boolean) evaluation.getOrElse(null)).isEqualTo(expectedValid);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "payloads/customers-colliding-components-variables.json, true",
+        "payloads/customers-colliding-components-missing-zip-variables.json, false"
+    })
+    public void test_component_function_threshold_with_colliding_names_does_keep_functions_apart_as_expected(
+        String payloadResource, boolean expectedValid) throws IOException {
+        // given — Postal.Address and Postal_Address both sanitize to validatePostal_Address
+        Path specFile = resolveResourcePath("openapi/customers-colliding-components-api.json");
+        Path outputFile = tempDir.resolve("colliding-functions.feel");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile.toAbsolutePath())
+            .withComponentFunctionThreshold(2)
+            .build();
+        Map<String, Object> context = buildEvaluationContext(loadJsonResource(payloadResource));
+
+        // when
+        generator.generate();
+        List<String> expressions = extractFeelExpressions(Files.readString(outputFile).stripTrailing());
+
+        // then — two definitions, and each call site validates against its own component
+        assertThat(expressions).hasSize(1);
+        assertThat(expressions.get(0))
+            .containsOnlyOnce("validatePostal_Address: function(v)")
+            .containsOnlyOnce("validatePostal_Address_2: function(v)");
+        var evaluation = FEEL_ENGINE.evalExpression(expressions.get(0), context);
+        assertThat(evaluation.isRight())
+            .withFailMessage(() -> "FEEL evaluation failure: " + evaluation.left().get())
+            .isTrue();
+        assertThat((Boolean) evaluation.getOrElse(null)).isEqualTo(expectedValid);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, true",
+        "4, false"
+    })
+    public void test_max_validation_depth_does_validate_nested_recursive_levels_as_expected(
+        int maxValidationDepth, boolean expectedValid) throws IOException {
+        // given — the grandchild category is missing its required name
+        Path specFile = resolveResourcePath("openapi/categories-recursive-api.json");
+        Path outputFile = tempDir.resolve("categories-depth-" + maxValidationDepth + ".feel");
+        List<String> info = new ArrayList<>();
+        var builder = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile.toAbsolutePath())
+            .withInfoConsumer(info::add);
+        if (maxValidationDepth > 0) {
+            builder.withMaxValidationDepth(maxValidationDepth);
+        }
+        Map<String, Object> context = buildEvaluationContext(
+            loadJsonResource("payloads/categories-recursive-grandchild-missing-name-variables.json"));
+
+        // when
+        builder.build().generate();
+        List<String> expressions = extractFeelExpressions(Files.readString(outputFile).stripTrailing());
+
+        // then — unbounded stops at the first level, so the grandchild slips through
+        assertThat(info).singleElement().asString().startsWith("[POST /categories] expanded ");
+        assertThat(expressions).hasSize(1);
+        var evaluation = FEEL_ENGINE.evalExpression(expressions.get(0), context);
+        assertThat(evaluation.isRight())
+            .withFailMessage(() -> "FEEL evaluation failure: " + evaluation.left().get())
+            .isTrue();
+        assertThat((Boolean) evaluation.getOrElse(null)).isEqualTo(expectedValid);
+    }
+
+    @Test
+    public void test_expansion_over_node_budget_does_fail_before_extraction_as_expected() {
+        // given
+        Path specFile = resolveResourcePath("openapi/orders-conditional-nested-api.json");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(tempDir.resolve("budget.feel").toAbsolutePath())
+            .withMaxExpandedNodes(1)
+            .build();
+
+        // when / then
+        assertThatThrownBy(generator::generate)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Failed processing # POST")
+            .hasMessageContaining("above maxExpandedNodes (1)");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_cost_report_does_list_endpoint_and_rule_estimates_as_expected() throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/orders-array-items-api.json");
+        Path reportFile = tempDir.resolve("reports/cost.json");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(tempDir.resolve("orders.feel").toAbsolutePath())
+            .withCostReportPath(reportFile.toAbsolutePath())
+            .build();
+
+        // when
+        generator.generate();
+        Map<String, Object> report = OBJECT_MAPPER.readValue(reportFile.toFile(), Map.class);
+
+        // then — the array-items rule runs a quantifier, so it leads its endpoint's rule list
+        assertThat(report).containsEntry("maxEvaluationCost", null);
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) report.get("endpoints");
+        assertThat(endpoints).singleElement().satisfies(endpoint -> {
+            assertThat(endpoint).containsEntry("endpoint", "POST /orders").containsEntry("overBudget", false);
+            assertThat((Integer) endpoint.get("quantifierDepth")).isPositive();
+            List<Map<String, Object>> rules = (List<Map<String, Object>>) endpoint.get("rules");
+            assertThat(rules).isNotEmpty();
+            assertThat(rules.get(0)).containsEntry("quantifierDepth", endpoint.get("quantifierDepth"));
+        });
+    }
+
+    @Test
+    public void test_evaluation_cost_over_budget_does_fail_before_writing_feel_as_expected() {
+        // given
+        Path specFile = resolveResourcePath("openapi/orders-array-items-api.json");
+        Path outputFile = tempDir.resolve("over-budget.feel");
+        Path reportFile = tempDir.resolve("over-budget.json");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile.toAbsolutePath())
+            .withCostReportPath(reportFile.toAbsolutePath())
+            .withMaxEvaluationCost(1)
+            .build();
+
+        // when / then — the report is still written so the offending rules can be found
+        assertThatThrownBy(generator::generate)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("above maxEvaluationCost (1): POST /orders (");
+        assertThat(outputFile).doesNotExist();
+        assertThat(reportFile).content().contains("\"overBudget\" : true");
+    }
+
+    @Test
+    public void test_backtracking_pattern_does_warn_by_default_as_expected() throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/customers-backtracking-pattern-api.json");
+        List<String> warnings = new ArrayList<>();
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(tempDir.resolve("backtracking.feel").toAbsolutePath())
+            .withWarningConsumer(warnings::add)
+            .build();
+
+        // when
+        generator.generate();
+
+        // then — the array item pattern has no nested quantifier and passes
+        assertThat(warnings).singleElement().asString()
+            .startsWith("[fullName] pattern \"^(\\w+\\s?)*$\" is vulnerable to catastrophic backtracking (nested quantifier");
+    }
+
+    @Test
+    public void test_backtracking_pattern_does_fail_in_strict_mode_as_expected() {
+        // given
+        Path specFile = resolveResourcePath("openapi/customers-backtracking-pattern-api.json");
+        Path outputFile = tempDir.resolve("backtracking-strict.feel");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile.toAbsolutePath())
+            .withStrictPatternChecks(true)
+            .build();
+
+        // when / then
+        assertThatThrownBy(generator::generate)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Failed processing # POST /customers: [fullName] pattern");
+        assertThat(outputFile).doesNotExist();
+    }
 }
@@ -0,0 +1,95 @@
+package com.consid.automation.camunda;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the command line end to end and checks it writes what the Builder
+ * configured with the same options writes.
+ */
+public class FEELValidationGeneratorCliTest extends AbstractFEELValidationGeneratorIntegrationTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void test_cli_does_write_what_the_builder_writes_as_expected() throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/customers-constraints-api.json");
+        Path outputFile = tempDir.resolve("cli/validation.feel");
+        Path responseFile = tempDir.resolve("cli/response.feel");
+        Path expectedFile = tempDir.resolve("builder/validation.feel");
+        Path expectedResponseFile = tempDir.resolve("builder/response.feel");
+        FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile)
+            .withOutputFilePath(expectedFile)
+            .withMaxStringLength(500)
+            .withSuccessStatusCode(202)
+            .withAdditionalOutput(expectedResponseFile, true, 202, 400)
+            .build()
+            .generate();
+
+        // when
+        int exitCode = run("--openapi", specFile.toString(), "--output", outputFile.toString(),
+            "--max-string-length", "500", "--success-status", "202",
+            "--additional-response-output", responseFile.toString(), "--quiet");
+
+        // then
+        assertThat(exitCode).as(err.toString(StandardCharsets.UTF_8)).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEmpty();
+        assertThat(Files.readString(outputFile)).isEqualTo(Files.readString(expectedFile));
+        assertThat(Files.readString(responseFile)).isEqualTo(Files.readString(expectedResponseFile));
+    }
+
+    @Test
+    public void test_cli_does_report_usage_errors_as_expected() {
+        // when
+        int missingOutput = run("--openapi", "openapi.yaml");
+        int badNumber = run("--openapi", "openapi.yaml", "--output", "out.feel", "--max-array-items", "many");
+        int notPositive = run("--openapi", "openapi.yaml", "--output", "out.feel", "--max-array-items", "0");
+
+        // then
+        assertThat(missingOutput).isEqualTo(2);
+        assertThat(badNumber).isEqualTo(2);
+        assertThat(notPositive).isEqualTo(2);
+        assertThat(err.toString(StandardCharsets.UTF_8))
+            .contains("--openapi and --output are required")
+            .contains("--max-array-items needs a whole number, got many")
+            .contains("maxArrayItems must be positive")
+            .contains("usage: FEELValidationGeneratorCli");
+    }
+
+    @Test
+    public void test_cli_does_fail_on_unreadable_spec_as_expected() {
+        // when
+        int exitCode = run("--openapi", tempDir.resolve("missing.yaml").toString(),
+            "--output", tempDir.resolve("validation.feel").toString());
+
+        // then
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("Failed to parse OpenAPI specification");
+    }
+
+    @Test
+    public void test_help_does_print_usage_as_expected() {
+        // when
+        int exitCode = run("--help");
+
+        // then
+        assertThat(exitCode).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(FEELValidationGeneratorCli.USAGE);
+    }
+
+    private int run(String... args) {
+        return FEELValidationGeneratorCli.run(args,
+            new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+}
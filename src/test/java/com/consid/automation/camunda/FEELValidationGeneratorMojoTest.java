@@ -7,6 +7,7 @@ import com.consid.automation.camunda.internal.openapi.*;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -16,6 +17,7 @@ import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -84,6 +86,56 @@ public class FEELValidationGeneratorMojoTest {
             .hasMessageContaining("Error generating FEEL validations");
     }
 
+    @Test
+    public void test_mojo_with_java_sources_does_write_and_register_them_as_expected() throws Exception {
+        // given
+        Path specFile = copyResourceToTempDir("openapi/responses-direct-api.json");
+        Path javaSources = tempDir.resolve("generated-sources/feel");
+        MavenProject project = mock(MavenProject.class);
+        setMojoFields(specFile.toAbsolutePath().toString(), tempDir.resolve("output.feel").toAbsolutePath().toString());
+        setField("javaSourcesDirectory", javaSources.toString());
+        setField("javaPackage", "com.acme.validation");
+        setField("project", project);
+
+        // when
+        mojo.execute();
+
+        // then
+        assertThat(javaSources.resolve("com/acme/validation/PostResponsesDirectValidator.java")).exists();
+        assertThat(javaSources.resolve("com/acme/validation/FeelValidationSupport.java")).exists();
+        verify(project).addCompileSourceRoot(javaSources.toAbsolutePath().toString());
+    }
+
+    @Test
+    public void test_mojo_with_additional_outputs_does_write_each_file_as_expected() throws Exception {
+        // given
+        Path specFile = copyResourceToTempDir("openapi/responses-direct-api.json");
+        Path activation = tempDir.resolve("activation.feel");
+        Path response = tempDir.resolve("response.feel");
+        setMojoFields(specFile.toAbsolutePath().toString(), activation.toAbsolutePath().toString());
+        setField("additionalOutputs", List.of(new AdditionalOutput(response.toString(), true, 202, 422)));
+
+        // when
+        mojo.execute();
+
+        // then
+        assertThat(Files.readString(activation)).contains("}.isValid");
+        assertThat(Files.readString(response)).contains("statusCode: if isValid then 202 else 422");
+    }
+
+    @Test
+    public void test_mojo_with_additional_output_without_file_does_fail_as_expected() throws Exception {
+        // given
+        Path specFile = copyResourceToTempDir("openapi/responses-direct-api.json");
+        setMojoFields(specFile.toAbsolutePath().toString(), tempDir.resolve("output.feel").toAbsolutePath().toString());
+        setField("additionalOutputs", List.of(new AdditionalOutput()));
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessage("additionalOutput is missing its outputFile");
+    }
+
     private void setMojoFields(String openApiSpec, String outputFile) {
         try {
             setField("openApiSpec", openApiSpec);
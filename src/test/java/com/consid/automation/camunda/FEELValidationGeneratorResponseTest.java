@@ -11,11 +11,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests covering response-expression generation. Two layers:
@@ -103,6 +105,95 @@ public class FEELValidationGeneratorResponseTest extends AbstractFEELValidationG
         );
     }
 
+    @Test
+    public void test_response_with_max_reported_details_does_report_first_failures_only_as_expected() throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/responses-direct-api.json");
+        Path outputFile = tempDir.resolve("responses-direct-capped.feel");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(outputFile.toAbsolutePath())
+            .withResponse(true)
+            .withMaxReportedDetails(2)
+            .build();
+        Map<String, Object> context = buildEvaluationContext(
+            loadJsonResource("payloads/responses-direct-invalid-variables.json"));
+
+        // when
+        generator.generate();
+        List<String> expressions = extractFeelExpressions(Files.readString(outputFile).stripTrailing());
+
+        // then — same order as the uncapped snapshot, truncated after two entries
+        assertThat(expressions).hasSize(1);
+        var evaluation = FEEL_ENGINE.evalExpression(expressions.get(0), context);
+        assertThat(evaluation.isRight())
+            .withFailMessage(() -> "FEEL evaluation failure: " + evaluation.left().get())
+            .isTrue();
+        Map<String, Object> body = castToMap(normalizeValue(toJavaMap(evaluation.getOrElse(null)).get("body")));
+        assertThat((List<?>) body.get("details"))
+            .extracting(detail -> castToMap(detail).get("id"))
+            .containsExactly("age-invalid", "annualIncome-invalid");
+    }
+
+    @Test
+    public void test_additional_outputs_do_render_from_one_extraction_as_expected() throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/responses-direct-api.json").toAbsolutePath();
+        Path activation = tempDir.resolve("activation.feel");
+        Path response = tempDir.resolve("response.feel");
+        List<String> infos = new ArrayList<>();
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile)
+            .withOutputFilePath(activation)
+            .withAdditionalOutput(response, true, 202, 422)
+            .withInfoConsumer(infos::add)
+            .build();
+
+        // when
+        generator.generate();
+
+        // then — each output is what a dedicated run would write, from a single extraction
+        assertThat(infos).hasSize(1);
+        Path separateActivation = tempDir.resolve("separate-activation.feel");
+        Path separateResponse = tempDir.resolve("separate-response.feel");
+        FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile)
+            .withOutputFilePath(separateActivation)
+            .build()
+            .generate();
+        FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile)
+            .withOutputFilePath(separateResponse)
+            .withResponse(true)
+            .withSuccessStatusCode(202)
+            .withFailStatusCode(422)
+            .build()
+            .generate();
+        assertThat(activation).hasSameTextualContentAs(separateActivation);
+        assertThat(response).hasSameTextualContentAs(separateResponse);
+    }
+
+    @Test
+    public void test_additional_output_with_same_path_or_bad_status_does_fail_fast_as_expected() {
+        // given
+        Path output = tempDir.resolve("validation.feel");
+        var builder = FEELValidationGenerator.builder()
+            .withOpenApiPath(tempDir.resolve("openapi.json"))
+            .withOutputFilePath(output);
+
+        // when // then
+        assertThatThrownBy(() -> builder.withAdditionalOutput(output, true, 201, 400).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("output file configured more than once: " + output);
+        assertThatThrownBy(() -> FEELValidationGenerator.builder()
+                .withOpenApiPath(tempDir.resolve("openapi.json"))
+                .withOutputFilePath(output)
+                .withAdditionalOutput(tempDir.resolve("response.feel"), true, 99, 400)
+                .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("successStatusCode must be a valid HTTP status code");
+    }
+
     /**
      * Pins the exact {@code body} shape of the response context against a JSON
      * snapshot — guards the response template's field names and layout.
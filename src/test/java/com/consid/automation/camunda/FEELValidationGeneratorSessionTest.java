@@ -0,0 +1,82 @@
+package com.consid.automation.camunda;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link FEELValidationGenerator.Session}, the warm state behind the
+ * {@code watch} goal: only endpoints an edit reaches are regenerated, and the
+ * output always equals what a fresh {@code generate()} writes.
+ */
+public class FEELValidationGeneratorSessionTest extends AbstractFEELValidationGeneratorIntegrationTest {
+
+    @Test
+    public void test_regenerate_does_redo_only_endpoints_an_edit_reaches_as_expected() throws IOException {
+        // given
+        Path specFile = copySpec(tempDir.resolve("api.json"));
+        Path outputFile = tempDir.resolve("validation.feel");
+        FEELValidationGenerator.Session session = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile)
+            .withOutputFilePath(outputFile)
+            .build()
+            .newSession();
+
+        // when
+        FEELValidationGenerator.Regeneration first = session.regenerate();
+        FEELValidationGenerator.Regeneration unchanged = session.regenerate();
+        requireAddressField(specFile, "street");
+        FEELValidationGenerator.Regeneration edited = session.regenerate();
+
+        // then — the nested Address edit reaches POST /customers only
+        assertThat(first.regenerated()).containsExactly("POST /customers", "POST /orders");
+        assertThat(unchanged.regenerated()).isEmpty();
+        assertThat(edited.regenerated()).containsExactly("POST /customers");
+        assertThat(edited.endpoints()).isEqualTo(2);
+        String incremental = Files.readString(outputFile);
+        assertThat(incremental).contains("street").doesNotContain("city");
+        Path freshFile = tempDir.resolve("fresh.feel");
+        FEELValidationGenerator.builder().withOpenApiPath(specFile).withOutputFilePath(freshFile).build().generate();
+        assertThat(incremental).isEqualTo(Files.readString(freshFile));
+    }
+
+    @Test
+    public void test_regenerate_does_keep_previous_state_after_failure_as_expected() throws IOException {
+        // given
+        Path specFile = copySpec(tempDir.resolve("api.json"));
+        FEELValidationGenerator.Session session = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile)
+            .withOutputFilePath(tempDir.resolve("validation.feel"))
+            .build()
+            .newSession();
+        session.regenerate();
+
+        // when
+        Files.writeString(specFile, "{ not json");
+        assertThatThrownBy(session::regenerate).isInstanceOf(IOException.class);
+        copySpec(specFile);
+
+        // then
+        assertThat(session.regenerate().regenerated()).isEmpty();
+    }
+
+    private Path copySpec(Path target) throws IOException {
+        return Files.copy(resolveResourcePath("openapi/customers-orders-referenced-api.json"), target,
+            StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /** Rewrites the spec with {@code Address} requiring {@code field} instead of {@code city}. */
+    private void requireAddressField(Path specFile, String field) throws IOException {
+        JsonNode spec = OBJECT_MAPPER.readTree(readResourceFile("openapi/customers-orders-referenced-api.json"));
+        ((ObjectNode) spec.at("/components/schemas/Address")).putArray("required").add(field);
+        Files.writeString(specFile, OBJECT_MAPPER.writeValueAsString(spec));
+    }
+}
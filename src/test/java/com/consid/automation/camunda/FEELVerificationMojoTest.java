@@ -0,0 +1,149 @@
+package com.consid.automation.camunda;
+
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs the {@code verify-feel} goal against FEEL generated from a fixture spec
+ * and example files built from the fixture payloads, on the real FEEL engine.
+ */
+public class FEELVerificationMojoTest extends AbstractFEELValidationGeneratorIntegrationTest {
+
+    private FEELVerificationMojo mojo;
+    private Log mockLog;
+    private Path feelFile;
+    private Path examples;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mojo = new FEELVerificationMojo();
+        mockLog = mock(Log.class);
+        mojo.setLog(mockLog);
+        feelFile = tempDir.resolve("validation.feel");
+        examples = Files.createDirectories(tempDir.resolve("examples"));
+        FEELValidationGenerator.builder()
+            .withOpenApiPath(resolveResourcePath("openapi/customers-direct-api.json").toAbsolutePath())
+            .withOutputFilePath(feelFile.toAbsolutePath())
+            .withResponse(true)
+            .build()
+            .generate();
+        setField("outputFile", feelFile.toString());
+        setField("examplesDirectory", examples.toString());
+        setField("verifyThreads", 2);
+    }
+
+    @Test
+    public void test_matching_examples_do_pass_and_report_timing_as_expected() throws Exception {
+        // given
+        writeExamples("customers.json", true, false, "");
+
+        // when
+        mojo.execute();
+
+        // then
+        verify(mockLog).info(startsWith("[POST /customers/direct] 2 examples evaluated in "));
+        verify(mockLog).info("FEEL verification passed: 2 examples");
+    }
+
+    @Test
+    public void test_wrong_verdicts_do_fail_build_as_expected() throws Exception {
+        // given
+        writeExamples("customers.json", false, true, ", \"failures\": [\"nope-invalid\"]");
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessageContaining("example \"customers.json[0]\" for POST /customers/direct: "
+                + "expected invalid, but the FEEL accepted it")
+            .hasMessageContaining("example \"customers.json[1]\" for POST /customers/direct: "
+                + "expected valid, but the FEEL rejected it");
+    }
+
+    @Test
+    public void test_wrong_failure_ids_do_fail_build_as_expected() throws Exception {
+        // given
+        writeExamples("customers.json", true, false, ", \"failures\": [\"nope-invalid\"]");
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessageContaining("example \"customers.json[1]\" for POST /customers/direct: "
+                + "expected failures [nope-invalid], but got [");
+    }
+
+    @Test
+    public void test_unparseable_block_and_unknown_endpoint_do_fail_build_as_expected() throws Exception {
+        // given
+        Files.writeString(feelFile, "# POST /customers/direct\n{ isValid: (((\n");
+        Files.writeString(examples.resolve("unknown.json"),
+            "{\"endpoint\": \"PUT /nowhere\", \"valid\": true, \"body\": {}}");
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessageContaining("FEEL for POST /customers/direct does not parse: ")
+            .hasMessageContaining("example \"unknown.json\" names PUT /nowhere, which has no FEEL block");
+    }
+
+    @Test
+    public void test_endpoint_without_examples_does_warn_as_expected() throws Exception {
+        // when
+        mojo.execute();
+
+        // then
+        verify(mockLog).warn("[POST /customers/direct] no examples");
+        verify(mockLog).info("FEEL verification passed: 0 examples");
+    }
+
+    @Test
+    public void test_missing_feel_file_does_fail_build_as_expected() throws Exception {
+        // given
+        setField("outputFile", tempDir.resolve("missing.feel").toString());
+
+        // when // then
+        assertThatThrownBy(() -> mojo.execute())
+            .isInstanceOf(MojoFailureException.class)
+            .hasMessageContaining("FEEL file not found");
+    }
+
+    @Test
+    public void test_skip_does_not_evaluate_as_expected() throws Exception {
+        // given
+        setField("skipVerify", true);
+        setField("outputFile", tempDir.resolve("missing.feel").toString());
+
+        // when
+        mojo.execute();
+
+        // then
+        verify(mockLog).info("FEEL verification skipped");
+    }
+
+    private void writeExamples(String file, boolean validExpected, boolean invalidExpected, String invalidExtra)
+        throws IOException {
+        String valid = OBJECT_MAPPER.writeValueAsString(loadJsonResource("payloads/customers-direct-variables.json"));
+        String invalid = OBJECT_MAPPER.writeValueAsString(
+            loadJsonResource("payloads/customers-direct-invalid-variables.json"));
+        Files.writeString(examples.resolve(file), "["
+            + "{\"endpoint\": \"POST /customers/direct\", \"valid\": " + validExpected + ", \"body\": " + valid + "},"
+            + "{\"endpoint\": \"POST /customers/direct\", \"valid\": " + invalidExpected + ", \"body\": " + invalid
+            + invalidExtra + "}]");
+    }
+
+    private void setField(String name, Object value) throws NoSuchFieldException, IllegalAccessException {
+        var field = FEELVerificationMojo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+}
@@ -0,0 +1,98 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.watch.FileWatcher;
+
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests the watch goal's regeneration step: whatever a run or the file
+ * listing throws, the goal keeps going and keeps watching.
+ */
+public class FEELWatchMojoTest {
+
+    private static final String ADDRESS = """
+        {"Address": {"type": "object", "required": ["city"], "properties": {"city": {"type": "string"}}}}
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    private FEELWatchMojo mojo;
+    private Log mockLog;
+
+    @BeforeEach
+    void setUp() {
+        mojo = new FEELWatchMojo();
+        mockLog = mock(Log.class);
+        mojo.setLog(mockLog);
+    }
+
+    @Test
+    public void test_regenerate_after_referenced_file_deleted_does_keep_watching_it_as_expected() throws Exception {
+        // given
+        Path specFile = Files.writeString(tempDir.resolve("api.json"), """
+            {
+              "openapi": "3.0.1",
+              "info": {"title": "Watched API", "version": "1.0.0"},
+              "paths": {
+                "/customers": {
+                  "post": {
+                    "requestBody": {
+                      "required": true,
+                      "content": {
+                        "application/json": {
+                          "schema": {
+                            "type": "object",
+                            "required": ["address"],
+                            "properties": {"address": {"$ref": "schemas/address.json#/Address"}}
+                          }
+                        }
+                      }
+                    }
+                  }
+                }
+              }
+            }
+            """);
+        Files.createDirectories(tempDir.resolve("schemas"));
+        Path addressFile = Files.writeString(tempDir.resolve("schemas/address.json"), ADDRESS);
+        FEELValidationGenerator.Session session = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile)
+            .withOutputFilePath(tempDir.resolve("validation.feel"))
+            .build()
+            .newSession();
+
+        try (FileWatcher watcher = new FileWatcher(Duration.ofMillis(50))) {
+            mojo.regenerate(session, watcher);
+
+            // when — the referenced file goes away between two runs, then comes back
+            Files.delete(addressFile);
+            Set<Path> deleted = assertTimeoutPreemptively(Duration.ofSeconds(30), watcher::awaitChanges);
+            mojo.regenerate(session, watcher);
+            Files.writeString(addressFile, ADDRESS);
+            Set<Path> restored = assertTimeoutPreemptively(Duration.ofSeconds(30), watcher::awaitChanges);
+
+            // then
+            assertThat(deleted).containsExactly(addressFile.toAbsolutePath().normalize());
+            assertThat(restored).containsExactly(addressFile.toAbsolutePath().normalize());
+            verify(mockLog, times(2)).info("Watching 2 spec file(s) for changes; press Ctrl+C to stop");
+            verify(mockLog, never()).warn(anyString());
+        }
+    }
+}
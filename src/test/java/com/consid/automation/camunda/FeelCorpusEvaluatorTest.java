@@ -0,0 +1,120 @@
+package com.consid.automation.camunda;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the corpus evaluator end to end: FEEL generated from a fixture spec,
+ * evaluated on the FEEL engine over the fixture's valid and invalid payloads.
+ */
+public class FeelCorpusEvaluatorTest extends AbstractFEELValidationGeneratorIntegrationTest {
+
+    private static final String ENDPOINT = "POST /customers/direct";
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void test_corpus_directory_does_count_accepted_and_rejected_payloads_as_expected(boolean response)
+        throws IOException {
+        // given
+        Path feel = generate(response);
+        Path payloads = Files.createDirectories(tempDir.resolve("payloads"));
+        Files.writeString(payloads.resolve("1-valid.json"), readResourceFile("payloads/customers-direct-variables.json"));
+        Files.writeString(payloads.resolve("2-invalid.json"),
+            readResourceFile("payloads/customers-direct-invalid-variables.json"));
+
+        // when
+        int exitCode = run("--feel", feel.toString(), "--payloads", payloads.toString(),
+            "--threads", "2", "--rounds", "3", "--json");
+
+        // then
+        assertThat(exitCode).as(err.toString(StandardCharsets.UTF_8)).isZero();
+        JsonNode report = OBJECT_MAPPER.readTree(out.toString(StandardCharsets.UTF_8));
+        assertThat(report).hasSize(1);
+        JsonNode endpoint = report.get(0);
+        assertThat(endpoint.get("endpoint").asText()).isEqualTo(ENDPOINT);
+        assertThat(endpoint.get("accepted").asInt()).isEqualTo(1);
+        assertThat(endpoint.get("rejected").asInt()).isEqualTo(1);
+        assertThat(endpoint.get("failed").asInt()).isZero();
+        assertThat(endpoint.get("evaluations").asLong()).isEqualTo(6);
+        assertThat(endpoint.get("p50Nanos").asLong())
+            .isPositive()
+            .isLessThanOrEqualTo(endpoint.get("p99Nanos").asLong());
+        assertThat(endpoint.get("p99Nanos").asLong()).isLessThanOrEqualTo(endpoint.get("p999Nanos").asLong());
+    }
+
+    @Test
+    public void test_corpus_ndjson_does_print_text_report_as_expected() throws IOException {
+        // given
+        Path feel = generate(false);
+        Path payloads = tempDir.resolve("recorded.ndjson");
+        String valid = OBJECT_MAPPER.writeValueAsString(loadJsonResource("payloads/customers-direct-variables.json"));
+        Files.writeString(payloads, valid + "\n" + valid + "\n\n{}\n");
+
+        // when
+        int exitCode = run("--feel", feel.toString(), "--payloads", payloads.toString(), "--endpoint", ENDPOINT);
+
+        // then
+        assertThat(exitCode).as(err.toString(StandardCharsets.UTF_8)).isZero();
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\\R");
+        assertThat(lines[0]).containsSubsequence("endpoint", "accepted", "rejected", "failed",
+            "evals/s", "p50 us", "p99 us", "p999 us");
+        assertThat(lines[1].split("\\s{2,}")).startsWith(ENDPOINT, "2", "1", "0");
+    }
+
+    @Test
+    public void test_unknown_endpoint_does_fail_as_expected() throws IOException {
+        // given
+        Path feel = generate(false);
+        Path payloads = Files.writeString(tempDir.resolve("recorded.ndjson"), "{}\n");
+
+        // when
+        int exitCode = run("--feel", feel.toString(), "--payloads", payloads.toString(), "--endpoint", "GET /nothing");
+
+        // then
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("no FEEL block for endpoint \"GET /nothing\"");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "--feel only.feel", "--payloads x --feel y --threads 0", "--bogus"})
+    public void test_invalid_arguments_do_print_usage_as_expected(String arguments) {
+        // when
+        int exitCode = run(arguments.isEmpty() ? new String[0] : arguments.split(" "));
+
+        // then
+        assertThat(exitCode).isEqualTo(2);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("usage: FeelCorpusEvaluator");
+        assertThat(out.size()).isZero();
+    }
+
+    private Path generate(boolean response) throws IOException {
+        Path feel = tempDir.resolve("validation.feel");
+        FEELValidationGenerator.builder()
+            .withOpenApiPath(resolveResourcePath("openapi/customers-direct-api.json").toAbsolutePath())
+            .withOutputFilePath(feel.toAbsolutePath())
+            .withResponse(response)
+            .build()
+            .generate();
+        return feel;
+    }
+
+    private int run(String... args) {
+        return FeelCorpusEvaluator.run(args,
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,155 @@
+package com.consid.automation.camunda;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the webhook simulator end to end: FEEL generated from a fixture spec,
+ * served over HTTP and evaluated on the FEEL engine for the fixture's valid
+ * and invalid payloads.
+ */
+public class FeelWebhookSimulatorTest extends AbstractFEELValidationGeneratorIntegrationTest {
+
+    private static final Pattern SERVING = Pattern.compile("on (http://\\S+):");
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void test_simulator_does_answer_like_the_response_template_and_count_requests_as_expected(boolean response)
+        throws Exception {
+        // given
+        Path feel = generate(response);
+        AtomicInteger exitCode = new AtomicInteger(-1);
+        Thread server = Thread.ofVirtual().start(() -> exitCode.set(run("--feel", feel.toString(),
+            "--port", "0", "--report-interval", "0", "--success-status", "202", "--fail-status", "422")));
+        URI uri = awaitServing();
+
+        // when
+        HttpResponse<String> valid = post(uri.resolve("/customers/direct"),
+            readResourceFile("payloads/customers-direct-variables.json"));
+        HttpResponse<String> invalid = post(uri.resolve("/customers/direct"),
+            readResourceFile("payloads/customers-direct-invalid-variables.json"));
+        HttpResponse<String> unknown = post(uri.resolve("/customers/unknown"), "{}");
+        JsonNode stats = OBJECT_MAPPER.readTree(client.send(HttpRequest.newBuilder(uri.resolve("/_simulator/stats"))
+            .build(), HttpResponse.BodyHandlers.ofString()).body());
+        server.interrupt();
+        server.join();
+
+        // then
+        assertThat(valid.statusCode()).isEqualTo(response ? 201 : 202);
+        JsonNode validBody = OBJECT_MAPPER.readTree(valid.body());
+        assertThat(validBody.get("message").asText()).isEqualTo("Process successfully started.");
+        assertThat(validBody.get("processInstanceKey").isNumber()).isTrue();
+        assertThat(validBody.get("details")).isEmpty();
+        assertThat(invalid.statusCode()).isEqualTo(response ? 400 : 422);
+        JsonNode invalidBody = OBJECT_MAPPER.readTree(invalid.body());
+        assertThat(invalidBody.get("message").asText()).isEqualTo("Process creation failed.");
+        assertThat(invalidBody.get("processInstanceKey").isNull()).isTrue();
+        assertThat(invalidBody.get("details").isEmpty()).isEqualTo(!response);
+        assertThat(unknown.statusCode()).isEqualTo(404);
+        assertThat(stats).hasSize(1);
+        assertThat(stats.get(0).get("endpoint").asText()).isEqualTo("POST /customers/direct");
+        assertThat(stats.get(0).get("accepted").asInt()).isEqualTo(1);
+        assertThat(stats.get(0).get("rejected").asInt()).isEqualTo(1);
+        assertThat(stats.get(0).get("failed").asInt()).isZero();
+        assertThat(stats.get(0).get("p50Nanos").asLong()).isPositive();
+        assertThat(exitCode.get()).as(err.toString(StandardCharsets.UTF_8)).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8))
+            .contains("  POST /customers/direct")
+            .containsSubsequence("endpoint", "accepted", "POST /customers/direct");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "--port 8080", "--feel x --port 70000", "--feel x --report-interval -1", "--bogus"})
+    public void test_invalid_arguments_do_print_usage_as_expected(String arguments) {
+        // when
+        int exitCode = run(arguments.isEmpty() ? new String[0] : arguments.split(" "));
+
+        // then
+        assertThat(exitCode).isEqualTo(2);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("usage: FeelWebhookSimulator");
+        assertThat(out.size()).isZero();
+    }
+
+    @Test
+    public void test_unknown_endpoint_does_fail_as_expected() throws IOException {
+        // given
+        Path feel = generate(false);
+
+        // when
+        int exitCode = run("--feel", feel.toString(), "--port", "0", "--endpoint", "GET /nothing");
+
+        // then
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("no FEEL block for endpoint \"GET /nothing\"");
+    }
+
+    @Test
+    public void test_feel_without_endpoint_blocks_does_fail_as_expected() throws IOException {
+        // given
+        Path feel = Files.writeString(tempDir.resolve("empty.feel"), "");
+
+        // when
+        int exitCode = run("--feel", feel.toString(), "--port", "0");
+
+        // then
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(err.toString(StandardCharsets.UTF_8)).contains("no endpoint blocks in " + feel);
+    }
+
+    private URI awaitServing() throws InterruptedException {
+        for (int attempt = 0; attempt < 200; attempt++) {
+            Matcher serving = SERVING.matcher(out.toString(StandardCharsets.UTF_8));
+            if (serving.find()) {
+                return URI.create(serving.group(1));
+            }
+            Thread.sleep(25);
+        }
+        throw new AssertionError("simulator did not start: " + err.toString(StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<String> post(URI uri, String body) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Path generate(boolean response) throws IOException {
+        Path feel = tempDir.resolve("validation.feel");
+        FEELValidationGenerator.builder()
+            .withOpenApiPath(resolveResourcePath("openapi/customers-direct-api.json").toAbsolutePath())
+            .withOutputFilePath(feel.toAbsolutePath())
+            .withResponse(response)
+            .build()
+            .generate();
+        return feel;
+    }
+
+    private int run(String... args) {
+        return FeelWebhookSimulator.run(args,
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+}
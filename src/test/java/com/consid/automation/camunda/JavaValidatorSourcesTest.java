@@ -0,0 +1,128 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Differential tests for the generated Java sources: for every scenario the
+ * validator classes are generated next to the response-mode FEEL, compiled
+ * with the system Java compiler against Jackson alone, and must reach the
+ * FEEL engine's verdict and list the same failing rule ids, endpoint by
+ * endpoint.
+ */
+public class JavaValidatorSourcesTest extends AbstractFEELValidationGeneratorIntegrationTest {
+
+    private static final String PACKAGE = "generated.feel.validation";
+
+    @ParameterizedTest
+    @MethodSource("com.consid.automation.camunda.AbstractFEELValidationGeneratorIntegrationTest#scenarios")
+    public void test_generated_validator_does_match_feel_engine_verdict_as_expected(Scenario scenario)
+        throws Exception {
+        // given
+        Path outputFile = tempDir.resolve(scenario.id() + ".feel");
+        Path sources = tempDir.resolve("java");
+        FEELValidationGenerator.builder()
+            .withOpenApiPath(resolveResourcePath(scenario.openApiResource()).toAbsolutePath())
+            .withOutputFilePath(outputFile.toAbsolutePath())
+            .withResponse(true)
+            .withJavaSources(sources, PACKAGE)
+            .build()
+            .generate();
+        Path classes = compile(sources);
+        JsonNode body = OBJECT_MAPPER.readTree(readResourceFile(scenario.payloadResource()));
+        Map<String, Object> context = buildEvaluationContext(loadJsonResource(scenario.payloadResource()));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()},
+            getClass().getClassLoader())) {
+            for (Map.Entry<String, String> block : FeelDocument.read(outputFile).expressions().entrySet()) {
+                String endpoint = block.getKey();
+                var evaluation = FEEL_ENGINE.evalExpression(block.getValue(), context);
+                assertThat(evaluation.isRight()).isTrue();
+                Map<String, Object> feelContext = toJavaMap(evaluation.getOrElse(null));
+                List<Object> feelFailures = toJavaList(castToMap(normalizeValue(feelContext.get("body"))).get("details"))
+                    .stream()
+                    .map(detail -> castToMap(detail).get("id"))
+                    .toList();
+                Class<?> validator = validatorClass(loader, endpoint);
+
+                // when
+                boolean valid = (boolean) validator.getMethod("isValid", JsonNode.class).invoke(null, body);
+                List<?> violations = (List<?>) validator.getMethod("validate", JsonNode.class).invoke(null, body);
+
+                // then
+                assertThat(valid)
+                    .as("generated verdict for %s %s", scenario.id(), endpoint)
+                    .isEqualTo(feelContext.get("isValid"))
+                    .isEqualTo(scenario.expectedValid());
+                assertThat(violationIds(violations))
+                    .as("generated failures for %s %s", scenario.id(), endpoint)
+                    .containsExactlyElementsOf(feelFailures);
+            }
+        }
+    }
+
+    /** Finds the generated class by its {@code ENDPOINT} constant. */
+    private static Class<?> validatorClass(ClassLoader loader, String endpoint) throws Exception {
+        try (Stream<Path> files = Files.list(Path.of(loader.getResource(PACKAGE.replace('.', '/')).toURI()))) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith("Validator.class")) {
+                    Class<?> candidate = loader.loadClass(PACKAGE + "." + name.substring(0, name.length() - 6));
+                    if (endpoint.equals(candidate.getField("ENDPOINT").get(null))) {
+                        return candidate;
+                    }
+                }
+            }
+        }
+        throw new AssertionError("no generated validator for " + endpoint);
+    }
+
+    private static List<Object> violationIds(List<?> violations) throws ReflectiveOperationException {
+        List<Object> ids = new ArrayList<>();
+        for (Object violation : violations) {
+            Method id = violation.getClass().getMethod("id");
+            ids.add(id.invoke(violation));
+        }
+        return ids;
+    }
+
+    /** Compiles every generated source against the two Jackson jars the classes need. */
+    private Path compile(Path sources) throws IOException, URISyntaxException {
+        Path classes = tempDir.resolve("classes");
+        List<String> arguments = new ArrayList<>(List.of("-d", classes.toString(), "-cp",
+            location(JsonNode.class) + File.pathSeparator + location(TreeNode.class)));
+        try (Stream<Path> files = Files.walk(sources)) {
+            files.filter(file -> file.toString().endsWith(".java")).forEach(file -> arguments.add(file.toString()));
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        int status = compiler.run(null, null, errors, arguments.toArray(new String[0]));
+        assertThat(status).withFailMessage(errors::toString).isZero();
+        return classes;
+    }
+
+    private static String location(Class<?> type) throws URISyntaxException {
+        return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+}
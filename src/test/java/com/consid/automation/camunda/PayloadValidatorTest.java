@@ -0,0 +1,201 @@
+package com.consid.automation.camunda;
+
+import com.consid.automation.camunda.internal.corpus.FeelDocument;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Differential tests for the Java runtime validator: every payload fixture is
+ * run through both the generated response-mode FEEL (on the Camunda FEEL
+ * engine) and {@link PayloadValidator}, and the two must agree on the verdict
+ * and on the ordered list of failing rule ids, endpoint by endpoint. The
+ * streaming overload must reach the same verdict as the tree one.
+ */
+public class PayloadValidatorTest extends AbstractFEELValidationGeneratorIntegrationTest {
+
+    @ParameterizedTest
+    @MethodSource("com.consid.automation.camunda.AbstractFEELValidationGeneratorIntegrationTest#scenarios")
+    public void test_validate_does_match_feel_engine_verdict_as_expected(Scenario scenario) throws IOException {
+        // given
+        Path specFile = resolveResourcePath(scenario.openApiResource());
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(tempDir.resolve(scenario.id() + ".feel").toAbsolutePath())
+            .withResponse(true);
+        var validator = PayloadValidator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath());
+
+        // when / then
+        assertSameVerdicts(scenario.id(), generator, validator, scenario.payloadResource(), scenario.expectedValid());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "responses-direct-valid, openapi/responses-direct-api.json, payloads/responses-direct-variables.json, 0, true",
+        "responses-direct-invalid, openapi/responses-direct-api.json, payloads/responses-direct-invalid-variables.json, 0, false",
+        "customers-shared-missing-street, openapi/customers-shared-api.json, payloads/customers-shared-missing-street-variables.json, 0, false",
+        "customers-shared-bad-country, openapi/customers-shared-api.json, payloads/customers-shared-bad-country-variables.json, 0, false",
+        "categories-depth-4, openapi/categories-recursive-api.json, payloads/categories-recursive-grandchild-missing-name-variables.json, 4, false"
+    })
+    public void test_validate_does_match_feel_engine_verdict_for_remaining_fixtures_as_expected(
+        String id, String openApiResource, String payloadResource, int maxValidationDepth, boolean expectedValid)
+        throws IOException {
+        // given
+        Path specFile = resolveResourcePath(openApiResource);
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(tempDir.resolve(id + ".feel").toAbsolutePath())
+            .withResponse(true);
+        var validator = PayloadValidator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath());
+        if (maxValidationDepth > 0) {
+            generator.withMaxValidationDepth(maxValidationDepth);
+            validator.withMaxValidationDepth(maxValidationDepth);
+        }
+
+        // when / then
+        assertSameVerdicts(id, generator, validator, payloadResource, expectedValid);
+    }
+
+    @Test
+    public void test_validate_with_ceiling_does_report_payload_size_rule_as_expected() throws IOException {
+        // given — valid against the spec, but two line items against a ceiling of one
+        Path specFile = resolveResourcePath("openapi/orders-array-items-api.json");
+        var generator = FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withOutputFilePath(tempDir.resolve("orders-ceiling.feel").toAbsolutePath())
+            .withResponse(true)
+            .withMaxArrayItems(1);
+        var validator = PayloadValidator.builder()
+            .withOpenApiPath(specFile.toAbsolutePath())
+            .withMaxArrayItems(1);
+
+        // when
+        PayloadVerdict verdict = assertSameVerdicts("orders-ceiling", generator, validator,
+            "payloads/orders-array-items-valid-variables.json", false);
+
+        // then
+        assertThat(verdict.violations())
+            .containsExactly(new PayloadVerdict.Violation("payloadSize-invalid", "(root)"));
+    }
+
+    @Test
+    public void test_validate_valid_payload_does_return_shared_verdict_as_expected() throws IOException {
+        // given
+        PayloadValidator validator = PayloadValidator.builder()
+            .withOpenApiPath(resolveResourcePath("openapi/customers-kitchen-sink-api.json").toAbsolutePath())
+            .build();
+        JsonNode body = OBJECT_MAPPER.readTree(readResourceFile("payloads/customers-kitchen-sink-valid-variables.json"));
+
+        // when
+        PayloadVerdict verdict = validator.validate("POST /customers/kitchen-sink", body);
+
+        // then
+        assertThat(verdict).isSameAs(PayloadVerdict.VALID);
+        assertThat(validator.isValid("POST /customers/kitchen-sink", body)).isTrue();
+        assertThat(validator.endpoints()).containsExactly("POST /customers/kitchen-sink");
+    }
+
+    @Test
+    public void test_validate_streaming_with_bound_does_stop_early_as_expected() throws IOException {
+        // given
+        PayloadValidator validator = PayloadValidator.builder()
+            .withOpenApiPath(resolveResourcePath("openapi/responses-direct-api.json").toAbsolutePath())
+            .build();
+        String endpoint = validator.endpoints().iterator().next();
+        String payload = readResourceFile("payloads/responses-direct-invalid-variables.json");
+
+        // when
+        PayloadVerdict all;
+        PayloadVerdict first;
+        try (JsonParser parser = OBJECT_MAPPER.createParser(payload)) {
+            all = validator.validate(endpoint, parser);
+        }
+        try (JsonParser parser = OBJECT_MAPPER.createParser(payload)) {
+            first = validator.validate(endpoint, parser, 1);
+        }
+
+        // then
+        assertThat(all.violations()).hasSize(7);
+        assertThat(first.valid()).isFalse();
+        assertThat(first.violations()).hasSize(1);
+        assertThat(all.violations()).containsAll(first.violations());
+    }
+
+    @Test
+    public void test_validate_unknown_endpoint_does_fail_as_expected() throws IOException {
+        // given
+        PayloadValidator validator = PayloadValidator.builder()
+            .withOpenApiPath(resolveResourcePath("openapi/customers-direct-api.json").toAbsolutePath())
+            .build();
+
+        // when / then
+        assertThatThrownBy(() -> validator.validate("GET /customers", OBJECT_MAPPER.createObjectNode()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("unknown endpoint \"GET /customers\"");
+    }
+
+    /**
+     * Generates the response FEEL, evaluates each endpoint's expression on the
+     * engine and validates the same payload in Java; returns the last verdict.
+     */
+    private PayloadVerdict assertSameVerdicts(String id,
+                                              FEELValidationGenerator.Builder generator,
+                                              PayloadValidator.Builder validatorBuilder,
+                                              String payloadResource,
+                                              boolean expectedValid) throws IOException {
+        Path outputFile = tempDir.resolve(id + ".feel");
+        generator.withOutputFilePath(outputFile.toAbsolutePath()).build().generate();
+        PayloadValidator validator = validatorBuilder.build();
+        Map<String, Object> context = buildEvaluationContext(loadJsonResource(payloadResource));
+        String payload = readResourceFile(payloadResource);
+        JsonNode body = OBJECT_MAPPER.readTree(payload);
+        Map<String, String> expressions = FeelDocument.read(outputFile).expressions();
+        assertThat(expressions).as("FEEL expressions should exist for %s", id).isNotEmpty();
+
+        PayloadVerdict verdict = null;
+        for (Map.Entry<String, String> entry : expressions.entrySet()) {
+            var evaluation = FEEL_ENGINE.evalExpression(entry.getValue(), context);
+            assertThat(evaluation.isRight())
+                .withFailMessage(() -> "FEEL evaluation failure: " + evaluation.left().get())
+                .isTrue();
+            Map<String, Object> feelContext = toJavaMap(evaluation.getOrElse(null));
+            List<String> feelFailures = toJavaList(castToMap(normalizeValue(feelContext.get("body"))).get("details"))
+                .stream()
+                .map(detail -> (String) castToMap(detail).get("id"))
+                .toList();
+
+            verdict = validator.validate(entry.getKey(), body);
+
+            assertThat(verdict.valid())
+                .as("Java verdict for %s %s", id, entry.getKey())
+                .isEqualTo(feelContext.get("isValid"))
+                .isEqualTo(expectedValid);
+            assertThat(verdict.violations())
+                .as("Java failures for %s %s", id, entry.getKey())
+                .extracting(PayloadVerdict.Violation::id)
+                .containsExactlyElementsOf(feelFailures);
+            try (JsonParser parser = OBJECT_MAPPER.createParser(payload)) {
+                assertThat(validator.validate(entry.getKey(), parser))
+                    .as("streaming verdict for %s %s", id, entry.getKey())
+                    .isEqualTo(verdict);
+            }
+            try (JsonParser parser = OBJECT_MAPPER.createParser(payload)) {
+                assertThat(validator.isValid(entry.getKey(), parser)).isEqualTo(expectedValid);
+            }
+        }
+        return verdict;
+    }
+}
@@ -0,0 +1,153 @@
+package com.consid.automation.camunda;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Renders from one plan and checks the result is what the generator writes
+ * for the same settings, from any thread.
+ */
+public class ValidationPlanTest extends AbstractFEELValidationGeneratorIntegrationTest {
+
+    @Test
+    public void test_render_does_match_the_generator_output_as_expected() throws IOException {
+        // given
+        Path specFile = resolveResourcePath("openapi/customers-constraints-api.json");
+        Path activationFile = tempDir.resolve("validation.feel");
+        Path responseFile = tempDir.resolve("response.feel");
+        FEELValidationGenerator.builder()
+            .withOpenApiPath(specFile)
+            .withOutputFilePath(activationFile)
+            .withMaxStringLength(500)
+            .withSuccessStatusCode(202)
+            .withAdditionalOutput(responseFile, true, 202, 400)
+            .build()
+            .generate();
+        ValidationPlan plan = ValidationPlan.builder().withOpenApiPath(specFile).build();
+
+        // when
+        String activation = plan.render(rendering(false).build());
+        String response = plan.render(rendering(true).build());
+
+        // then
+        assertThat(activation).isEqualTo(Files.readString(activationFile));
+        assertThat(response).isEqualTo(Files.readString(responseFile));
+    }
+
+    @Test
+    public void test_render_does_read_the_spec_from_a_stream_as_expected() throws IOException {
+        // given
+        String spec = readResourceFile("openapi/customers-constraints-api.json");
+        ValidationPlan fromPath = ValidationPlan.builder()
+            .withOpenApiPath(resolveResourcePath("openapi/customers-constraints-api.json"))
+            .build();
+        ValidationPlan fromStream;
+        try (InputStream input = new ByteArrayInputStream(spec.getBytes(StandardCharsets.UTF_8))) {
+            fromStream = ValidationPlan.builder().withOpenApi(input).build();
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        fromStream.render(ValidationPlan.Rendering.builder().build(), output);
+
+        // then
+        assertThat(output.toString(StandardCharsets.UTF_8))
+            .isEqualTo(fromPath.render(ValidationPlan.Rendering.builder().build()));
+    }
+
+    @Test
+    public void test_render_does_give_the_same_result_from_concurrent_threads_as_expected() throws Exception {
+        // given
+        Path specFile = resolveResourcePath("openapi/customers-kitchen-sink-api.json");
+        ValidationPlan plan = ValidationPlan.builder().withOpenApiPath(specFile).build();
+        List<ValidationPlan.Rendering> renderings = List.of(
+            ValidationPlan.Rendering.builder().build(),
+            ValidationPlan.Rendering.builder().withResponse(true).build(),
+            ValidationPlan.Rendering.builder().withHttpMethods(List.of("post")).build(),
+            ValidationPlan.Rendering.builder().withResponse(true).withMaxArrayItems(10).build());
+        List<String> expected = new ArrayList<>();
+        for (ValidationPlan.Rendering rendering : renderings) {
+            expected.add(ValidationPlan.builder().withOpenApiPath(specFile).build().render(rendering));
+        }
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 64; i++) {
+                ValidationPlan.Rendering rendering = renderings.get(i % renderings.size());
+                results.add(executor.submit(() -> plan.render(rendering)));
+            }
+        }
+
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get()).isEqualTo(expected.get(i % renderings.size()));
+        }
+    }
+
+    @Test
+    public void test_expressions_does_key_each_endpoint_as_expected() throws IOException {
+        // given
+        ValidationPlan plan = ValidationPlan.builder()
+            .withOpenApiPath(resolveResourcePath("openapi/customers-constraints-api.json"))
+            .build();
+
+        // when
+        var expressions = plan.expressions(ValidationPlan.Rendering.builder().build());
+
+        // then
+        assertThat(expressions).isNotEmpty();
+        assertThat(expressions.keySet()).allMatch(endpoint -> endpoint.matches("(POST|PUT|PATCH) /\\S*"));
+        assertThat(expressions.values()).allMatch(expression -> !expression.isBlank());
+    }
+
+    @Test
+    public void test_build_does_reject_a_malformed_spec_as_expected() {
+        // given
+        InputStream input = new ByteArrayInputStream("not: [an openapi".getBytes(StandardCharsets.UTF_8));
+
+        // when / then
+        assertThatThrownBy(() -> ValidationPlan.builder().withOpenApi(input).build())
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Failed to parse OpenAPI specification: input stream");
+        assertThatThrownBy(() -> ValidationPlan.builder().build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("withOpenApiPath or withOpenApi");
+    }
+
+    @Test
+    public void test_rendering_does_reject_invalid_settings_as_expected() {
+        // when / then
+        assertThatThrownBy(() -> ValidationPlan.Rendering.builder().withHttpMethods(List.of()).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("at least one HTTP method must be configured");
+        assertThatThrownBy(() -> ValidationPlan.Rendering.builder().withFailStatusCode(42).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("failStatusCode");
+        assertThatThrownBy(() -> ValidationPlan.Rendering.builder().withMaxStringLength(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxStringLength must be positive: 0");
+    }
+
+    private ValidationPlan.Rendering.Builder rendering(boolean addResponse) {
+        return ValidationPlan.Rendering.builder()
+            .withResponse(addResponse)
+            .withMaxStringLength(500)
+            .withSuccessStatusCode(202);
+    }
+}
@@ -0,0 +1,149 @@
+package com.consid.automation.camunda.internal.bpmn;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BpmnConditionSyncTest {
+
+    private static final String START_TEMPLATE = "io.camunda.connectors.webhook.WebhookConnectorStartMessage.v1";
+    private static final String INTERMEDIATE_TEMPLATE = "io.camunda.webhook.WebhookConnectorIntermediate.v1";
+
+    @TempDir
+    Path tempDir;
+
+    private final BpmnConditionSync sync = new BpmnConditionSync(Map.of(
+        "POST /inbound/Customers", "{\n  ok: request.body.age > 17 and \"it's\" != null\n}.ok",
+        "PUT /inbound/orders", "true"), "/inbound/");
+
+    @Test
+    void test_rewrite_does_replace_only_the_condition_value_as_expected() throws Exception {
+        // given
+        String bpmn = definitions("""
+              <!-- <zeebe:property name="activationCondition" value="=commented out" /> -->
+              <bpmn:startEvent id="start" name='a > b' zeebe:modelerTemplate="%s">
+                <bpmn:extensionElements>
+                  <zeebe:properties>
+                    <zeebe:property name="activationCondition"   value='=stale &amp; old' />
+                    <zeebe:property name="inbound.method" value="POST" />
+                    <zeebe:property name="inbound.context" value="customers" />
+                  </zeebe:properties>
+                </bpmn:extensionElements>
+              </bpmn:startEvent>
+            """.formatted(START_TEMPLATE));
+        List<String> warnings = new ArrayList<>();
+
+        // when
+        BpmnConditionSync.Rewrite rewrite = sync.rewrite(bpmn, "p.bpmn", warnings);
+
+        // then
+        assertThat(warnings).isEmpty();
+        assertThat(rewrite.webhooks()).isEqualTo(1);
+        assertThat(rewrite.updated()).isEqualTo(1);
+        assertThat(rewrite.text()).isEqualTo(bpmn.replace("value='=stale &amp; old'",
+            "value='={&#10;  ok: request.body.age &gt; 17 and \"it&apos;s\" != null&#10;}.ok'"));
+    }
+
+    @Test
+    void test_rewrite_does_leave_matching_condition_untouched_as_expected() throws Exception {
+        // given
+        String bpmn = definitions(webhook(INTERMEDIATE_TEMPLATE, "intermediateCatchEvent", "PUT", "orders", "=true"));
+
+        // when
+        BpmnConditionSync.Rewrite rewrite = sync.rewrite(bpmn, "p.bpmn", new ArrayList<>());
+
+        // then
+        assertThat(rewrite.updated()).isZero();
+        assertThat(rewrite.text()).isSameAs(bpmn);
+    }
+
+    @Test
+    void test_rewrite_does_warn_about_webhooks_it_cannot_sync_as_expected() throws Exception {
+        // given
+        String bpmn = definitions(webhook(START_TEMPLATE, "startEvent", "GET", "unknown", "=false")
+            + "<bpmn:startEvent id=\"bare\" zeebe:modelerTemplate=\"" + START_TEMPLATE + "\" />\n"
+            + "<bpmn:startEvent id=\"plain\"><bpmn:extensionElements><zeebe:properties>"
+            + "<zeebe:property name=\"activationCondition\" value=\"=false\" />"
+            + "</zeebe:properties></bpmn:extensionElements></bpmn:startEvent>\n");
+        List<String> warnings = new ArrayList<>();
+
+        // when
+        BpmnConditionSync.Rewrite rewrite = sync.rewrite(bpmn, "p.bpmn", warnings);
+
+        // then
+        assertThat(rewrite.webhooks()).isEqualTo(2);
+        assertThat(rewrite.updated()).isZero();
+        assertThat(warnings).containsExactly(
+            "p.bpmn (event 'start'): no FEEL block headed '# GET /inbound/unknown'",
+            "p.bpmn (event 'bare'): inbound.method or inbound.context is missing");
+    }
+
+    @Test
+    void test_sync_all_does_write_only_changed_files_as_expected() throws IOException, InterruptedException {
+        // given
+        Path stale = tempDir.resolve("a/stale.bpmn");
+        Path current = tempDir.resolve("b/current.bpmn");
+        Files.createDirectories(stale.getParent());
+        Files.createDirectories(current.getParent());
+        Files.writeString(stale, definitions(webhook(INTERMEDIATE_TEMPLATE, "intermediateCatchEvent", "PUT", "orders",
+            "=false")));
+        Files.writeString(current, definitions(webhook(INTERMEDIATE_TEMPLATE, "intermediateCatchEvent", "PUT",
+            "orders", "=true")));
+        Files.setLastModifiedTime(current, FileTime.fromMillis(0));
+
+        // when
+        List<BpmnConditionSync.FileResult> results = sync.syncAll(tempDir, 2);
+
+        // then
+        assertThat(results).extracting(BpmnConditionSync.FileResult::changed).containsExactly(true, false);
+        assertThat(Files.readString(stale)).contains("value=\"=true\"");
+        assertThat(Files.getLastModifiedTime(current)).isEqualTo(FileTime.fromMillis(0));
+    }
+
+    @Test
+    void test_sync_does_reject_doctype_as_expected() throws IOException {
+        // given
+        Path file = Files.writeString(tempDir.resolve("doctype.bpmn"),
+            definitions("").replace("?>\n", "?>\n<!DOCTYPE x [<!ENTITY e \"v\">]>\n"));
+
+        // when / then
+        assertThatThrownBy(() -> sync.sync(file))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("has a DOCTYPE");
+    }
+
+    private static String webhook(String template, String element, String method, String context, String condition) {
+        return """
+              <bpmn:%s id="start" zeebe:modelerTemplate="%s">
+                <bpmn:extensionElements>
+                  <zeebe:properties>
+                    <zeebe:property name="inbound.method" value="%s" />
+                    <zeebe:property name="inbound.context" value="%s" />
+                    <zeebe:property name="activationCondition" value="%s" />
+                  </zeebe:properties>
+                </bpmn:extensionElements>
+              </bpmn:%s>
+            """.formatted(element, template, method, context, condition, element);
+    }
+
+    private static String definitions(String events) {
+        return """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <bpmn:definitions xmlns:bpmn="http://www.omg.org/spec/BPMN/20100524/MODEL"
+                              xmlns:zeebe="http://camunda.org/schema/zeebe/1.0" id="d">
+              <bpmn:process id="p" isExecutable="true">
+            %s  </bpmn:process>
+            </bpmn:definitions>
+            """.formatted(events);
+    }
+}
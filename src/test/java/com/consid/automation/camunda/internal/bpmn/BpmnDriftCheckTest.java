@@ -0,0 +1,129 @@
+package com.consid.automation.camunda.internal.bpmn;
+
+import com.consid.automation.camunda.internal.feel.HashManifest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BpmnDriftCheckTest {
+
+    private static final String TEMPLATE = "io.camunda.connectors.webhook.WebhookConnectorStartMessage.v1";
+    private static final String CUSTOMERS = "{\n  ok: request.body.age > 17,\n  id: request.body.id\n}.ok";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void test_check_does_accept_conditions_differing_only_in_line_breaks_as_expected() throws IOException {
+        // given
+        BpmnDriftCheck check = check(Map.of("POST /inbound/Customers", CUSTOMERS));
+        Path file = Files.writeString(tempDir.resolve("p.bpmn"), definitions(webhook("customers",
+            "={&#13;&#10;  ok: request.body.age &gt; 17,&#13;&#10;  id: request.body.id&#13;&#10;}.ok&#10;")));
+
+        // when
+        BpmnDriftCheck.FileResult result = check.check(file);
+
+        // then
+        assertThat(result.webhooks()).isEqualTo(1);
+        assertThat(result.inSync()).isTrue();
+    }
+
+    @Test
+    void test_check_does_report_a_line_diff_for_drifted_conditions_as_expected() throws IOException {
+        // given
+        BpmnDriftCheck check = check(Map.of("POST /inbound/customers", CUSTOMERS));
+        Path file = Files.writeString(tempDir.resolve("p.bpmn"), definitions(webhook("customers",
+            "={&#10;  ok: request.body.age &gt; 21,&#10;  id: request.body.id&#10;}.ok")));
+
+        // when
+        BpmnDriftCheck.FileResult result = check.check(file);
+
+        // then
+        assertThat(result.drifts()).extracting(BpmnDriftCheck.Drift::message).containsExactly("""
+            p.bpmn (event 'start'): activationCondition drifted from '# POST /inbound/customers'
+                @@ line 2 @@
+                -   ok: request.body.age > 17,
+                +   ok: request.body.age > 21,""");
+    }
+
+    @Test
+    void test_check_does_report_webhooks_without_feel_or_condition_as_expected() throws IOException {
+        // given
+        BpmnDriftCheck check = check(Map.of("POST /inbound/customers", CUSTOMERS));
+        Path file = Files.writeString(tempDir.resolve("p.bpmn"), definitions(webhook("orders", "=true")
+            + webhook("customers", "")));
+
+        // when
+        List<BpmnDriftCheck.Drift> drifts = check.check(file).drifts();
+
+        // then
+        assertThat(drifts).extracting(BpmnDriftCheck.Drift::message).containsExactly(
+            "p.bpmn (event 'start'): no FEEL block headed '# POST /inbound/orders'",
+            "p.bpmn (event 'start'): activationCondition is missing");
+    }
+
+    @Test
+    void test_check_does_name_a_stale_manifest_as_expected() throws IOException {
+        // given
+        Path feel = Files.writeString(tempDir.resolve("validation.feel"), "# POST /inbound/customers\ntrue\n");
+        BpmnDriftCheck check = new BpmnDriftCheck(HashManifest.hashes(Map.of("POST /inbound/customers", "false")),
+            feel, "/inbound/");
+        Path file = Files.writeString(tempDir.resolve("p.bpmn"), definitions(webhook("customers", "=true")));
+
+        // when
+        List<BpmnDriftCheck.Drift> drifts = check.check(file).drifts();
+
+        // then
+        assertThat(drifts).singleElement().extracting(BpmnDriftCheck.Drift::detail).asString()
+            .endsWith("the hash manifest is out of date");
+    }
+
+    @Test
+    void test_diff_does_show_only_differing_lines_as_expected() {
+        // when
+        String diff = BpmnDriftCheck.diff("a\nb\nc\nd", "a\nX\nd");
+
+        // then
+        assertThat(diff).isEqualTo("    @@ line 2 @@\n    - b\n    - c\n    + X");
+    }
+
+    private BpmnDriftCheck check(Map<String, String> expressions) throws IOException {
+        StringBuilder feel = new StringBuilder();
+        expressions.forEach((endpoint, expression) -> feel.append("# ").append(endpoint).append('\n')
+            .append(expression).append("\n\n"));
+        Path feelFile = Files.writeString(tempDir.resolve("validation.feel"), feel);
+        return new BpmnDriftCheck(HashManifest.hashes(expressions), feelFile, "/inbound/");
+    }
+
+    private static String webhook(String context, String condition) {
+        return """
+              <bpmn:startEvent id="start" zeebe:modelerTemplate="%s">
+                <bpmn:extensionElements>
+                  <zeebe:properties>
+                    <zeebe:property name="inbound.method" value="POST" />
+                    <zeebe:property name="inbound.context" value="%s" />
+                    <zeebe:property name="activationCondition" value="%s" />
+                  </zeebe:properties>
+                </bpmn:extensionElements>
+              </bpmn:startEvent>
+            """.formatted(TEMPLATE, context, condition);
+    }
+
+    private static String definitions(String events) {
+        return """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <bpmn:definitions xmlns:bpmn="http://www.omg.org/spec/BPMN/20100524/MODEL"
+                              xmlns:zeebe="http://camunda.org/schema/zeebe/1.0" id="d">
+              <bpmn:process id="p" isExecutable="true">
+            %s  </bpmn:process>
+            </bpmn:definitions>
+            """.formatted(events);
+    }
+}
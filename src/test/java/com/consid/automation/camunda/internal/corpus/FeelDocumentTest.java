@@ -0,0 +1,65 @@
+package com.consid.automation.camunda.internal.corpus;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class FeelDocumentTest {
+
+    @Test
+    void test_parse_does_split_endpoint_blocks_in_file_order_as_expected() {
+        // given
+        String text = "# POST /customers\nrequest.body != null\n  and x\n\n# PUT /customers/{id}\ntrue\n";
+
+        // when
+        FeelDocument document = FeelDocument.parse(text);
+
+        // then
+        assertThat(document.expressions()).containsExactly(
+            entry("POST /customers", "request.body != null\n  and x"),
+            entry("PUT /customers/{id}", "true"));
+    }
+
+    @Test
+    void test_parse_does_keep_hash_lines_inside_an_expression_as_expected() {
+        // given
+        String text = "# POST /a\n{\n# not a heading\n}\r\n\r\n# POST /b\nfalse";
+
+        // when
+        FeelDocument document = FeelDocument.parse(text);
+
+        // then
+        assertThat(document.expressions().keySet()).containsExactly("POST /a", "POST /b");
+        assertThat(document.expressions().get("POST /a")).isEqualTo("{\n# not a heading\n}");
+    }
+
+    @Test
+    void test_parse_does_reject_duplicate_heading_as_expected() {
+        // when / then
+        assertThatThrownBy(() -> FeelDocument.parse("# POST /a\ntrue\n\n# POST /a\nfalse\n"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("duplicate endpoint heading \"# POST /a\"");
+    }
+
+    @Test
+    void test_select_does_keep_the_named_blocks_in_the_given_order_as_expected() {
+        // given
+        FeelDocument document = FeelDocument.parse("# POST /a\ntrue\n\n# POST /b\nfalse\n\n# POST /c\nnull\n");
+
+        // when
+        FeelDocument selected = document.select(new LinkedHashSet<>(List.of("POST /c", "POST /a")));
+
+        // then
+        assertThat(selected.expressions()).containsExactly(entry("POST /c", "null"), entry("POST /a", "true"));
+        assertThat(document.select(Set.of())).isSameAs(document);
+        assertThatThrownBy(() -> document.select(Set.of("GET /a")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("no FEEL block for endpoint \"GET /a\"");
+    }
+}
@@ -0,0 +1,60 @@
+package com.consid.automation.camunda.internal.corpus;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadCorpusTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void test_read_directory_does_read_json_files_in_path_order_as_expected() throws IOException {
+        // given
+        Files.createDirectories(tempDir.resolve("b"));
+        Files.writeString(tempDir.resolve("b/2.json"), "{\"n\": 2}");
+        Files.writeString(tempDir.resolve("a.json"), "{\"n\": 1}");
+        Files.writeString(tempDir.resolve("notes.txt"), "not a payload");
+
+        // when
+        List<Object> bodies = PayloadCorpus.read(tempDir);
+
+        // then
+        assertThat(bodies).containsExactly(Map.of("n", 1), Map.of("n", 2));
+    }
+
+    @Test
+    void test_read_ndjson_does_skip_blank_lines_and_keep_decimals_exact_as_expected() throws IOException {
+        // given
+        Path file = tempDir.resolve("recorded.ndjson");
+        Files.writeString(file, "{\"price\": 0.1}\n\n[1, \"x\"]\n");
+
+        // when
+        List<Object> bodies = PayloadCorpus.read(file);
+
+        // then
+        assertThat(bodies).containsExactly(Map.of("price", new BigDecimal("0.1")), List.of(1, "x"));
+    }
+
+    @Test
+    void test_read_ndjson_does_report_malformed_line_as_expected() throws IOException {
+        // given
+        Path file = tempDir.resolve("recorded.ndjson");
+        Files.writeString(file, "{}\n{\"broken\": \n");
+
+        // when / then
+        assertThatThrownBy(() -> PayloadCorpus.read(file))
+            .isInstanceOf(IOException.class)
+            .hasMessageStartingWith("malformed JSON payload in " + file + ":2: ");
+    }
+}
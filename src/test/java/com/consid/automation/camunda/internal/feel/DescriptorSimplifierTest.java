@@ -0,0 +1,123 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.model.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DescriptorSimplifierTest {
+
+    private final List<String> warnings = new ArrayList<>();
+    private final DescriptorSimplifier simplifier = new DescriptorSimplifier(new Diagnostics(warnings::add));
+
+    @Test
+    void test_simplify_string_enum_does_absorb_type_and_constraints_as_expected() {
+        // given
+        FieldDescriptor descriptor = new FieldDescriptor(
+            new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, 2, 8, "^[a-z]+$"), false,
+            List.of(new FeelString("active"), new FeelString("inactive")), List.of());
+
+        // when
+        FieldDescriptor simplified = simplifier.simplify("status", descriptor);
+
+        // then
+        assertThat(simplified.typeInfo()).isEqualTo(UnknownTypeInfo.INSTANCE);
+        assertThat(simplified.enumValues()).isEqualTo(descriptor.enumValues());
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    void test_simplify_enum_does_drop_values_violating_constraints_as_expected() {
+        // given
+        FieldDescriptor descriptor = new FieldDescriptor(
+            new NumberTypeInfo(BigDecimal.ONE, null, BigDecimal.TEN, null, new BigDecimal("2")), false,
+            List.of(new FeelNumber(new BigDecimal("2")), new FeelNumber(new BigDecimal("3")),
+                new FeelNumber(new BigDecimal("12"))), List.of());
+
+        // when
+        FieldDescriptor simplified = simplifier.simplify("size", descriptor);
+
+        // then
+        assertThat(simplified.typeInfo()).isEqualTo(UnknownTypeInfo.INSTANCE);
+        assertThat(simplified.enumValues()).containsExactly(new FeelNumber(new BigDecimal("2")));
+        assertThat(warnings).singleElement().asString().startsWith("[size] enum values [3, 12]");
+    }
+
+    @Test
+    void test_simplify_temporal_enum_does_keep_type_as_expected() {
+        // given
+        FieldDescriptor descriptor = new FieldDescriptor(
+            StringTypeInfo.of(StringTypeInfo.StringFormat.DATE), false,
+            List.of(new FeelString("2024-01-01")), List.of());
+
+        // when / then
+        assertThat(simplifier.simplify("day", descriptor)).isSameAs(descriptor);
+    }
+
+    @Test
+    void test_simplify_overlapping_bounds_does_keep_stricter_bound_as_expected() {
+        // given — minimum 5 with exclusiveMinimum 5 is "> 5"; maximum 9 beats exclusiveMaximum 10
+        NumberTypeInfo bounds = new NumberTypeInfo(new BigDecimal("5"), new BigDecimal("5"),
+            new BigDecimal("9"), new BigDecimal("10"), null);
+
+        // when
+        TypeInfo simplified = simplifier.simplify("age", FieldDescriptor.of(bounds)).typeInfo();
+
+        // then
+        assertThat(simplified).isEqualTo(new NumberTypeInfo(null, new BigDecimal("5"), new BigDecimal("9"), null, null));
+    }
+
+    @Test
+    void test_simplify_contradictions_does_mark_field_unsatisfiable_as_expected() {
+        // given
+        FieldDescriptor lengths = FieldDescriptor.of(
+            new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, 5, 3, null));
+        FieldDescriptor range = FieldDescriptor.of(
+            new NumberTypeInfo(null, new BigDecimal("3"), new BigDecimal("3"), null, null));
+        FieldDescriptor multiples = FieldDescriptor.of(
+            new NumberTypeInfo(new BigDecimal("1"), null, new BigDecimal("1.5"), null, new BigDecimal("2")));
+        FieldDescriptor items = FieldDescriptor.of(new ArrayTypeInfo(4, 2));
+        FieldDescriptor noEnumFits = new FieldDescriptor(
+            new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, 2, null), false,
+            List.of(new FeelString("long")), List.of());
+
+        // when
+        Map<String, FieldDescriptor> simplified = simplifier.simplify(Map.of(
+            "code", lengths, "ratio", range, "even", multiples, "tags", items, "tier", noEnumFits));
+
+        // then
+        assertThat(simplified.values())
+            .allSatisfy(descriptor -> assertThat(descriptor.typeInfo()).isInstanceOf(UnsatisfiableTypeInfo.class));
+        assertThat(simplified.get("tier").enumValues()).isEmpty();
+        assertThat(warnings).hasSize(5)
+            .anySatisfy(warning -> assertThat(warning).isEqualTo(
+                "[code] constraints can never be satisfied (minLength 5 > maxLength 3); "
+                    + "the field always fails validation"))
+            .anySatisfy(warning -> assertThat(warning).contains("empty range (3..3]"))
+            .anySatisfy(warning -> assertThat(warning).contains("no multiple of 2 in [1..1.5]"));
+    }
+
+    @Test
+    void test_simplify_array_does_recurse_into_items_as_expected() {
+        // given
+        FieldDescriptor element = new FieldDescriptor(StringTypeInfo.PLAIN, false,
+            List.of(new FeelString("a")), List.of());
+        FieldDescriptor inner = FieldDescriptor.of(new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, 3, 1, null));
+        FieldDescriptor array = FieldDescriptor.of(new ArrayTypeInfo(null, null, element, Map.of("code", inner)));
+
+        // when
+        ArrayTypeInfo simplified = (ArrayTypeInfo) simplifier.simplify("lines", array).typeInfo();
+
+        // then
+        assertThat(simplified.items().typeInfo()).isEqualTo(UnknownTypeInfo.INSTANCE);
+        assertThat(simplified.itemRequiredFields().get("code").typeInfo()).isInstanceOf(UnsatisfiableTypeInfo.class);
+        assertThat(warnings).singleElement().asString().startsWith("[lines[].code] constraints can never be satisfied");
+    }
+}
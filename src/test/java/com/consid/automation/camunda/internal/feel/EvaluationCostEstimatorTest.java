@@ -0,0 +1,148 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.consid.automation.camunda.internal.model.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EvaluationCostEstimatorTest {
+
+    private static final StringTypeInfo CODE = new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "^[A-Z]+$");
+
+    private final EvaluationCostEstimator estimator = new EvaluationCostEstimator(PayloadLimits.NONE);
+
+    @Test
+    void test_estimate_plain_field_does_count_null_and_type_clauses_as_expected() {
+        assertThat(estimator.estimate("name-invalid", FieldDescriptor.of(StringTypeInfo.PLAIN)))
+            .isEqualTo(new RuleCost("name-invalid", 2, 0, 0, 0, 2));
+    }
+
+    @Test
+    void test_estimate_pattern_does_weigh_regex_match_as_expected() {
+        assertThat(estimator.estimate("code-invalid", FieldDescriptor.of(CODE)))
+            .isEqualTo(new RuleCost("code-invalid", 3, 1, 0, 0, 2 + EvaluationCostEstimator.REGEX_MATCH));
+    }
+
+    @Test
+    void test_estimate_fixed_length_pattern_does_add_length_guard_as_expected() {
+        // given
+        StringTypeInfo currency = new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "^[A-Z]{3}$");
+
+        // when
+        RuleCost cost = estimator.estimate("currency-invalid", FieldDescriptor.of(currency));
+
+        // then
+        assertThat(cost).isEqualTo(new RuleCost("currency-invalid", 4, 1, 0, 0, 3 + EvaluationCostEstimator.REGEX_MATCH));
+    }
+
+    @Test
+    void test_estimate_array_items_does_multiply_body_by_max_items_as_expected() {
+        // given
+        FieldDescriptor codes = FieldDescriptor.of(new ArrayTypeInfo(null, 50, FieldDescriptor.of(CODE), Map.of()));
+
+        // when
+        RuleCost cost = estimator.estimate("codes-invalid", codes);
+
+        // then — null, type, size and quantifier clauses around a 27-point element body
+        assertThat(cost).isEqualTo(new RuleCost("codes-invalid", 7, 1, 1, 0, 3 + 50 * 27));
+    }
+
+    @Test
+    void test_estimate_nested_arrays_does_track_quantifier_depth_as_expected() {
+        // given — no maxItems and no ceiling: the default element count applies per level
+        FieldDescriptor inner = FieldDescriptor.of(new ArrayTypeInfo(null, null, FieldDescriptor.of(CODE), Map.of()));
+        FieldDescriptor outer = FieldDescriptor.of(new ArrayTypeInfo(null, null, inner, Map.of()));
+
+        // when
+        RuleCost cost = estimator.estimate("matrix-invalid", outer);
+
+        // then
+        int items = EvaluationCostEstimator.DEFAULT_ARRAY_ITEMS;
+        assertThat(cost.quantifierDepth()).isEqualTo(2);
+        assertThat(cost.score()).isEqualTo(2 + items * (2 + items * 27));
+    }
+
+    @Test
+    void test_estimate_array_without_max_items_does_use_global_ceiling_as_expected() {
+        // given
+        EvaluationCostEstimator ceilinged = new EvaluationCostEstimator(new PayloadLimits(5, null, null));
+        FieldDescriptor codes = FieldDescriptor.of(new ArrayTypeInfo(null, null, FieldDescriptor.of(CODE), Map.of()));
+
+        // when
+        RuleCost cost = ceilinged.estimate("codes-invalid", codes);
+
+        // then — the oversized pre-check adds its own clause
+        assertThat(cost.score()).isEqualTo(2 + 5 * 27 + 2);
+        assertThat(cost.clauses()).isEqualTo(7);
+    }
+
+    @Test
+    void test_estimate_array_with_string_ceiling_does_charge_it_per_element_as_expected() {
+        // given
+        EvaluationCostEstimator ceilinged = new EvaluationCostEstimator(new PayloadLimits(null, 10, null));
+        FieldDescriptor codes = FieldDescriptor.of(new ArrayTypeInfo(null, null, FieldDescriptor.of(CODE), Map.of()));
+
+        // when
+        RuleCost cost = ceilinged.estimate("codes-invalid", codes);
+
+        // then — each element's string length check runs ahead of its regex
+        int items = EvaluationCostEstimator.DEFAULT_ARRAY_ITEMS;
+        assertThat(cost.score()).isEqualTo(2 + items * (27 + 2));
+        assertThat(cost.clauses()).isEqualTo(7);
+    }
+
+    @Test
+    void test_estimate_closed_object_does_score_quadratically_in_keys_as_expected() {
+        assertThat(estimator.estimate("address-invalid", FieldDescriptor.of(new ObjectTypeInfo(Set.of("a", "b", "c")))))
+            .isEqualTo(new RuleCost("address-invalid", 4, 0, 1, 0, 2 + 3 * 3));
+    }
+
+    @Test
+    void test_estimate_enum_and_triggers_does_score_per_value_as_expected() {
+        // given
+        FieldDescriptor tier = new FieldDescriptor(UnknownTypeInfo.INSTANCE, false,
+            List.of(new FeelString("a"), new FeelString("b"), new FeelString("c"), new FeelString("d")),
+            List.of(Trigger.value("req.kind", List.of(new FeelString("x"), new FeelString("y")))));
+
+        // when
+        RuleCost cost = estimator.estimate("tier-invalid", tier);
+
+        // then
+        assertThat(cost).isEqualTo(new RuleCost("tier-invalid", 3, 0, 0, 4, 2 + 1 + 4));
+    }
+
+    @Test
+    void test_estimate_component_call_does_sum_function_body_as_expected() {
+        // given
+        Map<String, FieldDescriptor> address = Map.of(
+            "city", FieldDescriptor.of(StringTypeInfo.PLAIN), "zip", FieldDescriptor.of(CODE));
+
+        // when
+        RuleCost cost = estimator.estimateComponentCall("billing.*-invalid", address, List.of(Trigger.presence("req.billing")));
+
+        // then — guard, call, and both fields of the function body
+        assertThat(cost).isEqualTo(new RuleCost("billing.*-invalid", 7, 1, 0, 0, 1 + 1 + 2 + 27));
+    }
+
+    @Test
+    void test_estimate_deep_array_nesting_does_saturate_score_as_expected() {
+        // given
+        FieldDescriptor descriptor = FieldDescriptor.of(CODE);
+        for (int i = 0; i < 40; i++) {
+            descriptor = FieldDescriptor.of(new ArrayTypeInfo(null, null, descriptor, Map.of()));
+        }
+
+        // when
+        RuleCost cost = estimator.estimate("deep-invalid", descriptor);
+
+        // then
+        assertThat(cost.quantifierDepth()).isEqualTo(40);
+        assertThat(cost.score()).isEqualTo(Long.MAX_VALUE);
+        assertThat(new EndpointCost("POST /deep", List.of(cost, cost)).score()).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -59,7 +59,7 @@ class FEELExpressionBuilderTest {
         FieldDescriptor descriptor = FieldDescriptor.of(string(null, null, "^[A-Z]{3}$"));
         String result = builder.build("code", descriptor);
         assertThat(result).isEqualTo(
-            "code=null or not(code instance of string) or not(matches(code, \"^[A-Z]{3}$\"))");
+            "code=null or not(code instance of string) or not(string length(code)=3 and matches(code, \"^[A-Z]{3}$\"))");
     }
 
     @Test
@@ -67,17 +67,36 @@ class FEELExpressionBuilderTest {
         FieldDescriptor descriptor = FieldDescriptor.of(string(null, null, "^\\d{5}$"));
         String result = builder.build("zip", descriptor);
         assertThat(result).isEqualTo(
-            "zip=null or not(zip instance of string) or not(matches(zip, \"^\\\\d{5}$\"))");
+            "zip=null or not(zip instance of string) or not(string length(zip)=5 and matches(zip, \"^\\\\d{5}$\"))");
     }
 
     @Test
-    void test_string_expression_with_combined_constraints_does_chain_all_checks_as_expected() {
+    void test_string_expression_with_literal_pattern_does_lower_to_string_functions_as_expected() {
+        assertThat(builder.build("orderId", FieldDescriptor.of(string(null, null, "^ORD\\-"))))
+            .isEqualTo("orderId=null or not(orderId instance of string) or not(starts with(orderId, \"ORD-\"))");
+        assertThat(builder.build("file", FieldDescriptor.of(string(null, null, "\\.pdf|\\.png"))))
+            .isEqualTo("file=null or not(file instance of string)"
+                + " or not(contains(file, \".pdf\") or contains(file, \".png\"))");
+    }
+
+    @Test
+    void test_array_expression_with_literal_item_pattern_does_not_hoist_as_expected() {
+        FieldDescriptor items = FieldDescriptor.of(string(null, null, "^(INV|ORD)"));
+        FieldDescriptor descriptor = FieldDescriptor.of(new ArrayTypeInfo(null, null, items, Map.of()));
+        assertThat(builder.build("refs", descriptor)).isEqualTo(
+            "refs=null or not(refs instance of list)"
+                + " or (some e in refs satisfies (e=null or not(e instance of string)"
+                + " or not(starts with(e, \"INV\") or starts with(e, \"ORD\"))))");
+    }
+
+    @Test
+    void test_string_expression_with_combined_constraints_does_fuse_length_bounds_as_expected() {
+        // Paired length bounds evaluate string length(X) once via a single range test.
         FieldDescriptor descriptor = FieldDescriptor.of(string(2, 8, "^[a-z]+$"));
         String result = builder.build("handle", descriptor);
         assertThat(result).isEqualTo(
             "handle=null or not(handle instance of string)"
-                + " or string length(handle)<2"
-                + " or string length(handle)>8"
+                + " or not(string length(handle) in [2..8])"
                 + " or not(matches(handle, \"^[a-z]+$\"))");
     }
 
@@ -133,17 +152,34 @@ class FEELExpressionBuilderTest {
     }
 
     @Test
-    void test_number_expression_with_combined_bounds_does_chain_min_max_then_multiple_as_expected() {
+    void test_number_expression_with_combined_bounds_does_fuse_range_then_multiple_as_expected() {
         FieldDescriptor descriptor = FieldDescriptor.of(
             number(new BigDecimal("0"), null, new BigDecimal("1000"), null, new BigDecimal("50")));
         String result = builder.build("amount", descriptor);
         assertThat(result).isEqualTo(
             "amount=null or not(amount instance of number)"
-                + " or amount<0"
-                + " or amount>1000"
+                + " or not(amount in [0..1000])"
                 + " or modulo(amount, 50)!=0");
     }
 
+    @Test
+    void test_number_expression_with_exclusive_bounds_does_render_open_interval_ends_as_expected() {
+        FieldDescriptor descriptor = FieldDescriptor.of(
+            number(null, new BigDecimal("0"), new BigDecimal("1"), null, null));
+        String result = builder.build("ratio", descriptor);
+        assertThat(result).isEqualTo("ratio=null or not(ratio instance of number) or not(ratio in (0..1])");
+    }
+
+    @Test
+    void test_number_expression_with_two_lower_bounds_does_keep_separate_comparisons_as_expected() {
+        // Both minimum and exclusiveMinimum set: no single interval, so each bound renders alone.
+        FieldDescriptor descriptor = FieldDescriptor.of(
+            number(new BigDecimal("0"), new BigDecimal("5"), new BigDecimal("10"), null, null));
+        String result = builder.build("score", descriptor);
+        assertThat(result).isEqualTo(
+            "score=null or not(score instance of number) or score<0 or score<=5 or score>10");
+    }
+
     @Test
     void test_number_expression_with_negative_bound_does_render_unary_minus_as_expected() {
         // FEEL parses `x<-100` as `x < (-100)`; unary minus binds tighter than comparison.
@@ -196,11 +232,11 @@ class FEELExpressionBuilderTest {
     }
 
     @Test
-    void test_array_expression_with_min_and_max_items_does_emit_both_bounds_as_expected() {
+    void test_array_expression_with_min_and_max_items_does_fuse_count_bounds_as_expected() {
         FieldDescriptor descriptor = FieldDescriptor.of(new ArrayTypeInfo(1, 3));
         String result = builder.build("tags", descriptor);
         assertThat(result).isEqualTo(
-            "tags=null or not(tags instance of list) or count(tags)<1 or count(tags)>3");
+            "tags=null or not(tags instance of list) or not(count(tags) in [1..3])");
     }
 
     @Test
@@ -249,6 +285,21 @@ class FEELExpressionBuilderTest {
                 + " or e.name=null or not(e.name instance of string)))");
     }
 
+    @Test
+    void test_array_expression_with_conditional_item_field_does_qualify_trigger_with_element_as_expected() {
+        // Array of objects whose url is required when the same element's type is "digital".
+        FieldDescriptor url = new FieldDescriptor(StringTypeInfo.PLAIN, false, List.of(),
+            List.of(Trigger.value("type", List.of(new FeelString("digital")))));
+        FieldDescriptor descriptor = FieldDescriptor.of(new ArrayTypeInfo(null, null,
+            FieldDescriptor.of(ObjectTypeInfo.OPEN), Map.of("url", url)));
+        String result = builder.build("lineItems", descriptor);
+        assertThat(result).isEqualTo(
+            "lineItems=null or not(lineItems instance of list)"
+                + " or (some e in lineItems satisfies ("
+                + "e=null or not(e instance of context)"
+                + " or e.type=\"digital\" and (e.url=null or not(e.url instance of string))))");
+    }
+
     @Test
     void test_array_expression_with_items_and_min_items_does_combine_bounds_and_element_check_as_expected() {
         // Array of strings, must be non-empty, each element must be a string.
@@ -261,6 +312,57 @@ class FEELExpressionBuilderTest {
                 + " or (some e in tags satisfies (e=null or not(e instance of string)))");
     }
 
+    @Test
+    void test_array_expression_with_item_pattern_does_hoist_regex_out_of_quantifier_as_expected() {
+        FieldDescriptor items = FieldDescriptor.of(string(null, null, "^[A-Z]{3}$"));
+        FieldDescriptor descriptor = FieldDescriptor.of(new ArrayTypeInfo(null, null, items, Map.of()));
+        String result = builder.build("codes", descriptor);
+        assertThat(result).isEqualTo(
+            "codes=null or not(codes instance of list)"
+                + " or ({pattern0: \"^[A-Z]{3}$\", violation: some e in codes satisfies ("
+                + "e=null or not(e instance of string)"
+                + " or not(string length(e)=3 and matches(e, pattern0)))}.violation)");
+    }
+
+    @Test
+    void test_array_expression_with_item_enum_and_closed_object_does_hoist_lists_as_expected() {
+        // Enum and allowed-key lists are element-independent — built once, referenced by name.
+        Map<String, FieldDescriptor> itemRequired = new LinkedHashMap<>();
+        itemRequired.put("status", new FieldDescriptor(StringTypeInfo.PLAIN, false,
+            List.of(new FeelString("open"), new FeelString("closed")), List.of()));
+        FieldDescriptor items = FieldDescriptor.of(new ObjectTypeInfo(Set.of("status")));
+        FieldDescriptor descriptor = FieldDescriptor.of(new ArrayTypeInfo(null, null, items, itemRequired));
+        String result = builder.build("tickets", descriptor);
+        assertThat(result).isEqualTo(
+            "tickets=null or not(tickets instance of list)"
+                + " or ({allowedKeys0: [\"status\"], allowedValues1: [\"open\", \"closed\"],"
+                + " violation: some e in tickets satisfies ("
+                + "e=null or not(e instance of context)"
+                + " or (not(every k in get entries(e).key satisfies (list contains(allowedKeys0, k))))"
+                + " or e.status=null or not(e.status instance of string)"
+                + " or not(list contains(allowedValues1, e.status)))}.violation)");
+    }
+
+    @Test
+    void test_nested_array_expression_does_hoist_into_outermost_quantifier_as_expected() {
+        // Inner and outer element share one pool; identical literals are deduplicated.
+        FieldDescriptor color = new FieldDescriptor(StringTypeInfo.PLAIN, false,
+            List.of(new FeelString("red")), List.of());
+        FieldDescriptor inner = FieldDescriptor.of(new ArrayTypeInfo(null, null, color, Map.of()));
+        Map<String, FieldDescriptor> itemRequired = new LinkedHashMap<>();
+        itemRequired.put("primary", color);
+        itemRequired.put("palette", inner);
+        FieldDescriptor items = FieldDescriptor.of(ObjectTypeInfo.OPEN);
+        FieldDescriptor descriptor = FieldDescriptor.of(new ArrayTypeInfo(null, null, items, itemRequired));
+        String result = builder.build("themes", descriptor);
+        assertThat(result)
+            .startsWith("themes=null or not(themes instance of list) or ({allowedValues0: [\"red\"], violation: ")
+            .contains("(some e in e.palette satisfies (e=null or not(e instance of string)"
+                + " or not(list contains(allowedValues0, e))))")
+            .contains("not(list contains(allowedValues0, e.primary))")
+            .endsWith("}.violation)");
+    }
+
     @Test
     void test_nullable_array_with_min_items_does_only_check_when_present_as_expected() {
         FieldDescriptor descriptor = new FieldDescriptor(
@@ -418,10 +520,81 @@ class FEELExpressionBuilderTest {
         assertThat(result).startsWith("req.tier in (\"gold\", \"platinum\") and (");
     }
 
+    @Test
+    void test_conditional_required_with_redundant_triggers_does_render_minimal_guard_as_expected() {
+        FieldDescriptor descriptor = new FieldDescriptor(
+            StringTypeInfo.PLAIN, false, List.of(),
+            List.of(Trigger.presence("req.a"), Trigger.value("req.a", List.of(new FeelString("x"))),
+                Trigger.value("req.tier", List.of(new FeelString("gold"))), Trigger.presence("req.a"),
+                Trigger.value("req.tier", List.of(new FeelString("platinum")))));
+        String result = builder.build("c", descriptor);
+        assertThat(result).startsWith("(req.a!=null or req.tier in (\"gold\", \"platinum\")) and (");
+    }
+
+    @Test
+    void test_guard_does_normalize_raw_trigger_list_as_expected() {
+        String result = builder.guard("body", List.of(Trigger.presence("req.a"), Trigger.presence("req.a")));
+        assertThat(result).isEqualTo("req.a!=null and (body)");
+    }
+
+    @Test
+    void test_untyped_enum_does_render_null_safe_membership_test_as_expected() {
+        FieldDescriptor descriptor = new FieldDescriptor(
+            UnknownTypeInfo.INSTANCE, false, List.of(new FeelString("v1")), List.of());
+        String result = builder.build("req.schemaVersion", descriptor);
+        assertThat(result).isEqualTo("req.schemaVersion=null or (req.schemaVersion in (\"v1\"))!=true");
+    }
+
+    @Test
+    void test_unsatisfiable_field_does_render_constant_violation_as_expected() {
+        TypeInfo contradiction = new UnsatisfiableTypeInfo("minLength 5 > maxLength 3");
+        assertThat(builder.build("req.code", FieldDescriptor.of(contradiction))).isEqualTo("true");
+        assertThat(builder.build("req.code", new FieldDescriptor(contradiction, true, List.of(), List.of())))
+            .isEqualTo("req.code!=null");
+        assertThat(builder.build("req.code", new FieldDescriptor(contradiction, false, List.of(),
+            List.of(Trigger.presence("req.kind"))))).isEqualTo("req.kind!=null");
+    }
+
     @Test
     void test_nullable_unknown_does_never_fail_as_expected() {
         FieldDescriptor descriptor = new FieldDescriptor(UnknownTypeInfo.INSTANCE, true, List.of(), List.of());
         String result = builder.build("anything", descriptor);
         assertThat(result).isEqualTo("false");
     }
+
+    @Test
+    void test_ceiling_expression_does_guard_each_check_by_type_as_expected() {
+        PayloadLimits limits = new PayloadLimits(100, 500, 20);
+        assertThat(builder.ceilingExpression("req.tags", ArrayTypeInfo.NONE, limits))
+            .isEqualTo("(req.tags instance of list and count(req.tags)>100)");
+        assertThat(builder.ceilingExpression("req.name", StringTypeInfo.PLAIN, limits))
+            .isEqualTo("(req.name instance of string and string length(req.name)>500)");
+        assertThat(builder.ceilingExpression("req.meta", ObjectTypeInfo.OPEN, limits))
+            .isEqualTo("(req.meta instance of context and count(get entries(req.meta))>20)");
+        assertThat(builder.ceilingExpression("req.age", NumberTypeInfo.NONE, limits)).isNull();
+    }
+
+    @Test
+    void test_ceiling_expression_does_return_null_when_ceiling_disabled_as_expected() {
+        assertThat(builder.ceilingExpression("req.tags", ArrayTypeInfo.NONE, PayloadLimits.NONE)).isNull();
+        assertThat(builder.ceilingExpression("req.name", StringTypeInfo.PLAIN, PayloadLimits.NONE)).isNull();
+    }
+
+    @Test
+    void test_array_expression_with_limits_does_check_item_ceilings_before_regex_as_expected() {
+        // The first-tier guard never sees element values, so each one is capped in the quantifier body.
+        FEELExpressionBuilder limited = new FEELExpressionBuilder(new PayloadLimits(null, 64, 5));
+        FieldDescriptor items = FieldDescriptor.of(ObjectTypeInfo.OPEN);
+        Map<String, FieldDescriptor> itemRequired = Map.of("sku", FieldDescriptor.of(string(null, null, "^[a-z]+$")));
+        FieldDescriptor descriptor = FieldDescriptor.of(new ArrayTypeInfo(null, null, items, itemRequired));
+        assertThat(limited.build("lineItems", descriptor)).isEqualTo(
+            "lineItems=null or not(lineItems instance of list)"
+                + " or ({pattern0: \"^[a-z]+$\", violation: some e in lineItems satisfies ("
+                + "e=null or not(e instance of context) or (e instance of context and count(get entries(e))>5)"
+                + " or e.sku=null or not(e.sku instance of string)"
+                + " or (e.sku instance of string and string length(e.sku)>64)"
+                + " or not(matches(e.sku, pattern0)))}.violation)");
+        assertThat(limited.build("name", FieldDescriptor.of(string(null, null, "^[a-z]+$"))))
+            .isEqualTo("name=null or not(name instance of string) or not(matches(name, \"^[a-z]+$\"))");
+    }
 }
@@ -5,6 +5,7 @@ import com.consid.automation.camunda.internal.model.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -70,12 +71,34 @@ class FEELRuleGeneratorTest {
         // then
         assertThat(output)
             .contains("# POST /users")
-            .contains("field: \"user\"")
+            .contains("rules: [\n    req.user=null\n  ],")
+            .contains("isValid: not(list contains(rules, true))")
+            .contains("if rules[1] then { id: \"user-invalid\", field: \"user\", invalid: true } else null")
             .contains("body:")
             .contains("statusCode:")
             .contains("if isValid then");
     }
 
+    @Test
+    void test_render_response_with_max_reported_details_does_cap_details_list_as_expected() {
+        // given
+        FEELRuleGenerator generator = new FEELRuleGenerator(
+            true, 201, 400, 2, PayloadLimits.NONE, new FEELExpressionBuilder());
+        Map<String, List<ValidationRule>> rulesByEndpoint = Map.of("# POST /users", List.of(
+            ValidationRule.create("a-invalid", "req.a=null", "a"),
+            ValidationRule.create("b-invalid", "req.b=null", "b"),
+            ValidationRule.create("c-invalid", "req.c=null", "c")));
+
+        // when
+        String output = generator.render(rulesByEndpoint);
+
+        // then
+        assertThat(output)
+            .contains("details: if isValid then [] else {\n      failed: [\n")
+            .contains("if rules[3] then { id: \"c-invalid\", field: \"c\", invalid: true } else null")
+            .contains("reported: if count(failed)>2 then sublist(failed, 1, 2) else failed\n    }.reported");
+    }
+
     @Test
     void test_render_does_include_multiple_endpoints_as_expected() {
         // given
@@ -145,4 +168,120 @@ class FEELRuleGeneratorTest {
             .contains("rules: [")
             .contains("]");
     }
+
+    @Test
+    void test_render_with_payload_limits_does_guard_rules_behind_size_precheck_as_expected() {
+        // given
+        FEELRuleGenerator generator = new FEELRuleGenerator(
+            false, 201, 400, new PayloadLimits(100, 500, 20), new FEELExpressionBuilder());
+        ValidationRule tags = generator.createRule("tags", FieldDescriptor.of(ArrayTypeInfo.NONE));
+        ValidationRule age = generator.createRule("age", FieldDescriptor.of(NumberTypeInfo.NONE));
+        Map<String, List<ValidationRule>> rulesByEndpoint = Map.of("# POST /users", List.of(tags, age));
+
+        // when
+        String output = generator.render(rulesByEndpoint);
+
+        // then — root keys first, then each field's own ceiling; numbers carry none
+        assertThat(age.hasCeiling()).isFalse();
+        assertThat(output)
+            .contains("rules: if (req instance of context and count(get entries(req))>20)"
+                + " or (req.tags instance of list and count(req.tags)>100) then [\n"
+                + "    {invalid: true}\n"
+                + "  ] else [\n"
+                + "    {invalid: " + tags.invalidExpression() + "},\n"
+                + "    {invalid: " + age.invalidExpression() + "}\n"
+                + "  ],");
+    }
+
+    @Test
+    void test_render_response_with_payload_limits_does_report_payload_size_rule_as_expected() {
+        // given
+        FEELRuleGenerator generator = new FEELRuleGenerator(
+            true, 201, 400, new PayloadLimits(null, 500, null), new FEELExpressionBuilder());
+        ValidationRule name = generator.createRule("name", FieldDescriptor.of(StringTypeInfo.PLAIN));
+
+        // when
+        String output = generator.render(Map.of("# POST /users", List.of(name)));
+
+        // then
+        assertThat(output)
+            .contains("oversized: (req.name instance of string and string length(req.name)>500),\n")
+            .contains("rules: if oversized then [\n    true\n  ] else [")
+            .contains("details: if isValid then [] else if oversized then "
+                + "[{ id: \"payloadSize-invalid\", field: \"(root)\", invalid: true }] else [");
+    }
+
+    @Test
+    void test_render_without_payload_limits_does_keep_plain_rules_list_as_expected() {
+        // given
+        FEELRuleGenerator generator = new FEELRuleGenerator(false);
+        ValidationRule name = generator.createRule("name", FieldDescriptor.of(StringTypeInfo.PLAIN));
+
+        // when
+        String output = generator.render(Map.of("# POST /users", List.of(name)));
+
+        // then
+        assertThat(name.hasCeiling()).isFalse();
+        assertThat(output).contains("rules: [\n").doesNotContain("if (");
+    }
+
+    @Test
+    void test_create_component_function_does_qualify_fields_and_triggers_with_parameter_as_expected() {
+        // given
+        FEELRuleGenerator generator = new FEELRuleGenerator(false);
+        Map<String, FieldDescriptor> fields = new LinkedHashMap<>();
+        fields.put("city", FieldDescriptor.of(StringTypeInfo.PLAIN));
+        fields.put("zip", new FieldDescriptor(
+            StringTypeInfo.PLAIN, false, List.of(), List.of(Trigger.presence("city"))));
+
+        // when
+        ValidationFunction function = generator.createComponentFunction("Postal-Address", fields);
+
+        // then
+        assertThat(function.name()).isEqualTo("validatePostal_Address");
+        assertThat(function.definition()).isEqualTo(
+            "function(v) list contains([\n"
+                + "    v.city=null or not(v.city instance of string),\n"
+                + "    v.city!=null and (v.zip=null or not(v.zip instance of string))\n"
+                + "  ], true)");
+    }
+
+    @Test
+    void test_create_component_call_rule_does_guard_call_and_collect_inner_ceilings_as_expected() {
+        // given
+        FEELRuleGenerator generator = new FEELRuleGenerator(
+            false, 201, 400, new PayloadLimits(null, 200, null), new FEELExpressionBuilder());
+        ValidationFunction function = new ValidationFunction("validateAddress", "function(v) false");
+        Map<String, FieldDescriptor> fields = Map.of("city", FieldDescriptor.of(StringTypeInfo.PLAIN));
+
+        // when
+        ValidationRule rule = generator.createComponentCallRule(
+            "billing", function, fields, List.of(Trigger.presence("customer")));
+
+        // then
+        assertThat(rule.id()).isEqualTo("billing.*-invalid");
+        assertThat(rule.fieldPath()).isEqualTo("billing.*");
+        assertThat(rule.invalidExpression()).isEqualTo("req.customer!=null and (validateAddress(req.billing))");
+        assertThat(rule.ceilingExpression())
+            .isEqualTo("(req.billing.city instance of string and string length(req.billing.city)>200)");
+    }
+
+    @Test
+    void test_render_with_functions_does_define_them_before_rules_as_expected() {
+        // given
+        FEELRuleGenerator generator = new FEELRuleGenerator(false);
+        ValidationFunction function = new ValidationFunction("validateAddress", "function(v) false");
+        ValidationRule call = ValidationRule.create("billing.*-invalid", "validateAddress(req.billing)", "billing.*");
+
+        // when
+        String output = generator.render(
+            Map.of("# POST /users", List.of(call)), Map.of("# POST /users", List.of(function)));
+
+        // then
+        assertThat(output).contains(
+            "  req: request.body,\n"
+                + "  validateAddress: function(v) false,\n"
+                + "  rules: [\n"
+                + "    {invalid: validateAddress(req.billing)}\n");
+    }
 }
@@ -0,0 +1,118 @@
+package com.consid.automation.camunda.internal.feel;
+
+import org.camunda.feel.FeelEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PatternLoweringTest {
+
+    private static final FeelEngine FEEL_ENGINE = new FeelEngine(
+        FeelEngine.defaultFunctionProvider(),
+        FeelEngine.defaultValueMapper(),
+        FeelEngine.defaultConfiguration(),
+        FeelEngine.defaultClock()
+    );
+
+    /** Hits, near misses, case changes, line terminators, non-ASCII and characters FEEL must escape. */
+    private static final List<Object> INPUTS = List.of(
+        "", "ORD", "ORD-", "ORD-1", "ord-1", "xORD-1", "ORD-\n", "\nORD-1", "INV-2", "ORDINV",
+        "report.pdf", "report.pdf\n", "reportXpdf", "a|b", "ab", "$9.99", "9.99$", "C:\\dir", "c:\\dir",
+        "say \"hi\"", "über-ORD", "http://x", "https://x", 42);
+
+    @Test
+    void test_match_expression_literal_shapes_does_lower_as_expected() {
+        assertThat(PatternLowering.matchExpression("x", "^ORD-")).isEqualTo("starts with(x, \"ORD-\")");
+        assertThat(PatternLowering.matchExpression("x", "\\.pdf")).isEqualTo("contains(x, \".pdf\")");
+        assertThat(PatternLowering.matchExpression("x", "^(?:INV|ORD)"))
+            .isEqualTo("starts with(x, \"INV\") or starts with(x, \"ORD\")");
+        assertThat(PatternLowering.matchExpression("x", "^C:\\\\")).isEqualTo("starts with(x, \"C:\\\\\")");
+        assertThat(PatternLowering.alternativeCount("(pdf|png|gif)")).isEqualTo(3);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "^ORD-$", "ORD$", "^[A-Z]{3}$", "^\\d+$", "^a|b", "^(a|b)c", "(a)(b)", "a.b", "\\d", "\\Qa\\E",
+        "(?i)ord", "^", "", "a||b", "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
+    })
+    void test_match_expression_non_literal_does_keep_regex_as_expected(String pattern) {
+        assertThat(PatternLowering.matchExpression("x", pattern)).isNull();
+        assertThat(PatternLowering.alternativeCount(pattern)).isZero();
+    }
+
+    /**
+     * Differential check: for every input, the lowered expression must give
+     * the engine's own {@code matches()} verdict (and that verdict must be
+     * Java's {@code find()}, which the lowering relies on).
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "^ORD-", "ORD-", "^(ORD|INV)", "^(?:https://|http://)", "ORD|INV", "\\.pdf", "(\\.pdf|\\.png)",
+        "^\\$", "\\$", "a\\|b", "^C:\\\\", "say \"hi\"", "über", "^\\.", "-1"
+    })
+    void test_match_expression_does_agree_with_matches_as_expected(String pattern) {
+        String lowered = PatternLowering.matchExpression("x", pattern);
+        assertThat(lowered).isNotNull();
+        for (Object input : INPUTS) {
+            Map<String, Object> context = Map.of("x", input, "p", pattern);
+            Object expected = evaluate("matches(x, p)", context);
+            assertThat(evaluate(lowered, context))
+                .as("%s on %s", lowered, input)
+                .isEqualTo(expected);
+            if (input instanceof String text) {
+                assertThat(expected).as("matches(%s, %s)", input, pattern)
+                    .isEqualTo(Pattern.compile(pattern).matcher(text).find());
+            }
+        }
+    }
+
+    @Test
+    void test_fixed_length_anchored_fixed_width_patterns_does_measure_as_expected() {
+        assertThat(PatternLowering.fixedLength("^[A-Z]{3}$")).isEqualTo(3);
+        assertThat(PatternLowering.fixedLength("^\\d{4}-\\d{2}$")).isEqualTo(7);
+        assertThat(PatternLowering.fixedLength("^a\\.[^x]$")).isEqualTo(3);
+        assertThat(PatternLowering.fixedLength(
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$")).isEqualTo(36);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "^\\d+$", "^[A-Z]{3}", "[A-Z]{3}$", "^[a-z]{2,3}$", "^(ab)$", "^a|b$", "^a?$", "^\\$", "^[z-a]$",
+        "^[]a]$", "^[a-z&&[^q]]$", "^\\p{Lu}$", "^\\bab$", "^$"
+    })
+    void test_fixed_length_other_patterns_does_return_null_as_expected(String pattern) {
+        assertThat(PatternLowering.fixedLength(pattern)).isNull();
+    }
+
+    /**
+     * The guarded form is a whole-string match: the engine's {@code matches()}
+     * verdict, minus the trailing line terminator {@code $} tolerates.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"^[A-Z]{3}$", "^\\d{2}\\.\\d{2}$", "^.[^a]$"})
+    void test_fixed_length_guard_does_agree_with_matches_as_expected(String pattern) {
+        String guarded = "string length(x)=" + PatternLowering.fixedLength(pattern) + " and matches(x, p)";
+        List<String> inputs = List.of(
+            "", "ABC", "ABCD", "AB", "abc", "ABC\n", "12.34", "12.345", "12.34\n", "xb", "\u00fcb", "x\n", "aa");
+        for (String input : inputs) {
+            Map<String, Object> context = Map.of("x", input, "p", pattern);
+            assertThat(evaluate(guarded, context))
+                .as("%s on %s", guarded, input)
+                .isEqualTo(Pattern.compile(pattern).matcher(input).matches());
+        }
+    }
+
+    private static Object evaluate(String expression, Map<String, Object> context) {
+        var evaluation = FEEL_ENGINE.evalExpression(expression, context);
+        assertThat(evaluation.isRight())
+            .withFailMessage(() -> "FEEL evaluation failure: " + evaluation.left().get())
+            .isTrue();
+        return evaluation.getOrElse(null);
+    }
+}
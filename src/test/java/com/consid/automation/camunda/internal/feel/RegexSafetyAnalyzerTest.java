@@ -0,0 +1,103 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.model.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegexSafetyAnalyzerTest {
+
+    private final List<String> warnings = new ArrayList<>();
+    private final RegexSafetyAnalyzer analyzer = new RegexSafetyAnalyzer(new Diagnostics(warnings::add), false);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$",
+        "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
+        "^[a-zA-Z][a-zA-Z0-9+.-]*:.+$",
+        "^(\\d+\\.)*\\d+$",
+        "^[a-z]{1,100}(,[a-z]{1,100})*$",
+        "^(a++)+$",
+        "^(?>a+)+$",
+        "^(a+)++$",
+        "(?i)^(ab|cd)*$",
+        "^\\p{L}+$",
+        "(("
+    })
+    void test_findings_safe_pattern_does_report_nothing_as_expected(String pattern) {
+        assertThat(analyzer.findings(pattern)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"^(a+)+$", "^(\\w+\\s?)*$", "^(([a-z])+.)+[A-Z]([a-z])+$", "^(\\d+\\.?)*$"})
+    void test_findings_nested_quantifier_does_report_quantified_group_as_expected(String pattern) {
+        assertThat(analyzer.findings(pattern)).first().asString().startsWith("nested quantifier (");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"^(a|a)*$", "^(a|ab)*c$", "^(\\w|\\d)+$", "^(x|)*$"})
+    void test_findings_overlapping_alternation_does_report_quantified_group_as_expected(String pattern) {
+        assertThat(analyzer.findings(pattern)).first().asString().startsWith("overlapping alternation (");
+    }
+
+    @Test
+    void test_findings_exponential_pattern_does_time_out_fuzzing_as_expected() {
+        // given
+        RegexSafetyAnalyzer fast = new RegexSafetyAnalyzer(Diagnostics.NOOP, false, Duration.ofMillis(20));
+
+        // when
+        List<String> findings = fast.findings("(x+x+)+y");
+
+        // then
+        assertThat(findings).hasSize(2).startsWith("nested quantifier (x+x+)+");
+        assertThat(findings.get(1)).matches("matching a \\d+-character input did not finish within 20 ms");
+    }
+
+    @Test
+    void test_findings_same_pattern_does_analyze_once_as_expected() {
+        assertThat(analyzer.findings("^(a+)+$")).isSameAs(analyzer.findings("^(a+)+$"));
+    }
+
+    @Test
+    void test_check_does_warn_per_field_including_array_items_as_expected() {
+        // given
+        StringTypeInfo risky = new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "^(a+)+$");
+        FieldDescriptor lines = FieldDescriptor.of(new ArrayTypeInfo(null, null, FieldDescriptor.of(risky),
+            Map.of("code", FieldDescriptor.of(risky))));
+
+        // when
+        analyzer.check(Map.of("name", FieldDescriptor.of(StringTypeInfo.PLAIN), "lines", lines));
+
+        // then
+        assertThat(warnings).hasSize(2)
+            .anySatisfy(warning -> assertThat(warning).startsWith(
+                "[lines[]] pattern \"^(a+)+$\" is vulnerable to catastrophic backtracking (nested quantifier (a+)+"))
+            .anySatisfy(warning -> assertThat(warning).startsWith("[lines[].code] pattern"))
+            .allSatisfy(warning -> assertThat(warning).endsWith("bound the input with maxLength or maxStringLength"));
+    }
+
+    @Test
+    void test_check_strict_does_fail_on_first_finding_as_expected() {
+        // given
+        RegexSafetyAnalyzer strict = new RegexSafetyAnalyzer(new Diagnostics(warnings::add), true);
+        FieldDescriptor descriptor = FieldDescriptor.of(
+            new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "^(\\w|\\d)+$"));
+
+        // when / then
+        assertThatThrownBy(() -> strict.check(Map.of("handle", descriptor)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("[handle] pattern \"^(\\w|\\d)+$\" is vulnerable")
+            .hasMessageContaining("overlapping alternation (\\w|\\d)+");
+        assertThat(warnings).isEmpty();
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -58,4 +59,35 @@ class RuleFileWriterTest {
         // then
         assertThat(Files.readString(target)).isEqualTo("replacement");
     }
+
+    @Test
+    void test_write_if_changed_does_skip_identical_content_as_expected() throws IOException {
+        // given
+        Path target = tempDir.resolve("output.feel");
+        Files.writeString(target, "content");
+        Files.setLastModifiedTime(target, FileTime.fromMillis(0));
+
+        // when
+        boolean written = writer.writeIfChanged(target, "content");
+
+        // then
+        assertThat(written).isFalse();
+        assertThat(Files.getLastModifiedTime(target)).isEqualTo(FileTime.fromMillis(0));
+    }
+
+    @Test
+    void test_write_if_changed_does_replace_different_content_as_expected() throws IOException {
+        // given
+        Path target = tempDir.resolve("nested/output.feel");
+
+        // when
+        boolean created = writer.writeIfChanged(target, "previous");
+        boolean replaced = writer.writeIfChanged(target, "replacement");
+
+        // then
+        assertThat(created).isTrue();
+        assertThat(replaced).isTrue();
+        assertThat(Files.readString(target)).isEqualTo("replacement");
+        assertThat(target.getParent()).isDirectoryNotContaining("glob:**.tmp");
+    }
 }
@@ -0,0 +1,86 @@
+package com.consid.automation.camunda.internal.feel;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SplitOutputWriterTest {
+
+    private static final FileTime LONG_AGO = FileTime.fromMillis(0);
+
+    @TempDir
+    Path tempDir;
+
+    private final SplitOutputWriter writer = new SplitOutputWriter();
+
+    @ParameterizedTest
+    @CsvSource({
+        "POST /customers, post-customers",
+        "PUT /customers/{id}/order-items, put-customers-id-order-items",
+        "PATCH /, patch"
+    })
+    void test_file_name_does_follow_endpoint_as_expected(String endpoint, String expected) {
+        // when / then
+        assertThat(SplitOutputWriter.fileName(endpoint)).isEqualTo(expected);
+    }
+
+    @Test
+    void test_write_does_write_one_file_per_endpoint_and_index_as_expected() throws IOException {
+        // given
+        Map<String, String> blocks = new LinkedHashMap<>();
+        blocks.put("POST /customers/{id}", "# POST /customers/{id}\ntrue");
+        blocks.put("POST /Customers/{ID}", "# POST /Customers/{ID}\nfalse");
+
+        // when
+        SplitOutputWriter.Result result = writer.write(tempDir, blocks);
+
+        // then
+        assertThat(result).isEqualTo(new SplitOutputWriter.Result(2, 0, 0));
+        assertThat(tempDir.resolve("post-customers-id.feel")).hasContent("# POST /customers/{id}\ntrue");
+        assertThat(tempDir.resolve("post-customers-id-2.feel")).hasContent("# POST /Customers/{ID}\nfalse");
+        JsonNode index = new ObjectMapper().readTree(tempDir.resolve(SplitOutputWriter.INDEX_FILE).toFile());
+        assertThat(index.path("endpoints")).hasSize(2);
+        assertThat(index.path("endpoints").get(1).path("endpoint").asText()).isEqualTo("POST /Customers/{ID}");
+        assertThat(index.path("endpoints").get(1).path("file").asText()).isEqualTo("post-customers-id-2.feel");
+        assertThat(index.path("endpoints").get(1).path("sha256").asText())
+            .isEqualTo(SplitOutputWriter.sha256("# POST /Customers/{ID}\nfalse"))
+            .hasSize(64);
+    }
+
+    @Test
+    void test_rewrite_does_touch_only_changed_files_and_remove_stale_ones_as_expected() throws IOException {
+        // given
+        Map<String, String> blocks = new LinkedHashMap<>();
+        blocks.put("POST /a", "# POST /a\ntrue");
+        blocks.put("POST /b", "# POST /b\ntrue");
+        blocks.put("POST /c", "# POST /c\ntrue");
+        writer.write(tempDir, blocks);
+        Files.setLastModifiedTime(tempDir.resolve("post-a.feel"), LONG_AGO);
+        Files.setLastModifiedTime(tempDir.resolve("post-b.feel"), LONG_AGO);
+        Files.writeString(tempDir.resolve("notes.feel"), "kept: not listed in the index");
+        blocks.put("POST /b", "# POST /b\nfalse");
+        blocks.remove("POST /c");
+
+        // when
+        SplitOutputWriter.Result result = writer.write(tempDir, blocks);
+
+        // then
+        assertThat(result).isEqualTo(new SplitOutputWriter.Result(1, 1, 1));
+        assertThat(Files.getLastModifiedTime(tempDir.resolve("post-a.feel"))).isEqualTo(LONG_AGO);
+        assertThat(tempDir.resolve("post-b.feel")).hasContent("# POST /b\nfalse");
+        assertThat(tempDir.resolve("post-c.feel")).doesNotExist();
+        assertThat(tempDir.resolve("notes.feel")).exists();
+    }
+}
@@ -0,0 +1,171 @@
+package com.consid.automation.camunda.internal.javagen;
+
+import com.consid.automation.camunda.internal.model.*;
+import com.consid.automation.camunda.internal.openapi.ExtractionResult;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JavaValidatorGeneratorTest {
+
+    private static final JavaValidatorGenerator GENERATOR =
+        new JavaValidatorGenerator("com.acme.validation", PayloadLimits.NONE);
+
+    @ParameterizedTest
+    @CsvSource({
+        "POST /customers, PostCustomersValidator",
+        "PUT /customers/{id}/order-items, PutCustomersIdOrderItemsValidator",
+        "PATCH /, PatchValidator",
+        "POST /v1/2fa, PostV12faValidator"
+    })
+    void test_class_name_does_follow_endpoint_as_expected(String endpoint, String expected) {
+        // when
+        String className = JavaValidatorGenerator.className(endpoint);
+
+        // then
+        assertThat(className).isEqualTo(expected);
+    }
+
+    @Test
+    void test_generate_does_emit_support_class_first_and_suffix_clashes_as_expected() {
+        // given
+        Map<String, ExtractionResult> byEndpoint = new LinkedHashMap<>();
+        byEndpoint.put("# POST /a-b", result("name", FieldDescriptor.of(StringTypeInfo.PLAIN)));
+        byEndpoint.put("# POST /a_b", result("name", FieldDescriptor.of(StringTypeInfo.PLAIN)));
+        byEndpoint.put("# POST /A/B", result("name", FieldDescriptor.of(StringTypeInfo.PLAIN)));
+        byEndpoint.put("# PUT /empty", new ExtractionResult(Map.of(), null));
+
+        // when
+        Map<String, String> sources = GENERATOR.generate(byEndpoint);
+
+        // then
+        assertThat(sources.keySet()).containsExactly(
+            "FeelValidationSupport", "PostABValidator", "PostABValidator2", "PostABValidator3");
+        assertThat(sources.get("FeelValidationSupport"))
+            .startsWith("package com.acme.validation;")
+            .doesNotContain("${package}");
+        assertThat(sources.get("PostABValidator2"))
+            .contains("public final class PostABValidator2 {")
+            .contains("public static final String ENDPOINT = \"POST /a_b\";");
+        assertThat(GENERATOR.packageDirectory()).isEqualTo("com/acme/validation");
+    }
+
+    @Test
+    void test_generate_does_hoist_constants_as_expected() {
+        // given
+        Map<String, FieldDescriptor> fields = new LinkedHashMap<>();
+        fields.put("code", FieldDescriptor.of(new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, 2, 8, "^[A-Z]+$")));
+        fields.put("status", new FieldDescriptor(StringTypeInfo.PLAIN, false,
+            FeelLiteral.listOf(List.of("active", "inactive")), List.of()));
+        fields.put("ratio", FieldDescriptor.of(new NumberTypeInfo(BigDecimal.ZERO, null, new BigDecimal("0.5"), null, null)));
+        fields.put("address", FieldDescriptor.of(new ObjectTypeInfo(Set.of("zip", "city"))));
+        fields.put("card", new FieldDescriptor(StringTypeInfo.PLAIN, false, List.of(),
+            List.of(Trigger.value("method", FeelLiteral.listOf(List.of("card"))))));
+
+        // when
+        String source = GENERATOR.generate(Map.of("# POST /orders",
+            new ExtractionResult(fields, null))).get("PostOrdersValidator");
+
+        // then
+        assertThat(source)
+            .contains("private static final Pattern PATTERN_0 = Pattern.compile(\"^[A-Z]+$\");")
+            .contains("private static final Literals LITERALS_0 = literals(\"active\", \"inactive\");")
+            .contains("private static final BigDecimal DECIMAL_0 = new BigDecimal(\"0.5\");")
+            .contains("private static final Set<String> KEYS_0 = Set.of(\"city\", \"zip\");")
+            .contains("compare(value, 0L) < 0")
+            .contains("codePoints(value.textValue()) < 2 || codePoints(value.textValue()) > 8")
+            .contains("if (!(LITERALS_1.contains(present(get(body, \"method\"))))) {")
+            .contains("private static final Violation RULE_4 = new Violation(\"card-invalid\", \"card\");");
+    }
+
+    @Test
+    void test_generate_does_omit_pattern_java_cannot_compile_as_expected() {
+        // given
+        ExtractionResult extracted = result("code",
+            FieldDescriptor.of(new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "(unclosed")));
+
+        // when
+        String source = GENERATOR.generate(Map.of("# POST /codes", extracted)).get("PostCodesValidator");
+
+        // then
+        assertThat(source)
+            .doesNotContain("Pattern")
+            .contains("return value == null || !value.isTextual();");
+    }
+
+    @Test
+    void test_generate_does_escape_string_literals_as_expected() {
+        // given
+        ExtractionResult extracted = result("qu\"o\\te.k\u00e9y", FieldDescriptor.of(BooleanTypeInfo.INSTANCE));
+
+        // when
+        String source = GENERATOR.generate(Map.of("# POST /keys", extracted)).get("PostKeysValidator");
+
+        // then
+        assertThat(source)
+            .contains("present(get(get(body, \"qu\\\"o\\\\te\"), \"k\\u00e9y\"))")
+            .doesNotContain("\u00e9");
+    }
+
+    @Test
+    void test_generate_with_ceilings_does_check_them_first_as_expected() {
+        // given
+        JavaValidatorGenerator generator = new JavaValidatorGenerator("com.acme", new PayloadLimits(10, 64, 20));
+        Map<String, FieldDescriptor> fields = new LinkedHashMap<>();
+        fields.put("name", FieldDescriptor.of(StringTypeInfo.PLAIN));
+        fields.put("tags", FieldDescriptor.of(new ArrayTypeInfo(null, null)));
+
+        // when
+        String source = generator.generate(Map.of("# POST /tags",
+            new ExtractionResult(fields, null))).get("PostTagsValidator");
+
+        // then
+        assertThat(source)
+            .contains("return objectOver(present(body), 20)\n"
+                + "            || stringOver(present(get(body, \"name\")), 64)\n"
+                + "            || arrayOver(present(get(body, \"tags\")), 10);")
+            .contains("return List.of(PAYLOAD_SIZE);");
+    }
+
+    @Test
+    void test_generate_with_ceilings_does_cap_element_values_before_pattern_as_expected() {
+        // given
+        JavaValidatorGenerator generator = new JavaValidatorGenerator("com.acme", new PayloadLimits(null, 64, null));
+        FieldDescriptor sku = FieldDescriptor.of(new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "^a+$"));
+        FieldDescriptor lineItems = FieldDescriptor.of(new ArrayTypeInfo(null, null,
+            FieldDescriptor.of(ObjectTypeInfo.OPEN), Map.of("sku", sku)));
+
+        // when
+        String source = generator.generate(Map.of("# POST /orders", result("lineItems", lineItems)))
+            .get("PostOrdersValidator");
+
+        // then
+        assertThat(source).contains("if (field0 == null || (!field0.isTextual())\n"
+            + "            || (stringOver(field0, 64))\n"
+            + "            || (!PATTERN_0.matcher(field0.textValue()).find())");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "com..acme", "com.class", "1com", "com.acme."})
+    void test_constructor_with_invalid_package_does_fail_as_expected(String packageName) {
+        // when / then
+        assertThatThrownBy(() -> new JavaValidatorGenerator(packageName, PayloadLimits.NONE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("not a valid Java package name: \"" + packageName + "\"");
+    }
+
+    private static ExtractionResult result(String fieldPath, FieldDescriptor descriptor) {
+        return new ExtractionResult(Map.of(fieldPath, descriptor), null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.consid.automation.camunda.internal.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+
+class TriggerTest {
+
+    @Test
+    void test_normalize_does_drop_duplicate_triggers_as_expected() {
+        // given
+        List<Trigger> triggers = List.of(Trigger.presence("a"), Trigger.presence("b"), Trigger.presence("a"));
+
+        // when
+        List<Trigger> normalized = Trigger.normalize(triggers);
+
+        // then
+        assertThat(normalized).containsExactly(Trigger.presence("a"), Trigger.presence("b"));
+    }
+
+    @Test
+    void test_normalize_does_merge_value_triggers_on_same_path_as_expected() {
+        // given
+        List<Trigger> triggers = List.of(
+            Trigger.value("tier", List.of(new FeelString("gold"))),
+            Trigger.presence("b"),
+            Trigger.value("tier", List.of(new FeelString("platinum"), new FeelString("gold"))));
+
+        // when
+        List<Trigger> normalized = Trigger.normalize(triggers);
+
+        // then
+        assertThat(normalized).containsExactly(
+            Trigger.value("tier", List.of(new FeelString("gold"), new FeelString("platinum"))),
+            Trigger.presence("b"));
+    }
+
+    @Test
+    void test_normalize_does_let_presence_absorb_value_trigger_on_same_path_as_expected() {
+        // given
+        List<Trigger> triggers = List.of(
+            Trigger.value("type", List.of(new FeelString("card"))),
+            Trigger.presence("type"));
+
+        // when
+        List<Trigger> normalized = Trigger.normalize(triggers);
+
+        // then
+        assertThat(normalized).containsExactly(Trigger.presence("type"));
+    }
+
+    @Test
+    void test_normalize_does_keep_null_literal_beside_presence_as_expected() {
+        // given — "type is present or type is null" is not implied by presence alone
+        List<Trigger> triggers = List.of(
+            Trigger.presence("type"),
+            Trigger.value("type", List.of(new FeelString("card"), new FeelNull())));
+
+        // when
+        List<Trigger> normalized = Trigger.normalize(triggers);
+
+        // then
+        assertThat(normalized).containsExactly(
+            Trigger.presence("type"), Trigger.value("type", List.of(new FeelNull())));
+    }
+
+    @Test
+    void test_normalize_does_return_normal_form_unchanged_as_expected() {
+        // given
+        List<Trigger> triggers = List.of(Trigger.presence("a"), Trigger.value("b", List.of(new FeelBoolean(true))));
+
+        // when / then
+        assertThat(Trigger.normalize(triggers)).isSameAs(triggers);
+    }
+}
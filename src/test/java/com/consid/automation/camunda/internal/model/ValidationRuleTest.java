@@ -43,4 +43,16 @@ class ValidationRuleTest {
             .isInstanceOf(NullPointerException.class)
             .hasMessageContaining("fieldPath");
     }
+
+    @Test
+    void test_factory_method_with_ceiling_does_expose_ceiling_as_expected() {
+        // when
+        ValidationRule plain = ValidationRule.create("a-invalid", "req.a=null", "a");
+        ValidationRule capped = ValidationRule.create("a-invalid", "req.a=null", "a", "count(req.a)>10");
+
+        // then
+        assertThat(plain.hasCeiling()).isFalse();
+        assertThat(capped.hasCeiling()).isTrue();
+        assertThat(capped.ceilingExpression()).isEqualTo("count(req.a)>10");
+    }
 }
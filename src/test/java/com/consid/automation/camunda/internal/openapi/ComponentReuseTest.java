@@ -0,0 +1,159 @@
+package com.consid.automation.camunda.internal.openapi;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+import com.consid.automation.camunda.internal.feel.DescriptorSimplifier;
+import com.consid.automation.camunda.internal.model.*;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ComponentReuseTest {
+
+    private static final DescriptorSimplifier SIMPLIFIER = new DescriptorSimplifier(Diagnostics.NOOP);
+
+    private RequiredFieldsExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        Schema<?> geo = new Schema<>().type("object");
+        geo.setRequired(Arrays.asList("lat"));
+        geo.addProperty("lat", new Schema<>().type("number"));
+        Schema<?> address = new Schema<>().type("object");
+        address.setRequired(Arrays.asList("city", "country", "geo"));
+        address.addProperty("city", new Schema<>().type("string"));
+        address.addProperty("country", new StringSchema()._enum(List.of("DE", "SE")));
+        address.addProperty("geo", ref("Geo"));
+        Components components = new Components();
+        components.addSchemas("Address", address);
+        components.addSchemas("Geo", geo);
+        OpenAPI openAPI = new OpenAPI();
+        openAPI.setComponents(components);
+        extractor = new RequiredFieldsExtractor(new FieldTypeResolver(openAPI));
+    }
+
+    @Test
+    void test_analyze_does_select_components_at_or_above_threshold_as_expected() {
+        // given
+        ExtractionResult first = extract(objectWith("billing", "shipping"));
+        ExtractionResult second = extract(objectWith("home"));
+
+        // when
+        ComponentReuse reuse = analyze(List.of(first, second), 3);
+
+        // then — Address is used at three sites; Geo at three nested ones too
+        assertThat(reuse.reusedComponents()).containsExactly("Address", "Geo");
+        assertThat(analyze(List.of(first, second), 4).reusedComponents()).isEmpty();
+    }
+
+    @Test
+    void test_call_sites_does_keep_outermost_use_only_as_expected() {
+        // given
+        ExtractionResult result = extract(objectWith("billing", "shipping"));
+        ComponentReuse reuse = analyze(List.of(result), 2);
+
+        // when
+        Map<String, String> sites = reuse.callSites(result);
+
+        // then
+        assertThat(sites).containsExactly(Map.entry("billing", "Address"), Map.entry("shipping", "Address"));
+        assertThat(ComponentReuse.enclosingCallSite("billing.geo.lat", sites)).isEqualTo("billing");
+        assertThat(ComponentReuse.enclosingCallSite("billing", sites)).isNull();
+        assertThat(reuse.componentFields("Address")).containsOnlyKeys("city", "country", "geo", "geo.lat");
+    }
+
+    @Test
+    void test_call_sites_with_same_keys_but_other_descriptors_does_stay_inlined_as_expected() {
+        // given — shipping.city only counts when the order is a gift, which Address doesn't say
+        ExtractionResult extracted = extract(objectWith("billing", "shipping"));
+        Map<String, FieldDescriptor> fields = new LinkedHashMap<>(extracted.requiredFields());
+        fields.put("shipping.city", fields.get("shipping.city")
+            .withDependsOn(List.of(Trigger.value("gift", List.of(new FeelBoolean(true))))));
+        ExtractionResult result = extracted.withRequiredFields(fields);
+        ComponentReuse reuse = analyze(List.of(result), 2);
+
+        // when
+        Map<String, String> sites = reuse.callSites(result);
+
+        // then — shipping keeps its own guard; its untouched Geo can still collapse
+        assertThat(sites).containsOnly(Map.entry("billing", "Address"), Map.entry("shipping.geo", "Geo"));
+    }
+
+    @Test
+    void test_call_sites_with_conditional_site_does_collapse_inherited_triggers_as_expected() {
+        // given — billing and everything under it inherit the site's trigger, as the extractor does
+        List<Trigger> business = List.of(Trigger.value("type", List.of(new FeelString("business"))));
+        ExtractionResult extracted = extract(objectWith("billing", "shipping"));
+        Map<String, FieldDescriptor> fields = new LinkedHashMap<>();
+        extracted.requiredFields().forEach((path, descriptor) -> fields.put(path,
+            path.startsWith("billing") ? descriptor.withDependsOn(business) : descriptor));
+        ExtractionResult result = extracted.withRequiredFields(fields);
+        ComponentReuse reuse = analyze(List.of(result), 2);
+
+        // when
+        Map<String, String> sites = reuse.callSites(result);
+
+        // then
+        assertThat(sites).containsExactly(Map.entry("billing", "Address"), Map.entry("shipping", "Address"));
+    }
+
+    @Test
+    void test_call_sites_with_enum_field_does_compare_simplified_descriptors_as_expected() {
+        // given — simplification turns country into an untyped enum test at each use site
+        ExtractionResult result = extract(objectWith("billing", "shipping"));
+        ComponentReuse reuse = analyze(List.of(result), 2);
+
+        // when
+        Map<String, String> sites = reuse.callSites(result);
+
+        // then — the component's own country is simplified the same way, so both sites collapse
+        assertThat(result.requiredFields().get("billing.country").typeInfo()).isEqualTo(UnknownTypeInfo.INSTANCE);
+        assertThat(reuse.componentFields("Address").get("country"))
+            .isEqualTo(result.requiredFields().get("billing.country"));
+        assertThat(sites).containsExactly(Map.entry("billing", "Address"), Map.entry("shipping", "Address"));
+    }
+
+    @Test
+    void test_none_does_collapse_nothing_as_expected() {
+        // given
+        ExtractionResult result = extract(objectWith("billing", "shipping"));
+
+        // when / then
+        assertThat(ComponentReuse.none().callSites(result)).isEmpty();
+    }
+
+    /** Extracts and simplifies, as the pipeline does before component reuse is analyzed. */
+    private ExtractionResult extract(Schema<?> schema) {
+        ExtractionResult extracted = extractor.extract(schema);
+        return extracted.withRequiredFields(SIMPLIFIER.simplify(extracted.requiredFields()));
+    }
+
+    private ComponentReuse analyze(List<ExtractionResult> results, int threshold) {
+        return ComponentReuse.analyze(extractor, results, threshold, SIMPLIFIER::simplify);
+    }
+
+    private static Schema<?> objectWith(String... addressProperties) {
+        Schema<?> schema = new Schema<>().type("object");
+        schema.setRequired(Arrays.asList(addressProperties));
+        for (String property : addressProperties) {
+            schema.addProperty(property, ref("Address"));
+        }
+        return schema;
+    }
+
+    private static Schema<?> ref(String component) {
+        Schema<?> ref = new Schema<>();
+        ref.set$ref("#/components/schemas/" + component);
+        return ref;
+    }
+}
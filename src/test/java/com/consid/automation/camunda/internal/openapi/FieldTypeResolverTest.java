@@ -528,4 +528,35 @@ class FieldTypeResolverTest {
         schema.setMinimum(new BigDecimal("5"));
         assertThat(resolver.resolve(schema).typeInfo()).isInstanceOf(StringTypeInfo.class);
     }
+
+    @Test
+    void test_resolve_deeply_nested_arrays_does_keep_every_level_as_expected() throws Exception {
+        Schema<?> schema = new Schema<>().type("integer");
+        for (int i = 0; i < 2000; i++) {
+            Schema<?> array = new Schema<>().type("array");
+            array.setItems(schema);
+            schema = array;
+        }
+        Schema<?> outermost = schema;
+
+        FieldDescriptor descriptor = RequiredFieldsExtractorTest.onSmallStack(() -> resolver.resolve(outermost));
+
+        int levels = 0;
+        while (descriptor.typeInfo() instanceof ArrayTypeInfo array) {
+            descriptor = array.items();
+            levels++;
+        }
+        assertThat(levels).isEqualTo(2000);
+        assertThat(descriptor.typeInfo()).isInstanceOf(NumberTypeInfo.class);
+    }
+
+    @Test
+    void test_resolve_self_referencing_array_does_terminate_with_unknown_items_as_expected() {
+        Schema<?> tree = new Schema<>().type("array");
+        tree.setItems(tree);
+
+        ArrayTypeInfo info = asArray(resolver.resolve(tree));
+
+        assertThat(info.items().typeInfo()).isEqualTo(UnknownTypeInfo.INSTANCE);
+    }
 }
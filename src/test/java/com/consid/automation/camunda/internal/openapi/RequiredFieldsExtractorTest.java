@@ -1,5 +1,6 @@
 package com.consid.automation.camunda.internal.openapi;
 
+import com.consid.automation.camunda.internal.Diagnostics;
 import com.consid.automation.camunda.internal.model.*;
 
 import io.swagger.v3.oas.models.OpenAPI;
@@ -7,11 +8,14 @@ import io.swagger.v3.oas.models.media.Schema;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.FutureTask;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Unit tests for RequiredFieldsExtractor.
@@ -216,6 +220,22 @@ class RequiredFieldsExtractorTest {
             .containsExactlyInAnyOrder(Trigger.presence("a"), Trigger.presence("b"));
     }
 
+    @Test
+    void test_extract_if_then_on_same_path_does_merge_into_one_value_trigger_as_expected() {
+        // given — two allOf members each requiring discountCode for a different tier
+        Schema<?> schema = new Schema<>();
+        schema.addProperty("tier", new Schema<>().type("string"));
+        schema.addProperty("discountCode", new Schema<>().type("string"));
+        schema.setAllOf(List.of(tierConditional("gold"), tierConditional("platinum"), tierConditional("gold")));
+
+        // when
+        Map<String, FieldDescriptor> result = extractor.extract(schema).requiredFields();
+
+        // then
+        assertThat(result.get("discountCode").dependsOn())
+            .containsExactly(Trigger.value("tier", List.of(new FeelString("gold"), new FeelString("platinum"))));
+    }
+
     @Test
     void test_extract_if_then_with_const_does_mark_field_with_value_trigger_as_expected() {
         // given — "if paymentMethod = 'card', then cardNumber is required"
@@ -494,4 +514,167 @@ class RequiredFieldsExtractorTest {
             "shippingAddress.street"
         );
     }
+
+    @Test
+    void test_extract_does_record_component_refs_of_expanded_properties_as_expected() {
+        // given
+        OpenAPI openAPI = new OpenAPI();
+        io.swagger.v3.oas.models.Components components = new io.swagger.v3.oas.models.Components();
+        Schema<?> address = new Schema<>().type("object");
+        address.setRequired(Arrays.asList("city"));
+        address.addProperty("city", new Schema<>().type("string"));
+        components.addSchemas("Address", address);
+        openAPI.setComponents(components);
+        RequiredFieldsExtractor refExtractor = new RequiredFieldsExtractor(new FieldTypeResolver(openAPI));
+        Schema<?> addressRef = new Schema<>(); addressRef.set$ref("#/components/schemas/Address");
+        Schema<?> schema = new Schema<>();
+        schema.setRequired(Arrays.asList("billing"));
+        schema.addProperty("billing", addressRef);
+        schema.addProperty("shipping", addressRef);
+
+        // when
+        ExtractionResult result = refExtractor.extract(schema);
+        ExtractionResult component = refExtractor.extractComponent("Address");
+
+        // then — optional shipping is never expanded, so it is not a use site
+        assertThat(result.componentRefs()).containsExactly(Map.entry("billing", "Address"));
+        assertThat(component.requiredFields()).containsOnlyKeys("city");
+    }
+
+    @Test
+    void test_extract_recursive_array_items_does_terminate_at_cycle_as_expected() {
+        // given — a category whose required children are categories; items used to start a fresh stack
+        OpenAPI openAPI = new OpenAPI();
+        io.swagger.v3.oas.models.Components components = new io.swagger.v3.oas.models.Components();
+        components.addSchemas("Category", categorySchema());
+        openAPI.setComponents(components);
+        RequiredFieldsExtractor refExtractor = new RequiredFieldsExtractor(new FieldTypeResolver(openAPI));
+
+        // when
+        Map<String, FieldDescriptor> result = refExtractor.extract(categorySchema()).requiredFields();
+
+        // then — children items stop at the re-entered Category
+        ArrayTypeInfo children = (ArrayTypeInfo) result.get("children").typeInfo();
+        assertThat(children.itemRequiredFields()).containsOnlyKeys("name", "children");
+        assertThat(((ArrayTypeInfo) children.itemRequiredFields().get("children").typeInfo()).itemRequiredFields())
+            .isEmpty();
+    }
+
+    @Test
+    void test_extract_with_max_validation_depth_does_unroll_recursion_to_bound_as_expected() {
+        // given
+        List<String> warnings = new ArrayList<>();
+        Schema<?> node = new Schema<>();
+        node.type("object");
+        node.setRequired(List.of("value", "next"));
+        node.addProperty("value", new Schema<>().type("string"));
+        node.addProperty("next", node);
+        RequiredFieldsExtractor bounded = new RequiredFieldsExtractor(
+            new FieldTypeResolver(new OpenAPI()), new Diagnostics(warnings::add),
+            new ExpansionLimits(3, null));
+
+        // when
+        ExtractionResult result = bounded.extract(node);
+
+        // then
+        assertThat(result.requiredFields()).containsOnlyKeys(
+            "value", "next", "next.value", "next.next", "next.next.value", "next.next.next");
+        assertThat(result.expandedNodes()).isEqualTo(3);
+        assertThat(warnings).singleElement().asString()
+            .startsWith("[next.next.next] maxValidationDepth (3) reached");
+    }
+
+    @Test
+    void test_extract_over_node_budget_does_fail_fast_as_expected() {
+        // given
+        Schema<?> node = new Schema<>();
+        node.type("object");
+        node.setRequired(List.of("next"));
+        node.addProperty("next", node);
+        RequiredFieldsExtractor budgeted = new RequiredFieldsExtractor(
+            new FieldTypeResolver(new OpenAPI()), Diagnostics.NOOP,
+            new ExpansionLimits(50, 10));
+
+        // when / then
+        assertThatThrownBy(() -> budgeted.extract(node))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("maxExpandedNodes (10)");
+    }
+
+    @Test
+    void test_extract_without_node_budget_does_not_fail_as_expected() {
+        // given
+        Schema<?> node = new Schema<>();
+        node.type("object");
+        node.setRequired(List.of("next"));
+        node.addProperty("next", node);
+        RequiredFieldsExtractor unbudgeted = new RequiredFieldsExtractor(
+            new FieldTypeResolver(new OpenAPI()), Diagnostics.NOOP,
+            new ExpansionLimits(50, null));
+
+        // when
+        ExtractionResult result = unbudgeted.extract(node);
+
+        // then
+        assertThat(result.expandedNodes()).isGreaterThan(10);
+    }
+
+    @Test
+    void test_extract_deeply_nested_schema_does_not_overflow_small_stack_as_expected() throws Exception {
+        // given — 2000 nested required objects, each wrapped in a single-branch allOf
+        Schema<?> level = new Schema<>();
+        level.setRequired(List.of("id"));
+        level.addProperty("id", new Schema<>().type("string"));
+        for (int i = 0; i < 2000; i++) {
+            Schema<?> parent = new Schema<>().type("object");
+            parent.setRequired(List.of("child"));
+            parent.addProperty("child", level);
+            level = new Schema<>();
+            level.setAllOf(List.of(parent));
+        }
+        Schema<?> root = level;
+
+        // when
+        ExtractionResult result = onSmallStack(() -> extractor.extract(root));
+
+        // then
+        assertThat(result.requiredFields()).hasSize(2001);
+        assertThat(result.requiredFields()).containsKey("child" + ".child".repeat(1999) + ".id");
+        assertThat(result.requiredFields().keySet().iterator().next()).isEqualTo("child");
+    }
+
+    /** Runs {@code task} on a thread whose stack is far smaller than a default Maven JVM's. */
+    static <T> T onSmallStack(java.util.concurrent.Callable<T> task) throws Exception {
+        FutureTask<T> future = new FutureTask<>(task);
+        Thread thread = new Thread(null, future, "small-stack", 256 * 1024);
+        thread.start();
+        thread.join();
+        return future.get();
+    }
+
+    private static Schema<?> tierConditional(String tier) {
+        Schema<?> ifSchema = new Schema<>();
+        ifSchema.addProperty("tier", new Schema<>()._const(tier));
+        ifSchema.setRequired(List.of("tier"));
+        Schema<?> thenSchema = new Schema<>();
+        thenSchema.setRequired(List.of("discountCode"));
+        Schema<?> conditional = new Schema<>();
+        conditional.addProperty("tier", new Schema<>().type("string"));
+        conditional.addProperty("discountCode", new Schema<>().type("string"));
+        conditional.setIf(ifSchema);
+        conditional.setThen(thenSchema);
+        return conditional;
+    }
+
+    private static Schema<?> categorySchema() {
+        Schema<?> categoryRef = new Schema<>();
+        categoryRef.set$ref("#/components/schemas/Category");
+        Schema<?> children = new Schema<>().type("array");
+        children.setItems(categoryRef);
+        Schema<?> category = new Schema<>().type("object");
+        category.setRequired(Arrays.asList("name", "children"));
+        category.addProperty("name", new Schema<>().type("string"));
+        category.addProperty("children", children);
+        return category;
+    }
 }
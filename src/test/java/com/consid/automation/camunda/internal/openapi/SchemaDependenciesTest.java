@@ -0,0 +1,69 @@
+package com.consid.automation.camunda.internal.openapi;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaDependenciesTest {
+
+    private OpenAPI openAPI;
+    private Schema<?> address;
+
+    @BeforeEach
+    void setUp() {
+        address = new Schema<>().type("object");
+        address.addProperty("geo", ref("Geo"));
+        Schema<?> pet = new Schema<>().type("object");
+        pet.setOneOf(List.of(ref("Cat")));
+        pet.setDiscriminator(new Discriminator().propertyName("kind").mapping("dog", "Dog"));
+        Components components = new Components();
+        components.addSchemas("Address", address);
+        components.addSchemas("Geo", new Schema<>().type("object"));
+        components.addSchemas("Pet", pet);
+        components.addSchemas("Cat", new Schema<>().type("object"));
+        components.addSchemas("Dog", new Schema<>().type("object"));
+        components.addSchemas("Unused", new Schema<>().type("string"));
+        openAPI = new OpenAPI();
+        openAPI.setComponents(components);
+    }
+
+    @Test
+    void test_components_does_follow_refs_and_discriminator_mappings_as_expected() {
+        // given
+        SchemaDependencies dependencies = new SchemaDependencies(openAPI);
+        Schema<?> body = new Schema<>().type("object");
+        body.addProperty("home", ref("Address"));
+        body.addProperty("pet", new Schema<>().type("array").items(ref("Pet")));
+
+        // when / then
+        assertThat(dependencies.components(body)).containsExactly("Address", "Cat", "Dog", "Geo", "Pet");
+    }
+
+    @Test
+    void test_fingerprint_does_change_only_with_reachable_schemas_as_expected() {
+        // given
+        Schema<?> body = ref("Address");
+        String before = new SchemaDependencies(openAPI).fingerprint(body);
+
+        // when
+        openAPI.getComponents().getSchemas().get("Unused").setMaxLength(3);
+        String afterUnrelatedEdit = new SchemaDependencies(openAPI).fingerprint(body);
+        openAPI.getComponents().getSchemas().get("Geo").setRequired(List.of("lat"));
+        String afterNestedEdit = new SchemaDependencies(openAPI).fingerprint(body);
+
+        // then
+        assertThat(afterUnrelatedEdit).isEqualTo(before);
+        assertThat(afterNestedEdit).isNotEqualTo(before);
+    }
+
+    private static Schema<?> ref(String component) {
+        return new Schema<>().$ref("#/components/schemas/" + component);
+    }
+}
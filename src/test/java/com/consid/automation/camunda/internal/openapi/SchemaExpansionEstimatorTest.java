@@ -0,0 +1,102 @@
+package com.consid.automation.camunda.internal.openapi;
+
+import com.consid.automation.camunda.internal.Diagnostics;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaExpansionEstimatorTest {
+
+    private final List<String> warnings = new ArrayList<>();
+
+    @Test
+    void test_estimate_dag_shaped_spec_does_count_without_expanding_as_expected() {
+        // given — 30 levels, each requiring two references to the next: 2^31 - 1 expanded nodes
+        Components components = new Components();
+        for (int level = 0; level < 30; level++) {
+            Schema<?> schema = new Schema<>().type("object");
+            schema.setRequired(List.of("left", "right"));
+            schema.addProperty("left", ref("Level" + (level + 1)));
+            schema.addProperty("right", ref("Level" + (level + 1)));
+            components.addSchemas("Level" + level, schema);
+        }
+        Schema<?> leaf = new Schema<>().type("object");
+        leaf.setRequired(List.of("id"));
+        leaf.addProperty("id", new Schema<>().type("string"));
+        components.addSchemas("Level30", leaf);
+        SchemaExpansionEstimator estimator = estimatorFor(components, ExpansionLimits.DEFAULT);
+
+        // when
+        long estimate = estimator.estimate(ref("Level0"));
+
+        // then
+        assertThat(estimate).isEqualTo((1L << 31) - 1);
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    void test_estimate_recursive_schema_does_report_cycle_unless_depth_bounded_as_expected() {
+        // given
+        Schema<?> children = new Schema<>().type("array");
+        children.setItems(ref("Category"));
+        Schema<?> category = new Schema<>().type("object");
+        category.setRequired(List.of("name", "children"));
+        category.addProperty("name", new Schema<>().type("string"));
+        category.addProperty("children", children);
+        Components components = new Components();
+        components.addSchemas("Category", category);
+
+        // when
+        long unbounded = estimatorFor(components, ExpansionLimits.DEFAULT).estimate(ref("Category"));
+        List<String> unboundedWarnings = List.copyOf(warnings);
+        long bounded = estimatorFor(components, new ExpansionLimits(4, 100)).estimate(ref("Category"));
+
+        // then
+        assertThat(unbounded).isEqualTo(1);
+        assertThat(unboundedWarnings).singleElement().asString()
+            .startsWith("[Category] recursive schema is only validated to its first level");
+        assertThat(bounded).isEqualTo(4);
+        assertThat(warnings).hasSize(1);
+    }
+
+    @Test
+    void test_estimate_deeply_nested_spec_does_not_overflow_small_stack_as_expected() throws Exception {
+        // given — 2000 inline levels, each requiring the next
+        Schema<?> level = new Schema<>().type("object");
+        for (int i = 0; i < 2000; i++) {
+            Schema<?> parent = new Schema<>().type("object");
+            parent.setRequired(List.of("child"));
+            parent.addProperty("child", level);
+            level = parent;
+        }
+        Schema<?> root = level;
+        SchemaExpansionEstimator estimator = estimatorFor(new Components(), ExpansionLimits.DEFAULT);
+
+        // when
+        long estimate = RequiredFieldsExtractorTest.onSmallStack(() -> estimator.estimate(root));
+
+        // then
+        assertThat(estimate).isEqualTo(2001);
+        assertThat(warnings).isEmpty();
+    }
+
+    private SchemaExpansionEstimator estimatorFor(Components components, ExpansionLimits limits) {
+        OpenAPI openAPI = new OpenAPI();
+        openAPI.setComponents(components);
+        Diagnostics diagnostics = new Diagnostics(warnings::add);
+        return new SchemaExpansionEstimator(new FieldTypeResolver(openAPI, diagnostics), diagnostics, limits);
+    }
+
+    private static Schema<?> ref(String component) {
+        Schema<?> ref = new Schema<>();
+        ref.set$ref("#/components/schemas/" + component);
+        return ref;
+    }
+}
@@ -0,0 +1,44 @@
+package com.consid.automation.camunda.internal.openapi;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecFilesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void test_of_does_follow_local_file_references_as_expected() throws IOException {
+        // given
+        Files.createDirectories(tempDir.resolve("paths"));
+        Files.createDirectories(tempDir.resolve("schemas"));
+        Path spec = Files.writeString(tempDir.resolve("api.yaml"), """
+            paths:
+              /customers:
+                $ref: 'paths/customers.yaml#/customers'
+            components:
+              schemas:
+                Local:
+                  $ref: '#/components/schemas/Other'
+                Remote:
+                  $ref: "https://example.com/schemas/remote.yaml"
+                Missing:
+                  $ref: schemas/missing.yaml
+            """);
+        Path customers = Files.writeString(tempDir.resolve("paths/customers.yaml"),
+            "{\"customers\": {\"$ref\": \"../schemas/customer.json#/Customer\"}}");
+        Path customer = Files.writeString(tempDir.resolve("schemas/customer.json"),
+            "{\"Customer\": {\"$ref\": \"../api.yaml#/components/schemas/Local\"}}");
+
+        // when / then — the spec first, each file once, cycles and missing files ignored
+        assertThat(SpecFiles.of(tempDir.resolve("paths/../api.yaml")))
+            .containsExactly(spec, customers, customer);
+    }
+}
@@ -0,0 +1,236 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.consid.automation.camunda.internal.model.*;
+import com.consid.automation.camunda.internal.openapi.ExtractionResult;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadRuleCompilerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final PayloadRuleCompiler compiler = new PayloadRuleCompiler(PayloadLimits.NONE);
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"amount\": 10}                          | true",
+        "{\"amount\": 10.0}                        | true",
+        "{\"amount\": 2.5}                         | true",
+        "{\"amount\": 2.4}                         | false",
+        "{\"amount\": 100.5}                       | false",
+        "{\"amount\": 100}                         | true",
+        "{\"amount\": 10.25}                       | false",
+        "{\"amount\": 123456789012345678901234567} | false",
+        "{\"amount\": \"10\"}                      | false",
+        "{\"amount\": null}                        | false",
+        "{}                                        | false"
+    })
+    void test_compile_number_does_compare_exact_decimals_as_expected(String payload, boolean expectedValid)
+        throws JsonProcessingException {
+        // given
+        CompiledEndpoint endpoint = compile(Map.of("amount", FieldDescriptor.of(
+            new NumberTypeInfo(new BigDecimal("2.5"), null, new BigDecimal("100"), null, new BigDecimal("0.5")))));
+
+        // when
+        boolean valid = endpoint.isValid(json(payload));
+
+        // then
+        assertThat(valid).isEqualTo(expectedValid);
+    }
+
+    @Test
+    void test_compile_zero_multiple_of_does_reject_every_number_as_expected() throws JsonProcessingException {
+        // given — modulo(x, 0) is null in FEEL, and null!=0 is a violation
+        CompiledEndpoint endpoint = compile(Map.of("count", FieldDescriptor.of(
+            new NumberTypeInfo(null, null, null, null, BigDecimal.ZERO))));
+
+        // when / then
+        assertThat(endpoint.isValid(json("{\"count\": 0}"))).isFalse();
+        assertThat(endpoint.isValid(json("{\"count\": 4}"))).isFalse();
+    }
+
+    @Test
+    void test_compile_typed_enum_does_follow_feel_null_semantics_as_expected() throws JsonProcessingException {
+        // given — inline, a value of another kind makes the enum test null; hoisted into a quantifier it is false
+        FieldDescriptor status = new FieldDescriptor(UnknownTypeInfo.INSTANCE, false,
+            List.of(new FeelString("active"), new FeelNumber(BigDecimal.ONE)), List.of());
+        FieldDescriptor typed = new FieldDescriptor(StringTypeInfo.PLAIN, false,
+            List.of(new FeelString("active")), List.of());
+        FieldDescriptor mixed = new FieldDescriptor(StringTypeInfo.PLAIN, false,
+            List.of(new FeelString("active"), new FeelNumber(BigDecimal.ONE)), List.of());
+        CompiledEndpoint endpoint = compile(linked(
+            "status", status,
+            "kind", typed,
+            "mixed", mixed,
+            "mixes", FieldDescriptor.of(new ArrayTypeInfo(null, null, mixed, Map.of()))));
+
+        // when
+        List<RuleFailure> failures = endpoint.failures(
+            json("{\"status\": 1.0, \"kind\": \"other\", \"mixed\": \"other\", \"mixes\": [\"other\"]}"));
+
+        // then
+        assertThat(failures).extracting(RuleFailure::id).containsExactly("kind-invalid", "mixes-invalid");
+        assertThat(endpoint.isValid(
+            json("{\"status\": \"active\", \"kind\": \"active\", \"mixed\": \"active\", \"mixes\": []}")))
+            .isTrue();
+    }
+
+    @Test
+    void test_compile_value_trigger_does_guard_rule_as_expected() throws JsonProcessingException {
+        // given
+        FieldDescriptor cardNumber = new FieldDescriptor(StringTypeInfo.PLAIN, false, List.of(),
+            List.of(new ValueTrigger("payment.method", List.of(new FeelString("card")))));
+        CompiledEndpoint endpoint = compile(Map.of("payment.cardNumber", cardNumber));
+
+        // when / then
+        assertThat(endpoint.isValid(json("{\"payment\": {\"method\": \"invoice\"}}"))).isTrue();
+        assertThat(endpoint.failures(json("{\"payment\": {\"method\": \"card\"}}")))
+            .containsExactly(new RuleFailure("payment.cardNumber-invalid", "payment.cardNumber"));
+        assertThat(endpoint.isValid(json("{\"payment\": {\"method\": \"card\", \"cardNumber\": \"4111\"}}")))
+            .isTrue();
+    }
+
+    @Test
+    void test_compile_element_trigger_does_resolve_against_element_as_expected() throws JsonProcessingException {
+        // given — element triggers are element-relative, as e.type is in the FEEL
+        FieldDescriptor url = new FieldDescriptor(StringTypeInfo.PLAIN, false, List.of(),
+            List.of(new ValueTrigger("type", List.of(new FeelString("digital")))));
+        CompiledEndpoint endpoint = compile(Map.of("items", FieldDescriptor.of(new ArrayTypeInfo(null, null,
+            FieldDescriptor.of(ObjectTypeInfo.OPEN), Map.of("url", url)))));
+
+        // when / then
+        assertThat(endpoint.isValid(json("{\"items\": [{\"type\": \"physical\"}]}"))).isTrue();
+        assertThat(endpoint.isValid(json("{\"items\": [{\"type\": \"physical\"}, {\"type\": \"digital\"}]}")))
+            .isFalse();
+        assertThat(endpoint.isValid(json("{\"items\": [{\"type\": \"digital\", \"url\": \"https://x\"}]}")))
+            .isTrue();
+        assertThat(endpoint.isValid(json("{\"type\": \"digital\", \"items\": [{}]}"))).isTrue();
+    }
+
+    @Test
+    void test_compile_nullable_and_unsatisfiable_fields_does_work_as_expected() throws JsonProcessingException {
+        // given
+        FieldDescriptor nickname = new FieldDescriptor(StringTypeInfo.PLAIN, true, List.of(), List.of());
+        FieldDescriptor impossible = new FieldDescriptor(new UnsatisfiableTypeInfo("conflicting types"),
+            true, List.of(), List.of());
+        CompiledEndpoint endpoint = compile(linked("nickname", nickname, "legacy", impossible));
+
+        // when / then
+        assertThat(endpoint.isValid(json("{\"nickname\": null}"))).isTrue();
+        assertThat(endpoint.failures(json("{\"nickname\": 4, \"legacy\": \"x\"}")))
+            .extracting(RuleFailure::id)
+            .containsExactly("nickname-invalid", "legacy-invalid");
+    }
+
+    @Test
+    void test_compile_string_constraints_does_count_code_points_as_expected() throws JsonProcessingException {
+        // given
+        CompiledEndpoint endpoint = compile(linked(
+            "code", FieldDescriptor.of(new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, 2, 2, "[A-Z]")),
+            "broken", FieldDescriptor.of(new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "(["))));
+
+        // when / then — an uncompilable pattern never reports a violation
+        assertThat(endpoint.isValid(json("{\"code\": \"A\uD83D\uDE00\", \"broken\": \"x\"}"))).isTrue();
+        assertThat(endpoint.failures(json("{\"code\": \"ab\", \"broken\": \"x\"}")))
+            .extracting(RuleFailure::id)
+            .containsExactly("code-invalid");
+    }
+
+    @Test
+    void test_compile_closed_objects_does_report_root_rule_last_as_expected() throws JsonProcessingException {
+        // given
+        ExtractionResult extracted = new ExtractionResult(
+            Map.of("profile", FieldDescriptor.of(new ObjectTypeInfo(Set.of("name")))),
+            new ObjectTypeInfo(Set.of("profile")));
+        CompiledEndpoint endpoint = compiler.compile("POST /profiles", extracted);
+
+        // when
+        List<RuleFailure> failures = endpoint.failures(json("{\"profile\": {\"name\": \"a\", \"x\": 1}, \"y\": 2}"));
+
+        // then
+        assertThat(failures).containsExactly(
+            new RuleFailure("profile-invalid", "profile"),
+            new RuleFailure("rootObject-invalid", "(root)"));
+        assertThat(endpoint.isValid(json("{\"profile\": {\"name\": \"a\"}}"))).isTrue();
+    }
+
+    @Test
+    void test_compile_ceilings_does_short_circuit_field_rules_as_expected() throws JsonProcessingException {
+        // given
+        PayloadRuleCompiler limited = new PayloadRuleCompiler(new PayloadLimits(1, 3, 2));
+        CompiledEndpoint endpoint = limited.compile("POST /orders", new ExtractionResult(linked(
+            "tags", FieldDescriptor.of(new ArrayTypeInfo(null, null)),
+            "name", FieldDescriptor.of(StringTypeInfo.PLAIN)), null));
+
+        // when / then
+        assertThat(endpoint.failures(json("{\"tags\": [1, 2], \"name\": 5}")))
+            .containsExactly(CompiledEndpoint.PAYLOAD_SIZE_FAILURE);
+        assertThat(endpoint.failures(json("{\"tags\": [], \"name\": \"long\"}")))
+            .containsExactly(CompiledEndpoint.PAYLOAD_SIZE_FAILURE);
+        assertThat(endpoint.failures(json("{\"tags\": [], \"name\": \"abc\", \"extra\": 1}")))
+            .containsExactly(CompiledEndpoint.PAYLOAD_SIZE_FAILURE);
+        assertThat(endpoint.failures(json("{\"tags\": [1], \"name\": 5}")))
+            .containsExactly(new RuleFailure("name-invalid", "name"));
+    }
+
+    @Test
+    void test_compile_ceilings_does_cap_element_values_before_pattern_as_expected() throws JsonProcessingException {
+        // given — "aaaa" matches the pattern but is over the string ceiling
+        PayloadRuleCompiler limited = new PayloadRuleCompiler(new PayloadLimits(null, 3, 1));
+        FieldDescriptor sku = FieldDescriptor.of(new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "^a+$"));
+        CompiledEndpoint endpoint = limited.compile("POST /orders", new ExtractionResult(linked(
+            "lineItems", FieldDescriptor.of(new ArrayTypeInfo(null, null,
+                FieldDescriptor.of(ObjectTypeInfo.OPEN), Map.of("sku", sku)))), null));
+
+        // when / then
+        assertThat(endpoint.failures(json("{\"lineItems\": [{\"sku\": \"aaa\"}]}"))).isEmpty();
+        assertThat(endpoint.failures(json("{\"lineItems\": [{\"sku\": \"aaaa\"}]}")))
+            .containsExactly(new RuleFailure("lineItems-invalid", "lineItems"));
+        assertThat(endpoint.failures(json("{\"lineItems\": [{\"sku\": \"a\", \"note\": 1}]}")))
+            .containsExactly(new RuleFailure("lineItems-invalid", "lineItems"));
+    }
+
+    @Test
+    void test_compile_null_body_does_fail_every_required_field_as_expected() {
+        // given
+        CompiledEndpoint endpoint = compile(linked(
+            "active", FieldDescriptor.of(BooleanTypeInfo.INSTANCE),
+            "name", FieldDescriptor.of(StringTypeInfo.PLAIN)));
+
+        // when
+        List<RuleFailure> failures = endpoint.failures(null);
+
+        // then
+        assertThat(failures).extracting(RuleFailure::id).containsExactly("active-invalid", "name-invalid");
+        assertThat(endpoint.isValid(null)).isFalse();
+    }
+
+    private CompiledEndpoint compile(Map<String, FieldDescriptor> requiredFields) {
+        return compiler.compile("POST /test", new ExtractionResult(requiredFields, null));
+    }
+
+    private static Map<String, FieldDescriptor> linked(Object... pathsAndDescriptors) {
+        Map<String, FieldDescriptor> fields = new LinkedHashMap<>();
+        for (int i = 0; i < pathsAndDescriptors.length; i += 2) {
+            fields.put((String) pathsAndDescriptors[i], (FieldDescriptor) pathsAndDescriptors[i + 1]);
+        }
+        return fields;
+    }
+
+    private static JsonNode json(String payload) throws JsonProcessingException {
+        return MAPPER.readTree(payload);
+    }
+}
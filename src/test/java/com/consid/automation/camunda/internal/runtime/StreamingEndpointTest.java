@@ -0,0 +1,160 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import com.consid.automation.camunda.internal.model.*;
+import com.consid.automation.camunda.internal.openapi.ExtractionResult;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingEndpointTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ExtractionResult ORDERS = orders();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"id\": \"o-1\", \"items\": [{\"sku\": \"SKU-1\", \"qty\": 2}], \"payment\": {\"method\": \"invoice\"}}",
+        "{\"payment\": {\"cardNumber\": 4, \"method\": \"card\"}, \"id\": \"o-1\", \"items\": []}",
+        "{\"id\": 7, \"items\": [{\"sku\": \"x\"}, {\"qty\": 0.5}, null, [1]], \"extra\": {\"a\": [1, {\"b\": 2}]}}",
+        "{\"items\": {\"sku\": \"SKU-1\"}, \"payment\": [1]}",
+        "{\"id\": \"o-1\", \"items\": [{\"sku\": \"SKU-1\", \"qty\": 12345678901234567890.5}], \"note\": null}",
+        "[{\"id\": \"o-1\"}]",
+        "null",
+        "\"text\""
+    })
+    void test_failures_does_match_tree_validation_as_expected(String payload) throws IOException {
+        // given
+        CompiledEndpoint tree = new PayloadRuleCompiler(PayloadLimits.NONE).compile("POST /orders", ORDERS);
+        StreamingEndpoint streaming = new StreamingRuleCompiler(PayloadLimits.NONE).compile("POST /orders", ORDERS);
+
+        // when
+        List<RuleFailure> failures = streaming.failures(parser(payload), Integer.MAX_VALUE);
+
+        // then
+        assertThat(failures).isEqualTo(tree.failures(MAPPER.readTree(payload)));
+        assertThat(streaming.isValid(parser(payload))).isEqualTo(failures.isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "{\"items\": [{\"url\": \"https://x\", \"type\": \"digital\"}, {\"type\": \"physical\"}]}",
+        "{\"items\": [{\"type\": \"physical\"}, {\"type\": \"digital\", \"size\": 4}]}",
+        "{\"type\": \"digital\", \"items\": [{}]}"
+    })
+    void test_failures_with_element_trigger_does_match_tree_validation_as_expected(String payload) throws IOException {
+        // given — the trigger path is not a required field, so the element shape must still read it
+        FieldDescriptor url = new FieldDescriptor(StringTypeInfo.PLAIN, false, List.of(),
+            List.of(new ValueTrigger("type", List.of(new FeelString("digital")))));
+        ExtractionResult extracted = new ExtractionResult(Map.of("items", FieldDescriptor.of(new ArrayTypeInfo(
+            null, null, FieldDescriptor.of(ObjectTypeInfo.OPEN), Map.of("url", url)))), null);
+        CompiledEndpoint tree = new PayloadRuleCompiler(PayloadLimits.NONE).compile("POST /orders", extracted);
+        StreamingEndpoint streaming = new StreamingRuleCompiler(PayloadLimits.NONE).compile("POST /orders", extracted);
+
+        // when
+        List<RuleFailure> failures = streaming.failures(parser(payload), Integer.MAX_VALUE);
+
+        // then
+        assertThat(failures).isEqualTo(tree.failures(MAPPER.readTree(payload)));
+    }
+
+    @Test
+    void test_failures_with_trigger_after_value_does_report_guarded_rule_as_expected() throws IOException {
+        // given
+        StreamingEndpoint streaming = new StreamingRuleCompiler(PayloadLimits.NONE).compile("POST /orders", ORDERS);
+
+        // when
+        List<RuleFailure> failures = streaming.failures(
+            parser("{\"id\": \"o-1\", \"items\": [], \"payment\": {\"cardNumber\": null, \"method\": \"card\"}}"),
+            Integer.MAX_VALUE);
+
+        // then
+        assertThat(failures).containsExactly(new RuleFailure("payment.cardNumber-invalid", "payment.cardNumber"));
+    }
+
+    @Test
+    void test_failures_with_bound_does_stop_reading_as_expected() throws IOException {
+        // given
+        StreamingEndpoint streaming = new StreamingRuleCompiler(PayloadLimits.NONE).compile("POST /orders", ORDERS);
+        JsonParser parser = parser("{\"id\": 1, \"items\": \"none\", \"payment\": {}}");
+
+        // when
+        List<RuleFailure> failures = streaming.failures(parser, 1);
+
+        // then
+        assertThat(failures).containsExactly(new RuleFailure("id-invalid", "id"));
+        assertThat(parser.nextToken()).isEqualTo(JsonToken.FIELD_NAME);
+        assertThat(parser.currentName()).isEqualTo("items");
+    }
+
+    @Test
+    void test_failures_with_ceiling_does_stop_at_oversized_array_as_expected() throws IOException {
+        // given
+        StreamingEndpoint streaming = new StreamingRuleCompiler(new PayloadLimits(2, null, null))
+            .compile("POST /orders", ORDERS);
+        JsonParser parser = parser("{\"id\": 5, \"items\": [1, 2, 3, 4], \"payment\": {}}");
+
+        // when
+        List<RuleFailure> failures = streaming.failures(parser, Integer.MAX_VALUE);
+
+        // then
+        assertThat(failures).containsExactly(CompiledEndpoint.PAYLOAD_SIZE_FAILURE);
+        assertThat(parser.nextToken()).isEqualTo(JsonToken.VALUE_NUMBER_INT);
+        assertThat(parser.getIntValue()).isEqualTo(4);
+    }
+
+    @Test
+    void test_failures_with_duplicate_key_does_fail_as_expected() {
+        // given
+        StreamingEndpoint streaming = new StreamingRuleCompiler(PayloadLimits.NONE).compile("POST /orders", ORDERS);
+
+        // when / then
+        assertThatThrownBy(() -> streaming.failures(parser("{\"id\": \"a\", \"id\": 1}"), Integer.MAX_VALUE))
+            .isInstanceOf(JsonParseException.class)
+            .hasMessageContaining("Duplicate field 'id'");
+    }
+
+    @Test
+    void test_failures_with_non_positive_bound_does_fail_as_expected() {
+        // given
+        StreamingEndpoint streaming = new StreamingRuleCompiler(PayloadLimits.NONE).compile("POST /orders", ORDERS);
+
+        // when / then
+        assertThatThrownBy(() -> streaming.failures(parser("{}"), 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("maxFailures must be positive: 0");
+    }
+
+    private static ExtractionResult orders() {
+        FieldDescriptor item = FieldDescriptor.of(new ObjectTypeInfo(Set.of("sku", "qty")));
+        Map<String, FieldDescriptor> itemFields = Map.of(
+            "sku", FieldDescriptor.of(new StringTypeInfo(StringTypeInfo.StringFormat.PLAIN, null, null, "^SKU-\\d+$")),
+            "qty", new FieldDescriptor(new NumberTypeInfo(BigDecimal.ONE, null, null, null, null), true,
+                List.of(), List.of()));
+        Map<String, FieldDescriptor> fields = new LinkedHashMap<>();
+        fields.put("id", FieldDescriptor.of(StringTypeInfo.PLAIN));
+        fields.put("items", FieldDescriptor.of(new ArrayTypeInfo(null, 3, item, itemFields)));
+        fields.put("payment.cardNumber", new FieldDescriptor(StringTypeInfo.PLAIN, false, List.of(),
+            List.of(new ValueTrigger("payment.method", List.of(new FeelString("card"))))));
+        return new ExtractionResult(fields, new ObjectTypeInfo(Set.of("id", "items", "payment", "note")));
+    }
+
+    private static JsonParser parser(String payload) throws IOException {
+        return MAPPER.createParser(payload);
+    }
+}
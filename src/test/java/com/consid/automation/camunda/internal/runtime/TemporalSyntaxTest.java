@@ -0,0 +1,58 @@
+package com.consid.automation.camunda.internal.runtime;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemporalSyntaxTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "1990-01-15, true",
+        "2024-02-29, true",
+        "2023-02-29, false",
+        "-12345-01-01, true",
+        "12345-01-01, false",
+        "1990-1-15, false",
+        "1990-01-15T, false",
+        "'', false"
+    })
+    void test_is_date_does_match_feel_date_as_expected(String value, boolean expected) {
+        // when / then
+        assertThat(TemporalSyntax.isDate(value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "09:00:00, true",
+        "09:00, true",
+        "23:59:59.999999999, true",
+        "09:00:00Z, true",
+        "09:00:00-05:30, true",
+        "24:00:00, false",
+        "9:00, false",
+        "09:00:00@Nowhere/City, false"
+    })
+    void test_is_time_does_match_feel_time_as_expected(String value, boolean expected) {
+        // when / then
+        assertThat(TemporalSyntax.isTime(value)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1990-01-15, true",
+        "2024-01-15T10:30:00, true",
+        "2024-01-15T10:30, true",
+        "2024-01-15T10:30:00.123Z, true",
+        "2024-01-15T10:30:00+01:00, true",
+        "2024-01-15T10:30:00@Europe/Berlin, true",
+        "2024-01-15T25:00:00, false",
+        "2024-01-15T10:30:00+19:00, false",
+        "2024-01-15 10:30:00, false"
+    })
+    void test_is_date_time_does_match_feel_date_and_time_as_expected(String value, boolean expected) {
+        // when / then
+        assertThat(TemporalSyntax.isDateTime(value)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,46 @@
+package com.consid.automation.camunda.internal.simulator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 7, 8, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE})
+    void test_bucket_does_bound_the_value_within_an_eighth_as_expected(long value) {
+        // when
+        long upperBound = LatencyHistogram.upperBound(LatencyHistogram.bucket(value));
+
+        // then
+        assertThat(upperBound).isGreaterThanOrEqualTo(value);
+        assertThat(upperBound - value).isLessThanOrEqualTo(value / 8);
+    }
+
+    @Test
+    void test_percentile_does_use_nearest_rank_as_expected() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        IntStream.rangeClosed(1, 1000).parallel().forEach(histogram::record);
+
+        // when
+        long p50 = histogram.percentile(0.50);
+        long p99 = histogram.percentile(0.99);
+        long p999 = histogram.percentile(0.999);
+
+        // then
+        assertThat(p50).isBetween(500L, 500L + 500 / 8);
+        assertThat(p99).isBetween(990L, 1000L);
+        assertThat(p999).isEqualTo(1000L);
+    }
+
+    @Test
+    void test_percentile_of_nothing_does_return_zero_as_expected() {
+        // when / then
+        assertThat(new LatencyHistogram().percentile(0.99)).isZero();
+    }
+}
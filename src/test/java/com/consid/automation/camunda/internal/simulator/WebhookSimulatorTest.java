@@ -0,0 +1,151 @@
+package com.consid.automation.camunda.internal.simulator;
+
+import com.consid.automation.camunda.internal.corpus.EndpointResult;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebhookSimulatorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESPONSE = """
+        {
+          isValid: request.body.ok = true,
+          body: {
+            message: if isValid then "Process successfully started." else "Process creation failed.",
+            processInstanceKey: if isValid then correlation.processInstanceKey else null,
+            details: if isValid then [] else [{id: "ok-invalid", field: "ok"}]
+          }, statusCode: if isValid then 201 else 400
+        }""";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private WebhookSimulator simulator;
+
+    @BeforeEach
+    void start() throws IOException {
+        Map<String, String> expressions = new LinkedHashMap<>();
+        expressions.put("POST /customers/{id}", "request.body.ok = true");
+        expressions.put("POST /customers/search", RESPONSE);
+        simulator = WebhookSimulator.start(expressions, 202, 422, new InetSocketAddress("127.0.0.1", 0));
+    }
+
+    @AfterEach
+    void stop() {
+        simulator.close();
+    }
+
+    @Test
+    void test_activation_condition_does_answer_in_the_response_shape_as_expected() throws Exception {
+        // when
+        HttpResponse<String> accepted = send("POST", "/customers/7", "{\"ok\": true}");
+        HttpResponse<String> rejected = send("POST", "/customers/7", "{\"ok\": false}");
+
+        // then
+        assertThat(accepted.statusCode()).isEqualTo(202);
+        assertThat(accepted.headers().firstValue("Content-Type")).hasValue("application/json");
+        JsonNode acceptedBody = MAPPER.readTree(accepted.body());
+        assertThat(acceptedBody.get("message").asText()).isEqualTo(WebhookSimulator.ACCEPTED_MESSAGE);
+        assertThat(acceptedBody.get("processInstanceKey").asLong()).isPositive();
+        assertThat(acceptedBody.get("details")).isEmpty();
+        assertThat(rejected.statusCode()).isEqualTo(422);
+        assertThat(MAPPER.readTree(rejected.body()))
+            .isEqualTo(MAPPER.readTree("{\"message\": \"Process creation failed.\", \"processInstanceKey\": null,"
+                + " \"details\": []}"));
+    }
+
+    @Test
+    void test_response_expression_does_answer_with_its_own_status_and_body_as_expected() throws Exception {
+        // when
+        HttpResponse<String> accepted = send("POST", "/customers/search", "{\"ok\": true}");
+        HttpResponse<String> rejected = send("POST", "/customers/search", "{}");
+
+        // then
+        assertThat(accepted.statusCode()).isEqualTo(201);
+        assertThat(MAPPER.readTree(accepted.body()).get("processInstanceKey").asLong()).isPositive();
+        assertThat(rejected.statusCode()).isEqualTo(400);
+        assertThat(MAPPER.readTree(rejected.body()).get("details"))
+            .isEqualTo(MAPPER.readTree("[{\"id\": \"ok-invalid\", \"field\": \"ok\"}]"));
+    }
+
+    @Test
+    void test_unrouted_and_malformed_requests_do_not_reach_the_feel_as_expected() throws Exception {
+        // when
+        HttpResponse<String> wrongMethod = send("GET", "/customers/7", "");
+        HttpResponse<String> unknownPath = send("POST", "/orders", "{}");
+        HttpResponse<String> malformed = send("POST", "/customers/7", "{\"ok\":");
+
+        // then
+        assertThat(wrongMethod.statusCode()).isEqualTo(405);
+        assertThat(wrongMethod.headers().firstValue("Allow")).hasValue("POST");
+        assertThat(unknownPath.statusCode()).isEqualTo(404);
+        assertThat(malformed.statusCode()).isEqualTo(400);
+        assertThat(MAPPER.readTree(malformed.body()).get("message").asText())
+            .startsWith("malformed JSON payload in POST /customers/{id}");
+        assertThat(simulator.stats()).extracting(EndpointResult::evaluations).containsOnly(0L);
+    }
+
+    @Test
+    void test_stats_do_count_per_endpoint_and_reset_as_expected() throws Exception {
+        // given
+        send("POST", "/customers/7", "{\"ok\": true}");
+        send("POST", "/customers/7", "{\"ok\": false}");
+        send("POST", "/customers/search", "{\"ok\": true}");
+
+        // when
+        JsonNode served = MAPPER.readTree(send("GET", WebhookSimulator.STATS_PATH, "").body());
+        int resetStatus = send("DELETE", WebhookSimulator.STATS_PATH, "").statusCode();
+        List<EndpointResult> afterReset = simulator.stats();
+
+        // then
+        assertThat(served).hasSize(2);
+        assertThat(served.get(0).get("endpoint").asText()).isEqualTo("POST /customers/{id}");
+        assertThat(served.get(0).get("accepted").asInt()).isEqualTo(1);
+        assertThat(served.get(0).get("rejected").asInt()).isEqualTo(1);
+        assertThat(served.get(0).get("evaluations").asInt()).isEqualTo(2);
+        assertThat(served.get(0).get("p99Nanos").asLong()).isPositive();
+        assertThat(served.get(1).get("endpoint").asText()).isEqualTo("POST /customers/search");
+        assertThat(served.get(1).get("accepted").asInt()).isEqualTo(1);
+        assertThat(resetStatus).isEqualTo(204);
+        assertThat(afterReset).extracting(EndpointResult::endpoint)
+            .containsExactly("POST /customers/{id}", "POST /customers/search");
+        assertThat(afterReset).extracting(EndpointResult::evaluations).containsOnly(0L);
+    }
+
+    @Test
+    void test_route_does_prefer_literal_segments_and_reject_other_headings_as_expected() {
+        // when
+        WebhookSimulator.Route template = WebhookSimulator.route("PUT /customers/{id}/tags/{tag}", null);
+        WebhookSimulator.Route literal = WebhookSimulator.route("PUT /customers/search", null);
+
+        // then
+        assertThat(template.method()).isEqualTo("PUT");
+        assertThat(template.parameters()).isEqualTo(2);
+        assertThat(template.path().matcher("/customers/7/tags/vip").matches()).isTrue();
+        assertThat(template.path().matcher("/customers/7/tags/vip/x").matches()).isFalse();
+        assertThat(literal.parameters()).isZero();
+        assertThat(literal.path().matcher("/customers/search").matches()).isTrue();
+        assertThatThrownBy(() -> WebhookSimulator.route("customers", null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("endpoint heading \"# customers\" is not METHOD /path");
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(simulator.uri().resolve(path))
+            .method(method, body.isEmpty() ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+            .build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
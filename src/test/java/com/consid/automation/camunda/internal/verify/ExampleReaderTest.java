@@ -0,0 +1,67 @@
+package com.consid.automation.camunda.internal.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExampleReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void test_read_does_read_objects_and_arrays_in_path_order_as_expected() throws IOException {
+        // given
+        Files.createDirectories(tempDir.resolve("orders"));
+        Files.writeString(tempDir.resolve("orders/valid.json"), """
+            {"name": "one line", "endpoint": "POST /orders", "valid": true, "body": {"total": 9.90}}
+            """);
+        Files.writeString(tempDir.resolve("customers.json"), """
+            [
+              {"endpoint": " POST /customers ", "valid": false, "body": null, "failures": ["age-invalid"]},
+              {"endpoint": "POST /customers", "valid": true, "body": {"age": 36}}
+            ]
+            """);
+        Files.writeString(tempDir.resolve("README.md"), "not an example");
+
+        // when
+        List<Example> examples = ExampleReader.read(tempDir);
+
+        // then
+        assertThat(examples).containsExactly(
+            new Example("customers.json[0]", "POST /customers", false, null, List.of("age-invalid")),
+            new Example("customers.json[1]", "POST /customers", true, Map.of("age", 36), null),
+            new Example("one line", "POST /orders", true, Map.of("total", new BigDecimal("9.90")), null));
+    }
+
+    @Test
+    void test_read_does_reject_example_without_verdict_as_expected() throws IOException {
+        // given
+        Files.writeString(tempDir.resolve("broken.json"), "{\"endpoint\": \"POST /a\", \"body\": {}}");
+
+        // when / then
+        assertThatThrownBy(() -> ExampleReader.read(tempDir))
+            .isInstanceOf(IOException.class)
+            .hasMessage("example broken.json needs \"endpoint\" (string), \"valid\" (boolean) and \"body\"");
+    }
+
+    @Test
+    void test_read_does_report_malformed_file_as_expected() throws IOException {
+        // given
+        Files.writeString(tempDir.resolve("broken.json"), "[{\"endpoint\": ");
+
+        // when / then
+        assertThatThrownBy(() -> ExampleReader.read(tempDir))
+            .isInstanceOf(IOException.class)
+            .hasMessageStartingWith("malformed example file broken.json: ");
+    }
+}